@@ -522,7 +522,8 @@ private <K, V> InternalRemoteCache<K, V> createRemoteCache(String cacheName) {
       RemoteCacheConfiguration remoteCacheConfiguration = configuration.remoteCaches().get(cacheName);
       NearCacheConfiguration nearCache;
       if (remoteCacheConfiguration != null) {
-         nearCache = new NearCacheConfiguration(remoteCacheConfiguration.nearCacheMode(), remoteCacheConfiguration.nearCacheMaxEntries());
+         nearCache = new NearCacheConfiguration(remoteCacheConfiguration.nearCacheMode(), remoteCacheConfiguration.nearCacheMaxEntries(),
+               null, remoteCacheConfiguration.nearCacheBloomFilter());
       } else {
          Pattern pattern = configuration.nearCache().cacheNamePattern();
          if (pattern == null || pattern.matcher(cacheName).matches()) {
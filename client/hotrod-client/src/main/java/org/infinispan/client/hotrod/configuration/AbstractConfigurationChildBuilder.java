@@ -171,6 +171,11 @@ public ConfigurationBuilder tcpKeepAlive(boolean tcpKeepAlive) {
       return builder.tcpKeepAlive(tcpKeepAlive);
    }
 
+   @Override
+   public ConfigurationBuilder ioTransport(IOTransport ioTransport) {
+      return builder.ioTransport(ioTransport);
+   }
+
    /**
     * @deprecated Since 12.0, does nothing and will be removed in 15.0
     */
@@ -201,6 +206,11 @@ public ConfigurationBuilder batchSize(int batchSize) {
       return builder.batchSize(batchSize);
    }
 
+   @Override
+   public ConfigurationBuilder iterationPrefetch(int iterationPrefetch) {
+      return builder.iterationPrefetch(iterationPrefetch);
+   }
+
    @Override
    public StatisticsConfigurationBuilder statistics() {
       return builder.statistics();
@@ -6,6 +6,7 @@
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.AUTH_SERVER_NAME;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.BATCH_SIZE;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.CACHE_CONFIGURATION_SUFFIX;
+import static org.infinispan.client.hotrod.impl.ConfigurationProperties.CACHE_NEAR_CACHE_BLOOM_FILTER_SUFFIX;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.CACHE_NEAR_CACHE_MODE_SUFFIX;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.CACHE_PREFIX;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.CACHE_TEMPLATE_NAME_SUFFIX;
@@ -21,6 +22,7 @@
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.DEFAULT_EXECUTOR_FACTORY_POOL_SIZE;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.FORCE_RETURN_VALUES;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.HASH_FUNCTION_PREFIX;
+import static org.infinispan.client.hotrod.impl.ConfigurationProperties.ITERATION_PREFETCH;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.JAVA_SERIAL_ALLOWLIST;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.KEY_SIZE_ESTIMATE;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.KEY_STORE_CERTIFICATE_PASSWORD;
@@ -28,6 +30,7 @@
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.KEY_STORE_PASSWORD;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.MARSHALLER;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.MAX_RETRIES;
+import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_BLOOM_FILTER;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_MAX_ENTRIES;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_MODE;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_NAME_PATTERN;
@@ -41,6 +44,7 @@
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.SSL_CONTEXT;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.SSL_PROTOCOL;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.STATISTICS;
+import static org.infinispan.client.hotrod.impl.ConfigurationProperties.IO_TRANSPORT;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.TCP_KEEP_ALIVE;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.TCP_NO_DELAY;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.TRUST_STORE_FILE_NAME;
@@ -96,12 +100,14 @@ public class Configuration {
    private final SecurityConfiguration security;
    private final boolean tcpNoDelay;
    private final boolean tcpKeepAlive;
+   private final IOTransport ioTransport;
    private final int valueSizeEstimate;
    private final int maxRetries;
    private final NearCacheConfiguration nearCache;
    private final List<ClusterConfiguration> clusters;
    private final List<String> serialAllowList;
    private final int batchSize;
+   private final int iterationPrefetch;
    private final ClassAllowList classAllowList;
    private final StatisticsConfiguration statistics;
    private final TransactionConfiguration transaction;
@@ -112,9 +118,9 @@ public class Configuration {
    public Configuration(ExecutorFactoryConfiguration asyncExecutorFactory, Supplier<FailoverRequestBalancingStrategy> balancingStrategyFactory, ClassLoader classLoader,
                         ClientIntelligence clientIntelligence, ConnectionPoolConfiguration connectionPool, int connectionTimeout, Class<? extends ConsistentHash>[] consistentHashImpl, boolean forceReturnValues, int keySizeEstimate,
                         Marshaller marshaller, Class<? extends Marshaller> marshallerClass,
-                        ProtocolVersion protocolVersion, List<ServerConfiguration> servers, int socketTimeout, SecurityConfiguration security, boolean tcpNoDelay, boolean tcpKeepAlive,
+                        ProtocolVersion protocolVersion, List<ServerConfiguration> servers, int socketTimeout, SecurityConfiguration security, boolean tcpNoDelay, boolean tcpKeepAlive, IOTransport ioTransport,
                         int valueSizeEstimate, int maxRetries, NearCacheConfiguration nearCache,
-                        List<ClusterConfiguration> clusters, List<String> serialAllowList, int batchSize,
+                        List<ClusterConfiguration> clusters, List<String> serialAllowList, int batchSize, int iterationPrefetch,
                         TransactionConfiguration transaction, StatisticsConfiguration statistics, Features features,
                         List<SerializationContextInitializer> contextInitializers,
                         Map<String, RemoteCacheConfiguration> remoteCaches) {
@@ -136,12 +142,14 @@ public Configuration(ExecutorFactoryConfiguration asyncExecutorFactory, Supplier
       this.security = security;
       this.tcpNoDelay = tcpNoDelay;
       this.tcpKeepAlive = tcpKeepAlive;
+      this.ioTransport = ioTransport;
       this.valueSizeEstimate = valueSizeEstimate;
       this.nearCache = nearCache;
       this.clusters = clusters;
       this.serialAllowList = serialAllowList;
       this.classAllowList = new ClassAllowList(serialAllowList);
       this.batchSize = batchSize;
+      this.iterationPrefetch = iterationPrefetch;
       this.transaction = transaction;
       this.statistics = statistics;
       this.features = features;
@@ -235,6 +243,10 @@ public boolean tcpKeepAlive() {
       return tcpKeepAlive;
    }
 
+   public IOTransport ioTransport() {
+      return ioTransport;
+   }
+
    /**
     * @deprecated Since 12.0, does nothing and will be removed in 15.0
     */
@@ -275,6 +287,10 @@ public int batchSize() {
       return batchSize;
    }
 
+   public int iterationPrefetch() {
+      return iterationPrefetch;
+   }
+
    public Map<String, RemoteCacheConfiguration> remoteCaches() {
       return Collections.unmodifiableMap(remoteCaches);
    }
@@ -332,10 +348,11 @@ public String toString() {
             + ",classLoader=" + classLoader + ", clientIntelligence=" + clientIntelligence + ", connectionPool="
             + connectionPool + ", connectionTimeout=" + connectionTimeout + ", consistentHashImpl=" + Arrays.toString(consistentHashImpl) + ", forceReturnValues="
             + forceReturnValues + ", keySizeEstimate=" + keySizeEstimate + ", marshallerClass=" + marshallerClass + ", marshaller=" + marshaller + ", protocolVersion="
-            + protocolVersion + ", servers=" + servers + ", socketTimeout=" + socketTimeout + ", security=" + security + ", tcpNoDelay=" + tcpNoDelay + ", tcpKeepAlive=" + tcpKeepAlive
+            + protocolVersion + ", servers=" + servers + ", socketTimeout=" + socketTimeout + ", security=" + security + ", tcpNoDelay=" + tcpNoDelay + ", tcpKeepAlive=" + tcpKeepAlive + ", ioTransport=" + ioTransport
             + ", valueSizeEstimate=" + valueSizeEstimate + ", maxRetries=" + maxRetries
             + ", serialAllowList=" + serialAllowList
             + ", batchSize=" + batchSize
+            + ", iterationPrefetch=" + iterationPrefetch
             + ", nearCache=" + nearCache
             + ", remoteCaches= " + remoteCaches
             + ", transaction=" + transaction
@@ -371,6 +388,7 @@ public Properties properties() {
       properties.setProperty(SO_TIMEOUT, socketTimeout());
       properties.setProperty(TCP_NO_DELAY, tcpNoDelay());
       properties.setProperty(TCP_KEEP_ALIVE, tcpKeepAlive());
+      properties.setProperty(IO_TRANSPORT, ioTransport().name());
       properties.setProperty(VALUE_SIZE_ESTIMATE, valueSizeEstimate());
       properties.setProperty(MAX_RETRIES, maxRetries());
       properties.setProperty(STATISTICS, statistics().enabled());
@@ -442,11 +460,13 @@ public Properties properties() {
       properties.setProperty(JAVA_SERIAL_ALLOWLIST, String.join(",", serialAllowList));
 
       properties.setProperty(BATCH_SIZE, Integer.toString(batchSize));
+      properties.setProperty(ITERATION_PREFETCH, Integer.toString(iterationPrefetch));
 
       transaction.toProperties(properties);
 
       properties.setProperty(NEAR_CACHE_MODE, nearCache.mode().name());
       properties.setProperty(NEAR_CACHE_MAX_ENTRIES, Integer.toString(nearCache.maxEntries()));
+      properties.setProperty(NEAR_CACHE_BLOOM_FILTER, Boolean.toString(nearCache.bloomFilter()));
       if (nearCache.cacheNamePattern() != null)
          properties.setProperty(NEAR_CACHE_NAME_PATTERN, nearCache.cacheNamePattern().pattern());
 
@@ -463,6 +483,7 @@ public Properties properties() {
          }
          properties.setProperty(prefix + CACHE_NEAR_CACHE_MODE_SUFFIX, remoteCache.nearCacheMode().name());
          properties.setProperty(prefix + CACHE_NEAR_CACHE_MODE_SUFFIX, remoteCache.nearCacheMaxEntries());
+         properties.setProperty(prefix + CACHE_NEAR_CACHE_BLOOM_FILTER_SUFFIX, Boolean.toString(remoteCache.nearCacheBloomFilter()));
       }
 
       return properties;
@@ -77,11 +77,13 @@ public class ConfigurationBuilder implements ConfigurationChildBuilder, Builder<
    private final SecurityConfigurationBuilder security;
    private boolean tcpNoDelay = true;
    private boolean tcpKeepAlive = false;
+   private IOTransport ioTransport = IOTransport.AUTO;
    private int valueSizeEstimate = ConfigurationProperties.DEFAULT_VALUE_SIZE;
    private int maxRetries = ConfigurationProperties.DEFAULT_MAX_RETRIES;
    private final NearCacheConfigurationBuilder nearCache;
    private final List<String> allowListRegExs = new ArrayList<>();
    private int batchSize = ConfigurationProperties.DEFAULT_BATCH_SIZE;
+   private int iterationPrefetch = ConfigurationProperties.DEFAULT_ITERATION_PREFETCH;
    private final TransactionConfigurationBuilder transaction;
    private final StatisticsConfigurationBuilder statistics;
    private final List<ClusterConfigurationBuilder> clusters = new ArrayList<>();
@@ -317,6 +319,12 @@ public ConfigurationBuilder tcpKeepAlive(boolean keepAlive) {
       return this;
    }
 
+   @Override
+   public ConfigurationBuilder ioTransport(IOTransport ioTransport) {
+      this.ioTransport = ioTransport;
+      return this;
+   }
+
    @Override
    public ConfigurationBuilder uri(URI uri) {
       this.read(HotRodURI.create(uri).toConfigurationBuilder().build(false));
@@ -366,6 +374,12 @@ public ConfigurationBuilder batchSize(int batchSize) {
       return this;
    }
 
+   @Override
+   public ConfigurationBuilder iterationPrefetch(int iterationPrefetch) {
+      this.iterationPrefetch = iterationPrefetch;
+      return this;
+   }
+
    @Override
    public StatisticsConfigurationBuilder statistics() {
       return statistics;
@@ -433,6 +447,7 @@ public ConfigurationBuilder withProperties(Properties properties) {
       this.socketTimeout(typed.getIntProperty(ConfigurationProperties.SO_TIMEOUT, socketTimeout, true));
       this.tcpNoDelay(typed.getBooleanProperty(ConfigurationProperties.TCP_NO_DELAY, tcpNoDelay, true));
       this.tcpKeepAlive(typed.getBooleanProperty(ConfigurationProperties.TCP_KEEP_ALIVE, tcpKeepAlive, true));
+      this.ioTransport(typed.getEnumProperty(ConfigurationProperties.IO_TRANSPORT, IOTransport.class, ioTransport, true));
       this.valueSizeEstimate(typed.getIntProperty(ConfigurationProperties.VALUE_SIZE_ESTIMATE, valueSizeEstimate, true));
       this.maxRetries(typed.getIntProperty(ConfigurationProperties.MAX_RETRIES, maxRetries, true));
       this.security.ssl().withProperties(properties);
@@ -452,6 +467,7 @@ public ConfigurationBuilder withProperties(Properties properties) {
       }
 
       this.batchSize(typed.getIntProperty(ConfigurationProperties.BATCH_SIZE, batchSize, true));
+      this.iterationPrefetch(typed.getIntProperty(ConfigurationProperties.ITERATION_PREFETCH, iterationPrefetch, true));
       transaction.withTransactionProperties(typed);
       nearCache.withProperties(properties);
 
@@ -494,6 +510,9 @@ public void validate() {
       if (maxRetries < 0) {
          throw HOTROD.invalidMaxRetries(maxRetries);
       }
+      if (iterationPrefetch < 0) {
+         throw HOTROD.invalidIterationPrefetch(iterationPrefetch);
+      }
       Set<String> clusterNameSet = new HashSet<>(clusters.size());
       for (ClusterConfigurationBuilder clusterConfigBuilder : clusters) {
          if (!clusterNameSet.add(clusterConfigBuilder.getClusterName())) {
@@ -534,8 +553,8 @@ public Configuration create() {
             Map.Entry::getKey, e -> e.getValue().create()));
 
       return new Configuration(asyncExecutorFactory.create(), balancingStrategyFactory, classLoader == null ? null : classLoader.get(), clientIntelligence, connectionPool.create(), connectionTimeout,
-                               consistentHashImpl, forceReturnValues, keySizeEstimate, buildMarshaller, buildMarshallerClass, protocolVersion, servers, socketTimeout, security.create(), tcpNoDelay, tcpKeepAlive,
-                               valueSizeEstimate, maxRetries, nearCache.create(), serverClusterConfigs, allowListRegExs, batchSize, transaction.create(), statistics.create(), features, contextInitializers, remoteCaches);
+                               consistentHashImpl, forceReturnValues, keySizeEstimate, buildMarshaller, buildMarshallerClass, protocolVersion, servers, socketTimeout, security.create(), tcpNoDelay, tcpKeepAlive, ioTransport,
+                               valueSizeEstimate, maxRetries, nearCache.create(), serverClusterConfigs, allowListRegExs, batchSize, iterationPrefetch, transaction.create(), statistics.create(), features, contextInitializers, remoteCaches);
    }
 
    // Method that handles default marshaller - needed as a placeholder
@@ -581,6 +600,7 @@ public ConfigurationBuilder read(Configuration template) {
       this.security.read(template.security());
       this.tcpNoDelay = template.tcpNoDelay();
       this.tcpKeepAlive = template.tcpKeepAlive();
+      this.ioTransport = template.ioTransport();
       this.valueSizeEstimate = template.valueSizeEstimate();
       this.maxRetries = template.maxRetries();
       this.nearCache.read(template.nearCache());
@@ -189,6 +189,11 @@ public interface ConfigurationChildBuilder {
     */
    ConfigurationBuilder tcpKeepAlive(boolean keepAlive);
 
+   /**
+    * Selects the Netty transport used for the connections. Defaults to {@link IOTransport#AUTO}
+    */
+   ConfigurationBuilder ioTransport(IOTransport ioTransport);
+
    /**
     * Configures this builder using the specified URI.
     */
@@ -230,6 +235,16 @@ public interface ConfigurationChildBuilder {
     */
    ConfigurationBuilder batchSize(int batchSize);
 
+   /**
+    * Sets how many batches an iteration requests from the server ahead of the one being consumed, so that the transfer
+    * of the next batches overlaps with the processing of the current one. Each prefetched batch can hold up to
+    * {@link #batchSize(int)} entries in memory. Requires servers running version 12.0 or later, which answer pipelined
+    * requests of an iteration in order. Defaults to 0, which requests a batch only after the previous one was received.
+    * @param iterationPrefetch the number of batches to request ahead
+    * @return this configuration builder with the iteration prefetch set
+    */
+   ConfigurationBuilder iterationPrefetch(int iterationPrefetch);
+
    /**
     * Configures client-side statistics.
     */
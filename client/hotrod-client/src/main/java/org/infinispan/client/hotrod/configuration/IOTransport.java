@@ -0,0 +1,26 @@
+package org.infinispan.client.hotrod.configuration;
+
+/**
+ * The Netty transport used by the client for its connections and event loops.
+ *
+ * @since 12.0
+ */
+public enum IOTransport {
+   /**
+    * Uses native Epoll when it is available, NIO otherwise.
+    */
+   AUTO,
+   /**
+    * Uses io_uring when the Netty io_uring transport is on the classpath and supported by the kernel, falling back to
+    * native Epoll and then to NIO.
+    */
+   IO_URING,
+   /**
+    * Uses native Epoll when it is available, NIO otherwise.
+    */
+   EPOLL,
+   /**
+    * Always uses NIO.
+    */
+   NIO
+}
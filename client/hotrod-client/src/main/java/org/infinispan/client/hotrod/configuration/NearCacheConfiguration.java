@@ -7,15 +7,21 @@ public class NearCacheConfiguration {
    private final NearCacheMode mode;
    private final int maxEntries;
    private final Pattern cacheNamePattern;
+   private final boolean bloomFilter;
 
    public NearCacheConfiguration(NearCacheMode mode, int maxEntries) {
       this(mode, maxEntries, null);
    }
 
    public NearCacheConfiguration(NearCacheMode mode, int maxEntries, Pattern cacheNamePattern) {
+      this(mode, maxEntries, cacheNamePattern, false);
+   }
+
+   public NearCacheConfiguration(NearCacheMode mode, int maxEntries, Pattern cacheNamePattern, boolean bloomFilter) {
       this.mode = mode;
       this.maxEntries = maxEntries;
       this.cacheNamePattern = cacheNamePattern;
+      this.bloomFilter = bloomFilter;
    }
 
    public int maxEntries() {
@@ -30,12 +36,20 @@ public Pattern cacheNamePattern() {
       return cacheNamePattern;
    }
 
+   /**
+    * @return whether the server only sends the invalidations of the keys in a bloom filter of the near cached keys
+    */
+   public boolean bloomFilter() {
+      return bloomFilter;
+   }
+
    @Override
    public String toString() {
       return "NearCacheConfiguration{" +
             "mode=" + mode +
             ", maxEntries=" + maxEntries +
             ", cacheNamePattern=" + cacheNamePattern +
+            ", bloomFilter=" + bloomFilter +
             '}';
    }
 }
@@ -15,6 +15,7 @@ public class NearCacheConfigurationBuilder extends AbstractConfigurationChildBui
    private NearCacheMode mode = NearCacheMode.DISABLED;
    private Integer maxEntries = null; // undefined
    private Pattern cacheNamePattern = null; // matches all
+   private boolean bloomFilter = false;
 
    protected NearCacheConfigurationBuilder(ConfigurationBuilder builder) {
       super(builder);
@@ -42,6 +43,20 @@ public NearCacheConfigurationBuilder mode(NearCacheMode mode) {
       return this;
    }
 
+   /**
+    * Specifies whether the near cache registers a bloom filter of its keys with the server, so that the server only
+    * sends the invalidations of the keys that may be near cached. The bloom filter is sized from
+    * {@link #maxEntries(int)}, which must be positive, and it is sent again whenever keys that it does not contain are
+    * read. Requires a server that supports the bloom filter invalidation. Defaults to {@code false}.
+    *
+    * @param bloomFilter whether to use a bloom filter to reduce the invalidation events
+    * @return an instance of the builder
+    */
+   public NearCacheConfigurationBuilder bloomFilter(boolean bloomFilter) {
+      this.bloomFilter = bloomFilter;
+      return this;
+   }
+
    /**
     * Specifies a cache name pattern (in the form of a regular expression) that matches all cache names for which
     * near caching should be enabled. See the {@link Pattern} syntax for details on the format.
@@ -73,11 +88,13 @@ public NearCacheConfigurationBuilder cacheNamePattern(Pattern pattern) {
    public void validate() {
       if (mode.enabled() && maxEntries == null)
          throw HOTROD.nearCacheMaxEntriesUndefined();
+      if (mode.enabled() && bloomFilter && maxEntries <= 0)
+         throw HOTROD.nearCacheBloomFilterRequiresMaxEntries();
    }
 
    @Override
    public NearCacheConfiguration create() {
-      return new NearCacheConfiguration(mode, maxEntries == null ? -1 : maxEntries, cacheNamePattern);
+      return new NearCacheConfiguration(mode, maxEntries == null ? -1 : maxEntries, cacheNamePattern, bloomFilter);
    }
 
    @Override
@@ -85,6 +102,7 @@ public Builder<?> read(NearCacheConfiguration template) {
       mode = template.mode();
       maxEntries = template.maxEntries();
       cacheNamePattern = template.cacheNamePattern();
+      bloomFilter = template.bloomFilter();
       return this;
    }
 
@@ -97,6 +115,9 @@ public ConfigurationBuilder withProperties(Properties properties) {
       if (typed.containsKey(ConfigurationProperties.NEAR_CACHE_MODE)) {
          this.mode(NearCacheMode.valueOf(typed.getProperty(ConfigurationProperties.NEAR_CACHE_MODE)));
       }
+      if (typed.containsKey(ConfigurationProperties.NEAR_CACHE_BLOOM_FILTER)) {
+         this.bloomFilter(typed.getBooleanProperty(ConfigurationProperties.NEAR_CACHE_BLOOM_FILTER, false));
+      }
       if (typed.containsKey(ConfigurationProperties.NEAR_CACHE_NAME_PATTERN)) {
          this.cacheNamePattern(typed.getProperty(ConfigurationProperties.NEAR_CACHE_NAME_PATTERN));
       }
@@ -3,6 +3,7 @@
 import static org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration.CONFIGURATION;
 import static org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration.FORCE_RETURN_VALUES;
 import static org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration.NAME;
+import static org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration.NEAR_CACHE_BLOOM_FILTER;
 import static org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration.NEAR_CACHE_MAX_ENTRIES;
 import static org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration.NEAR_CACHE_MODE;
 import static org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration.TEMPLATE_NAME;
@@ -72,6 +73,20 @@ public RemoteCacheConfigurationBuilder nearCacheMaxEntries(int maxEntries) {
       return this;
    }
 
+   /**
+    * Specifies whether the near cache registers a bloom filter of its keys with the server, so that the server only
+    * sends the invalidations of the keys that may be near cached. Requires {@link #nearCacheMaxEntries(int)} to be
+    * positive.
+    *
+    * @param bloomFilter whether to use a bloom filter to reduce the invalidation events
+    * @return an instance of the builder
+    * @see NearCacheConfigurationBuilder#bloomFilter(boolean)
+    */
+   public RemoteCacheConfigurationBuilder nearCacheBloomFilter(boolean bloomFilter) {
+      attributes.attribute(NEAR_CACHE_BLOOM_FILTER).set(bloomFilter);
+      return this;
+   }
+
    /**
     * Specifies the declarative configuration to be used to create the cache if it doesn't already exist on the server.
     * @param configuration the XML representation of a cache configuration.
@@ -140,6 +155,10 @@ public void validate() {
       if (attributes.attribute(CONFIGURATION).isModified() && attributes.attribute(TEMPLATE_NAME).isModified()) {
          throw Log.HOTROD.remoteCacheTemplateNameXorConfiguration(attributes.attribute(NAME).get());
       }
+      if (attributes.attribute(NEAR_CACHE_MODE).get().enabled() && attributes.attribute(NEAR_CACHE_BLOOM_FILTER).get()
+            && attributes.attribute(NEAR_CACHE_MAX_ENTRIES).get() <= 0) {
+         throw Log.HOTROD.nearCacheBloomFilterRequiresMaxEntries();
+      }
    }
 
    @Override
@@ -162,6 +181,7 @@ public ConfigurationBuilder withProperties(Properties properties) {
       findCacheProperty(typed, ConfigurationProperties.CACHE_FORCE_RETURN_VALUES_SUFFIX, v -> this.forceReturnValues(Boolean.parseBoolean(v)));
       findCacheProperty(typed, ConfigurationProperties.CACHE_NEAR_CACHE_MODE_SUFFIX, v -> this.nearCacheMode(NearCacheMode.valueOf(v)));
       findCacheProperty(typed, ConfigurationProperties.CACHE_NEAR_CACHE_MAX_ENTRIES_SUFFIX, v -> this.nearCacheMaxEntries(Integer.parseInt(v)));
+      findCacheProperty(typed, ConfigurationProperties.CACHE_NEAR_CACHE_BLOOM_FILTER_SUFFIX, v -> this.nearCacheBloomFilter(Boolean.parseBoolean(v)));
       findCacheProperty(typed, ConfigurationProperties.CACHE_TRANSACTION_MODE_SUFFIX, v -> this.transactionMode(TransactionMode.valueOf(v)));
 
       return builder;
@@ -56,6 +56,12 @@
  *          <td>Enables/disables the {@link org.infinispan.client.hotrod.configuration.ConfigurationBuilder#tcpKeepAlive(boolean) TCP_KEEPALIVE} flag</td>
  *       </tr>
  *       <tr>
+ *          <td><b>infinispan.client.hotrod.io_transport</b></td>
+ *          <td>String</td>
+ *          <td>{@link org.infinispan.client.hotrod.configuration.IOTransport#AUTO AUTO}</td>
+ *          <td>The {@link org.infinispan.client.hotrod.configuration.ConfigurationBuilder#ioTransport(IOTransport) IOTransport}, falling back to Epoll and NIO when io_uring is not available</td>
+ *       </tr>
+ *       <tr>
  *          <td><b>infinispan.client.hotrod.client_intelligence</b></td>
  *          <td>String</td>
  *          <td>{@link org.infinispan.client.hotrod.configuration.ClientIntelligence#HASH_DISTRIBUTION_AWARE HASH_DISTRIBUTION_AWARE}</td>
@@ -92,6 +98,12 @@
  *          <td>The {@link org.infinispan.client.hotrod.configuration.ConfigurationBuilder#batchSize(int) size} of a batches when iterating</td>
  *       </tr>
  *       <tr>
+ *          <td><b>infinispan.client.hotrod.iteration_prefetch</b></td>
+ *          <td>Integer</td>
+ *          <td>0</td>
+ *          <td>The {@link org.infinispan.client.hotrod.configuration.ConfigurationBuilder#iterationPrefetch(int) number of batches} requested ahead when iterating</td>
+ *       </tr>
+ *       <tr>
  *          <td><b>infinispan.client.hotrod.protocol_version</b></td>
  *          <td>String</td>
  *          <td>The highest version supported by the client in use</td>
@@ -6,6 +6,7 @@
 
 import org.infinispan.client.hotrod.ProtocolVersion;
 import org.infinispan.client.hotrod.configuration.ClientIntelligence;
+import org.infinispan.client.hotrod.configuration.IOTransport;
 import org.infinispan.client.hotrod.configuration.Configuration;
 import org.infinispan.client.hotrod.configuration.ExhaustedAction;
 import org.infinispan.client.hotrod.configuration.NearCacheMode;
@@ -34,6 +35,7 @@ public class ConfigurationProperties {
    public static final String DEFAULT_EXECUTOR_FACTORY_THREADNAME_SUFFIX = ICH + "default_executor_factory.threadname_suffix";
    public static final String TCP_NO_DELAY = ICH + "tcp_no_delay";
    public static final String TCP_KEEP_ALIVE = ICH + "tcp_keep_alive";
+   public static final String IO_TRANSPORT = ICH + "io_transport";
    public static final String REQUEST_BALANCING_STRATEGY = ICH + "request_balancing_strategy";
    /**
     * @deprecated Since 12.0, does nothing and will be removed in 15.0
@@ -83,6 +85,7 @@ public class ConfigurationProperties {
    @Deprecated
    public static final String JAVA_SERIAL_WHITELIST = ICH + "java_serial_whitelist";
    public static final String BATCH_SIZE = ICH + "batch_size";
+   public static final String ITERATION_PREFETCH = ICH + "iteration_prefetch";
    // Statistics properties
    public static final String STATISTICS = ICH + "statistics";
    public static final String JMX = ICH + "jmx";
@@ -96,6 +99,7 @@ public class ConfigurationProperties {
    public static final String NEAR_CACHE_MAX_ENTRIES = ICH + "near_cache.max_entries";
    public static final String NEAR_CACHE_MODE = ICH + "near_cache.mode";
    public static final String NEAR_CACHE_NAME_PATTERN = ICH + "near_cache.name_pattern";
+   public static final String NEAR_CACHE_BLOOM_FILTER = ICH + "near_cache.bloom_filter";
    // Pool properties
    public static final String CONNECTION_POOL_MAX_ACTIVE = ICH + "connection_pool.max_active";
    public static final String CONNECTION_POOL_MAX_WAIT = ICH + "connection_pool.max_wait";
@@ -114,6 +118,7 @@ public class ConfigurationProperties {
    public static final String CACHE_FORCE_RETURN_VALUES_SUFFIX = ".force_return_values";
    public static final String CACHE_NEAR_CACHE_MODE_SUFFIX = ".near_cache.mode";
    public static final String CACHE_NEAR_CACHE_MAX_ENTRIES_SUFFIX = ".near_cache.max_entries";
+   public static final String CACHE_NEAR_CACHE_BLOOM_FILTER_SUFFIX = ".near_cache.bloom_filter";
    public static final String CACHE_TEMPLATE_NAME_SUFFIX = ".template_name";
    public static final String CACHE_TRANSACTION_MODE_SUFFIX = ".transaction_mode";
 
@@ -133,6 +138,7 @@ public class ConfigurationProperties {
    public static final int DEFAULT_CONNECT_TIMEOUT = 60_000;
    public static final int DEFAULT_MAX_RETRIES = 10;
    public static final int DEFAULT_BATCH_SIZE = 10_000;
+   public static final int DEFAULT_ITERATION_PREFETCH = 0;
    public static final int DEFAULT_MAX_PENDING_REQUESTS = 5;
    public static final long DEFAULT_MIN_EVICTABLE_IDLE_TIME = 1800000L;
    public static final int DEFAULT_MAX_ACTIVE = -1;
@@ -227,6 +233,14 @@ public void setTcpKeepAlive(boolean tcpKeepAlive) {
       props.setProperty(TCP_KEEP_ALIVE, tcpKeepAlive);
    }
 
+   public String getIOTransport() {
+      return props.getProperty(IO_TRANSPORT, IOTransport.AUTO.name());
+   }
+
+   public void setIOTransport(String ioTransport) {
+      props.setProperty(IO_TRANSPORT, ioTransport);
+   }
+
    public String getRequestBalancingStrategy() {
       return props.getProperty(REQUEST_BALANCING_STRATEGY, RoundRobinBalancingStrategy.class.getName());
    }
@@ -475,6 +489,14 @@ public void setBatchSize(int batchSize) {
       props.setProperty(BATCH_SIZE, batchSize);
    }
 
+   public int getIterationPrefetch() {
+      return props.getIntProperty(ITERATION_PREFETCH, DEFAULT_ITERATION_PREFETCH);
+   }
+
+   public void setIterationPrefetch(int iterationPrefetch) {
+      props.setProperty(ITERATION_PREFETCH, iterationPrefetch);
+   }
+
    public void setStatistics(boolean statistics) {
       props.setProperty(STATISTICS, statistics);
    }
@@ -535,6 +557,14 @@ public void setNearCacheNamePattern(String nearCacheNamePattern) {
       props.setProperty(NEAR_CACHE_NAME_PATTERN, nearCacheNamePattern);
    }
 
+   public boolean getNearCacheBloomFilter() {
+      return props.getBooleanProperty(NEAR_CACHE_BLOOM_FILTER, false);
+   }
+
+   public void setNearCacheBloomFilter(boolean nearCacheBloomFilter) {
+      props.setProperty(NEAR_CACHE_BLOOM_FILTER, nearCacheBloomFilter);
+   }
+
    public int getConnectionPoolMaxActive() {
       return props.getIntProperty(CONNECTION_POOL_MAX_ACTIVE, DEFAULT_MAX_ACTIVE);
    }
@@ -98,6 +98,11 @@ public void addClientListener(Object listener, Object[] filterFactoryParams, Obj
       delegate.addClientListener(listener, filterFactoryParams, converterFactoryParams);
    }
 
+   @Override
+   public void addNearCacheListener(Object listener, byte[] bloomFilter) {
+      delegate.addNearCacheListener(listener, bloomFilter);
+   }
+
    @Override
    public void removeClientListener(Object listener) {
       delegate.removeClientListener(listener);
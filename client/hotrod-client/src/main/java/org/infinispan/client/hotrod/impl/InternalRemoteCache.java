@@ -58,5 +58,13 @@ void init(Marshaller marshaller, OperationsFactory operationsFactory, Configurat
 
    byte[] keyToBytes(Object o);
 
+   /**
+    * Adds a near cache listener whose filter factory receives the given bloom filter as its only parameter, without
+    * it being marshalled.
+    * @param listener the listener, which must use raw data
+    * @param bloomFilter the serialized bloom filter of the near cached keys
+    */
+   void addNearCacheListener(Object listener, byte[] bloomFilter);
+
    CompletionStage<PingResponse> ping();
 }
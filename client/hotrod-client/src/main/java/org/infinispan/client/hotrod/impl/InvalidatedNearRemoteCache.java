@@ -47,10 +47,11 @@ public CompletableFuture<MetadataValue<V>> getWithMetadataAsync(K key) {
       MetadataValue<V> nearValue = nearcache.get(key);
       if (nearValue == null) {
          clientStatistics.incrementNearCacheMisses();
+         Object readToken = nearcache.beforeRemoteRead(key);
          CompletableFuture<MetadataValue<V>> remoteValue = super.getWithMetadataAsync(key);
          return remoteValue.thenApply(v -> {
             if (v != null) {
-               nearcache.putIfAbsent(key, v);
+               nearcache.putIfAbsent(key, v, readToken);
                if (v.getMaxIdle() > 0) {
                   HOTROD.nearCacheMaxIdleUnsupported();
                }
@@ -210,7 +210,7 @@ public <E> Publisher<Entry<K, E>> publishEntries(String filterConverterFactory,
       }
       byte[][] params = marshallParams(filterConverterParams);
       return new RemotePublisher<>(operationsFactory, defaultMarshaller, filterConverterFactory, params, segments,
-            batchSize, false, dataFormat);
+            batchSize, getRemoteCacheManager().getConfiguration().iterationPrefetch(), false, dataFormat);
    }
 
    @Override
@@ -236,7 +236,7 @@ public CloseableIterator<Entry<Object, MetadataValue<Object>>> retrieveEntriesWi
    @Override
    public Publisher<Entry<K, MetadataValue<V>>> publishEntriesWithMetadata(Set<Integer> segments, int batchSize) {
       return new RemotePublisher<>(operationsFactory, defaultMarshaller, null, null, segments,
-            batchSize, true, dataFormat);
+            batchSize, getRemoteCacheManager().getConfiguration().iterationPrefetch(), true, dataFormat);
    }
 
    @Override
@@ -513,6 +513,14 @@ public void addClientListener(Object listener, Object[] filterFactoryParams, Obj
       await(op.execute());
    }
 
+   @Override
+   public void addNearCacheListener(Object listener, byte[] bloomFilter) {
+      assertRemoteCacheManagerIsStarted();
+      AddClientListenerOperation op = operationsFactory.newAddClientListenerOperation(
+            listener, new byte[][]{bloomFilter}, org.infinispan.commons.util.Util.EMPTY_BYTE_ARRAY_ARRAY, dataFormat);
+      await(op.execute());
+   }
+
    private byte[][] marshallParams(Object[] params) {
       if (params == null)
          return org.infinispan.commons.util.Util.EMPTY_BYTE_ARRAY_ARRAY;
@@ -2,8 +2,11 @@
 
 import java.lang.invoke.MethodHandles;
 import java.net.SocketAddress;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -25,16 +28,20 @@
    private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass());
 
    protected final RemotePublisher<K, E> publisher;
+   private final int prefetch;
+   // Next requests already sent for the current iteration, in the order they were sent
+   private final Deque<CompletionStage<IterationNextResponse<K, E>>> prefetched = new ArrayDeque<>();
 
    // Need to be volatile since cancel can come on a different thread
    protected volatile Channel channel;
    private volatile byte[] iterationId;
    private AtomicBoolean cancelled = new AtomicBoolean();
 
-   protected RemoteInnerPublisherHandler(RemotePublisher<K, E> parent, int batchSize,
+   protected RemoteInnerPublisherHandler(RemotePublisher<K, E> parent, int batchSize, int prefetch,
          Supplier<Map.Entry<SocketAddress, IntSet>> supplier, Map.Entry<SocketAddress, IntSet> firstTarget) {
       super(batchSize, supplier, firstTarget);
       this.publisher = parent;
+      this.prefetch = prefetch;
    }
 
    private String iterationId() {
@@ -66,13 +73,47 @@ protected CompletionStage<IterationStartResponse> sendInitialCommand(
 
    @Override
    protected CompletionStage<IterationNextResponse<K, E>> sendNextCommand(Map.Entry<SocketAddress, IntSet> target, int batchSize) {
-      return publisher.newIteratorNextOperation(iterationId, channel);
+      if (prefetch == 0) {
+         return publisher.newIteratorNextOperation(iterationId, channel);
+      }
+      // The server answers the requests of an iteration in the order they were received, so the pipelined requests
+      // return consecutive batches
+      synchronized (prefetched) {
+         CompletionStage<IterationNextResponse<K, E>> next = prefetched.poll();
+         if (next == null) {
+            next = publisher.newIteratorNextOperation(iterationId, channel);
+         }
+         while (prefetched.size() < prefetch) {
+            prefetched.add(prefetchNext());
+         }
+         return next;
+      }
+   }
+
+   private CompletionStage<IterationNextResponse<K, E>> prefetchNext() {
+      try {
+         return publisher.newIteratorNextOperation(iterationId, channel);
+      } catch (Throwable t) {
+         // Report the failure when the batch is actually needed
+         CompletableFuture<IterationNextResponse<K, E>> failed = new CompletableFuture<>();
+         failed.completeExceptionally(t);
+         return failed;
+      }
+   }
+
+   private void discardPrefetched() {
+      if (prefetch > 0) {
+         synchronized (prefetched) {
+            prefetched.clear();
+         }
+      }
    }
 
    @Override
    protected long handleInitialResponse(IterationStartResponse startResponse, Map.Entry<SocketAddress, IntSet> target) {
       this.channel = startResponse.getChannel();
       this.iterationId = startResponse.getIterationId();
+      discardPrefetched();
       if (log.isDebugEnabled()) {
          log.iterationTransportObtained(channel.remoteAddress(), iterationId());
          log.startedIteration(iterationId());
@@ -88,6 +129,8 @@ protected long handleInitialResponse(IterationStartResponse startResponse, Map.E
    @Override
    protected long handleNextResponse(IterationNextResponse<K, E> nextResponse, Map.Entry<SocketAddress, IntSet> target) {
       if (!nextResponse.hasMore()) {
+         // Any batch requested ahead is empty as well
+         discardPrefetched();
          // server doesn't clean up when complete
          sendCancel(target);
          publisher.completeSegments(target.getValue());
@@ -112,6 +155,7 @@ protected long handleNextResponse(IterationNextResponse<K, E> nextResponse, Map.
 
    @Override
    protected void handleThrowableInResponse(Throwable t, Map.Entry<SocketAddress, IntSet> target) {
+      discardPrefetched();
       if (t instanceof TransportException || t instanceof RemoteIllegalLifecycleStateException) {
          log.throwableDuringPublisher(t);
          if (log.isTraceEnabled()) {
@@ -42,6 +42,7 @@
    private final byte[][] filterParams;
    private final IntSet segments;
    private final int batchSize;
+   private final int prefetch;
    private final boolean metadata;
    private final DataFormat dataFormat;
    private final KeyTracker segmentKeyTracker;
@@ -49,7 +50,7 @@
    private final Set<SocketAddress> failedServers = ConcurrentHashMap.newKeySet();
 
    public RemotePublisher(OperationsFactory operationsFactory, Marshaller marshaller, String filterConverterFactory,
-         byte[][] filterParams, Set<Integer> segments, int batchSize, boolean metadata, DataFormat dataFormat) {
+         byte[][] filterParams, Set<Integer> segments, int batchSize, int prefetch, boolean metadata, DataFormat dataFormat) {
       this.operationsFactory = operationsFactory;
       this.marshaller = marshaller;
       this.filterConverterFactory = filterConverterFactory;
@@ -69,6 +70,7 @@ public RemotePublisher(OperationsFactory operationsFactory, Marshaller marshalle
          this.segments = IntSets.mutableCopyFrom(segments);
       }
       this.batchSize = batchSize;
+      this.prefetch = prefetch;
       this.metadata = metadata;
       this.dataFormat = dataFormat;
       this.segmentKeyTracker = KeyTrackerFactory.create(dataFormat, segmentConsistentHash,
@@ -82,7 +84,7 @@ public void subscribe(Subscriber<? super Map.Entry<K, E>> subscriber) {
          AtomicBoolean shouldRetry = new AtomicBoolean(true);
 
          RemoteInnerPublisherHandler<K, E> innerHandler = new RemoteInnerPublisherHandler<K, E>(this,
-               batchSize, () -> {
+               batchSize, prefetch, () -> {
             // Note that this publisher will continue to return empty entries until it has completed a given
             // target without encountering a Throwable
             if (shouldRetry.getAndSet(false)) {
@@ -133,7 +135,7 @@ protected void handleThrowableInResponse(Throwable t, Map.Entry<SocketAddress, I
                return Flowable.fromIterable(actualTargets.entrySet())
                      .map(entry -> {
                         RemoteInnerPublisherHandler<K, E> innerHandler = new RemoteInnerPublisherHandler<>(this,
-                              batchSize, () -> null, entry);
+                              batchSize, prefetch, () -> null, entry);
                         return innerHandler.startPublisher();
                      }).flatMap(RxJavaInterop.identityFunction(), actualTargets.size());
             })
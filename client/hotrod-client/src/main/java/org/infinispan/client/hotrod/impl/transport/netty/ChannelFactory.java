@@ -35,6 +35,7 @@
 import org.infinispan.client.hotrod.FailoverRequestBalancingStrategy;
 import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.client.hotrod.configuration.Configuration;
+import org.infinispan.client.hotrod.configuration.IOTransport;
 import org.infinispan.client.hotrod.configuration.ServerConfiguration;
 import org.infinispan.client.hotrod.event.impl.ClientListenerNotifier;
 import org.infinispan.client.hotrod.impl.ConfigurationProperties;
@@ -100,6 +101,7 @@ public class ChannelFactory {
 
    private MarshallerRegistry marshallerRegistry;
    private final LongAdder totalRetries = new LongAdder();
+   private volatile IOTransport ioTransport;
 
    public void start(Codec codec, Configuration configuration, AtomicInteger defaultCacheTopologyId,
                      Marshaller marshaller, ExecutorService executorService,
@@ -116,7 +118,8 @@ public void start(Codec codec, Configuration configuration, AtomicInteger defaul
          int eventLoopThreads = SecurityActions.getIntProperty("io.netty.eventLoopThreads", ProcessorInfo.availableProcessors() * 2);
          // Note that each event loop opens a selector which counts
          int maxExecutors = Math.min(asyncThreads, eventLoopThreads);
-         this.eventLoopGroup = TransportHelper.createEventLoopGroup(maxExecutors, executorService);
+         this.ioTransport = TransportHelper.resolveIOTransport(configuration.ioTransport());
+         this.eventLoopGroup = TransportHelper.createEventLoopGroup(ioTransport, maxExecutors, executorService);
 
          Collection<InetSocketAddress> servers = new ArrayList<>();
          initialServers = new ArrayList<>();
@@ -142,8 +145,8 @@ public void start(Codec codec, Configuration configuration, AtomicInteger defaul
 
          if (log.isDebugEnabled()) {
             log.debugf("Statically configured servers: %s", servers);
-            log.debugf("Tcp no delay = %b; client socket timeout = %d ms; connect timeout = %d ms",
-                  configuration.tcpNoDelay(), configuration.socketTimeout(), configuration.connectionTimeout());
+            log.debugf("Tcp no delay = %b; client socket timeout = %d ms; connect timeout = %d ms; transport = %s",
+                  configuration.tcpNoDelay(), configuration.socketTimeout(), configuration.connectionTimeout(), ioTransport);
          }
          balancers = new HashMap<>();
          WrappedByteArray defaultCacheName = new WrappedByteArray(RemoteCacheManager.cacheNameBytes());
@@ -163,6 +166,13 @@ private int maxAsyncThreads(ExecutorService executorService, Configuration confi
       return new ConfigurationProperties(configuration.asyncExecutorFactory().properties()).getDefaultExecutorFactoryPoolSize();
    }
 
+   /**
+    * @return the transport in use, which can differ from the configured one when it is not available
+    */
+   public IOTransport getIOTransport() {
+      return ioTransport;
+   }
+
    public MarshallerRegistry getMarshallerRegistry() {
       return marshallerRegistry;
    }
@@ -171,7 +181,7 @@ private ChannelPool newPool(SocketAddress address) {
       log.debugf("Creating new channel pool for %s", address);
       Bootstrap bootstrap = new Bootstrap()
             .group(eventLoopGroup)
-            .channel(TransportHelper.socketChannel())
+            .channel(TransportHelper.socketChannel(ioTransport))
             .remoteAddress(address)
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.connectionTimeout())
             .option(ChannelOption.SO_KEEPALIVE, configuration.tcpKeepAlive())
@@ -1,7 +1,11 @@
 package org.infinispan.client.hotrod.impl.transport.netty;
 
+import static org.infinispan.client.hotrod.logging.Log.HOTROD;
+
 import java.util.concurrent.ExecutorService;
 
+import org.infinispan.client.hotrod.configuration.IOTransport;
+
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
@@ -10,13 +14,51 @@
 import io.netty.channel.socket.nio.NioSocketChannel;
 
 class TransportHelper {
-   static Class<? extends SocketChannel> socketChannel() {
-      return EPollAvailable.USE_NATIVE_EPOLL ? EpollSocketChannel.class : NioSocketChannel.class;
+   /**
+    * Returns the transport to use for the configured one, falling back from io_uring to Epoll and from Epoll to NIO
+    * when they are not available. {@link IOTransport#AUTO} never resolves to io_uring.
+    */
+   static IOTransport resolveIOTransport(IOTransport configured) {
+      switch (configured) {
+         case IO_URING:
+            if (IOUringAvailable.USE_NATIVE_IO_URING) {
+               return IOTransport.IO_URING;
+            }
+            IOTransport fallback = EPollAvailable.USE_NATIVE_EPOLL ? IOTransport.EPOLL : IOTransport.NIO;
+            HOTROD.ioUringNotAvailable(fallback, IOUringAvailable.UNAVAILABILITY_CAUSE);
+            return fallback;
+         case EPOLL:
+            if (EPollAvailable.USE_NATIVE_EPOLL) {
+               return IOTransport.EPOLL;
+            }
+            HOTROD.epollNotAvailableFallback();
+            return IOTransport.NIO;
+         case AUTO:
+            return EPollAvailable.USE_NATIVE_EPOLL ? IOTransport.EPOLL : IOTransport.NIO;
+         default:
+            return IOTransport.NIO;
+      }
+   }
+
+   static Class<? extends SocketChannel> socketChannel(IOTransport ioTransport) {
+      switch (ioTransport) {
+         case IO_URING:
+            return IOUringAvailable.socketChannel();
+         case EPOLL:
+            return EpollSocketChannel.class;
+         default:
+            return NioSocketChannel.class;
+      }
    }
 
-   static EventLoopGroup createEventLoopGroup(int maxExecutors, ExecutorService executorService) {
-      return EPollAvailable.USE_NATIVE_EPOLL ?
-            new EpollEventLoopGroup(maxExecutors, executorService) :
-            new NioEventLoopGroup(maxExecutors, executorService);
+   static EventLoopGroup createEventLoopGroup(IOTransport ioTransport, int maxExecutors, ExecutorService executorService) {
+      switch (ioTransport) {
+         case IO_URING:
+            return IOUringAvailable.createEventLoopGroup(maxExecutors, executorService);
+         case EPOLL:
+            return new EpollEventLoopGroup(maxExecutors, executorService);
+         default:
+            return new NioEventLoopGroup(maxExecutors, executorService);
+      }
    }
 }
@@ -15,6 +15,7 @@
 
 import javax.transaction.xa.Xid;
 
+import org.infinispan.client.hotrod.configuration.IOTransport;
 import org.infinispan.client.hotrod.event.IncorrectClientListenerException;
 import org.infinispan.client.hotrod.exceptions.CacheNotTransactionalException;
 import org.infinispan.client.hotrod.exceptions.HotRodClientException;
@@ -360,4 +361,18 @@ public interface Log extends BasicLogger {
    @LogMessage(level = WARN)
    @Message(value = "Configuration property '%s' has been deprecated", id = 4101)
    void deprecatedConfigurationProperty(String property);
+
+   @Message(value = "A near cache using a bloom filter requires a positive number of max entries", id = 4102)
+   CacheConfigurationException nearCacheBloomFilterRequiresMaxEntries();
+
+   @LogMessage(level = WARN)
+   @Message(value = "Native io_uring transport not available, falling back to %s: %s", id = 4103)
+   void ioUringNotAvailable(IOTransport fallback, String cause);
+
+   @Message(value = "Invalid iteration_prefetch (value=%d). Value should be greater or equal than zero.", id = 4104)
+   CacheConfigurationException invalidIterationPrefetch(int iterationPrefetch);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Native Epoll transport not available, falling back to NIO", id = 4105)
+   void epollNotAvailableFallback();
 }
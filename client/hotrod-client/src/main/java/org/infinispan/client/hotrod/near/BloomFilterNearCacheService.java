@@ -0,0 +1,187 @@
+package org.infinispan.client.hotrod.near;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.configuration.NearCacheConfiguration;
+import org.infinispan.client.hotrod.event.impl.ClientListenerNotifier;
+import org.infinispan.client.hotrod.impl.InternalRemoteCache;
+import org.infinispan.client.hotrod.logging.Log;
+import org.infinispan.client.hotrod.logging.LogFactory;
+import org.infinispan.commons.util.BloomFilter;
+import org.infinispan.commons.util.Util;
+
+/**
+ * Near cache service that registers a bloom filter of the near cached keys with the server, so that the server only
+ * sends the invalidations of the keys that may be near cached.
+ * <p>
+ * A value read from the server is only cached if its key was contained in the registered bloom filter before the
+ * read started, and the filter did not change until the value is cached. The keys that are not contained are
+ * collected, and a new filter with those keys and the keys currently near cached is registered in the client's async
+ * executor by adding a new listener before removing the previous one, so no invalidation is lost while the filter is
+ * replaced. Replacing the filter requires a round trip to the server, so it happens at most once every
+ * {@link #MIN_UPDATE_INTERVAL_NANOS}: keys missed in between are registered by the first update after the interval.
+ * Keys that were evicted from the near cache are dropped from the filter whenever it is replaced.
+ *
+ * @since 12.0
+ */
+public class BloomFilterNearCacheService<K, V> extends NearCacheService<K, V> {
+   private static final Log log = LogFactory.getLog(BloomFilterNearCacheService.class);
+   private static final boolean trace = log.isTraceEnabled();
+   static final long MIN_UPDATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+   private final int maxEntries;
+   // Keys that were read but could not be cached as the registered filter does not contain them
+   private final Set<K> pendingKeys = ConcurrentHashMap.newKeySet();
+   private final AtomicBoolean updating = new AtomicBoolean();
+   // Caching a value holds the read lock, replacing the filter holds the write lock
+   private final ReadWriteLock filterLock = new ReentrantReadWriteLock();
+   private volatile InternalRemoteCache<K, V> remote;
+   private volatile BloomFilter bloomFilter;
+   private volatile long lastUpdateNanos;
+
+   protected BloomFilterNearCacheService(NearCacheConfiguration config, ClientListenerNotifier listenerNotifier) {
+      super(config, listenerNotifier);
+      this.maxEntries = config.maxEntries();
+   }
+
+   @Override
+   public void start(RemoteCache<K, V> remote) {
+      if (cache == null) {
+         this.remote = (InternalRemoteCache<K, V>) remote;
+         this.bloomFilter = BloomFilter.forExpectedEntries(maxEntries);
+         // The first miss replaces the filter right away
+         this.lastUpdateNanos = System.nanoTime() - MIN_UPDATE_INTERVAL_NANOS;
+      }
+      super.start(remote);
+   }
+
+   @Override
+   protected Object createListener() {
+      return new BloomFilterNearCacheListener<>(this);
+   }
+
+   @Override
+   protected void addListener(RemoteCache<K, V> remote, Object listener) {
+      ((InternalRemoteCache<K, V>) remote).addNearCacheListener(listener, bloomFilter.toBytes());
+   }
+
+   @Override
+   public Object beforeRemoteRead(K key) {
+      BloomFilter current = bloomFilter;
+      if (current.possiblyContains(remote.keyToBytes(key))) {
+         return current;
+      }
+      if (pendingKeys.size() < maxEntries) {
+         pendingKeys.add(key);
+      }
+      scheduleUpdate();
+      return null;
+   }
+
+   @Override
+   public void putIfAbsent(K key, MetadataValue<V> value, Object readToken) {
+      if (readToken == null) {
+         return;
+      }
+      filterLock.readLock().lock();
+      try {
+         // The filter was replaced during the read, so an invalidation may have been missed
+         if (readToken == bloomFilter) {
+            putIfAbsent(key, value);
+         }
+      } finally {
+         filterLock.readLock().unlock();
+      }
+   }
+
+   private void scheduleUpdate() {
+      if (System.nanoTime() - lastUpdateNanos < MIN_UPDATE_INTERVAL_NANOS) {
+         return;
+      }
+      InternalRemoteCache<K, V> remote = this.remote;
+      if (remote != null && updating.compareAndSet(false, true)) {
+         // Adding a listener blocks, so it can't be done in the event loop
+         try {
+            remote.getRemoteCacheManager().getAsyncExecutorService().execute(this::updateFilter);
+         } catch (RejectedExecutionException e) {
+            log.debugf(e, "Unable to schedule the near cache bloom filter update");
+            updating.set(false);
+         }
+      }
+   }
+
+   private void updateFilter() {
+      try {
+         if (this.remote != null) {
+            replaceFilter();
+         }
+      } catch (Throwable t) {
+         log.debugf(t, "Unable to update the near cache bloom filter");
+         pendingKeys.clear();
+      } finally {
+         lastUpdateNanos = System.nanoTime();
+         updating.set(false);
+      }
+   }
+
+   private void replaceFilter() {
+      InternalRemoteCache<K, V> remote = this.remote;
+      BloomFilter newFilter = BloomFilter.forExpectedEntries(maxEntries);
+      for (K key : pendingKeys) {
+         pendingKeys.remove(key);
+         newFilter.add(remote.keyToBytes(key));
+      }
+      cache.forEachKey(key -> newFilter.add(remote.keyToBytes(key)));
+
+      Object newListener = new BloomFilterNearCacheListener<>(this);
+      remote.addNearCacheListener(newListener, newFilter.toBytes());
+
+      Object oldListener;
+      filterLock.writeLock().lock();
+      try {
+         oldListener = listener;
+         listener = newListener;
+         listenerId = listenerNotifier.findListenerId(newListener);
+         bloomFilter = newFilter;
+      } finally {
+         filterLock.writeLock().unlock();
+      }
+      // Values cached after the keys were collected and before the filter was replaced are not in the new filter
+      List<K> uncovered = new ArrayList<>();
+      cache.forEachKey(key -> {
+         if (!newFilter.possiblyContains(remote.keyToBytes(key))) {
+            uncovered.add(key);
+         }
+      });
+      uncovered.forEach(cache::remove);
+      remote.removeClientListener(oldListener);
+
+      if (trace)
+         log.tracef("Replaced near cache bloom filter %s, listener id is now %s", newFilter, Util.printArray(listenerId));
+   }
+
+   @Override
+   public void stop(RemoteCache<K, V> remote) {
+      this.remote = null;
+      pendingKeys.clear();
+      super.stop(remote);
+   }
+
+   @ClientListener(filterFactoryName = "___eager-bloom-filter", useRawData = true)
+   static class BloomFilterNearCacheListener<K, V> extends InvalidatedNearCacheListener<K, V> {
+      BloomFilterNearCacheListener(NearCache<K, V> cache) {
+         super(cache);
+      }
+   }
+}
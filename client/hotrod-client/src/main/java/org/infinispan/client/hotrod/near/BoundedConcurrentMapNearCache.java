@@ -1,6 +1,7 @@
 package org.infinispan.client.hotrod.near;
 
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
 import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.configuration.NearCacheConfiguration;
@@ -59,4 +60,9 @@ public int size() {
       cache.cleanUp();
       return map.size();
    }
+
+   @Override
+   public void forEachKey(Consumer<? super K> action) {
+      map.keySet().forEach(action);
+   }
 }
@@ -5,6 +5,7 @@
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.configuration.NearCacheConfiguration;
@@ -89,6 +90,17 @@ public int size() {
       return cache.size();
    }
 
+   @Override
+   public void forEachKey(Consumer<? super K> action) {
+      Lock lock = rwlock.readLock();
+      try {
+         lock.lock();
+         cache.keySet().forEach(action);
+      } finally {
+         lock.unlock();
+      }
+   }
+
    public static <K, V> NearCache<K, V> create(final NearCacheConfiguration config) {
       return new LinkedMapNearCache(
             new LinkedHashMap<K, MetadataValue<V>>(1 << 4, 0.75f, true) {
@@ -1,5 +1,7 @@
 package org.infinispan.client.hotrod.near;
 
+import java.util.function.Consumer;
+
 import org.infinispan.client.hotrod.MetadataValue;
 
 /**
@@ -14,4 +16,5 @@
    MetadataValue<V> get(K key);
    void clear();
    int size();
+   void forEachKey(Consumer<? super K> action);
 }
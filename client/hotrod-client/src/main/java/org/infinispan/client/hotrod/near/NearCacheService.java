@@ -1,5 +1,7 @@
 package org.infinispan.client.hotrod.near;
 
+import java.util.function.Consumer;
+
 import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
@@ -27,10 +29,10 @@
    private static final boolean trace = log.isTraceEnabled();
 
    private final NearCacheConfiguration config;
-   private final ClientListenerNotifier listenerNotifier;
-   private Object listener;
-   private byte[] listenerId;
-   private NearCache<K, V> cache;
+   protected final ClientListenerNotifier listenerNotifier;
+   protected volatile Object listener;
+   protected volatile byte[] listenerId;
+   protected NearCache<K, V> cache;
    private Runnable invalidationCallback;
 
    protected NearCacheService(NearCacheConfiguration config, ClientListenerNotifier listenerNotifier) {
@@ -43,13 +45,21 @@ public void start(RemoteCache<K, V> remote) {
          // Create near cache
          cache = createNearCache(config);
          // Add a listener that updates the near cache
-         listener = new InvalidatedNearCacheListener<>(this);
-         remote.addClientListener(listener);
+         listener = createListener();
+         addListener(remote, listener);
          // Get the listener ID for faster listener connected lookups
          listenerId = listenerNotifier.findListenerId(listener);
       }
    }
 
+   protected Object createListener() {
+      return new InvalidatedNearCacheListener<>(this);
+   }
+
+   protected void addListener(RemoteCache<K, V> remote, Object listener) {
+      remote.addClientListener(listener);
+   }
+
    public void stop(RemoteCache<K, V> remote) {
       if (trace)
          log.tracef("Stop near cache, remove underlying listener id %s", Util.printArray(listenerId));
@@ -68,6 +78,9 @@ protected NearCache<K, V> createNearCache(NearCacheConfiguration config) {
 
    public static <K, V> NearCacheService<K, V> create(
          NearCacheConfiguration config, ClientListenerNotifier listenerNotifier) {
+      if (config.bloomFilter()) {
+         return new BloomFilterNearCacheService<>(config, listenerNotifier);
+      }
       return new NearCacheService<>(config, listenerNotifier);
    }
 
@@ -89,6 +102,29 @@ public void putIfAbsent(K key, MetadataValue<V> value) {
                key, value, Util.printArray(listenerId));
    }
 
+   /**
+    * Invoked before reading the given key from the server. The returned token must be passed to
+    * {@link #putIfAbsent(Object, MetadataValue, Object)} once the value is read.
+    *
+    * @param key the key that is read from the server
+    * @return the token to use when caching the value read
+    */
+   public Object beforeRemoteRead(K key) {
+      return Boolean.TRUE;
+   }
+
+   /**
+    * Caches the value read from the server if no other value is cached for the key, provided that the near cache is
+    * still invalidated for the key.
+    *
+    * @param key the key read from the server
+    * @param value the value read
+    * @param readToken the token returned by {@link #beforeRemoteRead(Object)} before reading the value
+    */
+   public void putIfAbsent(K key, MetadataValue<V> value, Object readToken) {
+      putIfAbsent(key, value);
+   }
+
    @Override
    public boolean remove(K key) {
       boolean removed = cache.remove(key);
@@ -130,6 +166,11 @@ public int size() {
       return cache.size();
    }
 
+   @Override
+   public void forEachKey(Consumer<? super K> action) {
+      cache.forEachKey(action);
+   }
+
    private boolean isConnected() {
       return listenerNotifier.isListenerConnected(listenerId);
    }
@@ -139,11 +180,11 @@ public void setInvalidationCallback(Runnable r) {
    }
 
    @ClientListener
-   private static class InvalidatedNearCacheListener<K, V> {
+   static class InvalidatedNearCacheListener<K, V> {
       private static final Log log = LogFactory.getLog(InvalidatedNearCacheListener.class);
       private final NearCache<K, V> cache;
 
-      private InvalidatedNearCacheListener(NearCache<K, V> cache) {
+      InvalidatedNearCacheListener(NearCache<K, V> cache) {
          this.cache = cache;
       }
 
@@ -0,0 +1,35 @@
+package org.infinispan.client.hotrod.impl.iteration;
+
+import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.configuration.ConfigurationBuilder;
+import org.infinispan.client.hotrod.test.HotRodClientTestingUtil;
+import org.infinispan.client.hotrod.test.InternalRemoteCacheManager;
+import org.infinispan.query.dsl.embedded.DslSCI;
+import org.infinispan.server.hotrod.HotRodServer;
+import org.infinispan.server.hotrod.configuration.HotRodServerConfigurationBuilder;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the {@link SingleServerRemoteIteratorTest} tests with pipelined requests on the client and read ahead on the
+ * server. The read ahead byte limit is low, so that it is reached while iterating.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "client.hotrod.iteration.PrefetchRemoteIteratorTest")
+public class PrefetchRemoteIteratorTest extends SingleServerRemoteIteratorTest {
+
+   @Override
+   protected HotRodServer createHotRodServer() {
+      HotRodServerConfigurationBuilder builder = new HotRodServerConfigurationBuilder();
+      builder.iterationReadAhead(3).iterationReadAheadBytes(256);
+      return HotRodClientTestingUtil.startHotRodServer(cacheManager, builder);
+   }
+
+   @Override
+   protected RemoteCacheManager getRemoteCacheManager() {
+      ConfigurationBuilder builder = HotRodClientTestingUtil.newRemoteConfigurationBuilder();
+      builder.addServer().host("127.0.0.1").port(hotrodServer.getPort()).addContextInitializer(DslSCI.INSTANCE);
+      builder.iterationPrefetch(2);
+      return new InternalRemoteCacheManager(builder.build());
+   }
+}
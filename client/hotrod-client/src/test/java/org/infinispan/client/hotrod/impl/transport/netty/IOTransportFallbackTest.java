@@ -0,0 +1,32 @@
+package org.infinispan.client.hotrod.impl.transport.netty;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+
+import org.infinispan.client.hotrod.configuration.IOTransport;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * The io_uring transport is not a dependency of the client, so requesting it must fall back to Epoll or NIO.
+ *
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "client.hotrod.impl.transport.netty.IOTransportFallbackTest")
+public class IOTransportFallbackTest extends AbstractInfinispanTest {
+
+   public void testIOUringFallsBack() {
+      assertFalse(IOUringAvailable.USE_NATIVE_IO_URING);
+      assertEquals(TransportHelper.resolveIOTransport(IOTransport.EPOLL), TransportHelper.resolveIOTransport(IOTransport.IO_URING));
+   }
+
+   public void testAutoAndNio() {
+      IOTransport expected = EPollAvailable.USE_NATIVE_EPOLL ? IOTransport.EPOLL : IOTransport.NIO;
+      assertEquals(expected, TransportHelper.resolveIOTransport(IOTransport.AUTO));
+      assertEquals(expected, TransportHelper.resolveIOTransport(IOTransport.EPOLL));
+      assertEquals(IOTransport.NIO, TransportHelper.resolveIOTransport(IOTransport.NIO));
+      assertEquals(NioSocketChannel.class, TransportHelper.socketChannel(IOTransport.NIO));
+   }
+}
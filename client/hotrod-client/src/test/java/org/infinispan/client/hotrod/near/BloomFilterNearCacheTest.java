@@ -0,0 +1,126 @@
+package org.infinispan.client.hotrod.near;
+
+import static org.infinispan.client.hotrod.test.HotRodClientTestingUtil.killRemoteCacheManager;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryCreated;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryModified;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.configuration.ConfigurationBuilder;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.event.ClientCacheEntryCreatedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryModifiedEvent;
+import org.infinispan.client.hotrod.impl.InternalRemoteCache;
+import org.infinispan.client.hotrod.test.InternalRemoteCacheManager;
+import org.infinispan.client.hotrod.test.SingleHotRodServerTest;
+import org.infinispan.commons.CacheConfigurationException;
+import org.infinispan.commons.util.BloomFilter;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the near cache that only receives the invalidations of the keys in its bloom filter.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "client.hotrod.near.BloomFilterNearCacheTest")
+public class BloomFilterNearCacheTest extends SingleHotRodServerTest {
+
+   private RemoteCacheManager nearCacheManager;
+
+   @Override
+   protected void setup() throws Exception {
+      super.setup();
+      ConfigurationBuilder builder = createHotRodClientConfigurationBuilder("127.0.0.1", hotrodServer.getPort());
+      builder.nearCache().mode(NearCacheMode.INVALIDATED).maxEntries(100).bloomFilter(true);
+      builder.statistics().enable();
+      nearCacheManager = new InternalRemoteCacheManager(builder.build());
+   }
+
+   @Override
+   protected void teardown() {
+      killRemoteCacheManager(nearCacheManager);
+      nearCacheManager = null;
+      super.teardown();
+   }
+
+   public void testKeysAreCachedOnceInBloomFilter() {
+      RemoteCache<Integer, String> writer = remoteCacheManager.getCache();
+      RemoteCache<Integer, String> near = nearCacheManager.getCache();
+
+      writer.put(1, "v1");
+      // The first read can't be cached, as the key is not yet in the bloom filter registered with the server
+      assertEquals("v1", near.get(1));
+      eventually(() -> isNearCached(near, 1, "v1"));
+
+      writer.put(1, "v2");
+      eventually(() -> "v2".equals(near.get(1)));
+
+      writer.remove(1);
+      eventually(() -> near.get(1) == null);
+   }
+
+   public void testWritesOfOtherKeysDoNotInvalidate() {
+      RemoteCache<Integer, String> writer = remoteCacheManager.getCache();
+      InternalRemoteCache<Integer, String> near = (InternalRemoteCache<Integer, String>) nearCacheManager.<Integer, String>getCache();
+
+      BloomFilter filter = BloomFilter.forExpectedEntries(100);
+      filter.add(near.keyToBytes(10));
+      EventCountingListener listener = new EventCountingListener();
+      near.addNearCacheListener(listener, filter.toBytes());
+      try {
+         for (int i = 100; i < 200; ++i) {
+            writer.put(i, "other");
+         }
+         writer.put(10, "v1");
+         // Events are sent in order, so once the event of key 10 is received all the others were sent too
+         eventually(() -> listener.keys.contains(10));
+
+         int otherEvents = 0;
+         for (Integer key : listener.keys) {
+            assertTrue("Received event for key not in filter: " + key, filter.possiblyContains(near.keyToBytes(key)));
+            if (key != 10) {
+               otherEvents++;
+            }
+         }
+         // Only the false positives of the filter may be received
+         assertTrue("Received " + otherEvents + " events for other keys", otherEvents < 10);
+      } finally {
+         near.removeClientListener(listener);
+      }
+   }
+
+   private static boolean isNearCached(RemoteCache<Integer, String> near, Integer key, String value) {
+      long hits = near.clientStatistics().getNearCacheHits();
+      return value.equals(near.get(key)) && near.clientStatistics().getNearCacheHits() > hits;
+   }
+
+   @ClientListener(filterFactoryName = "___eager-bloom-filter", useRawData = true)
+   public static class EventCountingListener {
+      final Queue<Integer> keys = new ConcurrentLinkedQueue<>();
+
+      @ClientCacheEntryCreated
+      @SuppressWarnings("unused")
+      public void handleCreatedEvent(ClientCacheEntryCreatedEvent<Integer> event) {
+         keys.add(event.getKey());
+      }
+
+      @ClientCacheEntryModified
+      @SuppressWarnings("unused")
+      public void handleModifiedEvent(ClientCacheEntryModifiedEvent<Integer> event) {
+         keys.add(event.getKey());
+      }
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testBloomFilterRequiresMaxEntries() {
+      ConfigurationBuilder builder = createHotRodClientConfigurationBuilder("127.0.0.1", hotrodServer.getPort());
+      builder.nearCache().mode(NearCacheMode.INVALIDATED).maxEntries(-1).bloomFilter(true);
+      builder.build();
+   }
+}
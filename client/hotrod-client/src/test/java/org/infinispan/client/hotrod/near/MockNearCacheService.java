@@ -1,6 +1,7 @@
 package org.infinispan.client.hotrod.near;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
 
 import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.configuration.NearCacheConfiguration;
@@ -80,6 +81,11 @@ public void clear() {
       public int size() {
          return delegate.size();
       }
+
+      @Override
+      public void forEachKey(Consumer<? super K> action) {
+         delegate.forEachKey(action);
+      }
    }
 
    static class MockPutEvent<K, V> extends MockKeyValueEvent<K, V> {
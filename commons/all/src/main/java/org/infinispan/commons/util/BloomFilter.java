@@ -0,0 +1,136 @@
+package org.infinispan.commons.util;
+
+import org.infinispan.commons.hash.MurmurHash3;
+
+/**
+ * A bloom filter of byte arrays, that can be sent to another node with {@link #toBytes()} and
+ * {@link #fromBytes(byte[])}.
+ * <p>
+ * The bit positions of an element are derived from the two halves of its 128 bit MurmurHash3, so both sides compute
+ * the same positions for the same bytes. This class is not thread safe.
+ * @since 12.0
+ */
+public final class BloomFilter {
+   private static final int SEED = 9001;
+   private static final int BITS_PER_ENTRY = 10;
+   // Optimal number of hash functions for 10 bits per entry, giving a false positive rate below 1%
+   private static final int HASH_FUNCTIONS = 7;
+   // Limits of a filter read from bytes, so that a peer can't make each check or the filter itself arbitrarily costly
+   static final int MAX_HASH_FUNCTIONS = 16;
+   // 16 MiB of bits, enough for about 13 million entries
+   static final int MAX_WORDS = 1 << 21;
+
+   private final long[] bits;
+   private final int hashFunctions;
+
+   private BloomFilter(long[] bits, int hashFunctions) {
+      this.bits = bits;
+      this.hashFunctions = hashFunctions;
+   }
+
+   /**
+    * Creates an empty bloom filter sized so that holding {@code expectedEntries} elements has a false positive rate
+    * below 1%. Adding more elements is allowed, but increases the false positive rate.
+    * @param expectedEntries how many elements the filter is expected to hold
+    * @return an empty bloom filter
+    */
+   public static BloomFilter forExpectedEntries(int expectedEntries) {
+      long bitCount = Math.max(64, (long) expectedEntries * BITS_PER_ENTRY);
+      int words = (int) Math.min(MAX_WORDS, (bitCount + 63) >>> 6);
+      return new BloomFilter(new long[words], HASH_FUNCTIONS);
+   }
+
+   /**
+    * Creates a bloom filter from the output of {@link #toBytes()}.
+    * @param bytes the serialized bloom filter
+    * @return the bloom filter
+    * @throws IllegalArgumentException if the bytes are not a bloom filter, or if its number of hash functions or its
+    * size are larger than the filters created by {@link #forExpectedEntries(int)}
+    */
+   public static BloomFilter fromBytes(byte[] bytes) {
+      if (bytes.length < 12 || (bytes.length - 4) % 8 != 0 || (bytes.length - 4) / 8 > MAX_WORDS) {
+         throw new IllegalArgumentException("Invalid bloom filter of " + bytes.length + " bytes");
+      }
+      int hashFunctions = readInt(bytes, 0);
+      if (hashFunctions < 1 || hashFunctions > MAX_HASH_FUNCTIONS) {
+         throw new IllegalArgumentException("Invalid bloom filter with " + hashFunctions + " hash functions");
+      }
+      long[] bits = new long[(bytes.length - 4) / 8];
+      for (int i = 0; i < bits.length; ++i) {
+         bits[i] = readLong(bytes, 4 + i * 8);
+      }
+      return new BloomFilter(bits, hashFunctions);
+   }
+
+   /**
+    * Adds the given bytes to the filter.
+    * @param element the bytes to add
+    */
+   public void add(byte[] element) {
+      long[] hash = MurmurHash3.MurmurHash3_x64_128(element, SEED);
+      long bitCount = (long) bits.length << 6;
+      for (int i = 0; i < hashFunctions; ++i) {
+         long position = Math.floorMod(hash[0] + i * hash[1], bitCount);
+         bits[(int) (position >>> 6)] |= 1L << position;
+      }
+   }
+
+   /**
+    * Returns whether the bytes may have been added to this filter. A {@code false} value means they definitely were
+    * not added.
+    * @param element the bytes to check
+    * @return whether the bytes may be present
+    */
+   public boolean possiblyContains(byte[] element) {
+      long[] hash = MurmurHash3.MurmurHash3_x64_128(element, SEED);
+      long bitCount = (long) bits.length << 6;
+      for (int i = 0; i < hashFunctions; ++i) {
+         long position = Math.floorMod(hash[0] + i * hash[1], bitCount);
+         if ((bits[(int) (position >>> 6)] & (1L << position)) == 0) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * @return the serialized form of this filter, to be read with {@link #fromBytes(byte[])}
+    */
+   public byte[] toBytes() {
+      byte[] bytes = new byte[4 + bits.length * 8];
+      writeInt(bytes, 0, hashFunctions);
+      for (int i = 0; i < bits.length; ++i) {
+         writeLong(bytes, 4 + i * 8, bits[i]);
+      }
+      return bytes;
+   }
+
+   private static int readInt(byte[] bytes, int offset) {
+      return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8 |
+            (bytes[offset + 3] & 0xFF);
+   }
+
+   private static long readLong(byte[] bytes, int offset) {
+      return ((long) readInt(bytes, offset) << 32) | (readInt(bytes, offset + 4) & 0xFFFFFFFFL);
+   }
+
+   private static void writeInt(byte[] bytes, int offset, int value) {
+      bytes[offset] = (byte) (value >>> 24);
+      bytes[offset + 1] = (byte) (value >>> 16);
+      bytes[offset + 2] = (byte) (value >>> 8);
+      bytes[offset + 3] = (byte) value;
+   }
+
+   private static void writeLong(byte[] bytes, int offset, long value) {
+      writeInt(bytes, offset, (int) (value >>> 32));
+      writeInt(bytes, offset + 4, (int) value);
+   }
+
+   @Override
+   public String toString() {
+      return "BloomFilter{" +
+            "bits=" + ((long) bits.length << 6) +
+            ", hashFunctions=" + hashFunctions +
+            '}';
+   }
+}
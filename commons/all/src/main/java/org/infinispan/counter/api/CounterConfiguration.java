@@ -27,16 +27,20 @@ public class CounterConfiguration {
    private final int concurrencyLevel;
    private final CounterType type;
    private final Storage storage;
+   private final long flushInterval;
+   private final long flushThreshold;
 
    @ProtoFactory
    CounterConfiguration(long initialValue, long lowerBound, long upperBound, int concurrencyLevel, CounterType type,
-         Storage storage) {
+         Storage storage, long flushInterval, long flushThreshold) {
       this.initialValue = initialValue;
       this.upperBound = upperBound;
       this.lowerBound = lowerBound;
       this.concurrencyLevel = concurrencyLevel;
       this.type = type;
       this.storage = storage;
+      this.flushInterval = flushInterval;
+      this.flushThreshold = flushThreshold;
    }
 
    public static Builder builder(CounterType type) {
@@ -73,6 +77,24 @@ public Storage storage() {
       return storage;
    }
 
+   /**
+    * @return the interval, in milliseconds, between flushes of the updates accumulated locally by a {@link
+    * CounterType#WEAK} counter. Zero means that updates are not accumulated.
+    */
+   @ProtoField(number = 7, defaultValue = "0")
+   public long flushInterval() {
+      return flushInterval;
+   }
+
+   /**
+    * @return the absolute value of the delta accumulated locally by a {@link CounterType#WEAK} counter that triggers
+    * a flush before the {@link #flushInterval()} elapses. Zero means that only the interval triggers flushes.
+    */
+   @ProtoField(number = 8, defaultValue = "0")
+   public long flushThreshold() {
+      return flushThreshold;
+   }
+
    @Override
    public String toString() {
       return "CounterConfiguration{" +
@@ -82,6 +104,8 @@ public String toString() {
             ", concurrencyLevel=" + concurrencyLevel +
             ", type=" + type +
             ", storage=" + storage +
+            ", flushInterval=" + flushInterval +
+            ", flushThreshold=" + flushThreshold +
             '}';
    }
 
@@ -100,6 +124,8 @@ public boolean equals(Object o) {
             upperBound == that.upperBound &&
             lowerBound == that.lowerBound &&
             concurrencyLevel == that.concurrencyLevel &&
+            flushInterval == that.flushInterval &&
+            flushThreshold == that.flushThreshold &&
             type == that.type &&
             storage == that.storage;
    }
@@ -112,6 +138,8 @@ public int hashCode() {
       result = 31 * result + concurrencyLevel;
       result = 31 * result + type.hashCode();
       result = 31 * result + storage.hashCode();
+      result = 31 * result + (int) (flushInterval ^ (flushInterval >>> 32));
+      result = 31 * result + (int) (flushThreshold ^ (flushThreshold >>> 32));
       return result;
    }
 
@@ -125,6 +153,8 @@ public static class Builder {
       private long upperBound = Long.MAX_VALUE;
       private Storage storage = Storage.VOLATILE;
       private int concurrencyLevel = 16;
+      private long flushInterval = 0;
+      private long flushThreshold = 0;
 
       private Builder(CounterType type) {
          this.type = type;
@@ -202,11 +232,45 @@ public Builder concurrencyLevel(int concurrencyLevel) {
          return this;
       }
 
+      /**
+       * Sets the interval between flushes of the updates accumulated locally.
+       * <p>
+       * Only for {@link CounterType#WEAK}.
+       * <p>
+       * When set, updates are added to a local accumulator and return immediately instead of updating the cluster.
+       * The accumulated delta is flushed as a single update every interval, or earlier if it reaches the {@link
+       * #flushThreshold(long)}. It trades a bounded staleness of the counter's value, as seen by other nodes, for a
+       * much lower number of remote invocations. Pending updates are lost if the node crashes.
+       * <p>
+       * The default value is zero, which disables the local accumulation.
+       *
+       * @param flushInterval the new flush interval, in milliseconds.
+       */
+      public Builder flushInterval(long flushInterval) {
+         this.flushInterval = flushInterval;
+         return this;
+      }
+
+      /**
+       * Sets the absolute value of the locally accumulated delta which triggers a flush.
+       * <p>
+       * Only for {@link CounterType#WEAK} with a {@link #flushInterval(long)}.
+       * <p>
+       * The default value is zero, which means that only the flush interval triggers flushes.
+       *
+       * @param flushThreshold the new flush threshold.
+       */
+      public Builder flushThreshold(long flushThreshold) {
+         this.flushThreshold = flushThreshold;
+         return this;
+      }
+
       /**
        * @return the {@link CounterConfiguration} with this configuration.
        */
       public CounterConfiguration build() {
-         return new CounterConfiguration(initialValue, lowerBound, upperBound, concurrencyLevel, type, storage);
+         return new CounterConfiguration(initialValue, lowerBound, upperBound, concurrencyLevel, type, storage,
+               flushInterval, flushThreshold);
       }
    }
 
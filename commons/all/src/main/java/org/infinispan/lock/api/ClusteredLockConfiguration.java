@@ -12,6 +12,7 @@
 public class ClusteredLockConfiguration {
    private final OwnershipLevel ownershipLevel; // default NODE
    private final boolean reentrant; // default false
+   private boolean fair; // default false
 
    /**
     * Default lock is non reentrant and the ownership level is {@link OwnershipLevel#NODE}
@@ -35,11 +36,32 @@ public OwnershipLevel getOwnershipLevel() {
       return ownershipLevel;
    }
 
+   /**
+    * @return true if the lock is granted to the waiting requests in the order they were made
+    */
+   public boolean isFair() {
+      return fair;
+   }
+
+   /**
+    * Makes the lock fair. A fair lock keeps the waiting requests of all the nodes in a queue and, when released, hands
+    * the ownership directly to the next request instead of letting all of them compete again.
+    * <p>
+    * The fairness of a lock is decided by the first node defining it.
+    *
+    * @since 12.0
+    */
+   public ClusteredLockConfiguration fair(boolean fair) {
+      this.fair = fair;
+      return this;
+   }
+
    @Override
    public String toString() {
       final StringBuilder sb = new StringBuilder("ClusteredLockConfiguration{");
       sb.append("ownershipLevel=").append(ownershipLevel.name());
       sb.append(", reentrant=").append(reentrant);
+      sb.append(", fair=").append(fair);
       sb.append('}');
       return sb.toString();
    }
@@ -0,0 +1,100 @@
+package org.infinispan.commons.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * @since 12.0
+ */
+public class BloomFilterTest {
+   private static byte[] bytes(String s) {
+      return s.getBytes(StandardCharsets.UTF_8);
+   }
+
+   @Test
+   public void testAddedElementsArePresent() {
+      BloomFilter filter = BloomFilter.forExpectedEntries(1000);
+      for (int i = 0; i < 1000; ++i) {
+         filter.add(bytes("key-" + i));
+      }
+      for (int i = 0; i < 1000; ++i) {
+         assertTrue(filter.possiblyContains(bytes("key-" + i)));
+      }
+   }
+
+   @Test
+   public void testEmptyFilter() {
+      BloomFilter filter = BloomFilter.forExpectedEntries(10);
+      assertFalse(filter.possiblyContains(bytes("key")));
+      assertFalse(filter.possiblyContains(new byte[0]));
+   }
+
+   @Test
+   public void testFalsePositiveRate() {
+      BloomFilter filter = BloomFilter.forExpectedEntries(1000);
+      for (int i = 0; i < 1000; ++i) {
+         filter.add(bytes("key-" + i));
+      }
+      int falsePositives = 0;
+      for (int i = 0; i < 10000; ++i) {
+         if (filter.possiblyContains(bytes("other-" + i))) {
+            falsePositives++;
+         }
+      }
+      // The expected rate is below 1%, allow some variance
+      assertTrue("False positives: " + falsePositives, falsePositives < 300);
+   }
+
+   @Test
+   public void testSerialization() {
+      BloomFilter filter = BloomFilter.forExpectedEntries(100);
+      for (int i = 0; i < 100; ++i) {
+         filter.add(bytes("key-" + i));
+      }
+      BloomFilter copy = BloomFilter.fromBytes(filter.toBytes());
+      for (int i = 0; i < 100; ++i) {
+         assertTrue(copy.possiblyContains(bytes("key-" + i)));
+      }
+      for (int i = 0; i < 100; ++i) {
+         String key = "other-" + i;
+         assertTrue(filter.possiblyContains(bytes(key)) == copy.possiblyContains(bytes(key)));
+      }
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testInvalidBytes() {
+      BloomFilter.fromBytes(new byte[5]);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testTooManyHashFunctions() {
+      byte[] bytes = BloomFilter.forExpectedEntries(10).toBytes();
+      bytes[3] = (byte) (BloomFilter.MAX_HASH_FUNCTIONS + 1);
+      BloomFilter.fromBytes(bytes);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testNoHashFunctions() {
+      byte[] bytes = BloomFilter.forExpectedEntries(10).toBytes();
+      bytes[3] = 0;
+      BloomFilter.fromBytes(bytes);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testTooLarge() {
+      byte[] bytes = new byte[4 + (BloomFilter.MAX_WORDS + 1) * 8];
+      bytes[3] = 7;
+      BloomFilter.fromBytes(bytes);
+   }
+
+   @Test
+   public void testLargestFilter() {
+      byte[] bytes = BloomFilter.forExpectedEntries(Integer.MAX_VALUE).toBytes();
+      assertTrue(bytes.length == 4 + BloomFilter.MAX_WORDS * 8);
+      assertFalse(BloomFilter.fromBytes(bytes).possiblyContains(bytes("key")));
+   }
+}
@@ -15,6 +15,7 @@
 import org.infinispan.commands.functional.WriteOnlyKeyValueCommand;
 import org.infinispan.commands.functional.WriteOnlyManyCommand;
 import org.infinispan.commands.functional.WriteOnlyManyEntriesCommand;
+import org.infinispan.commands.irac.IracBatchUpdateCommand;
 import org.infinispan.commands.irac.IracCleanupKeyCommand;
 import org.infinispan.commands.irac.IracClearKeysCommand;
 import org.infinispan.commands.irac.IracMetadataRequestCommand;
@@ -465,6 +466,9 @@ public CacheRpcCommand fromStream(byte id, byte type, ByteString cacheName) {
             case IracClearKeysCommand.COMMAND_ID:
                command = new IracClearKeysCommand(cacheName);
                break;
+            case IracBatchUpdateCommand.COMMAND_ID:
+               command = new IracBatchUpdateCommand(cacheName);
+               break;
             case IracTouchKeyCommand.COMMAND_ID:
                command = new IracTouchKeyCommand(cacheName);
                break;
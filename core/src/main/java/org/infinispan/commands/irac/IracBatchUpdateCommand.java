@@ -0,0 +1,103 @@
+package org.infinispan.commands.irac;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.util.ByteString;
+import org.infinispan.util.concurrent.AggregateCompletionStage;
+import org.infinispan.util.concurrent.CompletionStages;
+import org.infinispan.xsite.BackupReceiver;
+import org.infinispan.xsite.irac.IracManager;
+
+/**
+ * A batch of put and remove key requests that is sent to the remote site by {@link IracManager}.
+ * <p>
+ * The remote site acknowledges the batch once all the updates are applied. If any update fails, the whole batch is
+ * sent again in a later round.
+ *
+ * @since 12.0
+ */
+public class IracBatchUpdateCommand extends IracUpdateKeyCommand {
+
+   public static final byte COMMAND_ID = 34;
+
+   private List<IracUpdateKeyCommand> updates;
+
+   @SuppressWarnings("unused")
+   public IracBatchUpdateCommand() {
+      super(COMMAND_ID, null);
+   }
+
+   public IracBatchUpdateCommand(ByteString cacheName) {
+      super(COMMAND_ID, cacheName);
+   }
+
+   public IracBatchUpdateCommand(ByteString cacheName, Collection<? extends IracUpdateKeyCommand> updates) {
+      super(COMMAND_ID, cacheName);
+      this.updates = new ArrayList<>(updates);
+   }
+
+   @Override
+   public CompletionStage<Void> executeOperation(BackupReceiver receiver) {
+      AggregateCompletionStage<Void> collector = CompletionStages.aggregateCompletionStage();
+      for (IracUpdateKeyCommand update : updates) {
+         collector.dependsOn(update.executeOperation(receiver));
+      }
+      return collector.freeze();
+   }
+
+   public List<IracUpdateKeyCommand> getUpdates() {
+      return Collections.unmodifiableList(updates);
+   }
+
+   @Override
+   public byte getCommandId() {
+      return COMMAND_ID;
+   }
+
+   @Override
+   public void writeTo(ObjectOutput output) throws IOException {
+      output.writeInt(updates.size());
+      for (IracUpdateKeyCommand update : updates) {
+         output.writeByte(update.getCommandId());
+         update.writeTo(output);
+      }
+   }
+
+   @Override
+   public void readFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+      int size = input.readInt();
+      updates = new ArrayList<>(size);
+      for (int i = 0; i < size; ++i) {
+         IracUpdateKeyCommand update;
+         byte commandId = input.readByte();
+         switch (commandId) {
+            case IracPutKeyCommand.COMMAND_ID:
+               update = new IracPutKeyCommand(cacheName);
+               break;
+            case IracRemoveKeyCommand.COMMAND_ID:
+               update = new IracRemoveKeyCommand(cacheName);
+               break;
+            default:
+               throw new IllegalStateException("Unexpected IRAC update command " + commandId);
+         }
+         update.readFrom(input);
+         updates.add(update);
+      }
+   }
+
+   @Override
+   public String toString() {
+      return "IracBatchUpdateCommand{" +
+            "updates=" + updates +
+            ", originSite='" + originSite + '\'' +
+            ", cacheName=" + cacheName +
+            '}';
+   }
+}
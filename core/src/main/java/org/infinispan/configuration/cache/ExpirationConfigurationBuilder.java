@@ -2,6 +2,7 @@
 
 import static org.infinispan.configuration.cache.ExpirationConfiguration.LIFESPAN;
 import static org.infinispan.configuration.cache.ExpirationConfiguration.MAX_IDLE;
+import static org.infinispan.configuration.cache.ExpirationConfiguration.INDEXED;
 import static org.infinispan.configuration.cache.ExpirationConfiguration.REAPER_ENABLED;
 import static org.infinispan.configuration.cache.ExpirationConfiguration.WAKEUP_INTERVAL;
 
@@ -130,6 +131,17 @@ public ExpirationConfigurationBuilder wakeUpInterval(long l, TimeUnit unit) {
       return wakeUpInterval(unit.toMillis(l));
    }
 
+   /**
+    * Enables an index of the entries by the time they expire, maintained by the data container on every write. The
+    * expiration reaper then only visits the entries that expired since its previous run, so its cost is proportional
+    * to the number of expired entries instead of the size of the cache. This is beneficial when the cache is large
+    * and only a small part of its entries can expire. The index is ignored when the cache stores its entries off-heap.
+    */
+   public ExpirationConfigurationBuilder indexed(boolean indexed) {
+      attributes.attribute(INDEXED).set(indexed);
+      return this;
+   }
+
    @Override
    public void validate() {
    }
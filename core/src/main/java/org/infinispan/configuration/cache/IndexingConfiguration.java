@@ -4,6 +4,7 @@
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -39,9 +40,15 @@ public class IndexingConfiguration extends AbstractTypedPropertiesConfiguration
    public static final AttributeDefinition<Set<String>> INDEXED_ENTITIES = AttributeDefinition.builder("indexed-entities", null, (Class<Set<String>>) (Class<?>) Set.class)
          .copier(CollectionAttributeCopier.INSTANCE)
          .initializer(HashSet::new).immutable().build();
+   public static final AttributeDefinition<Set<String>> WARM_UP_QUERIES = AttributeDefinition.builder("warm-up-queries", null, (Class<Set<String>>) (Class<?>) Set.class)
+         .copier(CollectionAttributeCopier.INSTANCE)
+         .initializer(LinkedHashSet::new).immutable().build();
+   public static final AttributeDefinition<Integer> MASS_INDEXER_THREADS = AttributeDefinition.builder("mass-indexer-threads", 1).immutable().build();
+   public static final AttributeDefinition<Integer> MASS_INDEXER_BATCH_SIZE = AttributeDefinition.builder("mass-indexer-batch-size", 100).immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(IndexingConfiguration.class, AbstractTypedPropertiesConfiguration.attributeSet(), INDEX, AUTO_CONFIG, KEY_TRANSFORMERS, INDEXED_ENTITIES, ENABLED);
+      return new AttributeSet(IndexingConfiguration.class, AbstractTypedPropertiesConfiguration.attributeSet(), INDEX, AUTO_CONFIG, KEY_TRANSFORMERS, INDEXED_ENTITIES, ENABLED, WARM_UP_QUERIES,
+            MASS_INDEXER_THREADS, MASS_INDEXER_BATCH_SIZE);
    }
 
    static final ElementDefinition<IndexingConfiguration> ELEMENT_DEFINITION = new DefaultElementDefinition<>(INDEXING.getLocalName());
@@ -62,6 +69,9 @@ static AttributeSet attributeDefinitionSet() {
    private final Attribute<Set<String>> indexedEntities;
    private final Set<Class<?>> resolvedIndexedClasses;
    private final Attribute<Boolean> enabled;
+   private final Attribute<Set<String>> warmUpQueries;
+   private final Attribute<Integer> massIndexerThreads;
+   private final Attribute<Integer> massIndexerBatchSize;
    private final boolean isVolatile;
 
    IndexingConfiguration(AttributeSet attributes, boolean isVolatile, Set<Class<?>> resolvedIndexedClasses) {
@@ -73,6 +83,9 @@ static AttributeSet attributeDefinitionSet() {
       keyTransformers = attributes.attribute(KEY_TRANSFORMERS);
       indexedEntities = attributes.attribute(INDEXED_ENTITIES);
       enabled = attributes.attribute(ENABLED);
+      warmUpQueries = attributes.attribute(WARM_UP_QUERIES);
+      massIndexerThreads = attributes.attribute(MASS_INDEXER_THREADS);
+      massIndexerBatchSize = attributes.attribute(MASS_INDEXER_BATCH_SIZE);
    }
 
    @Override
@@ -153,6 +166,30 @@ public Set<String> indexedEntityTypes() {
       return indexedEntities.get();
    }
 
+   /**
+    * The Ickle query strings that are parsed when the cache starts, in order to populate the query cache before the
+    * first requests. This configuration corresponds to the {@code <warm-up-queries>} XML configuration element.
+    */
+   public Set<String> warmUpQueries() {
+      return warmUpQueries.get();
+   }
+
+   /**
+    * The number of threads each node uses to rebuild its part of the index when the mass indexer runs. The segments
+    * owned by the node are split between the threads. A cache without segments is indexed by a single thread.
+    */
+   public int massIndexerThreads() {
+      return massIndexerThreads.get();
+   }
+
+   /**
+    * The maximum number of index writes each mass indexer thread keeps pending before it waits for them to complete.
+    * Each entity is still written to the index separately.
+    */
+   public int massIndexerBatchSize() {
+      return massIndexerBatchSize.get();
+   }
+
    @Override
    public AttributeSet attributes() {
       return attributes;
@@ -6,6 +6,9 @@
 import static org.infinispan.configuration.cache.IndexingConfiguration.INDEX;
 import static org.infinispan.configuration.cache.IndexingConfiguration.INDEXED_ENTITIES;
 import static org.infinispan.configuration.cache.IndexingConfiguration.KEY_TRANSFORMERS;
+import static org.infinispan.configuration.cache.IndexingConfiguration.MASS_INDEXER_BATCH_SIZE;
+import static org.infinispan.configuration.cache.IndexingConfiguration.MASS_INDEXER_THREADS;
+import static org.infinispan.configuration.cache.IndexingConfiguration.WARM_UP_QUERIES;
 import static org.infinispan.util.logging.Log.CONFIG;
 
 import java.util.Arrays;
@@ -252,6 +255,50 @@ public IndexingConfigurationBuilder addIndexedEntities(Class<?>... indexedEntiti
       return this;
    }
 
+   /**
+    * Adds an Ickle query string to parse when the cache starts, so that the parsed query is already in the query cache
+    * when it is first executed. Queries that cannot be parsed are logged and ignored. Warm-up queries apply to both
+    * indexed and non-indexed caches and are kept when indexing is disabled.
+    *
+    * @param queryString the Ickle query string
+    * @return <code>this</code>, for method chaining
+    */
+   public IndexingConfigurationBuilder addWarmUpQuery(String queryString) {
+      if (queryString == null || queryString.trim().isEmpty()) {
+         throw new CacheConfigurationException("Query string must not be null or empty");
+      }
+      Set<String> warmUpQueries = attributes.attribute(WARM_UP_QUERIES).get();
+      warmUpQueries.add(queryString);
+      attributes.attribute(WARM_UP_QUERIES).set(warmUpQueries);
+      return this;
+   }
+
+   /**
+    * Sets the number of threads each node uses to rebuild its part of the index when the mass indexer runs. The
+    * segments owned by the node are split between the threads, so values larger than the number of segments have no
+    * effect. A cache without segments, such as a local cache without a segmented store, is indexed by a single thread.
+    * Defaults to 1.
+    *
+    * @param threads the number of indexing threads per node
+    * @return <code>this</code>, for method chaining
+    */
+   public IndexingConfigurationBuilder massIndexerThreads(int threads) {
+      attributes.attribute(MASS_INDEXER_THREADS).set(threads);
+      return this;
+   }
+
+   /**
+    * Sets the maximum number of index writes each mass indexer thread keeps pending. Once a thread has issued this
+    * many writes, it waits for all of them to complete before reading more entries. Defaults to 100.
+    *
+    * @param batchSize the maximum number of pending index writes per thread
+    * @return <code>this</code>, for method chaining
+    */
+   public IndexingConfigurationBuilder massIndexerBatchSize(int batchSize) {
+      attributes.attribute(MASS_INDEXER_BATCH_SIZE).set(batchSize);
+      return this;
+   }
+
    /**
     * The set of fully qualified names of indexed entity types, either Java classes or protobuf type names. This
     * configuration corresponds to the {@code <indexed-entities>} XML configuration element.
@@ -281,6 +328,15 @@ public void validate() {
          throw CONFIG.indexModeNotSupported(Index.PRIMARY_OWNER.name());
       }
 
+      int massIndexerThreads = attributes.attribute(MASS_INDEXER_THREADS).get();
+      if (massIndexerThreads < 1) {
+         throw CONFIG.invalidMassIndexerThreads(massIndexerThreads);
+      }
+      int massIndexerBatchSize = attributes.attribute(MASS_INDEXER_BATCH_SIZE).get();
+      if (massIndexerBatchSize < 1) {
+         throw CONFIG.invalidMassIndexerBatchSize(massIndexerBatchSize);
+      }
+
       ensureSingleIndexingProvider();
    }
 
@@ -15,6 +15,7 @@
 import org.infinispan.commons.configuration.attributes.AttributeSet;
 import org.infinispan.commons.configuration.elements.ElementDefinition;
 import org.infinispan.configuration.global.GlobalConfiguration;
+import org.infinispan.container.offheap.PooledOffHeapMemoryAllocator;
 import org.infinispan.eviction.EvictionStrategy;
 import org.infinispan.eviction.EvictionType;
 
@@ -252,6 +253,37 @@ public EvictionStrategy whenFull() {
       return attributes.attribute(MemoryConfiguration.WHEN_FULL).get();
    }
 
+   /**
+    * Sets the allocator used to obtain native memory when the storage is {@link StorageType#OFF_HEAP}. The
+    * {@link OffHeapAllocatorType#POOLED} allocator avoids a native allocation for most writes by reusing memory from
+    * large arenas, see {@link #arenaSize(String)}.
+    * @param allocator the allocator type
+    * @return this configuration builder
+    */
+   public MemoryConfigurationBuilder allocator(OffHeapAllocatorType allocator) {
+      attributes.attribute(MemoryConfiguration.ALLOCATOR).set(allocator);
+      return this;
+   }
+
+   public OffHeapAllocatorType allocator() {
+      return attributes.attribute(MemoryConfiguration.ALLOCATOR).get();
+   }
+
+   /**
+    * Sets the size of each arena reserved by the {@link OffHeapAllocatorType#POOLED} allocator. The same units as
+    * {@link #maxSize(String)} can be used.
+    * @param arenaSize the size of a single arena
+    * @return this configuration builder
+    */
+   public MemoryConfigurationBuilder arenaSize(String arenaSize) {
+      attributes.attribute(MemoryConfiguration.ARENA_SIZE).set(arenaSize);
+      return this;
+   }
+
+   public String arenaSize() {
+      return attributes.attribute(MemoryConfiguration.ARENA_SIZE).get();
+   }
+
    /**
     * The configured eviction strategy, please see {@link MemoryConfigurationBuilder#evictionStrategy(EvictionStrategy)}.
     * @return the configured eviction stategy
@@ -319,6 +351,16 @@ public void validate() {
          }
       }
       checkBinaryRequirement();
+      checkAllocator();
+   }
+
+   private void checkAllocator() {
+      if (allocator() == OffHeapAllocatorType.POOLED) {
+         long minArenaSize = PooledOffHeapMemoryAllocator.MAX_POOLED_SIZE;
+         if (storage() != StorageType.OFF_HEAP || MemoryConfiguration.maxSizeToBytes(arenaSize()) < minArenaSize) {
+            throw CONFIG.invalidOffHeapAllocatorConfiguration(allocator(), minArenaSize, storage(), arenaSize());
+         }
+      }
    }
 
    @Override
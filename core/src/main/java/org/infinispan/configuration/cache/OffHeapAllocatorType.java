@@ -0,0 +1,17 @@
+package org.infinispan.configuration.cache;
+
+/**
+ * Allocator used to obtain native memory when the cache uses {@link StorageType#OFF_HEAP} storage.
+ *
+ * @since 12.0
+ */
+public enum OffHeapAllocatorType {
+   /**
+    * Every entry is allocated and freed individually from the native heap.
+    */
+   UNPOOLED,
+   /**
+    * Entries are allocated from size classes carved out of large pre-allocated arenas, which are reused once freed.
+    */
+   POOLED
+}
@@ -4,6 +4,7 @@
 import static org.infinispan.configuration.cache.PersistenceConfiguration.CONNECTION_ATTEMPTS;
 import static org.infinispan.configuration.cache.PersistenceConfiguration.CONNECTION_INTERVAL;
 import static org.infinispan.configuration.cache.PersistenceConfiguration.PASSIVATION;
+import static org.infinispan.configuration.cache.PersistenceConfiguration.PRELOAD_PARALLELISM;
 import static org.infinispan.configuration.parsing.Element.CLUSTER_LOADER;
 import static org.infinispan.configuration.parsing.Element.FILE_STORE;
 import static org.infinispan.configuration.parsing.Element.STORE;
@@ -138,6 +139,15 @@ public PersistenceConfigurationBuilder connectionInterval(int interval) {
       return this;
    }
 
+   /**
+    * @param parallelism The number of groups of segments that are read from the store and inserted in the cache in
+    *                    parallel during preload. Transactional caches always preload sequentially.
+    */
+   public PersistenceConfigurationBuilder preloadParallelism(int parallelism) {
+      attributes.attribute(PRELOAD_PARALLELISM).set(parallelism);
+      return this;
+   }
+
    /**
     * If true, data is written to the cache store only when it is evicted from memory, which is known as 'passivation'.
     * When the data is requested again it is activated, which returns the data to memory and removes it from the
@@ -238,6 +248,9 @@ public void validate() {
       if (numFetchPersistentState > 1) {
          throw CONFIG.onlyOneFetchPersistentStoreAllowed();
       }
+      if (attributes.attribute(PRELOAD_PARALLELISM).get() < 1) {
+         throw new CacheConfigurationException("The preload parallelism must be positive");
+      }
       if (numPreload > 1) {
          throw CONFIG.onlyOnePreloadStoreAllowed();
       }
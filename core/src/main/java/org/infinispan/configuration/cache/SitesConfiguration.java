@@ -39,10 +39,11 @@ public class SitesConfiguration implements Matchable<SitesConfiguration>, Config
          .serializer(new MergePolicySerializer())
          .immutable()
          .build();
+   public static final AttributeDefinition<Integer> ASYNC_BATCH_SIZE = AttributeDefinition.builder("async-batch-size", 128).immutable().build();
    public static final ElementDefinition<?> ELEMENT_DEFINITION = new DefaultElementDefinition<>(BACKUPS.getLocalName());
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(SitesConfiguration.class, DISABLE_BACKUPS, IN_USE_BACKUP_SITES, MERGE_POLICY);
+      return new AttributeSet(SitesConfiguration.class, DISABLE_BACKUPS, IN_USE_BACKUP_SITES, MERGE_POLICY, ASYNC_BATCH_SIZE);
    }
 
    private final BackupForConfiguration backupFor;
@@ -51,6 +52,7 @@ static AttributeSet attributeDefinitionSet() {
    @SuppressWarnings("rawtypes")
    private final Attribute<XSiteEntryMergePolicy> mergePolicy;
    private final Attribute<Set<String>> inUseBackupSites;
+   private final Attribute<Integer> asyncBatchSize;
    private final AttributeSet attributes;
 
    private final List<ConfigurationInfo> subElements = new ArrayList<>();
@@ -61,6 +63,7 @@ public SitesConfiguration(AttributeSet attributes, List<BackupConfiguration> all
       this.disableBackups = attributes.attribute(DISABLE_BACKUPS);
       this.inUseBackupSites = attributes.attribute(IN_USE_BACKUP_SITES);
       this.mergePolicy = attributes.attribute(MERGE_POLICY);
+      this.asyncBatchSize = attributes.attribute(ASYNC_BATCH_SIZE);
       this.backupFor = backupFor;
       this.subElements.addAll(allBackups);
    }
@@ -160,6 +163,14 @@ public Set<String> inUseBackupSites() {
       return mergePolicy.get();
    }
 
+   /**
+    * @return The maximum number of keys sent to the asynchronous backup sites in a single batch.
+    * @see SitesConfigurationBuilder#asyncBatchSize(int)
+    */
+   public int asyncBatchSize() {
+      return asyncBatchSize.get();
+   }
+
    public AttributeSet attributes() {
       return attributes;
    }
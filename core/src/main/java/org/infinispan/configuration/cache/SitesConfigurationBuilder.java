@@ -1,5 +1,6 @@
 package org.infinispan.configuration.cache;
 
+import static org.infinispan.configuration.cache.SitesConfiguration.ASYNC_BATCH_SIZE;
 import static org.infinispan.configuration.cache.SitesConfiguration.MERGE_POLICY;
 import static org.infinispan.configuration.cache.SitesConfiguration.DISABLE_BACKUPS;
 import static org.infinispan.configuration.cache.SitesConfiguration.IN_USE_BACKUP_SITES;
@@ -111,6 +112,20 @@ public SitesConfigurationBuilder mergePolicy(XSiteEntryMergePolicy<?, ?> mergePo
       return this;
    }
 
+   /**
+    * Sets the maximum number of keys sent to the asynchronous backup sites in a single batch.
+    * <p>
+    * The updated keys are sent in batches and each batch is acknowledged, or retried, as a whole. Larger batches need
+    * fewer round trips to the remote sites but a failed batch causes more keys to be sent again. Defaults to 128.
+    *
+    * @param asyncBatchSize The maximum number of keys in a batch.
+    * @return {@code this}.
+    */
+   public SitesConfigurationBuilder asyncBatchSize(int asyncBatchSize) {
+      attributes.attribute(ASYNC_BATCH_SIZE).set(asyncBatchSize);
+      return this;
+   }
+
    @Override
    public void validate() {
       backupForBuilder.validate();
@@ -134,6 +149,11 @@ public void validate() {
          throw CONFIG.missingXSiteEntryMergePolicy();
       }
 
+      int asyncBatchSize = attributes.attribute(ASYNC_BATCH_SIZE).get();
+      if (asyncBatchSize < 1) {
+         throw CONFIG.invalidXSiteAsyncBatchSize(asyncBatchSize);
+      }
+
       for (String site : attributes.attribute(IN_USE_BACKUP_SITES).get()) {
          boolean found = false;
          for (BackupConfigurationBuilder bcb : backups) {
@@ -18,8 +18,11 @@ public enum Attribute {
     ADDRESS_COUNT,
     AFTER,
     ALIASES,
+    ALLOCATOR,
     @Deprecated
     ALLOW_DUPLICATE_DOMAINS("duplicate-domains"),
+    ARENA_SIZE,
+    ASYNC_BATCH_SIZE,
     @Deprecated
     ASYNC_EXECUTOR,
     @Deprecated
@@ -73,6 +76,7 @@ public enum Attribute {
     ID,
     @Deprecated
     INDEX,
+    INDEXED,
     INITIAL_CLUSTER_SIZE,
     INITIAL_CLUSTER_TIMEOUT,
     INTERVAL,
@@ -92,6 +96,8 @@ public enum Attribute {
     LOCKING,
     MACHINE_ID("machine"),
     MAPPER,
+    MASS_INDEXER_BATCH_SIZE,
+    MASS_INDEXER_THREADS,
     MARSHALLER_CLASS("marshaller"),
     MAX_BATCH_SIZE,
     MAX_COUNT,
@@ -122,6 +128,7 @@ public enum Attribute {
     POSITION,
     PREFIX,
     PRELOAD,
+    PRELOAD_PARALLELISM,
     PRIORITY,
     PURGE,
     @Deprecated
@@ -81,6 +81,7 @@ public enum Element {
     PARTITION_HANDLING,
     PROPERTIES,
     PROPERTY,
+    QUERY,
     RECOVERY,
     REGEX,
     REMOTE_SITE,
@@ -115,6 +116,7 @@ public enum Element {
     VALUE_DATA_TYPE("value"),
     VERSIONING,
     VOLATILE_CONFIGURATION_STORAGE,
+    WARM_UP_QUERIES,
     @Deprecated
     WHITE_LIST,
     WRITE_BEHIND,
@@ -52,6 +52,7 @@
 import org.infinispan.configuration.cache.InterceptorConfiguration;
 import org.infinispan.configuration.cache.InterceptorConfigurationBuilder;
 import org.infinispan.configuration.cache.MemoryConfigurationBuilder;
+import org.infinispan.configuration.cache.OffHeapAllocatorType;
 import org.infinispan.configuration.cache.PartitionHandlingConfigurationBuilder;
 import org.infinispan.configuration.cache.SecurityConfigurationBuilder;
 import org.infinispan.configuration.cache.SingleFileStoreConfigurationBuilder;
@@ -1273,6 +1274,8 @@ private void parseBackups(XMLExtendedStreamReader reader, ConfigurationBuilderHo
          Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
          if (attribute == Attribute.MERGE_POLICY) {
             builder.sites().mergePolicy(XSiteMergePolicy.instanceFromString(value, holder.getClassLoader()));
+         } else if (attribute == Attribute.ASYNC_BATCH_SIZE && reader.getSchema().since(12, 0)) {
+            builder.sites().asyncBatchSize(Integer.parseInt(value));
          } else {
             throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -1635,6 +1638,20 @@ private void parseMemory(final XMLExtendedStreamReader reader, final Configurati
                case WHEN_FULL:
                   memoryBuilder.whenFull(EvictionStrategy.valueOf(value));
                   break;
+               case ALLOCATOR:
+                  if (reader.getSchema().since(12, 0)) {
+                     memoryBuilder.allocator(OffHeapAllocatorType.valueOf(value));
+                  } else {
+                     throw ParseUtils.unexpectedAttribute(reader, i);
+                  }
+                  break;
+               case ARENA_SIZE:
+                  if (reader.getSchema().since(12, 0)) {
+                     memoryBuilder.arenaSize(value);
+                  } else {
+                     throw ParseUtils.unexpectedAttribute(reader, i);
+                  }
+                  break;
                default:
                   throw ParseUtils.unexpectedAttribute(reader, i);
             }
@@ -2043,6 +2060,14 @@ private void parseExpiration(XMLExtendedStreamReader reader, ConfigurationBuilde
                builder.expiration().wakeUpInterval(Long.parseLong(value));
                break;
             }
+            case INDEXED: {
+               if (reader.getSchema().since(12, 0)) {
+                  builder.expiration().indexed(Boolean.parseBoolean(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+            }
             default: {
                throw ParseUtils.unexpectedAttribute(reader, i);
             }
@@ -2380,6 +2405,13 @@ private void parsePersistence(final XMLExtendedStreamReader reader, final Config
             case CONNECTION_INTERVAL:
                builder.persistence().connectionInterval(Integer.parseInt(value));
                break;
+            case PRELOAD_PARALLELISM:
+               if (reader.getSchema().since(12, 0)) {
+                  builder.persistence().preloadParallelism(Integer.parseInt(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -2739,6 +2771,20 @@ private void parseIndexing(XMLExtendedStreamReader reader, ConfigurationBuilderH
                CONFIG.autoConfigDeprecated();
                builder.indexing().autoConfig(Boolean.parseBoolean(value));
                break;
+            case MASS_INDEXER_THREADS:
+               if (reader.getSchema().since(12, 0)) {
+                  builder.indexing().massIndexerThreads(Integer.parseInt(value));
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               break;
+            case MASS_INDEXER_BATCH_SIZE:
+               if (reader.getSchema().since(12, 0)) {
+                  builder.indexing().massIndexerBatchSize(Integer.parseInt(value));
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -2761,6 +2807,14 @@ private void parseIndexing(XMLExtendedStreamReader reader, ConfigurationBuilderH
                parseIndexedEntities(reader, holder, builder);
                break;
             }
+            case WARM_UP_QUERIES: {
+               if (reader.getSchema().since(12, 0)) {
+                  parseWarmUpQueries(reader, builder);
+               } else {
+                  throw ParseUtils.unexpectedElement(reader);
+               }
+               break;
+            }
             case PROPERTY: {
                parseProperty(reader, indexingProperties);
                break;
@@ -2809,6 +2863,22 @@ private void parseKeyTransformer(XMLExtendedStreamReader reader, ConfigurationBu
       ParseUtils.requireNoContent(reader);
    }
 
+   private void parseWarmUpQueries(XMLExtendedStreamReader reader, ConfigurationBuilder builder) throws XMLStreamException {
+      ParseUtils.requireNoAttributes(reader);
+      while (reader.hasNext() && (reader.nextTag() != XMLStreamConstants.END_ELEMENT)) {
+         Element element = Element.forName(reader.getLocalName());
+         switch (element) {
+            case QUERY: {
+               ParseUtils.requireNoAttributes(reader);
+               builder.indexing().addWarmUpQuery(reader.getElementText());
+               break;
+            }
+            default:
+               throw ParseUtils.unexpectedElement(reader);
+         }
+      }
+   }
+
    private void parseIndexedEntities(XMLExtendedStreamReader reader, ConfigurationBuilderHolder holder, ConfigurationBuilder builder) throws XMLStreamException {
       ParseUtils.requireNoAttributes(reader);
       boolean isProtobufStorage = builder.memory().encoding().value().isProtobufStorage();
@@ -640,6 +640,8 @@ private void writeMemory(XMLExtendedStreamWriter writer, Configuration configura
             attributes.write(writer, MemoryConfiguration.MAX_SIZE, Attribute.MAX_SIZE);
          }
          attributes.write(writer, MemoryConfiguration.WHEN_FULL, Attribute.WHEN_FULL);
+         attributes.write(writer, MemoryConfiguration.ALLOCATOR, Attribute.ALLOCATOR);
+         attributes.write(writer, MemoryConfiguration.ARENA_SIZE, Attribute.ARENA_SIZE);
          writer.writeEndElement();
       }
    }
@@ -651,6 +653,8 @@ private void writeIndexing(XMLExtendedStreamWriter writer, Configuration configu
          writer.writeStartElement(Element.INDEXING);
          attributes.write(writer, IndexingConfiguration.AUTO_CONFIG, Attribute.AUTO_CONFIG);
          attributes.write(writer, IndexingConfiguration.ENABLED, Attribute.ENABLED);
+         attributes.write(writer, IndexingConfiguration.MASS_INDEXER_THREADS, Attribute.MASS_INDEXER_THREADS);
+         attributes.write(writer, IndexingConfiguration.MASS_INDEXER_BATCH_SIZE, Attribute.MASS_INDEXER_BATCH_SIZE);
          if (!indexing.indexedEntityTypes().isEmpty()) {
             writer.writeStartElement(Element.INDEXED_ENTITIES);
             for (String indexedEntity : indexing.indexedEntityTypes()) {
@@ -660,6 +664,15 @@ private void writeIndexing(XMLExtendedStreamWriter writer, Configuration configu
             }
             writer.writeEndElement();
          }
+         if (!indexing.warmUpQueries().isEmpty()) {
+            writer.writeStartElement(Element.WARM_UP_QUERIES);
+            for (String query : indexing.warmUpQueries()) {
+               writer.writeStartElement(Element.QUERY);
+               writer.writeCharacters(query);
+               writer.writeEndElement();
+            }
+            writer.writeEndElement();
+         }
          if (!indexing.keyTransformers().isEmpty()) {
             writer.writeStartElement(Element.KEY_TRANSFORMERS);
             for (Map.Entry<Class<?>, Class<?>> e : indexing.keyTransformers().entrySet()) {
@@ -684,6 +697,7 @@ private void writePersistence(XMLExtendedStreamWriter writer, Configuration conf
          attributes.write(writer, PersistenceConfiguration.AVAILABILITY_INTERVAL, Attribute.AVAILABILITY_INTERVAL);
          attributes.write(writer, PersistenceConfiguration.CONNECTION_ATTEMPTS, Attribute.CONNECTION_ATTEMPTS);
          attributes.write(writer, PersistenceConfiguration.CONNECTION_INTERVAL, Attribute.CONNECTION_INTERVAL);
+         attributes.write(writer, PersistenceConfiguration.PRELOAD_PARALLELISM, Attribute.PRELOAD_PARALLELISM);
          for (StoreConfiguration store : persistence.stores()) {
             writeStore(writer, store);
          }
@@ -724,6 +738,7 @@ private void writeBackup(XMLExtendedStreamWriter writer, Configuration configura
       SitesConfiguration sites = configuration.sites();
       if (sites.allBackups().size() > 0) {
          writer.writeStartElement(Element.BACKUPS);
+         sites.attributes().write(writer, SitesConfiguration.ASYNC_BATCH_SIZE, Attribute.ASYNC_BATCH_SIZE);
          for (BackupConfiguration backup : sites.allBackups()) {
             writer.writeStartElement(Element.BACKUP);
             backup.attributes().write(writer);
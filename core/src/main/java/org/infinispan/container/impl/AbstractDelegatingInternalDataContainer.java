@@ -157,6 +157,16 @@ public Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired(IntSet segmen
       return delegate().iteratorIncludingExpired(segments);
    }
 
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> expirationCandidates(long currentTimeMillis) {
+      return delegate().expirationCandidates(currentTimeMillis);
+   }
+
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> expirationCandidates(IntSet segments, long currentTimeMillis) {
+      return delegate().expirationCandidates(segments, currentTimeMillis);
+   }
+
    @Override
    public void forEach(Consumer<? super InternalCacheEntry<K, V>> action) {
       delegate().forEach(action);
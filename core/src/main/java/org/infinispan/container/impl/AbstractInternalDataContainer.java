@@ -7,6 +7,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -14,6 +15,7 @@
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.infinispan.commons.logging.Log;
 import org.infinispan.commons.logging.LogFactory;
@@ -22,7 +24,9 @@
 import org.infinispan.commons.util.ByRef;
 import org.infinispan.commons.util.FilterSpliterator;
 import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
 import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.container.DataContainer;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.distribution.ch.KeyPartitioner;
@@ -30,6 +34,7 @@
 import org.infinispan.eviction.impl.PassivationManager;
 import org.infinispan.expiration.impl.InternalExpirationManager;
 import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.impl.ComponentRef;
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
@@ -70,9 +75,23 @@
 
    protected final List<Consumer<Iterable<InternalCacheEntry<K, V>>>> listeners = new CopyOnWriteArrayList<>();
 
+   // null unless expiration().indexed() is enabled along with the reaper
+   private ExpirationIndex<K> expirationIndex;
+
    protected abstract PeekableTouchableMap<K, V> getMapForSegment(int segment);
    protected abstract int getSegmentForKey(Object key);
 
+   @Start
+   public void startExpirationIndex() {
+      long wakeUpInterval = configuration.expiration().wakeUpInterval();
+      // off-heap containers are not indexed, as the index would keep an on-heap copy of every mortal key
+      if (configuration.expiration().indexed() && configuration.expiration().reaperEnabled() && wakeUpInterval > 0 &&
+            configuration.memory().storage() != StorageType.OFF_HEAP) {
+         // the reaper can't expire entries more often than it runs, so finer buckets would only cost memory
+         expirationIndex = new ExpirationIndex<>(configuration.clustering().hash().numSegments(), wakeUpInterval);
+      }
+   }
+
    @Override
    public InternalCacheEntry<K, V> get(int segment, Object k) {
       PeekableTouchableMap<K, V> map = getMapForSegment(segment);
@@ -150,7 +169,12 @@ public void put(int segment, K k, V v, Metadata metadata, PrivateMetadata intern
          copy.setInternalMetadata(internalMetadata);
          if (trace)
             log.tracef("Store %s=%s in container", k, copy);
-         entries.put(k, copy);
+         InternalCacheEntry<K, V> previous = entries.put(k, copy);
+         if (copy.canExpire()) {
+            indexExpiration(segment, k, copy);
+         } else if (previous != null && previous.canExpire()) {
+            unindexExpiration(segment, k);
+         }
       } else {
          log.tracef("Insertion attempted for key: %s but there was no map created for it at segment: %d", k, segment);
       }
@@ -188,6 +212,9 @@ public InternalCacheEntry<K, V> remove(int segment, Object k) {
          if (trace) {
             log.tracef("Removed %s=%s from container", k, e);
          }
+         if (e != null && e.canExpire()) {
+            unindexExpiration(segment, k);
+         }
 
          return e == null || (e.canExpire() && e.isExpired(timeService.wallClockTime())) ? null : e;
       }
@@ -213,6 +240,7 @@ public CompletionStage<Void> evict(int segment, K key) {
          // - we don't need eviction manager either as it is handled in NotifyHelper
          evictionStageRef.set(handleEviction(entry, null, passivator.running(), null, this, null));
          computeEntryRemoved(o, entry);
+         removeExpirationInCompute(segment, o, entry);
          return null;
       });
       return evictionStageRef.get();
@@ -232,9 +260,15 @@ public InternalCacheEntry<K, V> compute(int segment, K key, DataContainer.Comput
             return oldEntry;
          } else if (newEntry == null) {
             computeEntryRemoved(k, oldEntry);
+            removeExpirationInCompute(segment, k, oldEntry);
             return null;
          }
          computeEntryWritten(k, newEntry);
+         if (newEntry.canExpire()) {
+            indexExpiration(segment, k, newEntry);
+         } else {
+            removeExpirationInCompute(segment, k, oldEntry);
+         }
          if (trace)
             log.tracef("Store %s in container", newEntry);
          return newEntry;
@@ -253,9 +287,91 @@ public void clear(IntSet segments) {
          if (map != null) {
             map.clear();
          }
+         if (expirationIndex != null) {
+            expirationIndex.clear(segment);
+         }
       });
    }
 
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> expirationCandidates(long currentTimeMillis) {
+      if (expirationIndex == null) {
+         return iteratorIncludingExpired();
+      }
+      return expirationCandidates(IntSets.immutableRangeSet(expirationIndex.numSegments()), currentTimeMillis);
+   }
+
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> expirationCandidates(IntSet segments, long currentTimeMillis) {
+      if (expirationIndex == null) {
+         return iteratorIncludingExpired(segments);
+      }
+      // The keys of a segment are all checked when it is drained, so that a purge that stops before expiring every
+      // returned entry does not lose the keys it did not reach
+      return segments.intStream().boxed()
+            .flatMap(segment -> expirationIndex.drain(segment, currentTimeMillis).stream()
+                  .map(key -> expirationCandidate(segment, key, currentTimeMillis))
+                  .filter(Objects::nonNull)
+                  .collect(Collectors.toList())
+                  .stream())
+            .iterator();
+   }
+
+   /**
+    * Checks the current entry of a key drained from the expiration index, adding the key back to the index when the
+    * entry could still expire later.
+    * @return the entry if it is expired, null otherwise
+    */
+   private InternalCacheEntry<K, V> expirationCandidate(int segment, K key, long currentTimeMillis) {
+      InternalCacheEntry<K, V> entry = peek(segment, key);
+      if (entry == null || !entry.canExpire()) {
+         return null;
+      }
+      if (entry.isExpired(currentTimeMillis)) {
+         // The expiration may fail or be cancelled by an access on another node, so the entry is checked again on the
+         // next run. Removing the entry removes it from the index.
+         expirationIndex.add(segment, key, currentTimeMillis + configuration.expiration().wakeUpInterval());
+         return entry;
+      }
+      long expiryTime = entry.getExpiryTime();
+      // A write indexes the entry again, so only an entry expiring later in the drained bucket or postponed by an
+      // access has to be added back
+      if (entry.getMaxIdle() > 0 || expirationIndex.isDrained(expiryTime, currentTimeMillis)) {
+         expirationIndex.add(segment, key, expiryTime);
+      }
+      return null;
+   }
+
+   private void indexExpiration(int segment, K key, InternalCacheEntry<K, V> entry) {
+      if (expirationIndex != null) {
+         expirationIndex.add(segment, key, entry.getExpiryTime());
+      }
+   }
+
+   /**
+    * Removes a key from the expiration index while holding the lock of the key in its segment map.
+    */
+   private void removeExpirationInCompute(int segment, Object key, InternalCacheEntry<K, V> oldEntry) {
+      if (expirationIndex != null && oldEntry != null && oldEntry.canExpire()) {
+         expirationIndex.remove(segment, key);
+      }
+   }
+
+   /**
+    * Removes a key from the expiration index after its entry was removed or replaced by an immortal one outside a
+    * compute block. A concurrent write of a mortal entry may have indexed the key again before it was removed, so the
+    * current entry is checked and indexed back if needed.
+    */
+   private void unindexExpiration(int segment, Object key) {
+      if (expirationIndex != null) {
+         expirationIndex.remove(segment, key);
+         InternalCacheEntry<K, V> current = peek(segment, key);
+         if (current != null && current.canExpire()) {
+            expirationIndex.add(segment, current.getKey(), current.getExpiryTime());
+         }
+      }
+   }
+
    /**
     * This method is invoked every time an entry is written inside a compute block
     * @param key key passed to compute method
@@ -471,6 +587,9 @@ public void onRemoval(K key, InternalCacheEntry<K, V> value, RemovalCause cause)
             if (future != null) {
                future.complete(null);
             }
+            if (value != null && value.canExpire()) {
+               unindexExpiration(getSegmentForKey(key), key);
+            }
          }
       }
    }
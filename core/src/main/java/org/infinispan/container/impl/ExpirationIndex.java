@@ -0,0 +1,127 @@
+package org.infinispan.container.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of keys by the time their entries expire, split by segment. Keys are grouped in buckets spanning
+ * {@code bucketMillis} and a bucket is drained as a whole once its start time has passed.
+ * <p>
+ * Each key is in at most one bucket: adding a key again moves it to the bucket of its new expiration time, and
+ * {@link #remove(int, Object)} drops it. Entries whose expiration is postponed without a write (max-idle touches) are
+ * not moved, so the caller of {@link #drain(int, long)} has to check the current entry of each drained key and add
+ * back those that can still expire later.
+ *
+ * @since 12.0
+ */
+class ExpirationIndex<K> {
+   private final long bucketMillis;
+   private final Segment<K>[] segments;
+
+   @SuppressWarnings("unchecked")
+   ExpirationIndex(int numSegments, long bucketMillis) {
+      this.bucketMillis = bucketMillis;
+      this.segments = new Segment[numSegments];
+      for (int i = 0; i < numSegments; ++i) {
+         segments[i] = new Segment<>();
+      }
+   }
+
+   int numSegments() {
+      return segments.length;
+   }
+
+   /**
+    * @return whether the entry expiring at the given time is in a bucket that a drain at the given current time would
+    * remove
+    */
+   boolean isDrained(long expiryTime, long currentTimeMillis) {
+      return bucket(expiryTime) <= bucket(currentTimeMillis);
+   }
+
+   void add(int segment, K key, long expiryTime) {
+      Segment<K> s = segments[segment];
+      Long bucket = bucket(expiryTime);
+      synchronized (s) {
+         Long previous = s.keyBuckets.put(key, bucket);
+         if (bucket.equals(previous)) {
+            return;
+         }
+         if (previous != null) {
+            s.removeFromBucket(previous, key);
+         }
+         s.buckets.computeIfAbsent(bucket, b -> new HashSet<>()).add(key);
+      }
+   }
+
+   void remove(int segment, Object key) {
+      Segment<K> s = segments[segment];
+      synchronized (s) {
+         Long previous = s.keyBuckets.remove(key);
+         if (previous != null) {
+            s.removeFromBucket(previous, key);
+         }
+      }
+   }
+
+   /**
+    * Removes the keys in the buckets starting at or before the current time.
+    * @return the removed keys
+    */
+   Set<K> drain(int segment, long currentTimeMillis) {
+      Segment<K> s = segments[segment];
+      Set<K> keys;
+      synchronized (s) {
+         NavigableMap<Long, Set<K>> expired = s.buckets.headMap(bucket(currentTimeMillis), true);
+         if (expired.isEmpty()) {
+            return Collections.emptySet();
+         }
+         keys = new HashSet<>();
+         for (Set<K> bucketKeys : expired.values()) {
+            keys.addAll(bucketKeys);
+         }
+         expired.clear();
+         s.keyBuckets.keySet().removeAll(keys);
+      }
+      return keys;
+   }
+
+   void clear(int segment) {
+      Segment<K> s = segments[segment];
+      synchronized (s) {
+         s.buckets.clear();
+         s.keyBuckets.clear();
+      }
+   }
+
+   /**
+    * @return the number of keys in the index for the given segment
+    */
+   int size(int segment) {
+      Segment<K> s = segments[segment];
+      synchronized (s) {
+         return s.keyBuckets.size();
+      }
+   }
+
+   private long bucket(long time) {
+      return time / bucketMillis;
+   }
+
+   private static class Segment<K> {
+      private final TreeMap<Long, Set<K>> buckets = new TreeMap<>();
+      private final Map<K, Long> keyBuckets = new HashMap<>();
+
+      void removeFromBucket(Long bucket, Object key) {
+         Set<K> bucketKeys = buckets.get(bucket);
+         if (bucketKeys != null && bucketKeys.remove(key) && bucketKeys.isEmpty()) {
+            buckets.remove(bucket);
+         }
+      }
+   }
+}
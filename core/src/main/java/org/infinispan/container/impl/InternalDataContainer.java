@@ -199,6 +199,30 @@ default int sizeIncludingExpired(IntSet segments) {
     */
    Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired(IntSet segments);
 
+   /**
+    * Returns the entries that may have expired by the given time, for the expiration reaper. When the container keeps
+    * an expiration index (see {@link org.infinispan.configuration.cache.ExpirationConfiguration#indexed()}), only
+    * the indexed entries that expired by the given time are returned. The returned entries stay indexed until they
+    * are removed, so an entry whose expiration failed is returned again by a later invocation. Otherwise all the
+    * entries are returned, including the expired ones.
+    * @param currentTimeMillis the current wall clock time
+    * @return iterator of the entries that may be expired
+    */
+   default Iterator<InternalCacheEntry<K, V>> expirationCandidates(long currentTimeMillis) {
+      return iteratorIncludingExpired();
+   }
+
+   /**
+    * Same as {@link #expirationCandidates(long)} except that only entries that map to the provided segments are
+    * returned.
+    * @param segments segments of entries to use
+    * @param currentTimeMillis the current wall clock time
+    * @return iterator of the entries mapped to the given segments that may be expired
+    */
+   default Iterator<InternalCacheEntry<K, V>> expirationCandidates(IntSet segments, long currentTimeMillis) {
+      return iteratorIncludingExpired(segments);
+   }
+
    default Publisher<InternalCacheEntry<K, V>> publisher(int segment) {
       return Flowable.fromIterable(() -> iterator(IntSets.immutableSet(segment)));
    }
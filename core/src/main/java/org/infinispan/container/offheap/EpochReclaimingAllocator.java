@@ -0,0 +1,188 @@
+package org.infinispan.container.offheap;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocator that delegates allocations to another {@link OffHeapMemoryAllocator}, but defers deallocations until
+ * no reader that was running without a lock can still be referencing the memory.
+ * <p>
+ * Readers that access memory without holding a lock (such as an optimistic read from a
+ * {@link java.util.concurrent.locks.StampedLock}) must invoke {@link #enter()} before reading any addresses and
+ * {@link #exit()} once they are done. Memory passed to {@link #deallocate(long, long)} is only returned to the delegate
+ * once every reader that entered before the memory was retired has exited. This is a basic epoch based reclamation
+ * scheme where each thread only writes to its own slot on the read path, so readers do not contend with each other.
+ * The slot of a thread that terminated is removed on the next reclaim.
+ * <p>
+ * Note that retired memory is still readable by readers, but may contain stale data, thus any such reader must
+ * validate what it read after the fact.
+ * @since 12.0
+ */
+class EpochReclaimingAllocator implements OffHeapMemoryAllocator {
+   // Do not attempt to reclaim memory until at least this many deallocations are pending
+   private static final int RECLAIM_THRESHOLD = 64;
+   // A slot with this epoch is not currently reading
+   private static final long INACTIVE = 0;
+
+   private final OffHeapMemoryAllocator delegate;
+   private final AtomicLong globalEpoch = new AtomicLong(INACTIVE + 1);
+   private final Queue<ReaderSlot> slots = new ConcurrentLinkedQueue<>();
+   private final ThreadLocal<ReaderSlot> localSlot = ThreadLocal.withInitial(this::registerSlot);
+   private final Queue<RetiredMemory> retired = new ConcurrentLinkedQueue<>();
+   private final AtomicInteger retiredCount = new AtomicInteger();
+   private final AtomicBoolean reclaiming = new AtomicBoolean();
+
+   EpochReclaimingAllocator(OffHeapMemoryAllocator delegate) {
+      this.delegate = delegate;
+   }
+
+   private ReaderSlot registerSlot() {
+      ReaderSlot slot = new ReaderSlot(Thread.currentThread());
+      slots.add(slot);
+      return slot;
+   }
+
+   /**
+    * Marks the current thread as reading memory without a lock. Any memory deallocated after this point will not be
+    * freed until {@link #exit()} is invoked from the same thread. Calls must not be nested.
+    */
+   void enter() {
+      ReaderSlot slot = localSlot.get();
+      long epoch;
+      do {
+         epoch = globalEpoch.get();
+         slot.epoch = epoch;
+         // Make sure the epoch did not advance while we were publishing ours, otherwise a concurrent reclaim may
+         // have missed us
+      } while (globalEpoch.get() != epoch);
+   }
+
+   /**
+    * Marks the current thread as no longer reading memory without a lock.
+    */
+   void exit() {
+      localSlot.get().epoch = INACTIVE;
+   }
+
+   @Override
+   public long allocate(long memoryLength) {
+      return delegate.allocate(memoryLength);
+   }
+
+   @Override
+   public void deallocate(long memoryAddress, long size) {
+      retired.add(new RetiredMemory(memoryAddress, size, globalEpoch.get()));
+      if (retiredCount.incrementAndGet() >= RECLAIM_THRESHOLD) {
+         reclaim();
+      }
+   }
+
+   @Override
+   public long getAllocatedAmount() {
+      return delegate.getAllocatedAmount();
+   }
+
+   /**
+    * Frees all retired memory that can no longer be referenced by any reader. If another thread is already reclaiming
+    * this method returns immediately.
+    */
+   void reclaim() {
+      if (!reclaiming.compareAndSet(false, true)) {
+         return;
+      }
+      try {
+         // Any reader that enters after this increment can't see memory that was retired before it
+         long minActiveEpoch = globalEpoch.incrementAndGet();
+         Iterator<ReaderSlot> slotIterator = slots.iterator();
+         while (slotIterator.hasNext()) {
+            ReaderSlot slot = slotIterator.next();
+            if (!slot.isOwnerAlive()) {
+               // A terminated thread can't be reading anymore
+               slotIterator.remove();
+               continue;
+            }
+            long epoch = slot.epoch;
+            if (epoch != INACTIVE && epoch < minActiveEpoch) {
+               minActiveEpoch = epoch;
+            }
+         }
+         Iterator<RetiredMemory> iterator = retired.iterator();
+         while (iterator.hasNext()) {
+            RetiredMemory memory = iterator.next();
+            if (memory.epoch < minActiveEpoch) {
+               iterator.remove();
+               retiredCount.decrementAndGet();
+               delegate.deallocate(memory.address, memory.size);
+            }
+         }
+      } finally {
+         reclaiming.set(false);
+      }
+   }
+
+   /**
+    * Frees all memory retired before this invocation, waiting for any in progress readers to complete. Readers are
+    * expected to be short lived as they only perform a single lookup.
+    */
+   void reclaimAll() {
+      long epoch = globalEpoch.get();
+      while (hasRetiredUpTo(epoch)) {
+         reclaim();
+         Thread.yield();
+      }
+   }
+
+   private boolean hasRetiredUpTo(long epoch) {
+      if (retiredCount.get() == 0) {
+         return false;
+      }
+      for (RetiredMemory memory : retired) {
+         if (memory.epoch <= epoch) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * @return the number of reader slots that are registered, for testing purposes
+    */
+   int readerSlots() {
+      return slots.size();
+   }
+
+   private static class ReaderSlot {
+      // Padding to prevent false sharing between the slots of different reader threads
+      long p1, p2, p3, p4, p5, p6, p7;
+      volatile long epoch = INACTIVE;
+      long q1, q2, q3, q4, q5, q6, q7;
+      // Weakly referenced so that the slot does not keep a terminated thread from being collected
+      private final WeakReference<Thread> owner;
+
+      private ReaderSlot(Thread owner) {
+         this.owner = new WeakReference<>(owner);
+      }
+
+      boolean isOwnerAlive() {
+         Thread thread = owner.get();
+         return thread != null && thread.isAlive();
+      }
+   }
+
+   private static class RetiredMemory {
+      private final long address;
+      private final long size;
+      private final long epoch;
+
+      private RetiredMemory(long address, long size, long epoch) {
+         this.address = address;
+         this.size = size;
+         this.epoch = epoch;
+      }
+   }
+}
@@ -65,7 +65,10 @@
  * This map guarantees consistency under concurrent read ands writes through a {@link StripedLock} where each
  * {@link java.util.concurrent.locks.ReadWriteLock} instance protects an equivalent region of buckets in the underlying
  * memory lookup. Read operations, that is ones that only acquire the read lock for their specific lock region, are
- * ({@code get} and {@code peek}). Iteration on a returned entrySet or value collection will acquire only a single
+ * ({@code get} and {@code peek}). These read operations first attempt an optimistic read without acquiring the lock,
+ * falling back to the read lock if a write occurred concurrently in the same lock region. Memory that is freed by
+ * writers is not returned to the allocator until no optimistic reader can be referencing it, see
+ * {@link EpochReclaimingAllocator}. Iteration on a returned entrySet or value collection will acquire only a single
  * read lock at a time while inspecting a given lock region for a valid value. Write operations, ones that acquire the
  * write lock for the lock region, are ({@code put}, {@code remove}, {@code replace}, {@code compute}. A clear
  * will acquire all write locks when invoked. This allows the clear to also resize the map down to the initial size.
@@ -114,7 +117,7 @@ public class OffHeapConcurrentMap implements ConcurrentMap<WrappedBytes, Interna
    private final AtomicLong size = new AtomicLong();
    private final StripedLock locks;
 
-   private final OffHeapMemoryAllocator allocator;
+   private final EpochReclaimingAllocator allocator;
    private final OffHeapEntryFactory offHeapEntryFactory;
 
    private final EntryListener listener;
@@ -144,7 +147,7 @@ public class OffHeapConcurrentMap implements ConcurrentMap<WrappedBytes, Interna
 
    public OffHeapConcurrentMap(OffHeapMemoryAllocator allocator,
          OffHeapEntryFactory offHeapEntryFactory, EntryListener listener) {
-      this.allocator = Objects.requireNonNull(allocator);
+      this.allocator = new EpochReclaimingAllocator(Objects.requireNonNull(allocator));
       this.offHeapEntryFactory = Objects.requireNonNull(offHeapEntryFactory);
       this.listener = listener;
 
@@ -554,6 +557,8 @@ public void close() {
       } finally {
          locks.unlockAll();
       }
+      // No new optimistic readers can see any memory now, so just wait for the current ones to complete
+      allocator.reclaimAll();
    }
 
    @Override
@@ -623,6 +628,37 @@ private InternalCacheEntry<WrappedBytes, WrappedBytes> peekOrGet(WrappedBytes k,
       int hashCode = k.hashCode();
       int lockOffset = getLockOffset(hashCode);
       StampedLock stampedLock = locks.getLockWithOffset(lockOffset);
+      // A retrieval notifies the listener, which requires the entry to not be removed concurrently. The listener
+      // also updates state (e.g. the eviction order) that cannot be rolled back if the stamp doesn't validate, so a
+      // get with a listener always uses the read lock.
+      if (peek || listener == null) {
+         // Readers never see a partially written entry because:
+         // 1. A writer fully writes an entry before linking its address into a bucket, and only does so while holding
+         //    the write lock, whose release publishes every write made under it.
+         // 2. validate() issues a load fence before checking the stamp, so if it succeeds no write lock was acquired
+         //    since tryOptimisticRead() and every value read in between was published before the stamp was issued.
+         // 3. optimisticPeek copies the entry onto the heap, so a torn copy is discarded when validate() fails.
+         // 4. Memory unlinked by a concurrent writer is only freed once this thread exits the allocator epoch, so
+         //    reading a stale address never touches memory that was returned to the system.
+         long optimisticStamp = stampedLock.tryOptimisticRead();
+         if (optimisticStamp != 0) {
+            allocator.enter();
+            try {
+               InternalCacheEntry<WrappedBytes, WrappedBytes> ice = optimisticPeek(stampedLock, optimisticStamp,
+                     lockOffset, k, hashCode);
+               if (stampedLock.validate(optimisticStamp)) {
+                  return ice;
+               }
+            } catch (RuntimeException e) {
+               // A concurrent write can cause us to read inconsistent state, in which case we just use the read lock
+               if (stampedLock.validate(optimisticStamp)) {
+                  throw e;
+               }
+            } finally {
+               allocator.exit();
+            }
+         }
+      }
       long readStamp = stampedLock.readLock();
       try {
          checkDeallocation();
@@ -638,6 +674,55 @@ private InternalCacheEntry<WrappedBytes, WrappedBytes> peekOrGet(WrappedBytes k,
       }
    }
 
+   /**
+    * Performs a peek without holding any lock. All state must be read into local variables as it can be modified
+    * concurrently, and the returned value is only valid if the provided stamp is still valid afterwards. Any address
+    * read here is guaranteed to not be freed until {@link EpochReclaimingAllocator#exit()} is invoked, however its
+    * contents may be stale.
+    * @param stampedLock the lock for the key's lock region
+    * @param stamp the optimistic stamp acquired from the lock
+    * @param lockOffset the lock offset the key maps to
+    * @param k the key to find
+    * @param hashCode the hashCode of the key
+    * @return the entry if found or null, which is only correct if the stamp is validated afterwards
+    */
+   private InternalCacheEntry<WrappedBytes, WrappedBytes> optimisticPeek(StampedLock stampedLock, long stamp,
+         int lockOffset, WrappedBytes k, int hashCode) {
+      IntSet pendingBlocks = this.pendingBlocks;
+      MemoryAddressHash memoryLookup;
+      int shift;
+      if (pendingBlocks != null && pendingBlocks.contains(lockOffset)) {
+         memoryLookup = this.oldMemoryLookup;
+         shift = this.oldMemoryShift;
+      } else {
+         memoryLookup = this.memoryLookup;
+         shift = this.memoryShift;
+      }
+      if (memoryLookup == null) {
+         // Either a resize completed concurrently or the map was shut down - the caller will figure out which
+         checkDeallocation();
+         return null;
+      }
+      int memoryOffset = getOffset(hashCode, shift);
+      // The shift may be from a different lookup if a resize occurred concurrently, so don't read outside of it
+      if (memoryOffset >= memoryLookup.getPointerCount() || !stampedLock.validate(stamp)) {
+         return null;
+      }
+      long address = memoryLookup.getMemoryAddressOffset(memoryOffset);
+      int hops = 0;
+      while (address != 0) {
+         // Periodically make sure no write occurred, as following a modified chain could take us anywhere
+         if ((++hops & 7) == 0 && !stampedLock.validate(stamp)) {
+            return null;
+         }
+         if (offHeapEntryFactory.equalsKey(address, k, hashCode)) {
+            return offHeapEntryFactory.fromMemory(address);
+         }
+         address = offHeapEntryFactory.getNext(address);
+      }
+      return null;
+   }
+
    @GuardedBy("locks#readLock")
    private InternalCacheEntry<WrappedBytes, WrappedBytes> lockedPeekOrGet(MemoryAddressHash memoryLookup,
          WrappedBytes k, int hashCode, boolean peek) {
@@ -908,6 +993,8 @@ public void clear() {
       } finally {
          locks.unlockAll();
       }
+      // Make sure all the memory is actually freed once a clear returns
+      allocator.reclaimAll();
    }
 
    @GuardedBy("locks#lockAll")
@@ -12,13 +12,13 @@
  * @author wburns
  * @since 9.0
  */
-class OffHeapMemory {
+public class OffHeapMemory {
    private static final Log log = LogFactory.getLog(OffHeapMemory.class);
    private static final boolean trace = log.isTraceEnabled();
 
    private static final Unsafe UNSAFE = UnsafeHolder.UNSAFE;
 
-   static final OffHeapMemory INSTANCE = new OffHeapMemory();
+   public static final OffHeapMemory INSTANCE = new OffHeapMemory();
    private static final int BYTE_ARRAY_BASE_OFFSET = Unsafe.ARRAY_BYTE_BASE_OFFSET;
 
    private static ConcurrentHashMap<Long, Long> allocatedBlocks;
@@ -109,7 +109,7 @@ void putLong(long destAddress, long offset, long value) {
       UNSAFE.putLong(destAddress + offset, value);
    }
 
-   void getBytes(long srcAddress, long srcOffset, byte[] destArray, long destOffset, long length) {
+   public void getBytes(long srcAddress, long srcOffset, byte[] destArray, long destOffset, long length) {
       checkAddress(srcAddress, srcOffset + length);
       if (trace) {
          log.tracef("Read %d bytes from address 0x%016x+%d into array %s+%d", length, srcAddress, srcOffset, destArray, destOffset);
@@ -117,7 +117,7 @@ void getBytes(long srcAddress, long srcOffset, byte[] destArray, long destOffset
       UNSAFE.copyMemory(null, srcAddress + srcOffset, destArray, BYTE_ARRAY_BASE_OFFSET + destOffset, length);
    }
 
-   void putBytes(byte[] srcArray, long srcOffset, long destAddress, long destOffset, long length) {
+   public void putBytes(byte[] srcArray, long srcOffset, long destAddress, long destOffset, long length) {
       checkAddress(destAddress, destOffset + length);
       if (trace) {
          log.tracef("Wrote %d bytes from array %s+%d to address 0x%016x+%d", length, srcArray, srcOffset, destAddress, destOffset);
@@ -176,4 +176,34 @@ void free(long address) {
       }
       UNSAFE.freeMemory(address);
    }
+
+   /**
+    * Allocates a region of memory that is subdivided by the caller. The region itself is not tracked, instead each
+    * block handed out from it must be registered via {@link #trackBlock(long, long)}.
+    */
+   long allocateRegion(long size) {
+      return UNSAFE.allocateMemory(size);
+   }
+
+   void freeRegion(long address) {
+      UNSAFE.freeMemory(address);
+   }
+
+   void trackBlock(long address, long size) {
+      if (trace) {
+         Long prev = allocatedBlocks.put(address, size);
+         if (prev != null) {
+            throw new IllegalArgumentException();
+         }
+      }
+   }
+
+   void untrackBlock(long address) {
+      if (trace) {
+         Long prev = allocatedBlocks.remove(address);
+         if (prev == null) {
+            throw new IllegalArgumentException();
+         }
+      }
+   }
 }
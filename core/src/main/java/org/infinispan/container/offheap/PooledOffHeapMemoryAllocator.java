@@ -0,0 +1,367 @@
+package org.infinispan.container.offheap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.factories.annotations.Stop;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.DataType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+import net.jcip.annotations.GuardedBy;
+import sun.misc.Unsafe;
+
+/**
+ * Memory allocator that carves allocations out of large native arenas instead of allocating each one individually.
+ * <p>
+ * Allocations are rounded up to a size class. Small sizes use classes 16 bytes apart, while larger sizes use 4 classes
+ * per power of two, which bounds the internal fragmentation to 25%. Allocations larger than
+ * {@link #MAX_POOLED_SIZE} are not pooled and are allocated directly.
+ * <p>
+ * Freed blocks are kept on a per size class free list, where the first 8 bytes of each free block point to the next
+ * free block. To prevent contention each thread keeps a small cache of free blocks per size class, that is refilled
+ * from and flushed to the shared free list in batches. New blocks are only carved from an arena when the free list of
+ * a size class is empty. Arenas are only released when the allocator is stopped, thus the native memory used
+ * by the cache only grows up to its high water mark. Note that the blocks cached by a thread that terminates are not
+ * reused until the allocator is stopped.
+ * @since 12.0
+ */
+@MBean(objectName = "PooledOffHeapMemoryAllocator",
+      description = "Allocates off-heap memory for the cache from pooled arenas")
+@Scope(Scopes.NAMED_CACHE)
+public class PooledOffHeapMemoryAllocator implements OffHeapMemoryAllocator {
+   private static final Log log = LogFactory.getLog(PooledOffHeapMemoryAllocator.class, Log.class);
+   private static final boolean trace = log.isTraceEnabled();
+   private static final OffHeapMemory MEMORY = OffHeapMemory.INSTANCE;
+   // Used directly for the free list pointers as free blocks are not tracked by OffHeapMemory
+   private static final Unsafe UNSAFE = UnsafeHolder.UNSAFE;
+
+   // Sizes up to this amount are in classes 16 bytes apart
+   private static final int SMALL_LIMIT = 256;
+   private static final int SMALL_CLASSES = SMALL_LIMIT >>> 4;
+   // The largest allocation that is pooled, anything larger is allocated directly
+   public static final int MAX_POOLED_SIZE = 1 << 16;
+   private static final int SIZE_CLASSES = sizeClass(MAX_POOLED_SIZE) + 1;
+   // How many free blocks each thread caches per size class
+   private static final int THREAD_CACHE_SIZE = 32;
+   // How many blocks are moved at once between a thread cache and the shared free lists
+   private static final int BATCH_SIZE = THREAD_CACHE_SIZE >>> 1;
+
+   private final long arenaSize;
+   private final SizeClass[] sizeClasses;
+   private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(ThreadCache::new);
+
+   private final LongAdder amountAllocated = new LongAdder();
+   private final LongAdder pooledAllocations = new LongAdder();
+   private final LongAdder unpooledAllocations = new LongAdder();
+   private final AtomicLong amountReserved = new AtomicLong();
+
+   @GuardedBy("this")
+   private final List<Long> arenas = new ArrayList<>();
+   @GuardedBy("this")
+   private long arenaAddress;
+   @GuardedBy("this")
+   private long arenaPosition;
+   // Incremented when the allocator is stopped, so that thread caches holding stale blocks are discarded
+   private volatile int generation;
+
+   public PooledOffHeapMemoryAllocator(long arenaSize) {
+      if (arenaSize < MAX_POOLED_SIZE) {
+         throw new IllegalArgumentException("Arena size " + arenaSize + " must be at least " + MAX_POOLED_SIZE);
+      }
+      this.arenaSize = arenaSize;
+      this.sizeClasses = new SizeClass[SIZE_CLASSES];
+      for (int i = 0; i < sizeClasses.length; ++i) {
+         sizeClasses[i] = new SizeClass(classSize(i));
+      }
+   }
+
+   /**
+    * Returns the size class for the given size.
+    * @param size the allocation size, must be between 1 and {@link #MAX_POOLED_SIZE}
+    * @return the size class index
+    */
+   static int sizeClass(long size) {
+      if (size <= SMALL_LIMIT) {
+         return (int) ((size + 15) >>> 4) - 1;
+      }
+      // floor(log2(size - 1)) which is at least 8 here
+      int log2 = 63 - Long.numberOfLeadingZeros(size - 1);
+      // Which quarter of the power of two range the size falls in
+      int quarter = (int) ((size - 1) >>> (log2 - 2)) & 3;
+      return SMALL_CLASSES + ((log2 - 8) << 2) + quarter;
+   }
+
+   /**
+    * Returns the size of the blocks in the given size class.
+    * @param sizeClass the size class index
+    * @return how many bytes a block in the class holds
+    */
+   static long classSize(int sizeClass) {
+      if (sizeClass < SMALL_CLASSES) {
+         return ((long) sizeClass + 1) << 4;
+      }
+      int relative = sizeClass - SMALL_CLASSES;
+      int log2 = (relative >>> 2) + 8;
+      return (1L << log2) + (((long) (relative & 3) + 1) << (log2 - 2));
+   }
+
+   @Override
+   public long allocate(long memoryLength) {
+      long memoryLocation;
+      if (memoryLength > MAX_POOLED_SIZE) {
+         memoryLocation = MEMORY.allocate(memoryLength);
+         amountAllocated.add(UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(memoryLength));
+         unpooledAllocations.increment();
+      } else {
+         int sizeClass = sizeClass(memoryLength);
+         ThreadCache cache = getThreadCache();
+         memoryLocation = cache.pop(sizeClass);
+         if (memoryLocation == 0) {
+            cache.refill(sizeClass);
+            memoryLocation = cache.pop(sizeClass);
+         }
+         MEMORY.trackBlock(memoryLocation, memoryLength);
+         amountAllocated.add(sizeClasses[sizeClass].blockSize);
+         pooledAllocations.increment();
+      }
+      if (trace) {
+         log.tracef("Allocated off heap memory at 0x%016x with %d bytes. Total size: %d", memoryLocation,
+               memoryLength, amountAllocated.sum());
+      }
+      return memoryLocation;
+   }
+
+   @Override
+   public void deallocate(long memoryAddress, long size) {
+      if (trace) {
+         log.tracef("Deallocating off heap memory at 0x%016x with %d bytes. Total size: %d", memoryAddress,
+               size, amountAllocated.sum());
+      }
+      if (size > MAX_POOLED_SIZE) {
+         amountAllocated.add(-UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(size));
+         MEMORY.free(memoryAddress);
+      } else {
+         int sizeClass = sizeClass(size);
+         MEMORY.untrackBlock(memoryAddress);
+         amountAllocated.add(-sizeClasses[sizeClass].blockSize);
+         ThreadCache cache = getThreadCache();
+         if (!cache.push(sizeClass, memoryAddress)) {
+            cache.flush(sizeClass);
+            cache.push(sizeClass, memoryAddress);
+         }
+      }
+   }
+
+   @ManagedAttribute(
+         description = "Amount of off-heap memory in use by allocations, including size class rounding (bytes)",
+         displayName = "Off-heap memory allocated"
+   )
+   @Override
+   public long getAllocatedAmount() {
+      return amountAllocated.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Amount of off-heap memory reserved by arenas (bytes)",
+         displayName = "Off-heap memory reserved by arenas"
+   )
+   public long getReservedAmount() {
+      return amountReserved.get();
+   }
+
+   @ManagedAttribute(
+         description = "Number of arenas allocated",
+         displayName = "Arena count"
+   )
+   public synchronized int getArenaCount() {
+      return arenas.size();
+   }
+
+   @ManagedAttribute(
+         description = "Size of each arena (bytes)",
+         displayName = "Arena size",
+         dataType = DataType.TRAIT
+   )
+   public long getArenaSize() {
+      return arenaSize;
+   }
+
+   @ManagedAttribute(
+         description = "Number of allocations served from the arenas",
+         displayName = "Pooled allocations"
+   )
+   public long getPooledAllocations() {
+      return pooledAllocations.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Number of allocations too large to be pooled, that were allocated directly",
+         displayName = "Unpooled allocations"
+   )
+   public long getUnpooledAllocations() {
+      return unpooledAllocations.sum();
+   }
+
+   /**
+    * Releases all of the arenas. Any memory allocated from this allocator <b>MUST NOT</b> be used after this.
+    */
+   @Stop
+   public void stop() {
+      synchronized (this) {
+         generation++;
+         for (SizeClass sizeClass : sizeClasses) {
+            sizeClass.clear();
+         }
+         for (Long arena : arenas) {
+            MEMORY.freeRegion(arena);
+         }
+         arenas.clear();
+         arenaAddress = 0;
+         arenaPosition = 0;
+         amountReserved.set(0);
+      }
+      amountAllocated.reset();
+   }
+
+   private ThreadCache getThreadCache() {
+      ThreadCache cache = threadCache.get();
+      int currentGeneration = generation;
+      if (cache.generation != currentGeneration) {
+         cache = new ThreadCache();
+         threadCache.set(cache);
+      }
+      return cache;
+   }
+
+   /**
+    * Carves out new blocks for the given size class from the current arena, allocating a new arena if required.
+    * @param sizeClass the size class to carve blocks for
+    * @param blocks where to store the new blocks
+    * @param count how many blocks to carve
+    */
+   private synchronized void carve(SizeClass sizeClass, long[] blocks, int count) {
+      long blockSize = sizeClass.blockSize;
+      for (int i = 0; i < count; ++i) {
+         if (arenaAddress == 0 || arenaPosition + blockSize > arenaSize) {
+            // The remainder of the current arena is wasted, but it is less than the largest size class
+            arenaAddress = MEMORY.allocateRegion(arenaSize);
+            arenaPosition = 0;
+            arenas.add(arenaAddress);
+            amountReserved.addAndGet(arenaSize);
+            if (trace) {
+               log.tracef("Allocated new arena at 0x%016x with %d bytes", arenaAddress, arenaSize);
+            }
+         }
+         blocks[i] = arenaAddress + arenaPosition;
+         arenaPosition += blockSize;
+      }
+   }
+
+   /**
+    * Shared free list for a single size class.
+    */
+   private static class SizeClass {
+      private final long blockSize;
+      @GuardedBy("this")
+      private long head;
+
+      SizeClass(long blockSize) {
+         this.blockSize = blockSize;
+      }
+
+      /**
+       * Removes up to count blocks from the free list.
+       * @return how many blocks were removed
+       */
+      synchronized int poll(long[] blocks, int offset, int count) {
+         int i = 0;
+         while (i < count && head != 0) {
+            blocks[offset + i++] = head;
+            head = UNSAFE.getLong(head);
+         }
+         return i;
+      }
+
+      synchronized void offer(long[] blocks, int offset, int count) {
+         for (int i = offset; i < offset + count; ++i) {
+            UNSAFE.putLong(blocks[i], head);
+            head = blocks[i];
+         }
+      }
+
+      synchronized void clear() {
+         head = 0;
+      }
+   }
+
+   /**
+    * Free blocks cached by a single thread, which can be used without any synchronization.
+    */
+   private class ThreadCache {
+      private final long[][] blocks = new long[SIZE_CLASSES][];
+      private final int[] counts = new int[SIZE_CLASSES];
+      private int generation = PooledOffHeapMemoryAllocator.this.generation;
+
+      long pop(int sizeClass) {
+         int count = counts[sizeClass];
+         if (count == 0) {
+            return 0;
+         }
+         counts[sizeClass] = --count;
+         return blocks[sizeClass][count];
+      }
+
+      boolean push(int sizeClass, long address) {
+         long[] classBlocks = blocksFor(sizeClass);
+         int count = counts[sizeClass];
+         if (count == classBlocks.length) {
+            return false;
+         }
+         classBlocks[count] = address;
+         counts[sizeClass] = count + 1;
+         return true;
+      }
+
+      /**
+       * Fills the cache for the given size class with a batch of blocks from the shared free list, or newly carved
+       * blocks if the free list is empty.
+       */
+      void refill(int sizeClass) {
+         long[] classBlocks = blocksFor(sizeClass);
+         int count = counts[sizeClass];
+         SizeClass shared = sizeClasses[sizeClass];
+         count += shared.poll(classBlocks, count, BATCH_SIZE);
+         if (count == 0) {
+            carve(shared, classBlocks, BATCH_SIZE);
+            count = BATCH_SIZE;
+         }
+         counts[sizeClass] = count;
+      }
+
+      /**
+       * Returns a batch of blocks of the given size class to the shared free list.
+       */
+      void flush(int sizeClass) {
+         int count = counts[sizeClass];
+         int flushCount = Math.min(count, BATCH_SIZE);
+         sizeClasses[sizeClass].offer(blocks[sizeClass], count - flushCount, flushCount);
+         counts[sizeClass] = count - flushCount;
+      }
+
+      private long[] blocksFor(int sizeClass) {
+         long[] classBlocks = blocks[sizeClass];
+         if (classBlocks == null) {
+            classBlocks = new long[THREAD_CACHE_SIZE];
+            blocks[sizeClass] = classBlocks;
+         }
+         return classBlocks;
+      }
+   }
+}
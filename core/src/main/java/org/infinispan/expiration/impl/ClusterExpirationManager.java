@@ -2,6 +2,7 @@
 
 import static org.infinispan.commons.util.Util.toStr;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -14,11 +15,13 @@
 import java.util.function.Function;
 
 import org.infinispan.AdvancedCache;
+import org.infinispan.commons.util.ConcatIterator;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
 import org.infinispan.commons.util.Util;
 import org.infinispan.container.entries.ExpiryHelper;
 import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.impl.InternalDataContainer;
 import org.infinispan.context.Flag;
 import org.infinispan.distribution.DistributionManager;
 import org.infinispan.distribution.LocalizedCacheTopology;
@@ -68,6 +71,8 @@
 
    private Address localAddress;
    private long timeout;
+   // primary segments whose expiration index was drained by the previous purge, only used by the reaper thread
+   private IntSet indexedSegments = IntSets.immutableEmptySet();
 
    @Override
    public void start() {
@@ -118,7 +123,10 @@ private boolean purgeInMemoryContents(LocalizedCacheTopology topology) {
             segments = IntSets.immutableEmptySet();
          }
 
-         for (Iterator<InternalCacheEntry<K, V>> purgeCandidates = dataContainer.running().iteratorIncludingExpired(segments);
+         Iterator<InternalCacheEntry<K, V>> candidates = configuration.expiration().indexed() ?
+               indexedPurgeCandidates(topology, segments, currentTimeMillis) :
+               dataContainer.running().iteratorIncludingExpired(segments);
+         for (Iterator<InternalCacheEntry<K, V>> purgeCandidates = candidates;
               purgeCandidates.hasNext();) {
             InternalCacheEntry<K, V> ice = purgeCandidates.next();
             if (ice.canExpire()) {
@@ -173,6 +181,36 @@ private boolean purgeInMemoryContents(LocalizedCacheTopology topology) {
       return false;
    }
 
+   /**
+    * Returns the expired entries of the primary segments using the expiration index of the data container.
+    * <p>
+    * Every node indexes all the entries it owns, but only the primary owner expires them, so the index of the other
+    * segments is drained and discarded. When a segment becomes primary its index may have been drained while this
+    * node was a backup owner, so it is scanned fully once instead.
+    */
+   private Iterator<InternalCacheEntry<K, V>> indexedPurgeCandidates(LocalizedCacheTopology topology,
+         IntSet primarySegments, long currentTimeMillis) {
+      InternalDataContainer<K, V> container = dataContainer.running();
+      int numSegments = topology.getReadConsistentHash().getNumSegments();
+      IntSet backupSegments = IntSets.mutableEmptySet(numSegments);
+      IntSet scannedSegments = IntSets.mutableEmptySet(numSegments);
+      IntSet drainedSegments = IntSets.mutableEmptySet(numSegments);
+      for (int segment = 0; segment < numSegments; ++segment) {
+         if (!primarySegments.contains(segment)) {
+            backupSegments.set(segment);
+         } else if (indexedSegments.contains(segment)) {
+            drainedSegments.set(segment);
+         } else {
+            scannedSegments.set(segment);
+         }
+      }
+      container.expirationCandidates(backupSegments, currentTimeMillis).forEachRemaining(ice -> { });
+      indexedSegments = primarySegments;
+      Iterable<InternalCacheEntry<K, V>> scanned = () -> container.iteratorIncludingExpired(scannedSegments);
+      Iterable<InternalCacheEntry<K, V>> drained = () -> container.expirationCandidates(drainedSegments, currentTimeMillis);
+      return new ConcatIterator<>(Arrays.asList(scanned, drained));
+   }
+
    /**
     * This is a separate method to document the fact that this is invoked in a separate thread and also for code
     * augmentation to find this method if needed
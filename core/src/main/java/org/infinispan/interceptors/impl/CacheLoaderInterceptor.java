@@ -5,9 +5,12 @@
 import static org.infinispan.persistence.manager.PersistenceManager.AccessMode.SHARED;
 
 import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Spliterator;
@@ -187,20 +190,22 @@ public Object visitComputeIfAbsentCommand(InvocationContext ctx, ComputeIfAbsent
    }
 
    private Object visitManyDataCommand(InvocationContext ctx, FlagAffectedCommand command, Collection<?> keys) {
-      AggregateCompletionStage<Void> stage = null;
+      List<Object> keysToLoad = null;
       for (Object key : keys) {
-         CompletionStage<Void> innerStage = loadIfNeeded(ctx, key, command);
-         if (innerStage != null && !CompletionStages.isCompletedSuccessfully(innerStage)) {
-            if (stage == null) {
-               stage = CompletionStages.aggregateCompletionStage();
+         if (!skipLoad(command, key, ctx)) {
+            if (keysToLoad == null) {
+               keysToLoad = new ArrayList<>(keys.size());
             }
-            stage.dependsOn(innerStage);
+            keysToLoad.add(key);
          }
       }
-      if (stage != null) {
-         return asyncInvokeNext(ctx, command, stage.freeze());
+      if (keysToLoad == null) {
+         return invokeNext(ctx, command);
       }
-      return invokeNext(ctx, command);
+      CompletionStage<Void> stage = keysToLoad.size() == 1 ?
+            loadInContext(ctx, keysToLoad.get(0), command) :
+            loadAllInContext(ctx, keysToLoad, command);
+      return asyncInvokeNext(ctx, command, stage);
    }
 
    private Object visitDataCommand(InvocationContext ctx, AbstractDataCommand command) {
@@ -359,15 +364,7 @@ protected CompletionStage<Void> loadInContext(InvocationContext ctx, Object key,
 
       CompletionStage<InternalCacheEntry<K, V>> otherCF = pendingLoads.putIfAbsent(key, cf);
 
-      Consumer<? super InternalCacheEntry<K, V>> action = entry -> {
-         if (entry != null) {
-            entryFactory.wrapExternalEntry(ctx, key, entry, true, cmd instanceof WriteCommand);
-         }
-         CacheEntry contextEntry = ctx.lookupEntry(key);
-         if (contextEntry instanceof MVCCEntry) {
-            ((MVCCEntry) contextEntry).setLoaded(true);
-         }
-      };
+      Consumer<? super InternalCacheEntry<K, V>> action = entryLoadedAction(ctx, key, cmd);
 
       // If another thread is completing the request, then resume on a different CPU thread so we don't have to
       // wait until the other command completes
@@ -379,7 +376,75 @@ protected CompletionStage<Void> loadInContext(InvocationContext ctx, Object key,
       }
 
       int segment = SegmentSpecificCommand.extractSegment(cmd, key, partitioner);
-      CompletionStage<InternalCacheEntry<K, V>> result = loadAndStoreInDataContainer(ctx, key, segment, cmd);
+      completeLoad(key, cf, loadAndStoreInDataContainer(ctx, key, segment, cmd));
+      return cf.thenAccept(action);
+   }
+
+   /**
+    * Same as {@link #loadInContext(InvocationContext, Object, FlagAffectedCommand)} but for several keys, which are
+    * loaded from each store with a single request.
+    * @param ctx context for this invocation
+    * @param keys keys to find the entries for
+    * @param cmd the command that initiated this load
+    * @return a stage that when complete will have the entries loaded into the provided context
+    */
+   protected CompletionStage<Void> loadAllInContext(InvocationContext ctx, Collection<?> keys, FlagAffectedCommand cmd) {
+      AggregateCompletionStage<Void> stage = CompletionStages.aggregateCompletionStage();
+      Map<Object, Integer> keysToLoad = new HashMap<>(keys.size());
+      Map<Object, CompletableFuture<InternalCacheEntry<K, V>>> futures = new HashMap<>(keys.size());
+      for (Object key : keys) {
+         CompletableFuture<InternalCacheEntry<K, V>> cf = new CompletableFuture<>();
+         CompletionStage<InternalCacheEntry<K, V>> otherCF = pendingLoads.putIfAbsent(key, cf);
+         Consumer<? super InternalCacheEntry<K, V>> action = entryLoadedAction(ctx, key, cmd);
+         if (otherCF != null) {
+            if (trace) {
+               log.tracef("Piggybacking on concurrent cache loader for key %s", key);
+            }
+            stage.dependsOn(otherCF.thenAcceptAsync(action, nonBlockingExecutor));
+            continue;
+         }
+         stage.dependsOn(cf.thenAccept(action));
+
+         int segment = SegmentSpecificCommand.extractSegment(cmd, key, partitioner);
+         InternalCacheEntry<K, V> entry = dataContainer.peek(segment, key);
+         if (entry == null) {
+            keysToLoad.put(key, segment);
+            futures.put(key, cf);
+         } else {
+            // Either found or expired in the meantime, the single key load handles both cases
+            completeLoad(key, cf, loadAndStoreInDataContainer(ctx, key, segment, cmd));
+         }
+      }
+      if (!keysToLoad.isEmpty()) {
+         loadAllAndStoreInDataContainer(ctx, keysToLoad, cmd).whenComplete((entries, throwable) -> {
+            for (Map.Entry<Object, CompletableFuture<InternalCacheEntry<K, V>>> e : futures.entrySet()) {
+               Object key = e.getKey();
+               if (throwable != null) {
+                  completeLoad(key, e.getValue(), CompletableFutures.completedExceptionFuture(throwable));
+               } else {
+                  completeLoad(key, e.getValue(), entries.get(key));
+               }
+            }
+         });
+      }
+      return stage.freeze();
+   }
+
+   private Consumer<? super InternalCacheEntry<K, V>> entryLoadedAction(InvocationContext ctx, Object key,
+                                                                        FlagAffectedCommand cmd) {
+      return entry -> {
+         if (entry != null) {
+            entryFactory.wrapExternalEntry(ctx, key, entry, true, cmd instanceof WriteCommand);
+         }
+         CacheEntry contextEntry = ctx.lookupEntry(key);
+         if (contextEntry instanceof MVCCEntry) {
+            ((MVCCEntry) contextEntry).setLoaded(true);
+         }
+      };
+   }
+
+   private void completeLoad(Object key, CompletableFuture<InternalCacheEntry<K, V>> cf,
+                             CompletionStage<InternalCacheEntry<K, V>> result) {
       result.whenComplete((value, throwable) -> {
          // Make sure we clean up our pendingLoads properly and before completing any responses
          pendingLoads.remove(key);
@@ -389,7 +454,43 @@ protected CompletionStage<Void> loadInContext(InvocationContext ctx, Object key,
             cf.complete(value);
          }
       });
-      return cf.thenAccept(action);
+   }
+
+   /**
+    * Loads the entries of several keys that are not in the data container, with a single request to each store, and
+    * stores them in the data container.
+    * @param ctx context for this invocation
+    * @param keys keys to load, each mapped to its segment
+    * @param cmd the command that initiated this load
+    * @return a stage that when complete contains a stage with the loaded entry of each key, or a stage with
+    * {@code null} if the key was not found
+    */
+   protected CompletionStage<Map<Object, CompletionStage<InternalCacheEntry<K, V>>>> loadAllAndStoreInDataContainer(
+         InvocationContext ctx, Map<Object, Integer> keys, FlagAffectedCommand cmd) {
+      if (trace) {
+         log.tracef("Loading entries for keys %s", keys.keySet());
+      }
+      return persistenceManager.<K, V>loadAllFromAllStores(keys, ctx.isOriginLocal(), true).thenApply(entries -> {
+         Map<Object, CompletionStage<InternalCacheEntry<K, V>>> results = new HashMap<>(keys.size());
+         for (Map.Entry<Object, Integer> key : keys.entrySet()) {
+            InternalCacheEntry<K, V> ice = storeLoadedEntry(key.getKey(), key.getValue(), entries.get(key.getKey()));
+            results.put(key.getKey(), notifyLoaded(ctx, key.getKey(), cmd, CompletableFuture.completedFuture(ice)));
+         }
+         return results;
+      });
+   }
+
+   /**
+    * Loads the entries of several keys with {@link #loadAndStoreInDataContainer(InvocationContext, Object, int,
+    * FlagAffectedCommand)}, for subclasses that need to handle each key on its own.
+    */
+   protected final Map<Object, CompletionStage<InternalCacheEntry<K, V>>> loadEachAndStoreInDataContainer(
+         InvocationContext ctx, Map<Object, Integer> keys, FlagAffectedCommand cmd) {
+      Map<Object, CompletionStage<InternalCacheEntry<K, V>>> results = new HashMap<>(keys.size());
+      for (Map.Entry<Object, Integer> key : keys.entrySet()) {
+         results.put(key.getKey(), loadAndStoreInDataContainer(ctx, key.getKey(), key.getValue(), cmd));
+      }
+      return results;
    }
 
    public CompletionStage<InternalCacheEntry<K, V>> loadAndStoreInDataContainer(InvocationContext ctx, Object key,
@@ -407,38 +508,45 @@ public CompletionStage<InternalCacheEntry<K, V>> loadAndStoreInDataContainer(Inv
          log.tracef("Loading entry for key %s", key);
       }
       CompletionStage<InternalCacheEntry<K, V>> resultStage = persistenceManager.<K, V>loadFromAllStores(key, segment,
-            ctx.isOriginLocal(), includeStores).thenApply(me -> {
-         if (me != null) {
-            InternalCacheEntry<K, V> ice = PersistenceUtil.convert(me, iceFactory);
-            if (getStatisticsEnabled()) {
-               cacheLoads.incrementAndGet();
-            }
-            if (trace) {
-               log.tracef("Loaded entry: %s for key %s from store and attempting to insert into data container",
-                     ice, key);
-            }
+            ctx.isOriginLocal(), includeStores).thenApply(me -> storeLoadedEntry(key, segment, me));
+      return notifyLoaded(ctx, key, cmd, resultStage);
+   }
 
-            DataContainer.ComputeAction<K, V> putIfAbsentOrExpired = (k, oldEntry, factory) -> {
-               if (oldEntry != null &&
-                     (!oldEntry.canExpire() || !oldEntry.isExpired(timeService.wallClockTime()))) {
-                  return oldEntry;
-               }
-               return ice;
-            };
+   private InternalCacheEntry<K, V> storeLoadedEntry(Object key, int segment, MarshallableEntry<K, V> me) {
+      if (me != null) {
+         InternalCacheEntry<K, V> ice = PersistenceUtil.convert(me, iceFactory);
+         if (getStatisticsEnabled()) {
+            cacheLoads.incrementAndGet();
+         }
+         if (trace) {
+            log.tracef("Loaded entry: %s for key %s from store and attempting to insert into data container",
+                  ice, key);
+         }
 
-            dataContainer.compute(segment, (K) key, putIfAbsentOrExpired);
-            return ice;
-         } else {
-            if (trace) {
-               log.tracef("Missed entry load for key %s from store", key);
+         DataContainer.ComputeAction<K, V> putIfAbsentOrExpired = (k, oldEntry, factory) -> {
+            if (oldEntry != null &&
+                  (!oldEntry.canExpire() || !oldEntry.isExpired(timeService.wallClockTime()))) {
+               return oldEntry;
             }
-            if (getStatisticsEnabled()) {
-               cacheMisses.incrementAndGet();
-            }
-            return null;
+            return ice;
+         };
+
+         dataContainer.compute(segment, (K) key, putIfAbsentOrExpired);
+         return ice;
+      } else {
+         if (trace) {
+            log.tracef("Missed entry load for key %s from store", key);
          }
-      });
+         if (getStatisticsEnabled()) {
+            cacheMisses.incrementAndGet();
+         }
+         return null;
+      }
+   }
 
+   private CompletionStage<InternalCacheEntry<K, V>> notifyLoaded(InvocationContext ctx, Object key,
+                                                                  FlagAffectedCommand cmd,
+                                                                  CompletionStage<InternalCacheEntry<K, V>> resultStage) {
       if (notifier.hasListener(CacheEntryLoaded.class) || notifier.hasListener(CacheEntryActivated.class)) {
          return resultStage.thenCompose(ice -> {
             if (ice != null) {
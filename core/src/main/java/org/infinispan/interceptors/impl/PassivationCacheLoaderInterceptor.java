@@ -1,6 +1,7 @@
 package org.infinispan.interceptors.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
@@ -30,6 +31,13 @@ public CompletionStage<InternalCacheEntry<K, V>> loadAndStoreInDataContainer(Inv
       return handlePassivationLoad(key, segment, orderer, activationManager, supplier);
    }
 
+   @Override
+   protected CompletionStage<Map<Object, CompletionStage<InternalCacheEntry<K, V>>>> loadAllAndStoreInDataContainer(
+         InvocationContext ctx, Map<Object, Integer> keys, FlagAffectedCommand cmd) {
+      // Each key must be ordered with a concurrent passivation of the same key
+      return CompletableFuture.completedFuture(loadEachAndStoreInDataContainer(ctx, keys, cmd));
+   }
+
    static <K, V> CompletionStage<InternalCacheEntry<K, V>> handlePassivationLoad(Object key, int segment,
                                                                                  DataOperationOrderer orderer,
                                                                                  ActivationManager activationManager,
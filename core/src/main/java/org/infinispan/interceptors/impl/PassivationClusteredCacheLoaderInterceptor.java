@@ -1,5 +1,7 @@
 package org.infinispan.interceptors.impl;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
@@ -21,4 +23,11 @@ public CompletionStage<InternalCacheEntry<K, V>> loadAndStoreInDataContainer(Inv
       Supplier<CompletionStage<InternalCacheEntry<K, V>>> supplier = () -> super.loadAndStoreInDataContainer(ctx, key, segment, cmd);
       return PassivationCacheLoaderInterceptor.handlePassivationLoad(key, segment, orderer, activationManager, supplier);
    }
+
+   @Override
+   protected CompletionStage<Map<Object, CompletionStage<InternalCacheEntry<K, V>>>> loadAllAndStoreInDataContainer(
+         InvocationContext ctx, Map<Object, Integer> keys, FlagAffectedCommand cmd) {
+      // Each key must be ordered with a concurrent passivation of the same key
+      return CompletableFuture.completedFuture(loadEachAndStoreInDataContainer(ctx, keys, cmd));
+   }
 }
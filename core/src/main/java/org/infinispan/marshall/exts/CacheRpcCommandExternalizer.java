@@ -6,6 +6,7 @@
 import java.util.Set;
 
 import org.infinispan.commands.control.LockControlCommand;
+import org.infinispan.commands.irac.IracBatchUpdateCommand;
 import org.infinispan.commands.irac.IracCleanupKeyCommand;
 import org.infinispan.commands.irac.IracClearKeysCommand;
 import org.infinispan.commands.irac.IracMetadataRequestCommand;
@@ -119,7 +120,7 @@ public Set<Class<? extends CacheRpcCommand>> getTypeClasses() {
             StateTransferCancelCommand.class, StateTransferGetListenersCommand.class,
             StateTransferGetTransactionsCommand.class, StateTransferStartCommand.class,
             IracPutKeyCommand.class, IracRemoveKeyCommand.class, IracClearKeysCommand.class,
-            IracCleanupKeyCommand.class, IracMetadataRequestCommand.class,
+            IracBatchUpdateCommand.class, IracCleanupKeyCommand.class, IracMetadataRequestCommand.class,
             IracRequestStateCommand.class, IracStateResponseCommand.class, IracTouchKeyCommand.class,
             IracUpdateVersionCommand.class);
       // Only interested in cache specific replicable commands
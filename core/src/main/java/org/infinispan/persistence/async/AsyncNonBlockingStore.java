@@ -2,7 +2,9 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -35,6 +37,7 @@
 import org.reactivestreams.Publisher;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.flowables.ConnectableFlowable;
 import io.reactivex.rxjava3.functions.Consumer;
@@ -442,6 +445,33 @@ public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
       return actual.load(segment, key);
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> loadAll(Map<Object, Integer> keys) {
+      assertNotStopped();
+      List<CompletionStage<MarshallableEntry<K, V>>> pendingStages = null;
+      Map<Object, Integer> keysToLoad = new HashMap<>(keys.size());
+      for (Map.Entry<Object, Integer> entry : keys.entrySet()) {
+         CompletionStage<MarshallableEntry<K, V>> pendingStage = getStageFromPending(entry.getKey());
+         if (pendingStage != null) {
+            if (pendingStages == null) {
+               pendingStages = new ArrayList<>();
+            }
+            pendingStages.add(pendingStage);
+         } else {
+            keysToLoad.put(entry.getKey(), entry.getValue());
+         }
+      }
+      if (pendingStages == null) {
+         return actual.loadAll(keys);
+      }
+      Flowable<MarshallableEntry<K, V>> pendingEntries = Flowable.fromIterable(pendingStages)
+            .concatMapMaybe(Maybe::fromCompletionStage);
+      if (keysToLoad.isEmpty()) {
+         return pendingEntries;
+      }
+      return Flowable.concat(pendingEntries, actual.loadAll(keysToLoad));
+   }
+
    private CompletionStage<MarshallableEntry<K, V>> getStageFromPending(Object key) {
       Object wrappedKey = wrapKeyIfNeeded(key);
       Map<Object, Modification> modificationsToReplicate;
@@ -14,14 +14,16 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
@@ -67,7 +69,9 @@
  * source.
  * <p/>
  * This class is fully thread safe, yet allows for concurrent load / store
- * of individual cache entries.
+ * of individual cache entries. When the store is unbounded the in-memory index is a concurrent map, and the free
+ * space in the file is kept in buckets by size, each with its own lock, so that concurrent writers only contend when
+ * they allocate or free blocks of a similar size.
  *
  * @author Karsten Blees
  * @author Mircea Markus
@@ -110,8 +114,8 @@
 
    private FileChannel channel;
    private Map<K, FileEntry> entries;
-   private SortedSet<FileEntry> freeList;
-   private long filePos = MAGIC_11_0.length;
+   private FreeList freeList;
+   private final AtomicLong filePos = new AtomicLong(MAGIC_11_0.length);
    private File file;
    private float fragmentationFactor = .75f;
    // Prevent clear() from truncating the file after a write() allocated the entry but before it wrote the data
@@ -145,11 +149,10 @@ public void start() {
          channel = new RandomAccessFile(file, "rw").getChannel();
 
          // initialize data structures. Only use LinkedHashMap (LRU) for entries when cache store is bounded
-         Map<K, FileEntry> entryMap = configuration.maxEntries() > 0 ?
-               new LinkedHashMap<>(16, 0.75f, true) :
-               new HashMap<>();
-         entries = Collections.synchronizedMap(entryMap);
-         freeList = Collections.synchronizedSortedSet(new TreeSet<>());
+         entries = configuration.maxEntries() > 0 ?
+               Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true)) :
+               new ConcurrentHashMap<>();
+         freeList = new FreeList();
 
          // check file format and read persistent state if enabled for the cache
          byte[] header = new byte[MAGIC_11_0.length];
@@ -178,6 +181,8 @@ public void start() {
 
    @Override
    public void stop() {
+      // wait for the operations in progress, they all hold the read lock while they use the channel or the index
+      resizeLock.writeLock().lock();
       try {
          if (channel != null) {
             log.tracef("Stopping store %s, size = %d, file size = %d", ctx.getCache().getName(), entries.size(), channel.size());
@@ -187,10 +192,12 @@ public void stop() {
             channel = null;
             entries = null;
             freeList = null;
-            filePos = MAGIC_11_0.length;
+            filePos.set(MAGIC_11_0.length);
          }
       } catch (Exception e) {
          throw new PersistenceException(e);
+      } finally {
+         resizeLock.writeLock().unlock();
       }
    }
 
@@ -216,6 +223,7 @@ private void rebuildIndex() throws Exception {
       ByteBuffer buf = ByteBuffer.allocate(KEY_POS_11_0);
       for (; ; ) {
          // read FileEntry fields from file (size, keyLen etc.)
+         long filePos = this.filePos.get();
          buf.clear().limit(KEY_POS_11_0);
          channel.read(buf, filePos);
          // return if end of file is reached
@@ -238,7 +246,7 @@ private void rebuildIndex() throws Exception {
          }
 
          // update file pointer
-         filePos += fe.size;
+         this.filePos.addAndGet(fe.size);
 
          // check if the entry is used or free
          if (fe.keyLen > 0) {
@@ -298,7 +306,7 @@ private void migrateFromV1() {
 
             // sanity check
             if (oldFe.size < KEY_POS_BEFORE_11 + oldFe.keyLen + oldFe.dataLen + oldFe.metadataLen + oldFe.internalMetadataLen) {
-               throw PERSISTENCE.errorReadingFileStore(file.getPath(), filePos);
+               throw PERSISTENCE.errorReadingFileStore(file.getPath(), oldFilePos);
             }
 
             //update old file pos to the next entry
@@ -368,7 +376,7 @@ private void migrateFromV1() {
          //reopen the file
          channel = new RandomAccessFile(file, "rw").getChannel();
          //update file position
-         filePos = newFilePos;
+         filePos.set(newFilePos);
          PERSISTENCE.persistedDataSuccessfulMigrated();
       } catch (IOException e) {
          throw PERSISTENCE.persistedDataMigrationFailed(e);
@@ -392,34 +400,16 @@ public boolean contains(Object key) {
     * @return allocated file position and length as FileEntry object
     */
    private FileEntry allocate(int len) {
-      synchronized (freeList) {
-         // lookup a free entry of sufficient size
-         SortedSet<FileEntry> candidates = freeList.tailSet(new FileEntry(0, len));
-         for (Iterator<FileEntry> it = candidates.iterator(); it.hasNext(); ) {
-            FileEntry free = it.next();
-            // ignore entries that are still in use by concurrent readers
-            if (free.isLocked())
-               continue;
-
-            // There's no race condition risk between locking the entry on
-            // loading and checking whether it's locked (or store allocation),
-            // because for the entry to be lockable, it needs to be in the
-            // entries collection, in which case it's not in the free list.
-            // The only way an entry can be found in the free list is if it's
-            // been removed, and to remove it, lock on "entries" needs to be
-            // acquired, which is also a pre-requisite for loading data.
-
-            // found one, remove from freeList
-            it.remove();
-            return allocateExistingEntry(free, len);
-         }
-
-         // no appropriate free section available, append at end of file
-         FileEntry fe = new FileEntry(filePos, len);
-         filePos += len;
-         if (trace) log.tracef("New entry allocated at %d:%d, %d free entries, file size is %d", fe.offset, fe.size, freeList.size(), filePos);
-         return fe;
+      // lookup a free entry of sufficient size
+      FileEntry free = freeList.poll(len);
+      if (free != null) {
+         return allocateExistingEntry(free, len);
       }
+
+      // no appropriate free section available, append at end of file
+      FileEntry fe = new FileEntry(filePos.getAndAdd(len), len);
+      if (trace) log.tracef("New entry allocated at %d:%d, %d free entries, file size is %d", fe.offset, fe.size, freeList.size(), filePos.get());
+      return fe;
    }
 
    private FileEntry allocateExistingEntry(FileEntry free, int len) {
@@ -544,6 +534,7 @@ public void write(MarshallableEntry<? extends K, ? extends V> marshalledEntry) {
     */
    private FileEntry evict() {
       if (configuration.maxEntries() > 0) {
+         // the bounded index is a synchronized LinkedHashMap, its iterator must be used while holding the map's lock
          synchronized (entries) {
             if (entries.size() > configuration.maxEntries()) {
                Iterator<FileEntry> it = entries.values().iterator();
@@ -560,25 +551,21 @@ private FileEntry evict() {
    public void clear() {
       resizeLock.writeLock().lock();
       try {
-         synchronized (entries) {
-            synchronized (freeList) {
-               // wait until all readers are done reading file entries
-               for (FileEntry fe : entries.values())
-                  fe.waitUnlocked();
-               for (FileEntry fe : freeList)
-                  fe.waitUnlocked();
-
-               // clear in-memory state
-               entries.clear();
-               freeList.clear();
-
-               // reset file
-               if (trace) log.tracef("Truncating file, current size is %d", filePos);
-               channel.truncate(0);
-               channel.write(ByteBuffer.wrap(MAGIC_11_0), 0);
-               filePos = MAGIC_11_0.length;
-            }
-         }
+         // the write lock excludes every other modification of the index and of the free list
+         // wait until all readers are done reading file entries
+         entries.forEach((k, fe) -> fe.waitUnlocked());
+         for (FileEntry fe : freeList.entries())
+            fe.waitUnlocked();
+
+         // clear in-memory state
+         entries.clear();
+         freeList.clear();
+
+         // reset file
+         if (trace) log.tracef("Truncating file, current size is %d", filePos.get());
+         channel.truncate(0);
+         channel.write(ByteBuffer.wrap(MAGIC_11_0), 0);
+         filePos.set(MAGIC_11_0.length);
       } catch (Exception e) {
          throw new PersistenceException(e);
       } finally {
@@ -606,22 +593,26 @@ public MarshallableEntry<K, V> loadEntry(Object key) {
    }
 
    private MarshallableEntry<K, V> _load(Object key, boolean loadValue, boolean loadMetadata) {
-      final FileEntry fe;
+      FileEntry fe;
       resizeLock.readLock().lock();
       try {
-         synchronized (entries) {
+         for (;;) {
             // lookup FileEntry of the key
             fe = entries.get(key);
             if (fe == null)
                return null;
 
             // Entries are removed due to expiration from {@link SingleFileStore#purge}
-            if (fe.isExpired(timeService.wallClockTime())) {
+            if (fe.isExpired(timeService.wallClockTime()))
                return null;
-            } else {
-               // lock entry for reading before releasing entries monitor
-               fe.lock();
-            }
+
+            // lock entry for reading, then make sure it is still mapped to the key. An entry is only added to the free
+            // list after it is removed from the index, and a locked free entry is never allocated, so once the entry
+            // is locked and still mapped its space can't be reused until it is unlocked.
+            fe.lock();
+            if (entries.get(key) == fe)
+               break;
+            fe.unlock();
          }
       } finally {
          resizeLock.readLock().unlock();
@@ -694,14 +685,12 @@ public Flowable<K> publishKeys(Predicate<? super K> filter) {
       return Flowable.fromIterable(() -> {
          List<K> keys = new ArrayList<>(entries.size());
          long now = ctx.getTimeService().wallClockTime();
-         synchronized (entries) {
-            for (Map.Entry<K, FileEntry> e : entries.entrySet()) {
-               K key = e.getKey();
-               if (!e.getValue().isExpired(now)  && (filter == null || filter.test(key))) {
-                  keys.add(key);
-               }
+         // Collections.synchronizedMap locks the bounded index during forEach
+         entries.forEach((key, fe) -> {
+            if (!fe.isExpired(now) && (filter == null || filter.test(key))) {
+               keys.add(key);
             }
-         }
+         });
          // This way each invocation is a new copy
          return keys.iterator();
       });
@@ -714,13 +703,11 @@ public Flowable<MarshallableEntry<K, V>> entryPublisher(Predicate<? super K> fil
             // This way the sorting of entries is lazily done on each invocation of the publisher
             List<KeyValuePair<K, FileEntry>> keysToLoad = new ArrayList<>(entries.size());
             long now = ctx.getTimeService().wallClockTime();
-            synchronized (entries) {
-               for (Map.Entry<K, FileEntry> e : entries.entrySet()) {
-                  if ((filter == null || filter.test(e.getKey())) && !e.getValue().isExpired(now)) {
-                     keysToLoad.add(new KeyValuePair<>(e.getKey(), e.getValue()));
-                  }
+            entries.forEach((key, fe) -> {
+               if ((filter == null || filter.test(key)) && !fe.isExpired(now)) {
+                  keysToLoad.add(new KeyValuePair<>(key, fe));
                }
-            }
+            });
 
             keysToLoad.sort(Comparator.comparingLong(o -> o.getValue().offset));
             return keysToLoad.iterator();
@@ -743,7 +730,7 @@ public Flowable<MarshallableEntry<K, V>> entryPublisher(Predicate<? super K> fil
    private void processFreeEntries() {
       // Get a reverse sorted list of free entries based on file offset (bigger entries will be ahead of smaller entries)
       // This helps to work backwards with free entries at end of the file
-      List<FileEntry> l  = new ArrayList<>(freeList);
+      List<FileEntry> l  = freeList.entries();
       l.sort((o1, o2) -> {
          long diff = o1.offset - o2.offset;
          return (diff == 0) ? 0 : ((diff > 0) ? -1 : 1);
@@ -768,9 +755,9 @@ private void truncateFile(List<FileEntry> entries) {
          // Till we have free entries at the end of the file,
          // we can remove them and contract the file to release disk
          // space.
-         if (!fe.isLocked() && ((fe.offset + fe.size) == filePos)) {
+         if (!fe.isLocked() && ((fe.offset + fe.size) == filePos.get())) {
             truncateOffset = fe.offset;
-            filePos = fe.offset;
+            filePos.set(fe.offset);
             freeList.remove(fe);
             it.remove();
             reclaimedSpace += fe.size;
@@ -845,41 +832,39 @@ private void mergeAndLogEntry(FileEntry entry, int mergeCounter) {
    @Override
    public void purge(Executor threadPool, final PurgeListener task) {
       long now = timeService.wallClockTime();
-      List<KeyValuePair<Object, FileEntry>> entriesToPurge = new ArrayList<>();
-      synchronized (entries) {
-         for (Iterator<Map.Entry<K, FileEntry>> it = entries.entrySet().iterator(); it.hasNext(); ) {
-            Map.Entry<K, FileEntry> next = it.next();
-            FileEntry fe = next.getValue();
-            if (fe.isExpired(now)) {
-               it.remove();
-               entriesToPurge.add(new KeyValuePair<>(next.getKey(), fe));
-            }
+      List<KeyValuePair<K, FileEntry>> entriesToPurge = new ArrayList<>();
+      entries.forEach((key, fe) -> {
+         if (fe.isExpired(now)) {
+            entriesToPurge.add(new KeyValuePair<>(key, fe));
          }
-      }
+      });
 
       resizeLock.readLock().lock();
       try {
-         for (Iterator<KeyValuePair<Object, FileEntry>> it = entriesToPurge.iterator(); it.hasNext(); ) {
-            KeyValuePair<Object, FileEntry> next = it.next();
+         for (KeyValuePair<K, FileEntry> next : entriesToPurge) {
+            K key = next.getKey();
             FileEntry fe = next.getValue();
-            if (fe.isExpired(now)) {
-               it.remove();
+            // the key may have been written again since it was found expired, only the expired entry can be freed
+            if (entries.remove(key, fe)) {
                try {
                   free(fe);
                } catch (Exception e) {
                   throw new PersistenceException(e);
                }
-               if (task != null) task.entryPurged(next.getKey());
+               if (task != null) task.entryPurged(key);
             }
          }
-
-         // Disk space optimizations
-         synchronized (freeList) {
-           processFreeEntries();
-         }
       } finally {
          resizeLock.readLock().unlock();
       }
+
+      // Disk space optimizations, which require that no allocations happen concurrently
+      resizeLock.writeLock().lock();
+      try {
+         processFreeEntries();
+      } finally {
+         resizeLock.writeLock().unlock();
+      }
    }
 
    @Override
@@ -892,11 +877,126 @@ Map<K, FileEntry> getEntries() {
    }
 
    SortedSet<FileEntry> getFreeList() {
-      return freeList;
+      return new TreeSet<>(freeList.entries());
    }
 
    long getFileSize() {
-      return filePos;
+      return filePos.get();
+   }
+
+   /**
+    * The free entries of the file, bucketed by size. Bucket {@code i} holds the entries with a size in the range
+    * {@code (2^(i-1), 2^i]}, sorted by size and then offset. Each bucket is guarded by its own monitor, so that
+    * allocations and frees of different sizes can proceed concurrently.
+    */
+   private static class FreeList {
+      private final TreeSet<FileEntry>[] buckets;
+      // Bit i is set when bucket i may contain entries, which allows allocation to skip empty buckets without locking
+      private final AtomicLong nonEmptyBuckets = new AtomicLong();
+      private final AtomicInteger size = new AtomicInteger();
+
+      @SuppressWarnings("unchecked")
+      FreeList() {
+         buckets = new TreeSet[Integer.SIZE + 1];
+         for (int i = 0; i < buckets.length; ++i) {
+            buckets[i] = new TreeSet<>();
+         }
+      }
+
+      private static int bucket(int size) {
+         return Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1);
+      }
+
+      /**
+       * Removes and returns the smallest free entry that is at least {@code len} bytes and not being read, or null if
+       * there isn't one.
+       */
+      FileEntry poll(int len) {
+         FileEntry lowerBound = new FileEntry(0, len);
+         for (int i = bucket(len); i < buckets.length; ++i) {
+            if ((nonEmptyBuckets.get() & (1L << i)) == 0)
+               continue;
+            TreeSet<FileEntry> bucket = buckets[i];
+            synchronized (bucket) {
+               for (Iterator<FileEntry> it = bucket.tailSet(lowerBound).iterator(); it.hasNext(); ) {
+                  FileEntry free = it.next();
+                  // ignore entries that are still in use by concurrent readers
+                  if (free.isLocked())
+                     continue;
+
+                  // The only way an entry can be found in the free list is if it's been removed from the entries
+                  // map first. Readers lock the entry and then verify it is still in the map, thus a reader can't
+                  // read from an entry after it has been allocated here.
+                  it.remove();
+                  removed(i, bucket);
+                  return free;
+               }
+            }
+         }
+         return null;
+      }
+
+      boolean add(FileEntry fe) {
+         int i = bucket(fe.size);
+         TreeSet<FileEntry> bucket = buckets[i];
+         synchronized (bucket) {
+            if (!bucket.add(fe))
+               return false;
+            if (bucket.size() == 1)
+               nonEmptyBuckets.getAndUpdate(bits -> bits | (1L << i));
+         }
+         size.incrementAndGet();
+         return true;
+      }
+
+      boolean remove(FileEntry fe) {
+         int i = bucket(fe.size);
+         TreeSet<FileEntry> bucket = buckets[i];
+         synchronized (bucket) {
+            if (!bucket.remove(fe))
+               return false;
+            removed(i, bucket);
+         }
+         return true;
+      }
+
+      private void removed(int i, TreeSet<FileEntry> bucket) {
+         if (bucket.isEmpty())
+            nonEmptyBuckets.getAndUpdate(bits -> bits & ~(1L << i));
+         size.decrementAndGet();
+      }
+
+      /**
+       * @return a copy of all the free entries
+       */
+      List<FileEntry> entries() {
+         List<FileEntry> entries = new ArrayList<>(size.get());
+         for (TreeSet<FileEntry> bucket : buckets) {
+            synchronized (bucket) {
+               entries.addAll(bucket);
+            }
+         }
+         return entries;
+      }
+
+      void clear() {
+         for (TreeSet<FileEntry> bucket : buckets) {
+            synchronized (bucket) {
+               bucket.clear();
+            }
+         }
+         nonEmptyBuckets.set(0);
+         size.set(0);
+      }
+
+      int size() {
+         return size.get();
+      }
+
+      @Override
+      public String toString() {
+         return entries().toString();
+      }
    }
 
    public SingleFileStoreConfiguration getConfiguration() {
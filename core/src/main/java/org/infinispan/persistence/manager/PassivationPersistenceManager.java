@@ -72,6 +72,36 @@ public <K, V> CompletionStage<MarshallableEntry<K, V>> loadFromAllStores(Object
       return super.loadFromAllStores(key, localInvocation, includeStores);
    }
 
+   @Override
+   public <K, V> CompletionStage<Map<Object, MarshallableEntry<K, V>>> loadAllFromAllStores(Map<Object, Integer> keys,
+                                                                                          boolean localInvocation,
+                                                                                          boolean includeStores) {
+      if (map.isEmpty()) {
+         return super.loadAllFromAllStores(keys, localInvocation, includeStores);
+      }
+      Map<Object, MarshallableEntry<K, V>> passivatedEntries = new HashMap<>();
+      Map<Object, Integer> keysToLoad = new HashMap<>(keys.size());
+      for (Map.Entry<Object, Integer> key : keys.entrySet()) {
+         MarshallableEntry<K, V> entry = map.get(key.getKey());
+         if (entry != null) {
+            if (trace) {
+               log.tracef("Retrieved entry for key %s from temporary passivation map", key.getKey());
+            }
+            passivatedEntries.put(key.getKey(), entry);
+         } else {
+            keysToLoad.put(key.getKey(), key.getValue());
+         }
+      }
+      if (keysToLoad.isEmpty()) {
+         return CompletableFuture.completedFuture(passivatedEntries);
+      }
+      return super.<K, V>loadAllFromAllStores(keysToLoad, localInvocation, includeStores)
+            .thenApply(entries -> {
+               entries.putAll(passivatedEntries);
+               return entries;
+            });
+   }
+
    @Override
    public <K> Publisher<K> publishKeys(Predicate<? super K> filter, Predicate<? super StoreConfiguration> predicate) {
       if (map.isEmpty()) {
@@ -1,6 +1,8 @@
 package org.infinispan.persistence.manager;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiPredicate;
@@ -17,7 +19,9 @@
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.PersistenceException;
 import org.infinispan.transaction.impl.AbstractCacheTransaction;
+import org.infinispan.util.concurrent.AggregateCompletionStage;
 import org.infinispan.util.concurrent.CompletableFutures;
+import org.infinispan.util.concurrent.CompletionStages;
 import org.reactivestreams.Publisher;
 
 /**
@@ -46,6 +50,20 @@ public interface PersistenceManager extends Lifecycle {
     */
    CompletionStage<Void> preload();
 
+   /**
+    * @return how many entries the current or last preload inserted into the cache
+    */
+   default long getPreloadedEntries() {
+      return 0;
+   }
+
+   /**
+    * @return how long, in milliseconds, the current or last preload has taken, or -1 if there was no preload
+    */
+   default long getPreloadTime() {
+      return -1;
+   }
+
    /**
     * Marks the given storage as disabled.
     */
@@ -165,6 +183,32 @@ default <K, V> CompletionStage<MarshallableEntry<K, V>> loadFromAllStores(Object
       return loadFromAllStores(key, localInvocation, includeStores);
    }
 
+   /**
+    * Loads the entries of several keys from the persistence stores. Each store is queried once for all the keys that
+    * were not found in the previous stores. The entries are guaranteed to not be expired when they were returned.
+    * @param keys keys to read the entries from, each mapped to its segment
+    * @param localInvocation whether this invocation is a local invocation. Some loaders may be ignored if it is not local
+    * @param includeStores if a loader that is also a store can be loaded from
+    * @return the entries found, mapped by their key. Keys that were not found are not present in the map
+    * @implSpec default implementation invokes {@link #loadFromAllStores(Object, int, boolean, boolean)} for each key
+    */
+   default <K, V> CompletionStage<Map<Object, MarshallableEntry<K, V>>> loadAllFromAllStores(Map<Object, Integer> keys,
+         boolean localInvocation, boolean includeStores) {
+      Map<Object, MarshallableEntry<K, V>> entries = new HashMap<>();
+      AggregateCompletionStage<Map<Object, MarshallableEntry<K, V>>> stage = CompletionStages.aggregateCompletionStage(entries);
+      for (Map.Entry<Object, Integer> key : keys.entrySet()) {
+         stage.dependsOn(this.<K, V>loadFromAllStores(key.getKey(), key.getValue(), localInvocation, includeStores)
+               .thenAccept(me -> {
+                  if (me != null) {
+                     synchronized (entries) {
+                        entries.put(key.getKey(), me);
+                     }
+                  }
+               }));
+      }
+      return stage.freeze();
+   }
+
    default CompletionStage<Long> size() {
        return size(AccessMode.BOTH);
    }
@@ -6,13 +6,16 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.StampedLock;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -46,6 +49,7 @@
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.container.entries.InternalCacheValue;
 import org.infinispan.container.entries.MVCCEntry;
+import org.infinispan.container.impl.InternalDataContainer;
 import org.infinispan.container.impl.InternalEntryFactory;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.context.impl.FlagBitSets;
@@ -128,12 +132,16 @@ public class PersistenceManagerImpl implements PersistenceManager {
    @Inject ComponentRef<InvocationHelper> invocationHelper;
    @Inject ComponentRef<InternalExpirationManager<Object, Object>> expirationManager;
    @Inject DistributionManager distributionManager;
+   @Inject ComponentRef<InternalDataContainer<Object, Object>> dataContainer;
 
    // We use stamped lock since we require releasing locks in threads that may be the same that acquired it
    private final StampedLock lock = new StampedLock();
    // making it volatile as it might change after @Start, so it needs the visibility.
    private volatile boolean enabled;
    private volatile boolean preloaded;
+   private final AtomicLong preloadedEntries = new AtomicLong();
+   private volatile long preloadStart = -1;
+   private volatile long preloadEnd = -1;
    private volatile boolean clearOnStop;
    private volatile AutoCloseable availabilityTask;
    private volatile String unavailableExceptionMessage;
@@ -407,37 +415,104 @@ public boolean isPreloaded() {
       return preloaded;
    }
 
+   @Override
+   public long getPreloadedEntries() {
+      return preloadedEntries.get();
+   }
+
+   @Override
+   public long getPreloadTime() {
+      long start = preloadStart;
+      if (start < 0) {
+         return -1;
+      }
+      long end = preloadEnd;
+      return timeService.timeDuration(start, end < 0 ? timeService.time() : end, MILLISECONDS);
+   }
+
    @Override
    public CompletionStage<Void> preload() {
       long stamp = acquireReadLock();
-      NonBlockingStore<Object, Object> nonBlockingStore = getStoreLocked(status -> status.config.preload());
-      if (nonBlockingStore == null) {
+      StoreStatus storeStatus = null;
+      for (StoreStatus status : stores) {
+         if (status.config.preload()) {
+            storeStatus = status;
+            break;
+         }
+      }
+      if (storeStatus == null) {
          releaseReadLock(stamp);
          return CompletableFutures.completedNull();
       }
-      Publisher<MarshallableEntry<Object, Object>> publisher = nonBlockingStore.publishEntries(
-            IntSets.immutableRangeSet(segmentCount), null, true);
+      NonBlockingStore<Object, Object> nonBlockingStore = storeStatus.store();
+
+      // Transactions are bound to the thread, so a transactional cache inserts one entry at a time
+      boolean transactional = configuration.transaction().transactionMode().isTransactional() && transactionManager != null;
+      int parallelism = transactional ? 1 : Math.min(configuration.persistence().preloadParallelism(), segmentCount);
+      Flowable<MarshallableEntry<Object, Object>> entries;
+      if (parallelism > 1 && storeStatus.characteristics.contains(Characteristic.SEGMENTABLE)) {
+         // Each group of segments is read from the store concurrently
+         entries = Flowable.fromIterable(segmentGroups(parallelism))
+               .flatMap(segments -> nonBlockingStore.publishEntries(segments, null, true), parallelism);
+      } else {
+         entries = Flowable.fromPublisher(nonBlockingStore.publishEntries(IntSets.immutableRangeSet(segmentCount), null, true));
+      }
 
-      long start = timeService.time();
+      preloadedEntries.set(0);
+      preloadEnd = -1;
+      long start = preloadStart = timeService.time();
 
       final long maxEntries = getMaxEntries();
       final long flags = getFlagsForStateInsertion();
       AdvancedCache<?,?> tmpCache = this.cache.wired().withStorageMediaType();
       DataConversion keyDataConversion = tmpCache.getKeyDataConversion();
       DataConversion valueDataConversion = tmpCache.getValueDataConversion();
+      ByRef.Boolean containerFull = new ByRef.Boolean(false);
 
-      return Flowable.fromPublisher(publisher)
+      return entries
             .doFinally(() -> releaseReadLock(stamp))
             .take(maxEntries)
-            .concatMapSingle(me -> preloadEntry(flags, me, keyDataConversion, valueDataConversion))
+            // Stop before the preloaded entries start evicting each other from a container bounded by size
+            .takeWhile(ignore -> {
+               if (isContainerFull()) {
+                  containerFull.set(true);
+                  return false;
+               }
+               return true;
+            })
+            .flatMapSingle(me -> preloadEntry(flags, me, keyDataConversion, valueDataConversion), false, parallelism)
+            .doOnNext(ignore -> preloadedEntries.incrementAndGet())
             .count()
             .toCompletionStage()
             .thenAccept(insertAmount -> {
-               this.preloaded = insertAmount < maxEntries;
+               this.preloaded = insertAmount < maxEntries && !containerFull.get();
+               preloadEnd = timeService.time();
                log.debugf("Preloaded %d keys in %s", insertAmount, Util.prettyPrintTime(timeService.timeDuration(start, MILLISECONDS)));
             });
    }
 
+   private List<IntSet> segmentGroups(int groups) {
+      List<IntSet> segmentGroups = new ArrayList<>(groups);
+      for (int i = 0; i < groups; ++i) {
+         IntSet segments = IntSets.mutableEmptySet(segmentCount);
+         for (int segment = i * segmentCount / groups; segment < (i + 1) * segmentCount / groups; ++segment) {
+            segments.set(segment);
+         }
+         segmentGroups.add(segments);
+      }
+      return segmentGroups;
+   }
+
+   private boolean isContainerFull() {
+      if (configuration.memory().maxSize() == null || !configuration.memory().isEvictionEnabled()) {
+         return false;
+      }
+      InternalDataContainer<Object, Object> container = dataContainer.running();
+      long capacity = container.capacity();
+      // The container evicts to stay below its capacity, so consider it full when less than 1% is left
+      return capacity - container.evictionSize() < capacity / 100;
+   }
+
    private Single<Object> preloadEntry(long flags, MarshallableEntry<Object, Object> me, DataConversion keyDataConversion, DataConversion valueDataConversion) {
       // CallInterceptor will preserve the timestamps if the metadata is an InternalMetadataImpl instance
       InternalMetadataImpl metadata = new InternalMetadataImpl(me.getMetadata(), me.created(), me.lastUsed());
@@ -823,6 +898,40 @@ public <K, V> CompletionStage<MarshallableEntry<K, V>> loadFromAllStores(Object
       ).toCompletionStage(null);
    }
 
+   @Override
+   public <K, V> CompletionStage<Map<Object, MarshallableEntry<K, V>>> loadAllFromAllStores(Map<Object, Integer> keys,
+         boolean localInvocation, boolean includeStores) {
+      return Single.using(
+            this::acquireReadLock,
+            ignore -> {
+               checkStoreAvailability();
+               if (trace) {
+                  log.tracef("Loading entries for keys %s", keys.keySet());
+               }
+               Map<Object, MarshallableEntry<K, V>> entries = new HashMap<>(keys.size());
+               return Flowable.fromIterable(stores)
+                     .filter(storeStatus -> allowLoad(storeStatus, localInvocation, includeStores))
+                     // Only query 1 store at a time, and only with the keys the previous stores did not have
+                     .concatMapCompletable(storeStatus -> {
+                        Map<Object, Integer> keysToLoad = new HashMap<>(keys.size() - entries.size());
+                        for (Map.Entry<Object, Integer> key : keys.entrySet()) {
+                           if (!entries.containsKey(key.getKey())) {
+                              keysToLoad.put(key.getKey(), segmentOrZero(storeStatus, key.getValue()));
+                           }
+                        }
+                        if (keysToLoad.isEmpty()) {
+                           return Completable.complete();
+                        }
+                        return Flowable.fromPublisher(storeStatus.<K, V>store().loadAll(keysToLoad))
+                              .doOnNext(me -> entries.putIfAbsent(me.getKey(), me))
+                              .ignoreElements();
+                     }, 1)
+                     .toSingleDefault(entries);
+            },
+            this::releaseReadLock
+      ).toCompletionStage();
+   }
+
    private boolean allowLoad(StoreStatus storeStatus, boolean localInvocation, boolean includeStores) {
       return !storeStatus.characteristics.contains(Characteristic.WRITE_ONLY) && (localInvocation || !isLocalOnlyLoader(storeStatus.store)) &&
             (includeStores || storeStatus.characteristics.contains(Characteristic.READ_ONLY) || storeStatus.config.ignoreModifications());
@@ -4,11 +4,16 @@
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
 import org.infinispan.util.concurrent.CompletionStages;
 
 /**
  * Separate the preload into its own component
  */
+@MBean(objectName = "Preload", description = "Component that loads the entries of a CacheStore into memory on startup.")
 @Scope(Scopes.NAMED_CACHE)
 public class PreloadManager {
    @Inject PersistenceManager persistenceManager;
@@ -17,4 +22,30 @@ public class PreloadManager {
    public void start() {
       CompletionStages.join(persistenceManager.preload());
    }
+
+   @ManagedAttribute(
+         description = "Number of entries inserted into memory by the preload",
+         displayName = "Number of preloaded entries",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getPreloadedEntries() {
+      return persistenceManager.getPreloadedEntries();
+   }
+
+   @ManagedAttribute(
+         description = "Time taken by the preload so far, or -1 if there was no preload",
+         displayName = "Preload time",
+         units = Units.MILLISECONDS
+   )
+   public long getPreloadTime() {
+      return persistenceManager.getPreloadTime();
+   }
+
+   @ManagedAttribute(
+         description = "Whether all the entries of the store were preloaded",
+         displayName = "Preloaded"
+   )
+   public boolean isPreloaded() {
+      return persistenceManager.isPreloaded();
+   }
 }
@@ -1,5 +1,9 @@
 package org.infinispan.persistence.spi;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.infinispan.commons.api.Lifecycle;
 
 import net.jcip.annotations.ThreadSafe;
@@ -34,6 +38,28 @@
     */
    MarshallableEntry<K, V> loadEntry(Object key);
 
+   /**
+    * Fetches the entries of several keys from the storage. Keys that do not exist in the storage are not part of the
+    * returned collection.
+    * <p>
+    * The default implementation invokes {@link #loadEntry(Object)} for each key. Stores that can read many keys with
+    * a single request should override this method.
+    *
+    * @return the entries that were found
+    * @throws PersistenceException in case of an error, e.g. communicating with the external storage
+    * @since 12.0
+    */
+   default Collection<MarshallableEntry<K, V>> loadEntries(Collection<?> keys) {
+      List<MarshallableEntry<K, V>> entries = new ArrayList<>(keys.size());
+      for (Object key : keys) {
+         MarshallableEntry<K, V> entry = loadEntry(key);
+         if (entry != null) {
+            entries.add(entry);
+         }
+      }
+      return entries;
+   }
+
    /**
     * Returns true if the storage contains an entry associated with the given key.
     *
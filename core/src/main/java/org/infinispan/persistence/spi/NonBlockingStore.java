@@ -1,6 +1,7 @@
 package org.infinispan.persistence.spi;
 
 import java.util.EnumSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -21,6 +22,7 @@
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
 
 /**
  * The contract for defining how caches interface with external sources of data, such as databases or filesystems.
@@ -259,6 +261,50 @@ default CompletionStage<Boolean> isAvailable() {
     */
    CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key);
 
+   /**
+    * Returns a publisher that will publish the entries found in the store for the given keys. This allows a store to
+    * load many keys with a single request, for example when a {@code getAll} misses memory. Keys that
+    * are not present in the store are not published, and entries may be published in any order. If a
+    * {@link MarshallableEntry} needs to be created here, {@link InitializationContext#getMarshallableEntryFactory()}
+    * should be used.
+    * <p>
+    * <h4>Summary of Characteristics Effects</h4>
+    * <table border="1" cellpadding="1" cellspacing="1" summary="Summary of Characteristics Effects">
+    *    <tr>
+    *       <th bgcolor="#CCCCFF" align="left">Characteristic</th>
+    *       <th bgcolor="#CCCCFF" align="left">Effect</th>
+    *    </tr>
+    *    <tr>
+    *       <td valign="top">{@link Characteristic#WRITE_ONLY}</td>
+    *       <td valign="top">This method will never be invoked.</td>
+    *    </tr>
+    *    <tr>
+    *       <td valign="top">{@link Characteristic#EXPIRATION}</td>
+    *       <td valign="top">When set the returned publisher must not publish expired entries.</td>
+    *    </tr>
+    *    <tr>
+    *       <td valign="top">{@link Characteristic#SEGMENTABLE}</td>
+    *       <td valign="top">When this is not set the provided segments may be ignored.</td>
+    *    </tr>
+    * </table>
+    * <p>
+    * If a problem is encountered, it is recommended to wrap any created/caught Throwable in a
+    * {@link PersistenceException} and the publisher be completed exceptionally.
+    * <p>
+    * @implSpec
+    * A default implementation is provided that loads each key with {@link #load(int, Object)}:
+    * <pre>{@code
+    * return Flowable.fromIterable(keys.entrySet())
+    *       .flatMapMaybe(e -> Maybe.fromCompletionStage(load(e.getValue(), e.getKey())));}
+    * </pre>
+    * @param keys the keys to load, each mapped to its segment if segmentation is enabled, otherwise 0.
+    * @return a publisher of the entries found in the store.
+    */
+   default Publisher<MarshallableEntry<K, V>> loadAll(Map<Object, Integer> keys) {
+      return Flowable.fromIterable(keys.entrySet())
+            .flatMapMaybe(e -> Maybe.fromCompletionStage(load(e.getValue(), e.getKey())));
+   }
+
    /**
     * Returns a stage that will contain whether the value can be found in the store.
     * <p>
@@ -1,6 +1,7 @@
 package org.infinispan.persistence.support;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiPredicate;
@@ -74,6 +75,16 @@ public CompletionStage<Void> preload() {
       return persistenceManager.preload();
    }
 
+   @Override
+   public long getPreloadedEntries() {
+      return persistenceManager.getPreloadedEntries();
+   }
+
+   @Override
+   public long getPreloadTime() {
+      return persistenceManager.getPreloadTime();
+   }
+
    @Override
    public CompletionStage<Void> disableStore(String storeType) {
       return persistenceManager.disableStore(storeType);
@@ -213,6 +224,13 @@ public <K, V> CompletionStage<MarshallableEntry<K, V>> loadFromAllStores(Object
       return persistenceManager.loadFromAllStores(key, segment, localInvocation, includeStores);
    }
 
+   @Override
+   public <K, V> CompletionStage<Map<Object, MarshallableEntry<K, V>>> loadAllFromAllStores(Map<Object, Integer> keys,
+                                                                                          boolean localInvocation,
+                                                                                          boolean includeStores) {
+      return persistenceManager.loadAllFromAllStores(keys, localInvocation, includeStores);
+   }
+
    @Override
    public CompletionStage<Long> size() {
       return persistenceManager.size();
@@ -3,6 +3,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -205,6 +206,14 @@ public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
             isSegmented() ? segmentedStore().get(segment, key) : loader().loadEntry(key), nextTraceId("load"));
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> loadAll(Map<Object, Integer> keys) {
+      // A single blocking task for all the keys, the store can then read them with a single request if it supports it
+      return Flowable.fromCompletionStage(blockingManager.supplyBlocking(() -> loader().loadEntries(keys.keySet()),
+            nextTraceId("loadAll")))
+            .concatMapIterable(entries -> entries);
+   }
+
    @Override
    public CompletionStage<Boolean> containsKey(int segment, Object key) {
       return blockingManager.supplyBlocking(() ->
@@ -35,6 +35,7 @@
 import org.infinispan.commons.util.TypedProperties;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.OffHeapAllocatorType;
 import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.configuration.parsing.Element;
 import org.infinispan.container.versioning.EntryVersion;
@@ -2079,4 +2080,16 @@ CacheConfigurationException storeConfiguredHasBothReadAndWriteOnly(String storeC
 
    @Message(value = "Cache configuration must not declare indexed entities if it is not indexed", id = 610)
    CacheConfigurationException indexableClassesDefined();
+
+   @Message(value = "The %s off-heap allocator requires storage to be OFF_HEAP and an arena size of at least %d bytes, but was %s and '%s'", id = 611)
+   CacheConfigurationException invalidOffHeapAllocatorConfiguration(OffHeapAllocatorType allocator, long minArenaSize, StorageType storage, String arenaSize);
+
+   @Message(value = "The number of mass indexer threads must be at least 1, but was %d", id = 612)
+   CacheConfigurationException invalidMassIndexerThreads(int threads);
+
+   @Message(value = "The mass indexer batch size must be at least 1, but was %d", id = 613)
+   CacheConfigurationException invalidMassIndexerBatchSize(int batchSize);
+
+   @Message(value = "The cross-site asynchronous batch size must be at least 1, but was %d", id = 614)
+   CacheConfigurationException invalidXSiteAsyncBatchSize(int batchSize);
 }
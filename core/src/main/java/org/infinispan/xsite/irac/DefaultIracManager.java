@@ -1,5 +1,6 @@
 package org.infinispan.xsite.irac;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -10,7 +11,9 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -18,11 +21,16 @@
 import org.infinispan.commands.CommandsFactory;
 import org.infinispan.commands.irac.IracCleanupKeyCommand;
 import org.infinispan.commands.irac.IracTouchKeyCommand;
+import org.infinispan.commands.irac.IracUpdateKeyCommand;
 import org.infinispan.commands.remote.CacheRpcCommand;
 import org.infinispan.commands.write.WriteCommand;
+import org.infinispan.commons.stat.DefaultSimpleStat;
+import org.infinispan.commons.stat.SimpleStat;
+import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
 import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.SitesConfiguration;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.versioning.irac.IracVersionGenerator;
 import org.infinispan.context.impl.FlagBitSets;
@@ -33,6 +41,13 @@
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
 import org.infinispan.interceptors.locking.ClusteringDependentLogic;
+import org.infinispan.jmx.JmxStatisticsExposer;
+import org.infinispan.jmx.annotations.DataType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
 import org.infinispan.metadata.impl.IracMetadata;
 import org.infinispan.remoting.inboundhandler.DeliverOrder;
 import org.infinispan.remoting.rpc.RpcManager;
@@ -68,12 +83,17 @@
  * On topology change, the updated keys list is replicate to the new owner(s). Also, if a segment is being transferred
  * (i.e. the primary owner isn't a write and read owner), no updates to the remote site is sent since, most likely, the
  * node doesn't have the most up-to-date value.
+ * <p>
+ * The updates of a round are sent in batches of at most {@link SitesConfiguration#asyncBatchSize()} keys to each remote
+ * site. A batch is
+ * acknowledged as a whole and, when it fails, all its keys are kept and sent again in the next round.
  *
  * @author Pedro Ruivo
  * @since 11.0
  */
+@MBean(objectName = "AsyncXSiteReplication", description = "Asynchronous cross-site replication statistics")
 @Scope(Scopes.NAMED_CACHE)
-public class DefaultIracManager implements IracManager, Runnable {
+public class DefaultIracManager implements IracManager, Runnable, JmxStatisticsExposer {
 
    private static final Log log = LogFactory.getLog(DefaultIracManager.class);
    private static final boolean trace = log.isTraceEnabled();
@@ -84,6 +104,7 @@ public class DefaultIracManager implements IracManager, Runnable {
    @Inject ClusteringDependentLogic clusteringDependentLogic;
    @Inject CommandsFactory commandsFactory;
    @Inject IracVersionGenerator iracVersionGenerator;
+   @Inject TimeService timeService;
 
    private final Map<Object, Object> updatedKeys;
    private final Semaphore senderNotifier;
@@ -92,11 +113,16 @@ public class DefaultIracManager implements IracManager, Runnable {
    private volatile Collection<XSiteBackup> asyncBackups;
    private volatile Thread sender;
    private volatile boolean running;
+   private volatile boolean statisticsEnabled;
+   private final AtomicLong keysSent;
+   private volatile SimpleStat batchTime;
 
    public DefaultIracManager() {
       this.updatedKeys = new ConcurrentHashMap<>();
       this.senderNotifier = new Semaphore(0);
       this.backOff = new ExponentialBackOffImpl();
+      this.keysSent = new AtomicLong();
+      this.batchTime = new DefaultSimpleStat();
    }
 
    private static Collection<XSiteBackup> asyncBackups(Configuration config, String localSiteName) {
@@ -124,6 +150,7 @@ public void start() {
       transport.checkCrossSiteAvailable();
       String localSiteName = transport.localSiteName();
       asyncBackups = asyncBackups(config, localSiteName);
+      statisticsEnabled = config.statistics().enabled();
       if (trace) {
          String b = asyncBackups.stream().map(XSiteBackup::getSiteName).collect(Collectors.joining(", "));
          log.tracef("Async remote sites found: %s", b);
@@ -436,7 +463,7 @@ private CompletionStage<Void> sendCommandToAllBackups(XSiteReplicateCommand<Void
       return collector.freeze();
    }
 
-   private XSiteReplicateCommand<Void> buildRemoveCommand(CleanupTask cleanupTask) {
+   private IracUpdateKeyCommand buildRemoveCommand(CleanupTask cleanupTask) {
       Object key = cleanupTask.key;
       IracMetadata metadata = iracVersionGenerator.getTombstone(key);
       if (metadata == null) {
@@ -450,17 +477,106 @@ private CompletionStage<InternalCacheEntry<Object, Object>> fetchEntry(Object ke
       return clusteringDependentLogic.getEntryLoader().loadAndStoreInDataContainer(key, segmentId);
    }
 
+   private XSiteReplicateCommand<Void> buildBatchCommand(List<CleanupTask> batch) {
+      List<IracUpdateKeyCommand> updates = new ArrayList<>(batch.size());
+      for (CleanupTask cleanupTask : batch) {
+         if (cleanupTask.command != null) {
+            updates.add(cleanupTask.command);
+         }
+      }
+      switch (updates.size()) {
+         case 0:
+            return null;
+         case 1:
+            return updates.get(0);
+         default:
+            return commandsFactory.buildIracBatchUpdateCommand(updates);
+      }
+   }
+
+   private void batchCompleted(List<CleanupTask> batch, long startNanos) {
+      if (statisticsEnabled) {
+         //the statistics may have been enabled after the batch was sent, without a start time
+         if (startNanos != 0) {
+            batchTime.record(timeService.timeDuration(startNanos, TimeUnit.MILLISECONDS));
+         }
+         keysSent.addAndGet(batch.size());
+      }
+      //the remote sites acknowledged the whole batch, remove its keys
+      batch.forEach(CleanupTask::run);
+   }
+
+   // -------------------------------------------- JMX information -----------------------------------------------
+
+   @ManagedAttribute(description = "Number of keys waiting to be sent to the remote sites",
+         displayName = "Pending keys")
+   public int getPendingKeys() {
+      return updatedKeys.size();
+   }
+
+   @ManagedAttribute(description = "Number of keys sent to the remote sites",
+         displayName = "Keys sent", measurementType = MeasurementType.TRENDSUP)
+   public long getKeysSent() {
+      return isStatisticsEnabled() ? keysSent.get() : -1;
+   }
+
+   @ManagedAttribute(description = "Number of batches of keys sent to the remote sites",
+         displayName = "Batches sent", measurementType = MeasurementType.TRENDSUP)
+   public long getBatchesSent() {
+      return isStatisticsEnabled() ? batchTime.count() : -1;
+   }
+
+   @ManagedAttribute(description = "Returns the average time, in milliseconds, to send a batch of keys to the remote sites",
+         displayName = "Average batch replication time", units = Units.MILLISECONDS)
+   public long getAverageBatchTime() {
+      return isStatisticsEnabled() ? batchTime.getAverage(-1) : -1;
+   }
+
+   @ManagedAttribute(description = "Returns the maximum time, in milliseconds, to send a batch of keys to the remote sites",
+         displayName = "Maximum batch replication time", units = Units.MILLISECONDS)
+   public long getMaximumBatchTime() {
+      return isStatisticsEnabled() ? batchTime.getMax(-1) : -1;
+   }
+
+   @ManagedAttribute(description = "Enables or disables the gathering of statistics by this component",
+         displayName = "Statistics enabled", dataType = DataType.TRAIT, writable = true)
+   public boolean isStatisticsEnabled() {
+      return statisticsEnabled;
+   }
+
+   @Override
+   public boolean getStatisticsEnabled() {
+      return isStatisticsEnabled();
+   }
+
+   @Override
+   public void setStatisticsEnabled(boolean enabled) {
+      statisticsEnabled = enabled;
+   }
+
+   @Override
+   @ManagedOperation(description = "Resets statistics gathered by this component", displayName = "Reset statistics")
+   public void resetStatistics() {
+      keysSent.set(0);
+      batchTime = new DefaultSimpleStat();
+   }
+
    /**
     * A round of updates to send to the remote site.
     */
    private class SendKeyTask implements BiConsumer<Object, Object> {
 
+      private final int maxBatchSize;
       private final List<CompletionStage<Void>> responses;
       private final List<CleanupTask> cleanupTasks;
+      private List<CleanupTask> batch;
+      private AggregateCompletionStage<Void> batchCommands;
 
       private SendKeyTask() {
+         maxBatchSize = config.sites().asyncBatchSize();
          responses = new LinkedList<>();
          cleanupTasks = new LinkedList<>();
+         newBatch();
       }
 
       @Override
@@ -481,16 +597,39 @@ public void accept(Object key, Object lockOwner) {
 
          CleanupTask cleanupTask = new CleanupTask(key, dInfo.segmentId(), lockOwner);
 
-         CompletionStage<Void> rsp = fetchEntry(key, dInfo.segmentId())
-               .thenApply(lEntry -> lEntry == null ?
+         batchCommands.dependsOn(fetchEntry(key, dInfo.segmentId())
+               .thenAccept(lEntry -> cleanupTask.command = lEntry == null ?
                      buildRemoveCommand(cleanupTask) :
-                     commandsFactory.buildIracPutKeyCommand(lEntry))
+                     commandsFactory.buildIracPutKeyCommand(lEntry)));
+         batch.add(cleanupTask);
+         if (batch.size() >= maxBatchSize) {
+            sendBatch();
+         }
+      }
+
+      private void newBatch() {
+         batch = new ArrayList<>(Math.min(maxBatchSize, 64));
+         batchCommands = CompletionStages.aggregateCompletionStage();
+      }
+
+      private void sendBatch() {
+         List<CleanupTask> tasks = batch;
+         CompletionStage<Void> commands = batchCommands.freeze();
+         newBatch();
+         if (tasks.isEmpty()) {
+            return;
+         }
+         long startNanos = statisticsEnabled ? timeService.time() : 0;
+         CompletionStage<Void> rsp = commands
+               .thenApply(ignored -> buildBatchCommand(tasks))
                .thenCompose(DefaultIracManager.this::sendCommandToAllBackups)
-               .thenRun(cleanupTask);
+               .thenRun(() -> batchCompleted(tasks, startNanos));
          responses.add(rsp);
       }
 
       void await() throws InterruptedException {
+         sendBatch();
+
          //cleanup everything not needed
          cleanupTasks.forEach(CleanupTask::run);
 
@@ -518,6 +657,7 @@ private class CleanupTask implements Runnable {
       final int segmentId;
       final Object lockOwner;
       volatile IracMetadata tombstone;
+      volatile IracUpdateKeyCommand command;
 
       private CleanupTask(Object key, int segmentId, Object lockOwner) {
          this.key = key;
@@ -123,6 +123,12 @@ public void check(ConfigurationBuilderHolder holder, int schemaMajor, int schema
             TransportConfiguration tc = getGlobalConfiguration(holder).transport();
             assertTrue(tc.properties().size() >= 1);
             assertEquals("value", tc.properties().getProperty("key"));
+            assertEquals(8, getConfiguration(holder, "local").persistence().preloadParallelism());
+            assertTrue(getConfiguration(holder, "local").expiration().indexed());
+            Configuration indexed = getConfiguration(holder, "indexed");
+            assertEquals(4, indexed.indexing().massIndexerThreads());
+            assertEquals(500, indexed.indexing().massIndexerBatchSize());
+            assertEquals(64, getConfiguration(holder, "dist").sites().asyncBatchSize());
          }
       },
       INFINISPAN_110(11, 0) {
@@ -0,0 +1,77 @@
+package org.infinispan.container.impl;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.testng.annotations.Test;
+
+/**
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "container.impl.ExpirationIndexTest")
+public class ExpirationIndexTest {
+
+   public void testDrainUpToCurrentBucket() {
+      ExpirationIndex<String> index = new ExpirationIndex<>(2, 100);
+      index.add(0, "a", 50);
+      index.add(0, "b", 150);
+      index.add(0, "c", 250);
+      index.add(1, "d", 50);
+
+      // the current bucket is included, even though "b" did not expire yet
+      assertEquals(new LinkedHashSet<>(Arrays.asList("a", "b")), index.drain(0, 120));
+      assertTrue(index.drain(0, 199).isEmpty());
+      assertEquals(new LinkedHashSet<>(Arrays.asList("c")), index.drain(0, 1000));
+      assertEquals(new LinkedHashSet<>(Arrays.asList("d")), index.drain(1, 1000));
+   }
+
+   public void testDrainRemovesDuplicates() {
+      ExpirationIndex<String> index = new ExpirationIndex<>(1, 100);
+      index.add(0, "a", 10);
+      index.add(0, "a", 20);
+      index.add(0, "a", 110);
+      assertEquals(1, index.drain(0, 150).size());
+   }
+
+   public void testAddMovesKey() {
+      ExpirationIndex<String> index = new ExpirationIndex<>(1, 100);
+      for (int i = 0; i < 10; i++) {
+         index.add(0, "a", 10 + i * 100);
+      }
+      assertEquals(1, index.size(0));
+      // the key is only in the bucket of its last expiration time
+      assertTrue(index.drain(0, 850).isEmpty());
+      assertEquals(Collections.singleton("a"), index.drain(0, 950));
+      assertEquals(0, index.size(0));
+   }
+
+   public void testRemove() {
+      ExpirationIndex<String> index = new ExpirationIndex<>(1, 100);
+      index.add(0, "a", 10);
+      index.add(0, "b", 10);
+      index.remove(0, "a");
+      index.remove(0, "c");
+      assertEquals(1, index.size(0));
+      assertEquals(Collections.singleton("b"), index.drain(0, 1000));
+   }
+
+   public void testClear() {
+      ExpirationIndex<String> index = new ExpirationIndex<>(2, 100);
+      index.add(0, "a", 10);
+      index.add(1, "b", 10);
+      index.clear(0);
+      assertTrue(index.drain(0, 1000).isEmpty());
+      assertEquals(1, index.drain(1, 1000).size());
+   }
+
+   public void testIsDrained() {
+      ExpirationIndex<String> index = new ExpirationIndex<>(1, 100);
+      assertTrue(index.isDrained(150, 120));
+      assertFalse(index.isDrained(200, 120));
+   }
+}
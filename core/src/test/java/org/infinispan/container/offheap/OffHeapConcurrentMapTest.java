@@ -4,10 +4,18 @@
 import static org.testng.AssertJUnit.assertNotNull;
 import static org.testng.AssertJUnit.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.infinispan.commons.marshall.WrappedByteArray;
 import org.infinispan.commons.marshall.WrappedBytes;
@@ -15,12 +23,13 @@
 import org.infinispan.container.entries.ImmortalCacheEntry;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.impl.InternalEntryFactoryImpl;
+import org.infinispan.test.AbstractInfinispanTest;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 @Test(groups = "stress", testName = "container.offheap.OffHeapConcurrentMapTest")
-public class OffHeapConcurrentMapTest {
+public class OffHeapConcurrentMapTest extends AbstractInfinispanTest {
    private OffHeapConcurrentMap map;
    private WrappedByteArray valueByteArray = new WrappedByteArray(new byte[] { 0, 1, 2, 3, 4, 5 });
 
@@ -132,6 +141,121 @@ public void testIterationCreatedButNotUsedUntilAfterAResize() {
       assertEquals(RESIZE_LIMITATION, entriesFound);
    }
 
+   public void testReadsDuringConcurrentWritesAndResizes() throws Exception {
+      Set<WrappedBytes> expectedKeys = insertUpToResizeLimitation();
+      WrappedByteArray otherValue = new WrappedByteArray(new byte[] { 6, 7, 8 });
+
+      AtomicBoolean stop = new AtomicBoolean();
+      Future<?> writer = fork(() -> {
+         // Causes replaces and multiple resizes while the reads are occurring
+         for (int i = 0; i < RESIZE_LIMITATION * 8; ++i) {
+            putInMap(map, valueByteArray);
+            for (WrappedBytes key : expectedKeys) {
+               map.put(key, new ImmortalCacheEntry(key, (i & 1) == 0 ? otherValue : valueByteArray));
+            }
+         }
+         stop.set(true);
+      });
+
+      while (!stop.get()) {
+         for (WrappedBytes key : expectedKeys) {
+            InternalCacheEntry<WrappedBytes, WrappedBytes> ice = map.peek(key);
+            assertNotNull(ice);
+            assertEquals(key, ice.getKey());
+            assertNotNull(map.get(key));
+         }
+      }
+      writer.get(10, TimeUnit.SECONDS);
+   }
+
+   public void testOptimisticReadsNeverSeePartialEntries() throws Exception {
+      List<WrappedBytes> keys = new ArrayList<>();
+      for (int i = 0; i < 100; ++i) {
+         keys.add(putInMap(map, consistentValue(0)));
+      }
+
+      AtomicBoolean stop = new AtomicBoolean();
+      Future<?> writer = fork(() -> {
+         // Replaces and removes the entries with values of different sizes, so their memory is reallocated
+         for (int i = 1; i < 2000; ++i) {
+            WrappedBytes value = consistentValue(i);
+            for (WrappedBytes key : keys) {
+               if ((i & 3) == 0) {
+                  map.remove(key);
+               }
+               map.put(key, new ImmortalCacheEntry(key, value));
+            }
+         }
+         stop.set(true);
+      });
+
+      int readers = 4;
+      List<Future<?>> futures = new ArrayList<>(readers);
+      for (int r = 0; r < readers; ++r) {
+         futures.add(fork(() -> {
+            while (!stop.get()) {
+               for (WrappedBytes key : keys) {
+                  InternalCacheEntry<WrappedBytes, WrappedBytes> ice = map.peek(key);
+                  if (ice != null) {
+                     assertEquals(key, ice.getKey());
+                     assertConsistentValue(ice.getValue());
+                  }
+               }
+            }
+         }));
+      }
+      writer.get(30, TimeUnit.SECONDS);
+      for (Future<?> future : futures) {
+         future.get(10, TimeUnit.SECONDS);
+      }
+   }
+
+   /**
+    * Creates a value whose length and bytes are all derived from the given number, so a partially written value
+    * can be detected
+    */
+   private static WrappedBytes consistentValue(int i) {
+      byte b = (byte) i;
+      byte[] bytes = new byte[(b & 0x3F) + 1];
+      Arrays.fill(bytes, b);
+      return new WrappedByteArray(bytes);
+   }
+
+   private static void assertConsistentValue(WrappedBytes value) {
+      byte b = value.getByte(0);
+      assertEquals((b & 0x3F) + 1, value.getLength());
+      for (int i = 1; i < value.getLength(); ++i) {
+         assertEquals(b, value.getByte(i));
+      }
+   }
+
+   public void testReaderSlotsOfTerminatedThreadsRemoved() throws Exception {
+      EpochReclaimingAllocator allocator = new EpochReclaimingAllocator(new UnpooledOffHeapMemoryAllocator());
+      int readers = 4;
+      ExecutorService executor = Executors.newFixedThreadPool(readers, getTestThreadFactory("Reader"));
+      try {
+         List<Future<?>> futures = new ArrayList<>(readers);
+         // a fixed pool starts a new thread for each task until it reaches its size
+         for (int i = 0; i < readers; ++i) {
+            futures.add(executor.submit(() -> {
+               allocator.enter();
+               allocator.exit();
+            }));
+         }
+         for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+         }
+         assertEquals(readers, allocator.readerSlots());
+      } finally {
+         executor.shutdown();
+      }
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+      eventually(() -> {
+         allocator.reclaim();
+         return allocator.readerSlots() == 0;
+      });
+   }
+
    WrappedBytes putInMap(OffHeapConcurrentMap map, WrappedBytes value) {
       InternalCacheEntry<WrappedBytes, WrappedBytes> ice;
       WrappedBytes key;
@@ -0,0 +1,93 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commons.marshall.WrappedByteArray;
+import org.infinispan.commons.marshall.WrappedBytes;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.OffHeapAllocatorType;
+import org.infinispan.configuration.cache.StorageType;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.functional.impl.MetaParamsInternalMetadata;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.infinispan.commons.time.TimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that an entry with custom metadata that is rewritten when touched is allocated through the pooled allocator.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "container.offheap.OffHeapPooledMaxIdleTest")
+public class OffHeapPooledMaxIdleTest extends SingleCacheManagerTest {
+   private static final int ENTRIES = 100;
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.memory()
+            .storage(StorageType.OFF_HEAP)
+            .allocator(OffHeapAllocatorType.POOLED);
+      return TestCacheManagerFactory.createCacheManager(builder);
+   }
+
+   public void testTouchedEntryAllocatedFromPool() {
+      InternalDataContainer<WrappedBytes, WrappedBytes> container = TestingUtil.extractComponent(cache, InternalDataContainer.class);
+      KeyPartitioner keyPartitioner = TestingUtil.extractComponent(cache, KeyPartitioner.class);
+      PooledOffHeapMemoryAllocator allocator = (PooledOffHeapMemoryAllocator) TestingUtil.extractComponent(cache, OffHeapMemoryAllocator.class);
+      TimeService timeService = TestingUtil.extractComponent(cache, TimeService.class);
+      long initialAllocated = allocator.getAllocatedAmount();
+
+      List<WrappedBytes> keys = new ArrayList<>(ENTRIES);
+      // Custom metadata is marshalled as is, touching the entry changes its size so that it has to be allocated again
+      Metadata metadata = new MetaParamsInternalMetadata.Builder().maxIdle(1, TimeUnit.MINUTES).build();
+      long now = timeService.wallClockTime();
+      for (int i = 0; i < ENTRIES; ++i) {
+         WrappedBytes key = new WrappedByteArray(("key" + i).getBytes());
+         keys.add(key);
+         container.put(keyPartitioner.getSegment(key), key, value(i), metadata, null, now, now);
+      }
+      for (WrappedBytes key : keys) {
+         assertTrue(container.touch(keyPartitioner.getSegment(key), key, timeService.wallClockTime()));
+      }
+      for (WrappedBytes key : keys) {
+         assertNotNull(container.remove(keyPartitioner.getSegment(key), key));
+      }
+      // Freeing is deferred until no optimistic reader can reference the memory, a clear waits for it
+      container.clear();
+      // Every block that was freed must have been allocated from the pool
+      assertEquals(initialAllocated, allocator.getAllocatedAmount());
+
+      // Allocate the blocks freed by the touched entries again, with entries of the same size
+      Metadata touchedMetadata = new MetaParamsInternalMetadata.Builder().maxIdle(now, TimeUnit.MILLISECONDS).build();
+      for (int i = 0; i < ENTRIES; ++i) {
+         WrappedBytes key = keys.get(i);
+         container.put(keyPartitioner.getSegment(key), key, value(i + ENTRIES), touchedMetadata, null, now, now);
+      }
+      for (int i = 0; i < ENTRIES; ++i) {
+         WrappedBytes key = keys.get(i);
+         InternalCacheEntry<WrappedBytes, WrappedBytes> entry = container.peek(keyPartitioner.getSegment(key), key);
+         assertNotNull(entry);
+         assertEquals(value(i + ENTRIES), entry.getValue());
+      }
+   }
+
+   private static WrappedBytes value(int i) {
+      byte[] bytes = new byte[100];
+      Arrays.fill(bytes, (byte) i);
+      return new WrappedByteArray(bytes);
+   }
+}
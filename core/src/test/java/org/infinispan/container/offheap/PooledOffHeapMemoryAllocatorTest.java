@@ -0,0 +1,92 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "container.offheap.PooledOffHeapMemoryAllocatorTest")
+public class PooledOffHeapMemoryAllocatorTest {
+
+   @DataProvider(name = "sizeClasses")
+   Object[][] sizeClasses() {
+      return new Object[][] {
+            { 1, 16 },
+            { 16, 16 },
+            { 17, 32 },
+            { 256, 256 },
+            { 257, 320 },
+            { 320, 320 },
+            { 321, 384 },
+            { 512, 512 },
+            { 513, 640 },
+            { 1000, 1024 },
+            { PooledOffHeapMemoryAllocator.MAX_POOLED_SIZE, PooledOffHeapMemoryAllocator.MAX_POOLED_SIZE },
+      };
+   }
+
+   @Test(dataProvider = "sizeClasses")
+   public void testSizeClasses(long size, long expectedBlockSize) {
+      int sizeClass = PooledOffHeapMemoryAllocator.sizeClass(size);
+      assertEquals(expectedBlockSize, PooledOffHeapMemoryAllocator.classSize(sizeClass));
+   }
+
+   public void testSizeClassesAreIncreasing() {
+      long previous = 0;
+      for (int size = 1; size <= PooledOffHeapMemoryAllocator.MAX_POOLED_SIZE; ++size) {
+         long blockSize = PooledOffHeapMemoryAllocator.classSize(PooledOffHeapMemoryAllocator.sizeClass(size));
+         assertTrue(blockSize >= size);
+         assertTrue(blockSize >= previous);
+         previous = blockSize;
+      }
+   }
+
+   public void testMemoryIsReused() {
+      // A single arena holds exactly 16 blocks of this size
+      long size = 60_000;
+      long blockSize = PooledOffHeapMemoryAllocator.classSize(PooledOffHeapMemoryAllocator.sizeClass(size));
+      PooledOffHeapMemoryAllocator allocator = new PooledOffHeapMemoryAllocator(16 * blockSize);
+      try {
+         Set<Long> addresses = new HashSet<>();
+         for (int i = 0; i < 16; ++i) {
+            assertTrue(addresses.add(allocator.allocate(size)));
+         }
+         assertEquals(16 * blockSize, allocator.getAllocatedAmount());
+         assertEquals(1, allocator.getArenaCount());
+
+         for (long address : addresses) {
+            allocator.deallocate(address, size);
+         }
+         assertEquals(0, allocator.getAllocatedAmount());
+
+         for (int i = 0; i < 16; ++i) {
+            assertTrue(addresses.contains(allocator.allocate(size)));
+         }
+         assertEquals(1, allocator.getArenaCount());
+         assertEquals(16 * blockSize, allocator.getReservedAmount());
+      } finally {
+         allocator.stop();
+      }
+   }
+
+   public void testLargeAllocationsAreNotPooled() {
+      PooledOffHeapMemoryAllocator allocator = new PooledOffHeapMemoryAllocator(1 << 20);
+      try {
+         long size = PooledOffHeapMemoryAllocator.MAX_POOLED_SIZE + 1;
+         long address = allocator.allocate(size);
+         assertEquals(0, allocator.getArenaCount());
+         assertEquals(1, allocator.getUnpooledAllocations());
+         allocator.deallocate(address, size);
+         assertEquals(0, allocator.getAllocatedAmount());
+      } finally {
+         allocator.stop();
+      }
+   }
+}
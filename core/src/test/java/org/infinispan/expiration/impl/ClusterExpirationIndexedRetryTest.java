@@ -0,0 +1,98 @@
+package org.infinispan.expiration.impl;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.write.RemoveExpiredCommand;
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.ControlledTimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that an entry whose expiration failed stays in the expiration index, so that the reaper expires it on a later
+ * run.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "expiration.impl.ClusterExpirationIndexedRetryTest")
+public class ClusterExpirationIndexedRetryTest extends MultipleCacheManagersTest {
+   private static final long WAKE_UP_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+
+   private ControlledTimeService ts0;
+   private ControlledTimeService ts1;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC);
+      // The reaper is invoked directly by the test
+      builder.expiration().enableReaper().wakeUpInterval(WAKE_UP_INTERVAL).indexed(true);
+      createCluster(builder, 2);
+      waitForClusterToForm();
+
+      ts0 = new ControlledTimeService();
+      TestingUtil.replaceComponent(manager(0), TimeService.class, ts0, true);
+      ts1 = new ControlledTimeService();
+      TestingUtil.replaceComponent(manager(1), TimeService.class, ts1, true);
+   }
+
+   public void testFailedExpirationRetried() {
+      Cache<Object, Object> primary = cache(0);
+      Object key = getKeyForCache(primary);
+      // Once the segments were scanned the reaper only looks at the expiration index
+      processExpiration();
+
+      FailFirstRemoveExpiredInterceptor interceptor = new FailFirstRemoveExpiredInterceptor();
+      TestingUtil.extractInterceptorChain(primary).addInterceptor(interceptor, 0);
+      try {
+         primary.put(key, "value", 10, TimeUnit.MILLISECONDS);
+         advance(11);
+
+         processExpiration();
+         assertEquals(1, interceptor.failures.get());
+         assertNotNull(primary.getAdvancedCache().getDataContainer().peek(key));
+
+         advance(WAKE_UP_INTERVAL);
+         processExpiration();
+         assertEquals(1, interceptor.failures.get());
+         for (Cache<Object, Object> cache : caches()) {
+            assertNull(cache.getAdvancedCache().getDataContainer().peek(key));
+         }
+      } finally {
+         TestingUtil.extractInterceptorChain(primary).removeInterceptor(FailFirstRemoveExpiredInterceptor.class);
+      }
+   }
+
+   private void advance(long millis) {
+      ts0.advance(millis);
+      ts1.advance(millis);
+   }
+
+   private void processExpiration() {
+      for (Cache<Object, Object> cache : caches()) {
+         TestingUtil.extractComponent(cache, InternalExpirationManager.class).processExpiration();
+      }
+   }
+
+   static class FailFirstRemoveExpiredInterceptor extends DDAsyncInterceptor {
+      private final AtomicInteger failures = new AtomicInteger();
+
+      @Override
+      public Object visitRemoveExpiredCommand(InvocationContext ctx, RemoveExpiredCommand command) throws Throwable {
+         if (failures.compareAndSet(0, 1)) {
+            throw new RuntimeException("Induced failure");
+         }
+         return invokeNext(ctx, command);
+      }
+   }
+}
@@ -0,0 +1,35 @@
+package org.infinispan.expiration.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+/**
+ * Same as {@link ExpirationFunctionalTest} but with the expiration index enabled. The reaper has to be enabled for the
+ * index to be used, its interval is long enough that it never runs during the test.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "expiration.impl.ExpirationIndexedFunctionalTest")
+public class ExpirationIndexedFunctionalTest extends ExpirationFunctionalTest {
+
+   @Factory
+   @Override
+   public Object[] factory() {
+      return new Object[]{
+         new ExpirationIndexedFunctionalTest().cacheMode(CacheMode.LOCAL).withStorage(StorageType.OBJECT),
+         new ExpirationIndexedFunctionalTest().cacheMode(CacheMode.LOCAL).withStorage(StorageType.BINARY),
+         new ExpirationIndexedFunctionalTest().cacheMode(CacheMode.DIST_SYNC).withStorage(StorageType.OBJECT),
+      };
+   }
+
+   @Override
+   protected void configure(ConfigurationBuilder config) {
+      super.configure(config);
+      config.expiration().enableReaper().wakeUpInterval(10, TimeUnit.MINUTES).indexed(true);
+   }
+}
@@ -14,7 +14,9 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import javax.transaction.NotSupportedException;
 import javax.transaction.SystemException;
@@ -34,6 +36,7 @@
 import org.infinispan.marshall.persistence.impl.MarshalledEntryUtil;
 import org.infinispan.persistence.dummy.DummyInMemoryStore;
 import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.persistence.manager.PersistenceManager;
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.PersistenceException;
 import org.infinispan.test.AbstractInfinispanTest;
@@ -351,6 +354,31 @@ public void testPreloadingWithEviction() throws Exception {
       doPreloadingTestWithEviction(preloadingCfg.build(), "preloadingCache_4");
    }
 
+   public void testParallelPreloading() {
+      String cacheName = "preloadingCache_5";
+      ConfigurationBuilder preloadingCfg = newPreloadConfiguration(cfg.build(), this.getClass().getName() + cacheName);
+      preloadingCfg.transaction().transactionMode(TransactionMode.NON_TRANSACTIONAL);
+      preloadingCfg.persistence().preloadParallelism(8);
+      cm.defineConfiguration(cacheName, preloadingCfg.build());
+      Cache<String, String> preloadingCache = getCache(cm, cacheName);
+      int numEntries = 1000;
+      for (int i = 0; i < numEntries; i++) {
+         preloadingCache.put("k" + i, "v" + i);
+      }
+
+      preloadingCache.stop();
+      preloadingCache.start();
+
+      assertEquals(numEntries, preloadingCache.getAdvancedCache().getDataContainer().size());
+      for (int i = 0; i < numEntries; i++) {
+         assertEquals("v" + i, preloadingCache.get("k" + i));
+      }
+      PersistenceManager persistenceManager = TestingUtil.extractComponent(preloadingCache, PersistenceManager.class);
+      assertTrue(persistenceManager.isPreloaded());
+      assertEquals(numEntries, persistenceManager.getPreloadedEntries());
+      assertTrue(persistenceManager.getPreloadTime() >= 0);
+   }
+
    ConfigurationBuilder newPreloadConfiguration(Configuration configuration, String storeName) {
       ConfigurationBuilder preloadingCfg = new ConfigurationBuilder();
       preloadingCfg.read(configuration);
@@ -515,6 +543,23 @@ public void testLoadingToMemory() throws PersistenceException {
       assertEquals("v2", cache.get("k2"));
    }
 
+   public void testGetAllLoadsInBulk() throws PersistenceException {
+      assertNotInCacheAndStore("k1", "k2", "k3");
+      store.write(MarshalledEntryUtil.create("k1", "v1", cache));
+      store.write(MarshalledEntryUtil.create("k2", "v2", cache));
+      store.clearStats();
+
+      Map<String, String> values = cache.getAdvancedCache().getAll(new HashSet<>(Arrays.asList("k1", "k2", "k3")));
+
+      assertEquals(2, values.size());
+      assertEquals("v1", values.get("k1"));
+      assertEquals("v2", values.get("k2"));
+      assertEquals(1, (int) store.stats().get("loadAll"));
+      assertEquals(0, (int) store.stats().get("load"));
+      assertInCacheAndStore("k1", "v1");
+      assertInCacheAndStore("k2", "v2");
+   }
+
    public void testSkipLocking(Method m) {
       String name = m.getName();
       AdvancedCache<String, String> advancedCache = cache.getAdvancedCache();
@@ -47,6 +47,7 @@
 import org.testng.AssertJUnit;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
 
 /**
  * A Dummy cache store which stores objects in memory. Instance of the store can be shared
@@ -274,6 +275,19 @@ public CompletionStage<MarshallableEntry> load(int segment, Object key) {
       return CompletableFuture.completedFuture(me);
    }
 
+   @Override
+   public Publisher<MarshallableEntry> loadAll(Map keys) {
+      assertRunning();
+      record("loadAll");
+      long now = timeService.wallClockTime();
+      Set<Map.Entry<Object, Integer>> keysAndSegments = keys.entrySet();
+      return Flowable.fromIterable(keysAndSegments)
+            .flatMapMaybe(e -> {
+               MarshallableEntry me = deserialize(e.getKey(), mapForSegment(e.getValue()).get(e.getKey()));
+               return me == null || isExpired(me, now) ? Maybe.<MarshallableEntry>empty() : Maybe.just(me);
+            });
+   }
+
    private boolean isExpired(MarshallableEntry me, long now) {
       return me.isExpired(now);
    }
@@ -26,6 +26,8 @@
 import org.infinispan.configuration.global.GlobalConfigurationBuilder;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.marshall.persistence.impl.MarshalledEntryUtil;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.test.SingleCacheManagerTest;
 import org.infinispan.test.TestingUtil;
@@ -139,6 +141,47 @@ public void testWritesAndClear() throws ExecutionException, InterruptedException
       clearFuture.get();
    }
 
+   public void testWritesAndPurge() throws ExecutionException, InterruptedException {
+      final int writerThreads = 2;
+      final int numberOfKeys = 5;
+
+      Cache<String, String> cache = cacheManager.getCache(CACHE_NAME);
+      final SingleFileStore<String, String> store = TestingUtil.getFirstWriter(cache);
+      assertEquals(0, store.size());
+
+      final List<String> keys = new ArrayList<>(numberOfKeys);
+      for (int j = 0; j < numberOfKeys; j++) {
+         keys.add("key" + j);
+      }
+
+      // Writers alternate expired and immortal values, so the purge often finds an expired entry whose key has been
+      // written again before it is removed from the index
+      final CountDownLatch stopLatch = new CountDownLatch(1);
+      Future[] writeFutures = new Future[writerThreads];
+      for (int i = 0; i < writerThreads; i++) {
+         writeFutures[i] = fork(stopOnException(new ExpiringWriteTask(store, cache, keys, stopLatch), stopLatch));
+      }
+      Future purgeFuture = fork(stopOnException(new PurgeTask(store, stopLatch), stopLatch));
+
+      stopLatch.await(2, SECONDS);
+      stopLatch.countDown();
+
+      for (int i = 0; i < writerThreads; i++) {
+         writeFutures[i].get();
+      }
+      purgeFuture.get();
+
+      // Every entry still in the index must point to its own, allocated, space in the file
+      store.purge(null, null);
+      for (String key : keys) {
+         MarshallableEntry<String, String> entry = store.loadEntry(key);
+         if (entry != null) {
+            assertEquals(key, entry.getKey());
+            assertTrue(entry.getValue().startsWith(key));
+         }
+      }
+   }
+
    public void testSpaceOptimization() throws InterruptedException {
       final int numberOfKeys = 100;
       final int times = 10;
@@ -359,6 +402,60 @@ public Object call() throws Exception {
       }
    }
 
+   private class ExpiringWriteTask implements Callable<Object> {
+      final SingleFileStore<String, String> store;
+      final Cache cache;
+      final List<String> keys;
+      final CountDownLatch stopLatch;
+
+      ExpiringWriteTask(SingleFileStore<String, String> store, Cache cache, List<String> keys, CountDownLatch stopLatch) {
+         this.store = store;
+         this.cache = cache;
+         this.keys = keys;
+         this.stopLatch = stopLatch;
+      }
+
+      @Override
+      public Object call() throws Exception {
+         TestResourceTracker.testThreadStarted(SingleFileStoreStressTest.this.getTestName());
+         Random random = new Random();
+         Metadata expired = new EmbeddedMetadata.Builder().lifespan(1).build();
+         int i = 0;
+         while (stopLatch.getCount() != 0) {
+            String key = keys.get(random.nextInt(keys.size()));
+            String value = key + "_value_" + i;
+            MarshallableEntry<String, String> entry;
+            if (i % 2 == 0) {
+               long created = cache.getAdvancedCache().getComponentRegistry().getTimeService().wallClockTime() - 10;
+               entry = MarshalledEntryUtil.create(key, value, expired, created, created, cache);
+            } else {
+               entry = MarshalledEntryUtil.create(key, value, cache);
+            }
+            store.write(entry);
+            i++;
+         }
+         return null;
+      }
+   }
+
+   private class PurgeTask implements Callable<Object> {
+      final SingleFileStore<String, String> store;
+      final CountDownLatch stopLatch;
+
+      PurgeTask(SingleFileStore<String, String> store, CountDownLatch stopLatch) {
+         this.store = store;
+         this.stopLatch = stopLatch;
+      }
+
+      @Override
+      public Object call() throws Exception {
+         while (stopLatch.getCount() != 0) {
+            store.purge(null, null);
+         }
+         return null;
+      }
+   }
+
    private class ReadTask implements Callable<Object> {
       final boolean allowNulls;
       final CountDownLatch stopLatch;
@@ -32,6 +32,7 @@
 import org.infinispan.commands.functional.WriteOnlyKeyValueCommand;
 import org.infinispan.commands.functional.WriteOnlyManyCommand;
 import org.infinispan.commands.functional.WriteOnlyManyEntriesCommand;
+import org.infinispan.commands.irac.IracBatchUpdateCommand;
 import org.infinispan.commands.irac.IracCleanupKeyCommand;
 import org.infinispan.commands.irac.IracClearKeysCommand;
 import org.infinispan.commands.irac.IracMetadataRequestCommand;
@@ -40,6 +41,7 @@
 import org.infinispan.commands.irac.IracRequestStateCommand;
 import org.infinispan.commands.irac.IracStateResponseCommand;
 import org.infinispan.commands.irac.IracTouchKeyCommand;
+import org.infinispan.commands.irac.IracUpdateKeyCommand;
 import org.infinispan.commands.irac.IracUpdateVersionCommand;
 import org.infinispan.commands.read.EntrySetCommand;
 import org.infinispan.commands.read.GetAllCommand;
@@ -683,6 +685,11 @@ public IracClearKeysCommand buildIracClearKeysCommand() {
       return actual.buildIracClearKeysCommand();
    }
 
+   @Override
+   public IracBatchUpdateCommand buildIracBatchUpdateCommand(Collection<? extends IracUpdateKeyCommand> updates) {
+      return actual.buildIracBatchUpdateCommand(updates);
+   }
+
    @Override
    public IracCleanupKeyCommand buildIracCleanupKeyCommand(Object key, Object lockOwner,
          IracMetadata tombstone) {
@@ -0,0 +1,215 @@
+package org.infinispan.xsite.irac;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.irac.IracBatchUpdateCommand;
+import org.infinispan.commands.irac.IracUpdateKeyCommand;
+import org.infinispan.commons.CacheException;
+import org.infinispan.commons.api.CacheContainerAdmin;
+import org.infinispan.configuration.cache.BackupConfiguration;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.marshall.core.GlobalMarshaller;
+import org.infinispan.metadata.impl.IracMetadata;
+import org.infinispan.remoting.transport.Transport;
+import org.infinispan.remoting.transport.XSiteResponse;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.infinispan.xsite.BackupReceiver;
+import org.infinispan.xsite.XSiteBackup;
+import org.infinispan.xsite.XSiteReplicateCommand;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link DefaultIracManager} sends the updated keys to the remote site in bounded batches.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "xsite.irac.IracBatchTest")
+public class IracBatchTest extends SingleCacheManagerTest {
+
+   private static final String NYC = "NYC";
+   private static final String CACHE_NAME = "irac-batch";
+   private static final int BATCH_SIZE = 4;
+   private volatile RecordingTransport transport;
+   private volatile DefaultIracManager iracManager;
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      EmbeddedCacheManager cacheManager = TestCacheManagerFactory.createClusteredCacheManager();
+      this.transport = TestingUtil.wrapGlobalComponent(cacheManager, Transport.class, RecordingTransport::new, true);
+      this.cache = cacheManager.administration()
+            .withFlags(CacheContainerAdmin.AdminFlag.VOLATILE)
+            .getOrCreateCache(CACHE_NAME, createCacheConfiguration().build());
+      iracManager = (DefaultIracManager) TestingUtil.extractComponent(cache, IracManager.class);
+      return cacheManager;
+   }
+
+   private static ConfigurationBuilder createCacheConfiguration() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.clustering().cacheMode(CacheMode.DIST_SYNC);
+      builder.statistics().enable();
+      builder.sites().asyncBatchSize(BATCH_SIZE);
+      builder.sites().addBackup()
+            .site(NYC)
+            .strategy(BackupConfiguration.BackupStrategy.ASYNC);
+      return builder;
+   }
+
+   public void testKeysSentInBatches(Method method) {
+      transport.commands.clear();
+      iracManager.resetStatistics();
+      Map<String, String> entries = entries(method);
+
+      cache.putAll(entries);
+
+      eventually(iracManager::isEmpty);
+      int keys = 0;
+      for (XSiteReplicateCommand<?> command : transport.commands) {
+         if (command instanceof IracBatchUpdateCommand) {
+            int size = ((IracBatchUpdateCommand) command).getUpdates().size();
+            assertTrue("Batch too large: " + size, size <= BATCH_SIZE);
+            keys += size;
+         } else if (command instanceof IracUpdateKeyCommand) {
+            keys++;
+         }
+      }
+      assertEquals(entries.size(), keys);
+      assertEquals(entries.size(), iracManager.getKeysSent());
+      assertTrue(iracManager.getBatchesSent() >= 3);
+      assertEquals(0, iracManager.getPendingKeys());
+   }
+
+   public void testFailedBatchRetried(Method method) {
+      transport.commands.clear();
+      iracManager.resetStatistics();
+      transport.throwableSupplier = CacheException::new;
+      Map<String, String> entries = entries(method);
+
+      try {
+         cache.putAll(entries);
+
+         // at least two rounds of 3 batches
+         eventually(() -> transport.commands.size() >= 6);
+         assertEquals(entries.size(), iracManager.getPendingKeys());
+         assertEquals(0, iracManager.getKeysSent());
+      } finally {
+         transport.throwableSupplier = () -> null;
+      }
+
+      eventually(iracManager::isEmpty);
+      assertEquals(entries.size(), iracManager.getKeysSent());
+      int updates = 0;
+      for (XSiteReplicateCommand<?> command : transport.commands) {
+         updates += command instanceof IracBatchUpdateCommand ?
+               ((IracBatchUpdateCommand) command).getUpdates().size() :
+               1;
+      }
+      assertTrue("Keys not sent again: " + updates, updates > entries.size());
+   }
+
+   public void testBatchMarshalledAndApplied(Method method) throws Exception {
+      Map<String, String> entries = entries(method);
+      cache.putAll(entries);
+      eventually(iracManager::isEmpty);
+
+      CommandsFactory commandsFactory = TestingUtil.extractCommandsFactory(cache);
+      InternalDataContainer<?, ?> dataContainer = TestingUtil.extractComponent(cache, InternalDataContainer.class);
+      List<IracUpdateKeyCommand> updates = new ArrayList<>();
+      Map<Object, IracMetadata> expectedMetadata = new HashMap<>();
+      for (String key : entries.keySet()) {
+         InternalCacheEntry<?, ?> entry = dataContainer.peek(key);
+         expectedMetadata.put(key, entry.getInternalMetadata().iracMetadata());
+         updates.add(commandsFactory.buildIracPutKeyCommand(entry));
+      }
+      String removedKey = TestingUtil.k(method, "removed");
+      IracMetadata removedMetadata = expectedMetadata.values().iterator().next();
+      updates.add(commandsFactory.buildIracRemoveKeyCommand(removedKey, removedMetadata));
+
+      GlobalMarshaller marshaller = TestingUtil.extractGlobalMarshaller(cacheManager);
+      byte[] bytes = marshaller.objectToByteBuffer(commandsFactory.buildIracBatchUpdateCommand(updates));
+      IracBatchUpdateCommand batch = (IracBatchUpdateCommand) marshaller.objectFromByteBuffer(bytes);
+      assertEquals(updates.size(), batch.getUpdates().size());
+
+      RecordingBackupReceiver receiver = new RecordingBackupReceiver();
+      CompletionStage<Void> applied = batch.performInLocalSite(receiver.mock, false);
+
+      assertEquals(entries, receiver.values);
+      assertEquals(removedMetadata, receiver.metadata.remove(removedKey));
+      assertEquals(expectedMetadata, receiver.metadata);
+      // the batch is acknowledged only when every update is applied
+      assertEquals(updates.size(), receiver.pending.size());
+      for (CompletableFuture<Void> update : receiver.pending) {
+         assertFalse(applied.toCompletableFuture().isDone());
+         update.complete(null);
+      }
+      assertTrue(applied.toCompletableFuture().isDone());
+   }
+
+   private static Map<String, String> entries(Method method) {
+      Map<String, String> entries = new HashMap<>();
+      for (int i = 0; i < 10; ++i) {
+         entries.put(TestingUtil.k(method, i), TestingUtil.v(method, i));
+      }
+      return entries;
+   }
+
+   static class RecordingTransport extends IracExponentialBackOffTest.ControlledTransport {
+
+      private final Queue<XSiteReplicateCommand<?>> commands = new ConcurrentLinkedQueue<>();
+
+      RecordingTransport(Transport actual) {
+         super(actual);
+      }
+
+      @Override
+      public <O> XSiteResponse<O> backupRemotely(XSiteBackup backup, XSiteReplicateCommand<O> rpcCommand) {
+         commands.add(rpcCommand);
+         return super.backupRemotely(backup, rpcCommand);
+      }
+   }
+
+   private static class RecordingBackupReceiver {
+      private final BackupReceiver mock = Mockito.mock(BackupReceiver.class);
+      private final Map<Object, Object> values = new HashMap<>();
+      private final Map<Object, IracMetadata> metadata = new HashMap<>();
+      private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+      private RecordingBackupReceiver() {
+         Mockito.when(mock.putKeyValue(any(), any(), any(), any())).thenAnswer(invocation -> {
+            values.put(invocation.getArgument(0), invocation.getArgument(1));
+            metadata.put(invocation.getArgument(0), invocation.getArgument(3));
+            return newPending();
+         });
+         Mockito.when(mock.removeKey(any(), any())).thenAnswer(invocation -> {
+            metadata.put(invocation.getArgument(0), invocation.getArgument(1));
+            return newPending();
+         });
+      }
+
+      private CompletableFuture<Void> newPending() {
+         CompletableFuture<Void> future = new CompletableFuture<>();
+         pending.add(future);
+         return future;
+      }
+   }
+}
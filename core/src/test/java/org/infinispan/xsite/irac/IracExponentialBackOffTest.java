@@ -178,7 +178,7 @@ void assertNoEvents() {
 
    static class ControlledTransport extends AbstractDelegatingTransport {
 
-      private volatile Supplier<Throwable> throwableSupplier = NO_EXCEPTION;
+      volatile Supplier<Throwable> throwableSupplier = NO_EXCEPTION;
 
       ControlledTransport(Transport actual) {
          super(actual);
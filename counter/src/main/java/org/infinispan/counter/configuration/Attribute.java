@@ -12,6 +12,8 @@ public enum Attribute {
    UNKNOWN(null),
 
    CONCURRENCY_LEVEL("concurrency-level"),
+   FLUSH_INTERVAL("flush-interval"),
+   FLUSH_THRESHOLD("flush-threshold"),
    INITIAL_VALUE("initial-value"),
    LOWER_BOUND("lower-bound"),
    NAME("name"),
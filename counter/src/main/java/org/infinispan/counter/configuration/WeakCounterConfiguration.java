@@ -27,6 +27,28 @@ public class WeakCounterConfiguration extends AbstractCounterConfiguration {
          .immutable()
          .build();
 
+   static final AttributeDefinition<Long> FLUSH_INTERVAL = AttributeDefinition
+         .builder("flushInterval", 0L)
+         .xmlName("flush-interval")
+         .validator(value -> {
+            if (value < 0) {
+               throw CONTAINER.invalidNegativeAttribute("flush-interval", value);
+            }
+         })
+         .immutable()
+         .build();
+
+   static final AttributeDefinition<Long> FLUSH_THRESHOLD = AttributeDefinition
+         .builder("flushThreshold", 0L)
+         .xmlName("flush-threshold")
+         .validator(value -> {
+            if (value < 0) {
+               throw CONTAINER.invalidNegativeAttribute("flush-threshold", value);
+            }
+         })
+         .immutable()
+         .build();
+
    WeakCounterConfiguration(AttributeSet attributes) {
       super(attributes);
    }
@@ -40,10 +62,18 @@ public ElementDefinition getElementDefinition() {
 
    public static AttributeSet attributeDefinitionSet() {
       return new AttributeSet(WeakCounterConfiguration.class, AbstractCounterConfiguration.attributeDefinitionSet(),
-            CONCURRENCY_LEVEL);
+            CONCURRENCY_LEVEL, FLUSH_INTERVAL, FLUSH_THRESHOLD);
    }
 
    public int concurrencyLevel() {
       return attributes.attribute(CONCURRENCY_LEVEL).get();
    }
+
+   public long flushInterval() {
+      return attributes.attribute(FLUSH_INTERVAL).get();
+   }
+
+   public long flushThreshold() {
+      return attributes.attribute(FLUSH_THRESHOLD).get();
+   }
 }
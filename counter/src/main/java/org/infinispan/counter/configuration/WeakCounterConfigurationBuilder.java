@@ -48,6 +48,34 @@ public WeakCounterConfigurationBuilder concurrencyLevel(int level) {
       return self();
    }
 
+   /**
+    * Sets the interval between flushes of the updates accumulated locally by the counter.
+    * <p>
+    * When set, updates are accumulated in the local node and flushed to the cluster as a single update every
+    * interval, reducing the number of remote invocations at the cost of a bounded staleness.
+    * <p>
+    * Default value is 0, which disables the local accumulation.
+    *
+    * @param interval the flush interval, in milliseconds.
+    */
+   public WeakCounterConfigurationBuilder flushInterval(long interval) {
+      attributes.attribute(WeakCounterConfiguration.FLUSH_INTERVAL).set(interval);
+      return self();
+   }
+
+   /**
+    * Sets the absolute value of the locally accumulated delta which triggers a flush before the flush interval
+    * elapses.
+    * <p>
+    * Default value is 0, which means that only the flush interval triggers flushes.
+    *
+    * @param threshold the flush threshold.
+    */
+   public WeakCounterConfigurationBuilder flushThreshold(long threshold) {
+      attributes.attribute(WeakCounterConfiguration.FLUSH_THRESHOLD).set(threshold);
+      return self();
+   }
+
    @Override
    public ElementDefinition getElementDefinition() {
       return WeakCounterConfiguration.ELEMENT_DEFINITION;
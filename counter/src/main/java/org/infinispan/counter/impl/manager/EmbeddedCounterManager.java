@@ -9,6 +9,7 @@
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.commons.logging.LogFactory;
@@ -30,6 +31,8 @@
 import org.infinispan.counter.impl.strong.UnboundedStrongCounter;
 import org.infinispan.counter.impl.weak.WeakCounterImpl;
 import org.infinispan.counter.logging.Log;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.annotations.Stop;
@@ -61,6 +64,8 @@ public class EmbeddedCounterManager implements CounterManager {
    private volatile boolean started = false;
 
    @Inject BlockingManager blockingManager;
+   @Inject @ComponentName(KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR)
+   ScheduledExecutorService timeoutExecutor;
 
    public EmbeddedCounterManager(EmbeddedCacheManager cacheManager) {
       this.cacheManager = cacheManager;
@@ -94,6 +99,12 @@ public void stop() {
          log.trace("Stopping EmbeddedCounterManager");
       }
       started = false;
+      //best effort to flush the weak counters' updates accumulated locally
+      for (Object counter : counters.values()) {
+         if (counter instanceof WeakCounterImpl) {
+            ((WeakCounterImpl) counter).stop();
+         }
+      }
       counterCache = null;
       configurationManager.stop();
       notificationManager.stop();
@@ -244,7 +255,7 @@ private StrongCounter createUnboundedStrongCounter(String counterName, CounterCo
 
    private WeakCounter createWeakCounter(String counterName, CounterConfiguration configuration) {
       WeakCounterImpl counter = new WeakCounterImpl(counterName, cache(configuration), configuration,
-            notificationManager);
+            notificationManager, timeoutExecutor);
       counter.init();
       return counter;
    }
@@ -7,9 +7,15 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
+import org.infinispan.commons.logging.LogFactory;
 import org.infinispan.commons.util.Util;
 import org.infinispan.counter.api.CounterConfiguration;
 import org.infinispan.counter.api.CounterEvent;
@@ -30,6 +36,7 @@
 import org.infinispan.counter.impl.listener.CounterEventImpl;
 import org.infinispan.counter.impl.listener.CounterManagerNotificationManager;
 import org.infinispan.counter.impl.listener.TopologyChangeListener;
+import org.infinispan.counter.logging.Log;
 import org.infinispan.distribution.LocalizedCacheTopology;
 import org.infinispan.functional.FunctionalMap;
 import org.infinispan.functional.impl.FunctionalMapImpl;
@@ -55,12 +62,19 @@
  * Weak Read: A snapshot of all the keys values is kept locally and they are updated via cluster listeners.
  * <p>
  * Reset: The reset operation is <b>not</b> atomic and intermediate results may be observed.
+ * <p>
+ * Local accumulation: If {@link CounterConfiguration#flushInterval()} is set, the updates are added to a local {@link
+ * LongAdder} and the accumulated delta is flushed periodically, or when its absolute value reaches {@link
+ * CounterConfiguration#flushThreshold()}, as a single write operation. The updates are not visible to other nodes until
+ * flushed, and they are lost if the node crashes before flushing them.
  *
  * @author Pedro Ruivo
  * @since 9.0
  */
 public class WeakCounterImpl implements WeakCounter, CounterEventGenerator, TopologyChangeListener {
 
+   private static final Log log = LogFactory.getLog(WeakCounterImpl.class, Log.class);
+
    @GuardedBy("entries")
    private final Entry[] entries;
    private final AdvancedCache<WeakCounterKey, CounterValue> cache;
@@ -70,9 +84,20 @@ public class WeakCounterImpl implements WeakCounter, CounterEventGenerator, Topo
    private final CounterConfiguration configuration;
    private final CounterConfiguration zeroConfiguration;
    private final KeySelector selector;
+   //null if the updates are not accumulated locally
+   private final LongAdder pendingDelta;
+   private final AtomicBoolean flushing = new AtomicBoolean();
+   private final ScheduledExecutorService flushExecutor;
+   private volatile ScheduledFuture<?> flushTask;
 
    public WeakCounterImpl(String counterName, AdvancedCache<WeakCounterKey, CounterValue> cache,
          CounterConfiguration configuration, CounterManagerNotificationManager notificationManager) {
+      this(counterName, cache, configuration, notificationManager, null);
+   }
+
+   public WeakCounterImpl(String counterName, AdvancedCache<WeakCounterKey, CounterValue> cache,
+         CounterConfiguration configuration, CounterManagerNotificationManager notificationManager,
+         ScheduledExecutorService flushExecutor) {
       this.cache = cache;
       this.notificationManager = notificationManager;
       FunctionalMapImpl<WeakCounterKey, CounterValue> functionalMap = FunctionalMapImpl.create(cache)
@@ -87,6 +112,8 @@ public WeakCounterImpl(String counterName, AdvancedCache<WeakCounterKey, Counter
       this.zeroConfiguration = CounterConfiguration.builder(CounterType.WEAK)
             .concurrencyLevel(configuration.concurrencyLevel()).storage(configuration.storage()).initialValue(0)
             .build();
+      this.flushExecutor = flushExecutor;
+      this.pendingDelta = configuration.flushInterval() > 0 && flushExecutor != null ? new LongAdder() : null;
    }
 
    private static <T> T get(int hash, T[] array) {
@@ -131,6 +158,10 @@ public void init() {
                .thenAccept(value -> initEntry(index, value)));
       }
       selector.updatePreferredKeys();
+      if (pendingDelta != null) {
+         long interval = configuration.flushInterval();
+         flushTask = flushExecutor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+      }
    }
 
    @Override
@@ -142,11 +173,53 @@ public String getName() {
    public long getValue() {
       //return the initial value if it doesn't have a valid snapshot!
       Long snapshot = getCachedValue();
-      return snapshot == null ? configuration.initialValue() : snapshot;
+      long value = snapshot == null ? configuration.initialValue() : snapshot;
+      //include the local updates not flushed yet
+      return pendingDelta == null ? value : saturatedAdd(value, pendingDelta.sum());
    }
 
    @Override
    public CompletableFuture<Void> add(long delta) {
+      if (pendingDelta != null) {
+         pendingDelta.add(delta);
+         long threshold = configuration.flushThreshold();
+         if (threshold > 0 && Math.abs(pendingDelta.sum()) >= threshold) {
+            flush();
+         }
+         return CompletableFutures.completedNull();
+      }
+      return addToCluster(delta);
+   }
+
+   /**
+    * Flushes the updates accumulated locally.
+    * <p>
+    * It is a no-op if the updates are not accumulated locally or if another flush is in progress.
+    *
+    * @return a {@link CompletableFuture} completed when the accumulated delta is applied.
+    */
+   public CompletableFuture<Void> flush() {
+      if (pendingDelta == null || !flushing.compareAndSet(false, true)) {
+         return CompletableFutures.completedNull();
+      }
+      //subtract what we read instead of resetting, so that concurrent updates aren't lost
+      long delta = pendingDelta.sum();
+      if (delta == 0) {
+         flushing.set(false);
+         return CompletableFutures.completedNull();
+      }
+      pendingDelta.add(-delta);
+      return addToCluster(delta).whenComplete((ignore, throwable) -> {
+         if (throwable != null) {
+            //try again in the next flush
+            pendingDelta.add(delta);
+            log.debugf(throwable, "Unable to flush delta %s of counter %s", delta, counterName());
+         }
+         flushing.set(false);
+      });
+   }
+
+   private CompletableFuture<Void> addToCluster(long delta) {
       WeakCounterKey key = findKey();
       return readWriteMap.eval(key, new AddFunction<>(delta))
             .thenCompose(counterValue -> handleAddResult(key, counterValue, delta));
@@ -154,6 +227,7 @@ public CompletableFuture<Void> add(long delta) {
 
    @Override
    public CompletableFuture<Void> reset() {
+      discardPendingDelta();
       final int size = entries.length;
       CompletableFuture[] futures = new CompletableFuture[size];
       for (int i = 0; i < size; ++i) {
@@ -193,6 +267,7 @@ public CounterEvent generate(CounterKey key, CounterValue value) {
 
    @Override
    public CompletableFuture<Void> remove() {
+      discardPendingDelta();
       final int size = entries.length;
       CompletableFuture[] futures = new CompletableFuture[size];
       for (int i = 0; i < size; ++i) {
@@ -207,10 +282,19 @@ public SyncWeakCounter sync() {
    }
 
    public void destroyAndRemove() {
+      cancelFlushTask();
       removeListener();
       awaitCounterOperation(remove());
    }
 
+   /**
+    * Stops flushing the updates periodically and flushes the updates accumulated locally, if any.
+    */
+   public CompletableFuture<Void> stop() {
+      cancelFlushTask();
+      return flush();
+   }
+
    @Override
    public void topologyChanged() {
       selector.updatePreferredKeys();
@@ -241,6 +325,29 @@ public String toString() {
             '}';
    }
 
+   private void cancelFlushTask() {
+      ScheduledFuture<?> task = flushTask;
+      if (task != null) {
+         task.cancel(false);
+         flushTask = null;
+      }
+   }
+
+   private void discardPendingDelta() {
+      if (pendingDelta != null) {
+         pendingDelta.reset();
+      }
+   }
+
+   private static long saturatedAdd(long value, long delta) {
+      long result = value + delta;
+      //overflow iff both arguments have the same sign and the result has a different one
+      if (((value ^ result) & (delta ^ result)) < 0) {
+         return value < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+      }
+      return result;
+   }
+
    private long defaultValueOfIndex(int index) {
       return index == 0 ? configuration.initialValue() : 0;
    }
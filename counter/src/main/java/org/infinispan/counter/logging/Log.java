@@ -110,4 +110,7 @@ public interface Log extends BasicLogger {
 
    @Message(value = "MBean registration failed", id = 29529)
    CounterException jmxRegistrationFailed(@Cause Throwable cause);
+
+   @Message(value = "Invalid %s. It must be zero or higher but it was %s", id = 29530)
+   CounterConfigurationException invalidNegativeAttribute(String attribute, long value);
 }
@@ -229,6 +229,21 @@ public void testInvalidWeakCounterConcurrencyLevel() {
       builder.build();
    }
 
+   public void testInvalidWeakCounterFlush() {
+      final GlobalConfigurationBuilder builder = defaultGlobalConfigurationBuilder(false);
+      CounterManagerConfigurationBuilder counterBuilder = builder.addModule(CounterManagerConfigurationBuilder.class);
+      counterBuilder.addWeakCounter().name("invalid").flushInterval(-1);
+      assertCounterConfigurationException(builder);
+
+      counterBuilder.clearCounters();
+      counterBuilder.addWeakCounter().name("invalid").flushInterval(100).flushThreshold(-1);
+      assertCounterConfigurationException(builder);
+
+      counterBuilder.clearCounters();
+      counterBuilder.addWeakCounter().name("valid").flushInterval(100).flushThreshold(1000);
+      builder.build();
+   }
+
    public void testInvalidStorage() {
       final GlobalConfigurationBuilder builder = defaultGlobalConfigurationBuilder(true);
       CounterManagerConfigurationBuilder counterBuilder = builder.addModule(CounterManagerConfigurationBuilder.class);
@@ -0,0 +1,97 @@
+package org.infinispan.counter;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutionException;
+
+import org.infinispan.counter.api.CounterConfiguration;
+import org.infinispan.counter.api.CounterManager;
+import org.infinispan.counter.api.CounterType;
+import org.infinispan.counter.api.WeakCounter;
+import org.infinispan.counter.impl.BaseCounterTest;
+import org.infinispan.counter.impl.weak.WeakCounterImpl;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link WeakCounter} with the updates accumulated locally.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "counter.WeakCounterLocalAccumulationTest")
+public class WeakCounterLocalAccumulationTest extends BaseCounterTest {
+
+   private static final int CLUSTER_SIZE = 3;
+
+   public void testUpdatesAreFlushedPeriodically(Method method) throws ExecutionException, InterruptedException {
+      String counterName = method.getName();
+      defineCounter(counterName, CounterConfiguration.builder(CounterType.WEAK).initialValue(5).flushInterval(100));
+
+      for (int i = 0; i < CLUSTER_SIZE; ++i) {
+         WeakCounter counter = counterManager(i).getWeakCounter(counterName);
+         for (int j = 0; j < 10; ++j) {
+            counter.add(1).get();
+         }
+      }
+
+      for (int i = 0; i < CLUSTER_SIZE; ++i) {
+         WeakCounter counter = counterManager(i).getWeakCounter(counterName);
+         eventuallyEquals(5L + 10 * CLUSTER_SIZE, counter::getValue);
+      }
+   }
+
+   public void testLocalUpdatesAreVisibleLocally(Method method) throws ExecutionException, InterruptedException {
+      String counterName = method.getName();
+      // an interval long enough to never flush during the test
+      defineCounter(counterName, CounterConfiguration.builder(CounterType.WEAK).flushInterval(3_600_000));
+
+      WeakCounter counter0 = counterManager(0).getWeakCounter(counterName);
+      WeakCounter counter1 = counterManager(1).getWeakCounter(counterName);
+      counter0.add(7).get();
+      assertEquals(7, counter0.getValue());
+      assertEquals(0, counter1.getValue());
+
+      ((WeakCounterImpl) counter0).flush().get();
+      eventuallyEquals(7L, counter1::getValue);
+      assertEquals(7, counter0.getValue());
+   }
+
+   public void testThresholdTriggersFlush(Method method) throws ExecutionException, InterruptedException {
+      String counterName = method.getName();
+      defineCounter(counterName,
+            CounterConfiguration.builder(CounterType.WEAK).flushInterval(3_600_000).flushThreshold(10));
+
+      WeakCounter counter0 = counterManager(0).getWeakCounter(counterName);
+      WeakCounter counter1 = counterManager(1).getWeakCounter(counterName);
+      for (int i = 0; i < 9; ++i) {
+         counter0.add(-1).get();
+      }
+      assertEquals(0, counter1.getValue());
+      counter0.add(-1).get();
+      eventuallyEquals(-10L, counter1::getValue);
+   }
+
+   public void testResetDiscardsPendingUpdates(Method method) throws ExecutionException, InterruptedException {
+      String counterName = method.getName();
+      defineCounter(counterName, CounterConfiguration.builder(CounterType.WEAK).initialValue(3).flushInterval(3_600_000));
+
+      WeakCounter counter = counterManager(0).getWeakCounter(counterName);
+      counter.add(10).get();
+      assertEquals(13, counter.getValue());
+      counter.reset().get();
+      eventuallyEquals(3L, counter::getValue);
+   }
+
+   @Override
+   protected int clusterSize() {
+      return CLUSTER_SIZE;
+   }
+
+   private void defineCounter(String name, CounterConfiguration.Builder builder) {
+      CounterConfiguration configuration = builder.build();
+      for (int i = 0; i < CLUSTER_SIZE; ++i) {
+         CounterManager counterManager = counterManager(i);
+         counterManager.defineCounter(name, configuration);
+      }
+   }
+}
@@ -17,7 +17,7 @@
 import org.infinispan.extendedstats.container.StatisticsSnapshot;
 import org.infinispan.extendedstats.logging.Log;
 import org.infinispan.extendedstats.percentiles.PercentileStatistic;
-import org.infinispan.extendedstats.percentiles.ReservoirSampler;
+import org.infinispan.extendedstats.percentiles.LogLinearHistogram;
 import org.infinispan.util.logging.LogFactory;
 
 
@@ -35,7 +35,7 @@ public class CacheStatisticCollector {
    private static final boolean trace = log.isTraceEnabled();
    private final TimeService timeService;
    private final ConcurrentGlobalContainer globalContainer;
-   private volatile EnumMap<PercentileStatistic, ReservoirSampler> percentiles;
+   private volatile EnumMap<PercentileStatistic, LogLinearHistogram> percentiles;
 
    public CacheStatisticCollector(TimeService timeService) {
       this.timeService = timeService;
@@ -53,7 +53,7 @@ public final void reset() {
       globalContainer.reset();
       percentiles = new EnumMap<>(PercentileStatistic.class);
       for (PercentileStatistic percentileStatistic : PercentileStatistic.values()) {
-         percentiles.put(percentileStatistic, new ReservoirSampler());
+         percentiles.put(percentileStatistic, new LogLinearHistogram());
       }
    }
 
@@ -64,30 +64,30 @@ public final void merge(TransactionStatistics transactionStatistics) {
       if (trace) {
          log.tracef("Merge transaction statistics %s to the node statistics", transactionStatistics);
       }
-      ReservoirSampler reservoirSampler;
+      LogLinearHistogram histogram;
       ExtendedStatistic percentileSample;
       if (transactionStatistics.isLocalTransaction()) {
          if (transactionStatistics.isReadOnly()) {
-            reservoirSampler = percentiles.get(RO_LOCAL_EXECUTION);
+            histogram = percentiles.get(RO_LOCAL_EXECUTION);
             percentileSample = transactionStatistics.isCommitted() ? ExtendedStatistic.RO_TX_SUCCESSFUL_EXECUTION_TIME :
                   ExtendedStatistic.RO_TX_ABORTED_EXECUTION_TIME;
          } else {
-            reservoirSampler = percentiles.get(WR_LOCAL_EXECUTION);
+            histogram = percentiles.get(WR_LOCAL_EXECUTION);
             percentileSample = transactionStatistics.isCommitted() ? ExtendedStatistic.WR_TX_SUCCESSFUL_EXECUTION_TIME :
                   ExtendedStatistic.WR_TX_ABORTED_EXECUTION_TIME;
          }
       } else {
          if (transactionStatistics.isReadOnly()) {
-            reservoirSampler = percentiles.get(RO_REMOTE_EXECUTION);
+            histogram = percentiles.get(RO_REMOTE_EXECUTION);
             percentileSample = transactionStatistics.isCommitted() ? ExtendedStatistic.RO_TX_SUCCESSFUL_EXECUTION_TIME :
                   ExtendedStatistic.RO_TX_ABORTED_EXECUTION_TIME;
          } else {
-            reservoirSampler = percentiles.get(WR_REMOTE_EXECUTION);
+            histogram = percentiles.get(WR_REMOTE_EXECUTION);
             percentileSample = transactionStatistics.isCommitted() ? ExtendedStatistic.WR_TX_SUCCESSFUL_EXECUTION_TIME :
                   ExtendedStatistic.WR_TX_ABORTED_EXECUTION_TIME;
          }
       }
-      doMerge(transactionStatistics, reservoirSampler, percentileSample);
+      doMerge(transactionStatistics, histogram, percentileSample);
    }
 
    /**
@@ -110,10 +110,19 @@ public final void addRemoteValue(ExtendedStatistic stat, double value) {
     */
    public final double getPercentile(PercentileStatistic stat, int percentile)
          throws IllegalArgumentException {
+      return getPercentile(stat, (double) percentile);
+   }
+
+   /**
+    * @return the percentile of the statistic.
+    * @throws IllegalArgumentException if the percentile request is not in the correct bounds ([0,100])
+    */
+   public final double getPercentile(PercentileStatistic stat, double percentile)
+         throws IllegalArgumentException {
       if (trace) {
          log.tracef("Get percentile %s from %s", percentile, stat);
       }
-      return percentiles.get(stat).getKPercentile(percentile);
+      return percentiles.get(stat).getPercentile(percentile);
    }
 
    /**
@@ -397,10 +406,10 @@ public static double convertNanosToSeconds(double nanos) {
    }
 
    private void doMerge(TransactionStatistics transactionStatistics,
-                        ReservoirSampler reservoirSampler, ExtendedStatistic percentileSample) {
+                        LogLinearHistogram histogram, ExtendedStatistic percentileSample) {
       transactionStatistics.flushTo(globalContainer);
       try {
-         reservoirSampler.insertSample(transactionStatistics.getValue(percentileSample));
+         histogram.insertSample(transactionStatistics.getValue(percentileSample));
       } catch (ExtendedStatisticNotFoundException e) {
          log.extendedStatisticNotFoundForPercentile(percentileSample, e);
       }
@@ -148,6 +148,14 @@ public final double getPercentile(PercentileStatistic stat, int percentile) thro
       return cacheStatisticCollector.getPercentile(stat, percentile);
    }
 
+   /**
+    * @return the percentile of the statistic.
+    * @throws IllegalArgumentException if the percentile request is not in the correct bounds ([0,100])
+    */
+   public final double getPercentile(PercentileStatistic stat, double percentile) throws IllegalArgumentException {
+      return cacheStatisticCollector.getPercentile(stat, percentile);
+   }
+
    /**
     * Marks the transaction as a write transaction (instead of a read only transaction)
     *
@@ -0,0 +1,177 @@
+package org.infinispan.extendedstats.percentiles;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free histogram with log-linear buckets, used to compute percentiles of non-negative values.
+ * <p/>
+ * Values are recorded in buckets whose width doubles for every power of two, and each power of two is split in {@code
+ * 2^(precision - 1)} linear sub-buckets. Any recorded value is thus known with a relative error lower than {@code
+ * 2^-precision}, whatever its magnitude, while the number of buckets only depends on the precision.
+ * <p/>
+ * Recording a value is a single atomic increment. To avoid contention between threads, the counts are split in stripes
+ * selected by thread and the stripes are merged when a percentile is requested. Histograms with the same precision can
+ * also be merged together with {@link #merge(LogLinearHistogram)}.
+ *
+ * @since 12.0
+ */
+public class LogLinearHistogram {
+
+   private static final int DEFAULT_PRECISION = 7;
+   private static final int MAX_STRIPES = 8;
+
+   private final int precision;
+   private final int halfSubBuckets;
+   private final int length;
+   private final AtomicReferenceArray<AtomicLongArray> stripes;
+
+   public LogLinearHistogram() {
+      this(DEFAULT_PRECISION);
+   }
+
+   /**
+    * @param precision the number of significant bits kept for each value. Must be between 1 and 16.
+    */
+   public LogLinearHistogram(int precision) {
+      if (precision < 1 || precision > 16) {
+         throw new IllegalArgumentException(precision + " should be between 1 and 16");
+      }
+      this.precision = precision;
+      this.halfSubBuckets = 1 << (precision - 1);
+      // values lower than 2^precision have their own bucket, then each power of two up to 2^62 has halfSubBuckets
+      // buckets
+      this.length = (65 - precision) * halfSubBuckets;
+      int processors = Runtime.getRuntime().availableProcessors();
+      this.stripes = new AtomicReferenceArray<>(Math.min(Integer.highestOneBit(processors * 2 - 1), MAX_STRIPES));
+   }
+
+   /**
+    * Records a value. Negative values are recorded as zero.
+    */
+   public final void record(long value) {
+      stripe().incrementAndGet(bucketIndex(Math.max(value, 0)));
+   }
+
+   /**
+    * Records a sample, rounded to the nearest integer.
+    */
+   public final void insertSample(double sample) {
+      record(Math.round(sample));
+   }
+
+   /**
+    * @param percentile the percentage of observations, between 0 and 100 inclusively.
+    * @return the value below which the given percentage of the recorded values falls, or 0 if no value was recorded.
+    * @throws IllegalArgumentException if percentile is not between 0 and 100.
+    */
+   public final double getPercentile(double percentile) throws IllegalArgumentException {
+      if (percentile < 0 || percentile > 100) {
+         throw new IllegalArgumentException(percentile + " should be between 0 and 100");
+      }
+      long[] counts = counts();
+      long total = 0;
+      for (long count : counts) {
+         total += count;
+      }
+      if (total == 0) {
+         return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+      long seen = 0;
+      for (int i = 0; i < counts.length; ++i) {
+         seen += counts[i];
+         if (seen >= rank) {
+            return representativeValue(i);
+         }
+      }
+      return representativeValue(counts.length - 1);
+   }
+
+   /**
+    * @return the number of values recorded.
+    */
+   public final long getCount() {
+      long total = 0;
+      for (long count : counts()) {
+         total += count;
+      }
+      return total;
+   }
+
+   /**
+    * Adds the values recorded by another histogram to this histogram.
+    *
+    * @throws IllegalArgumentException if the histograms don't have the same precision.
+    */
+   public final void merge(LogLinearHistogram other) throws IllegalArgumentException {
+      if (other.precision != precision) {
+         throw new IllegalArgumentException("Cannot merge histograms with different precisions");
+      }
+      long[] counts = other.counts();
+      AtomicLongArray stripe = stripe();
+      for (int i = 0; i < counts.length; ++i) {
+         if (counts[i] != 0) {
+            stripe.addAndGet(i, counts[i]);
+         }
+      }
+   }
+
+   /**
+    * Discards all the recorded values. Values recorded concurrently may be discarded too.
+    */
+   public final void reset() {
+      for (int i = 0; i < stripes.length(); ++i) {
+         stripes.set(i, null);
+      }
+   }
+
+   final int bucketIndex(long value) {
+      int msb = 63 - Long.numberOfLeadingZeros(value);
+      if (msb < precision) {
+         return (int) value;
+      }
+      int shift = msb - precision + 1;
+      return shift * halfSubBuckets + (int) (value >>> shift);
+   }
+
+   final long lowestValue(int index) {
+      if (index < 2 * halfSubBuckets) {
+         return index;
+      }
+      int shift = index / halfSubBuckets - 1;
+      return (long) (index - shift * halfSubBuckets) << shift;
+   }
+
+   final long bucketWidth(int index) {
+      return index < 2 * halfSubBuckets ? 1 : 1L << (index / halfSubBuckets - 1);
+   }
+
+   private double representativeValue(int index) {
+      // the middle of the bucket halves the maximum error
+      return lowestValue(index) + (bucketWidth(index) - 1) / 2.0;
+   }
+
+   private long[] counts() {
+      long[] counts = new long[length];
+      for (int s = 0; s < stripes.length(); ++s) {
+         AtomicLongArray stripe = stripes.get(s);
+         if (stripe == null) {
+            continue;
+         }
+         for (int i = 0; i < length; ++i) {
+            counts[i] += stripe.get(i);
+         }
+      }
+      return counts;
+   }
+
+   private AtomicLongArray stripe() {
+      int index = (int) Thread.currentThread().getId() & (stripes.length() - 1);
+      AtomicLongArray stripe;
+      while ((stripe = stripes.get(index)) == null) {
+         stripes.compareAndSet(index, null, new AtomicLongArray(length));
+      }
+      return stripe;
+   }
+}
@@ -13,7 +13,9 @@
  * @author Diego Didona
  * @author Pedro Ruivo
  * @since 6.0
+ * @deprecated since 12.0. The extended statistics use {@link LogLinearHistogram} to compute the percentiles.
  */
+@Deprecated
 public class ReservoirSampler {
 
    private static final int DEFAULT_NUM_SPOTS = 100;
@@ -34,6 +34,7 @@
 import org.infinispan.extendedstats.ExtendedStatisticNotFoundException;
 import org.infinispan.extendedstats.container.ExtendedStatistic;
 import org.infinispan.extendedstats.logging.Log;
+import org.infinispan.extendedstats.percentiles.PercentileStatistic;
 import org.infinispan.factories.KnownComponentNames;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.impl.BasicComponentRegistry;
@@ -592,6 +593,38 @@ public double getPercentileRemoteWriteTransaction(@Parameter(name = "percentile"
       return cacheStatisticManager.getPercentile(WR_REMOTE_EXECUTION, percentile);
    }
 
+   @ManagedOperation(description = "Percentile of the transactions execution time, with a fractional percentage (e.g. 99.9)",
+                     displayName = "Percentile Transactions Execution Time")
+   public double getPercentileTransactionExecutionTime(
+         @Parameter(name = "statistic", description = "One of RO_LOCAL_EXECUTION, WR_LOCAL_EXECUTION, RO_REMOTE_EXECUTION or WR_REMOTE_EXECUTION") String statistic,
+         @Parameter(name = "percentile") double percentile) {
+      return cacheStatisticManager.getPercentile(PercentileStatistic.valueOf(statistic), percentile);
+   }
+
+   @ManagedAttribute(description = "99th percentile of local write transactions execution time",
+                     displayName = "99th Percentile Local Write Transactions")
+   public double getLocalWriteTransaction99thPercentile() {
+      return cacheStatisticManager.getPercentile(WR_LOCAL_EXECUTION, 99.0);
+   }
+
+   @ManagedAttribute(description = "99.9th percentile of local write transactions execution time",
+                     displayName = "99.9th Percentile Local Write Transactions")
+   public double getLocalWriteTransaction999thPercentile() {
+      return cacheStatisticManager.getPercentile(WR_LOCAL_EXECUTION, 99.9);
+   }
+
+   @ManagedAttribute(description = "99th percentile of local read-only transactions execution time",
+                     displayName = "99th Percentile Local Read-Only Transactions")
+   public double getLocalReadOnlyTransaction99thPercentile() {
+      return cacheStatisticManager.getPercentile(RO_LOCAL_EXECUTION, 99.0);
+   }
+
+   @ManagedAttribute(description = "99.9th percentile of local read-only transactions execution time",
+                     displayName = "99.9th Percentile Local Read-Only Transactions")
+   public double getLocalReadOnlyTransaction999thPercentile() {
+      return cacheStatisticManager.getPercentile(RO_LOCAL_EXECUTION, 99.9);
+   }
+
    @ManagedOperation(description = "Reset all the statistics collected",
                      displayName = "Reset All Statistics")
    public void resetStatistics() {
@@ -0,0 +1,92 @@
+package org.infinispan.extendedstats.percentiles;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.testng.annotations.Test;
+
+/**
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "extendedstats.percentiles.LogLinearHistogramTest")
+public class LogLinearHistogramTest {
+
+   public void testBucketsAreContiguous() {
+      LogLinearHistogram histogram = new LogLinearHistogram(4);
+      long expectedLowest = 0;
+      for (int index = 0; index < 20 * 8; ++index) {
+         assertEquals(histogram.lowestValue(index), expectedLowest);
+         assertEquals(histogram.bucketIndex(expectedLowest), index);
+         long width = histogram.bucketWidth(index);
+         assertEquals(histogram.bucketIndex(expectedLowest + width - 1), index);
+         expectedLowest += width;
+      }
+      // the largest value has a bucket too
+      histogram.record(Long.MAX_VALUE);
+      assertEquals(histogram.getCount(), 1);
+   }
+
+   public void testEmptyHistogram() {
+      assertEquals(new LogLinearHistogram().getPercentile(99), 0.0);
+   }
+
+   public void testPercentilesWithinPrecision() {
+      LogLinearHistogram histogram = new LogLinearHistogram();
+      for (int i = 1; i <= 100_000; ++i) {
+         histogram.record(i * 1000L);
+      }
+      assertEquals(histogram.getCount(), 100_000);
+      assertWithinPrecision(histogram.getPercentile(50), 50_000_000);
+      assertWithinPrecision(histogram.getPercentile(99), 99_000_000);
+      assertWithinPrecision(histogram.getPercentile(99.9), 99_900_000);
+      assertWithinPrecision(histogram.getPercentile(100), 100_000_000);
+   }
+
+   public void testTailIsNotSampledAway() {
+      LogLinearHistogram histogram = new LogLinearHistogram();
+      for (int i = 0; i < 10_000; ++i) {
+         histogram.record(ThreadLocalRandom.current().nextLong(1_000, 2_000));
+      }
+      // only 0.1% of the values are slow, a reservoir of 100 samples would most likely miss them
+      for (int i = 0; i < 10; ++i) {
+         histogram.record(1_000_000);
+      }
+      assertTrue(histogram.getPercentile(99) < 2_000);
+      assertWithinPrecision(histogram.getPercentile(99.95), 1_000_000);
+   }
+
+   public void testConcurrentRecordingAndMerge() throws InterruptedException {
+      LogLinearHistogram histogram = new LogLinearHistogram();
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 4; ++t) {
+         Thread thread = new Thread(() -> {
+            for (int i = 0; i < 10_000; ++i) {
+               histogram.record(i);
+            }
+         });
+         threads.add(thread);
+         thread.start();
+      }
+      for (Thread thread : threads) {
+         thread.join();
+      }
+      assertEquals(histogram.getCount(), 40_000);
+
+      LogLinearHistogram other = new LogLinearHistogram();
+      other.record(5);
+      other.merge(histogram);
+      assertEquals(other.getCount(), 40_001);
+
+      histogram.reset();
+      assertEquals(histogram.getCount(), 0);
+   }
+
+   private static void assertWithinPrecision(double actual, double expected) {
+      // default precision is 7 bits
+      assertTrue(Math.abs(actual - expected) <= expected / 128, "Expected " + expected + " but was " + actual);
+   }
+}
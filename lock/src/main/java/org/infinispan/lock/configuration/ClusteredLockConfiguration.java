@@ -23,6 +23,10 @@ public class ClusteredLockConfiguration {
          })
          .immutable()
          .build();
+   static final AttributeDefinition<Boolean> FAIR = AttributeDefinition.builder("fair", false)
+         .xmlName("fair")
+         .immutable()
+         .build();
 
    final AttributeSet attributes;
 
@@ -31,7 +35,7 @@ public class ClusteredLockConfiguration {
    }
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(ClusteredLockConfiguration.class, NAME);
+      return new AttributeSet(ClusteredLockConfiguration.class, NAME, FAIR);
    }
 
    final AttributeSet attributes() {
@@ -41,4 +45,8 @@ final AttributeSet attributes() {
    public String name() {
       return attributes.attribute(NAME).get();
    }
+
+   public boolean fair() {
+      return attributes.attribute(FAIR).get();
+   }
 }
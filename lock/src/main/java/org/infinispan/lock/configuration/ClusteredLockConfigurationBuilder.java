@@ -34,4 +34,12 @@ public ClusteredLockConfigurationBuilder name(String name) {
       attributes.attribute(ClusteredLockConfiguration.NAME).set(name);
       return this;
    }
+
+   /**
+    * Sets whether the lock is handed to the waiting requests in the order they were made.
+    */
+   public ClusteredLockConfigurationBuilder fair(boolean fair) {
+      attributes.attribute(ClusteredLockConfiguration.FAIR).set(fair);
+      return this;
+   }
 }
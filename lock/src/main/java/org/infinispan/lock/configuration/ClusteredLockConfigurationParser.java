@@ -97,6 +97,9 @@ private void parseClusteredLock(XMLStreamReader reader,
             case NAME:
                builder.name(value);
                break;
+            case FAIR:
+               builder.fair(Boolean.parseBoolean(value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
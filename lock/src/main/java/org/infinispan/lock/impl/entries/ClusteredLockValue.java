@@ -3,7 +3,9 @@
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -13,34 +15,143 @@
 
 /**
  * Lock object inside the cache. Holds the lock owner, the lock request id and the status of the lock.
+ * <p>
+ * A fair lock also holds the queue of the requests waiting for it, so that on release it can be handed directly to the
+ * next one.
  *
  * @author Katia Aresti, karesti@redhat.com
  * @since 9.2
  */
 public class ClusteredLockValue {
 
+   /**
+    * Number of consecutive times a fair lock can be handed to a waiter of the releasing node ahead of older waiters of
+    * other nodes.
+    */
+   static final int MAX_LOCAL_HANDOFFS = 4;
+
    public static final ClusteredLockValue INITIAL_STATE = new ClusteredLockValue();
+   public static final ClusteredLockValue INITIAL_FAIR_STATE = new ClusteredLockValue(null, null, ClusteredLockState.RELEASED, true, Collections.emptyList(), 0);
    public static final AdvancedExternalizer<ClusteredLockValue> EXTERNALIZER = new Externalizer();
    private final String requestId;
    private final Object owner;
    private final ClusteredLockState state;
+   private final boolean fair;
+   private final List<Waiter> waiters;
+   private final int localHandoffs;
 
    public ClusteredLockValue(String requestId, Object owner, ClusteredLockState state) {
+      this(requestId, owner, state, false, Collections.emptyList(), 0);
+   }
+
+   private ClusteredLockValue(String requestId, Object owner, ClusteredLockState state, boolean fair, List<Waiter> waiters,
+                              int localHandoffs) {
       this.requestId = requestId;
       this.owner = owner;
       this.state = state;
+      this.fair = fair;
+      this.waiters = waiters;
+      this.localHandoffs = localHandoffs;
    }
 
    private ClusteredLockValue() {
       this.requestId = null;
       this.owner = null;
       this.state = ClusteredLockState.RELEASED;
+      this.fair = false;
+      this.waiters = Collections.emptyList();
+      this.localHandoffs = 0;
    }
 
    public ClusteredLockState getState() {
       return state;
    }
 
+   /**
+    * @return true if the lock is handed to the waiting requests in order
+    */
+   public boolean isFair() {
+      return fair;
+   }
+
+   /**
+    * @return the requests waiting for a fair lock, in order
+    */
+   public List<Waiter> getWaiters() {
+      return waiters;
+   }
+
+   /**
+    * @return the value of a released lock, keeping the fairness
+    */
+   public ClusteredLockValue released() {
+      return fair ? INITIAL_FAIR_STATE : INITIAL_STATE;
+   }
+
+   /**
+    * @return the value of the lock acquired by the given request, keeping the waiters
+    */
+   public ClusteredLockValue acquire(String requestId, Object requestor) {
+      return new ClusteredLockValue(requestId, requestor, ClusteredLockState.ACQUIRED, fair, waiters, 0);
+   }
+
+   /**
+    * @return the value with the given request added at the end of the waiters, if not already waiting
+    */
+   public ClusteredLockValue addWaiter(String requestId, Object requestor) {
+      Waiter waiter = new Waiter(requestId, requestor);
+      if (waiters.contains(waiter)) {
+         return this;
+      }
+      List<Waiter> newWaiters = new ArrayList<>(waiters.size() + 1);
+      newWaiters.addAll(waiters);
+      newWaiters.add(waiter);
+      return new ClusteredLockValue(this.requestId, owner, state, fair, Collections.unmodifiableList(newWaiters), localHandoffs);
+   }
+
+   /**
+    * @return the value without the waiters of the given requestors
+    */
+   public ClusteredLockValue removeWaiters(Set<Object> requestors) {
+      List<Waiter> newWaiters = new ArrayList<>(waiters.size());
+      for (Waiter waiter : waiters) {
+         if (!requestors.contains(waiter.requestor)) {
+            newWaiters.add(waiter);
+         }
+      }
+      if (newWaiters.size() == waiters.size()) {
+         return this;
+      }
+      return new ClusteredLockValue(requestId, owner, state, fair, Collections.unmodifiableList(newWaiters), localHandoffs);
+   }
+
+   /**
+    * Releases the lock, handing it to the next waiter if there is one. A waiter of the releasing node is preferred,
+    * unless the lock was already handed within the node {@link #MAX_LOCAL_HANDOFFS} times in a row.
+    *
+    * @return the value of the released lock
+    */
+   public ClusteredLockValue release() {
+      if (waiters.isEmpty()) {
+         return released();
+      }
+      int next = 0;
+      if (localHandoffs < MAX_LOCAL_HANDOFFS) {
+         for (int i = 0; i < waiters.size(); ++i) {
+            if (waiters.get(i).requestor.equals(owner)) {
+               next = i;
+               break;
+            }
+         }
+      }
+      Waiter waiter = waiters.get(next);
+      List<Waiter> newWaiters = new ArrayList<>(waiters);
+      newWaiters.remove(next);
+      int newLocalHandoffs = waiter.requestor.equals(owner) ? localHandoffs + 1 : 0;
+      return new ClusteredLockValue(waiter.requestId, waiter.requestor, ClusteredLockState.ACQUIRED, fair,
+            Collections.unmodifiableList(newWaiters), newLocalHandoffs);
+   }
+
    @Override
    public boolean equals(Object o) {
       if (this == o) {
@@ -50,12 +161,13 @@ public boolean equals(Object o) {
          return false;
       }
       ClusteredLockValue that = (ClusteredLockValue) o;
-      return Objects.equals(requestId, that.requestId) && Objects.equals(owner, that.owner) && Objects.equals(state, that.state);
+      return fair == that.fair && localHandoffs == that.localHandoffs && Objects.equals(requestId, that.requestId) &&
+            Objects.equals(owner, that.owner) && Objects.equals(state, that.state) && Objects.equals(waiters, that.waiters);
    }
 
    @Override
    public int hashCode() {
-      return Objects.hash(requestId, owner, state);
+      return Objects.hash(requestId, owner, state, fair, waiters, localHandoffs);
    }
 
    @Override
@@ -64,6 +176,8 @@ public String toString() {
             " requestId=" + requestId +
             " owner=" + owner +
             " state=" + state +
+            " fair=" + fair +
+            " waiters=" + waiters +
             '}';
    }
 
@@ -75,6 +189,49 @@ public Object getOwner() {
       return owner;
    }
 
+   /**
+    * A request waiting for a fair lock.
+    */
+   public static final class Waiter {
+      private final String requestId;
+      private final Object requestor;
+
+      Waiter(String requestId, Object requestor) {
+         this.requestId = requestId;
+         this.requestor = requestor;
+      }
+
+      public String getRequestId() {
+         return requestId;
+      }
+
+      public Object getRequestor() {
+         return requestor;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) {
+            return true;
+         }
+         if (o == null || getClass() != o.getClass()) {
+            return false;
+         }
+         Waiter that = (Waiter) o;
+         return requestId.equals(that.requestId) && requestor.equals(that.requestor);
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(requestId, requestor);
+      }
+
+      @Override
+      public String toString() {
+         return "Waiter{requestId=" + requestId + ", requestor=" + requestor + '}';
+      }
+   }
+
    private static class Externalizer implements AdvancedExternalizer<ClusteredLockValue> {
 
       @Override
@@ -92,6 +249,15 @@ public void writeObject(ObjectOutput output, ClusteredLockValue object) throws I
          MarshallUtil.marshallString(object.requestId, output);
          output.writeObject(object.owner);
          MarshallUtil.marshallEnum(object.state, output);
+         output.writeBoolean(object.fair);
+         if (object.fair) {
+            output.writeInt(object.localHandoffs);
+            MarshallUtil.marshallSize(output, object.waiters.size());
+            for (Waiter waiter : object.waiters) {
+               MarshallUtil.marshallString(waiter.requestId, output);
+               output.writeObject(waiter.requestor);
+            }
+         }
       }
 
       @Override
@@ -99,7 +265,16 @@ public ClusteredLockValue readObject(ObjectInput input) throws IOException, Clas
          String requestId = MarshallUtil.unmarshallString(input);
          Object owner = input.readObject();
          ClusteredLockState state = MarshallUtil.unmarshallEnum(input, ClusteredLockState::valueOf);
-         return new ClusteredLockValue(requestId, owner, state);
+         if (!input.readBoolean()) {
+            return new ClusteredLockValue(requestId, owner, state);
+         }
+         int localHandoffs = input.readInt();
+         int size = MarshallUtil.unmarshallSize(input);
+         List<Waiter> waiters = new ArrayList<>(size);
+         for (int i = 0; i < size; ++i) {
+            waiters.add(new Waiter(MarshallUtil.unmarshallString(input), input.readObject()));
+         }
+         return new ClusteredLockValue(requestId, owner, state, true, Collections.unmodifiableList(waiters), localHandoffs);
       }
    }
 }
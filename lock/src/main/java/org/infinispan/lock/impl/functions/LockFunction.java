@@ -20,6 +20,9 @@
 /**
  * Lock function that allows to acquire the lock by a requestor, if such action is possible. It returns {@link
  * Boolean#TRUE} when the lock is acquired and {@link Boolean#FALSE} when it is not.
+ * <p>
+ * When a fair lock is not available, a request that waits for it is added to the lock waiters instead, and the lock
+ * will be handed to it on release by {@link UnlockFunction}.
  *
  * @author Katia Aresti, karesti@redhat.com
  * @since 9.2
@@ -32,10 +35,19 @@ public class LockFunction implements Function<EntryView.ReadWriteEntryView<Clust
    public static final AdvancedExternalizer<LockFunction> EXTERNALIZER = new Externalizer();
    private final String requestId;
    private final Object requestor;
+   private final boolean waiting;
 
    public LockFunction(String requestId, Object requestor) {
+      this(requestId, requestor, true);
+   }
+
+   /**
+    * @param waiting whether the request waits for the lock to be released, which queues it in a fair lock
+    */
+   public LockFunction(String requestId, Object requestor, boolean waiting) {
       this.requestId = requestId;
       this.requestor = requestor;
+      this.waiting = waiting;
    }
 
    @Override
@@ -45,7 +57,7 @@ public Boolean apply(EntryView.ReadWriteEntryView<ClusteredLockKey, ClusteredLoc
          log.tracef("LOCK[%s] lock request by reqId %s requestor %s", entryView.key().getName(), requestId, requestor);
       }
       if (lock.getState() == ClusteredLockState.RELEASED) {
-         entryView.set(new ClusteredLockValue(requestId, requestor, ClusteredLockState.ACQUIRED));
+         entryView.set(lock.acquire(requestId, requestor));
          if (trace) {
             log.tracef("LOCK[%s] lock acquired by %s %s", entryView.key().getName(), requestId, requestor);
          }
@@ -57,6 +69,12 @@ public Boolean apply(EntryView.ReadWriteEntryView<ClusteredLockKey, ClusteredLoc
       if (trace) {
          log.tracef("LOCK[%s] lock not available, owned by %s %s", entryView.key().getName(), lock.getRequestId(), lock.getOwner());
       }
+      if (lock.isFair() && waiting) {
+         ClusteredLockValue queued = lock.addWaiter(requestId, requestor);
+         if (queued != lock) {
+            entryView.set(queued);
+         }
+      }
       return Boolean.FALSE;
    }
 
@@ -76,11 +94,12 @@ public Integer getId() {
       public void writeObject(ObjectOutput output, LockFunction object) throws IOException {
          MarshallUtil.marshallString(object.requestId, output);
          output.writeObject(object.requestor);
+         output.writeBoolean(object.waiting);
       }
 
       @Override
       public LockFunction readObject(ObjectInput input) throws IOException, ClassNotFoundException {
-         return new LockFunction(MarshallUtil.unmarshallString(input), input.readObject());
+         return new LockFunction(MarshallUtil.unmarshallString(input), input.readObject(), input.readBoolean());
       }
    }
 }
@@ -26,6 +26,9 @@
  *    <li>If the requestId is null, this value does not affect the unlock </li>
  *    <li>If the requestId is not null, the lock will be released only if the requestId and the owner match</li>
  *    <li>If lock is already released, nothing happens</li>
+ *    <li>If the lock is fair and has waiters, it is handed to the next one instead of being released</li>
+ *    <li>If waiters have to be removed, the waiters of the requestors are removed from a fair lock, whether the lock
+ *    is released or not</li>
  * </ul>
  * <p>
  *
@@ -41,15 +44,20 @@ public class UnlockFunction implements Function<EntryView.ReadWriteEntryView<Clu
 
    private final String requestId;
    private final Set<Object> requestors;
+   private final boolean removeWaiters;
 
    public UnlockFunction(Object requestor) {
-      this.requestId = null;
-      this.requestors = Collections.singleton(requestor);
+      this(null, Collections.singleton(requestor), false);
    }
 
    public UnlockFunction(String requestId, Set<Object> requestors) {
+      this(requestId, requestors, false);
+   }
+
+   public UnlockFunction(String requestId, Set<Object> requestors, boolean removeWaiters) {
       this.requestId = requestId;
       this.requestors = requestors;
+      this.removeWaiters = removeWaiters;
    }
 
    @Override
@@ -58,10 +66,14 @@ public Boolean apply(EntryView.ReadWriteEntryView<ClusteredLockKey, ClusteredLoc
          log.tracef("Lock[%s] unlock request by reqId [%s] requestors %s", entryView.key().getName(), requestId, requestors);
       }
 
-      ClusteredLockValue lockValue = entryView.find().orElseThrow(() -> log.lockDeleted());
+      ClusteredLockValue storedValue = entryView.find().orElseThrow(() -> log.lockDeleted());
+      ClusteredLockValue lockValue = removeWaiters ? storedValue.removeWaiters(requestors) : storedValue;
 
       // If the lock is already released return true
       if (lockValue.getState() == ClusteredLockState.RELEASED) {
+         if (lockValue != storedValue) {
+            entryView.set(lockValue);
+         }
          if (trace) {
             log.tracef("Lock[%s] Already free. State[RELEASED], reqId [%s], owner [%s]", entryView.key().getName(), lockValue.getRequestId(), lockValue.getOwner());
          }
@@ -77,7 +89,8 @@ public Boolean apply(EntryView.ReadWriteEntryView<ClusteredLockKey, ClusteredLoc
             log.tracef("Lock[%s] Unlocked by reqId [%s] requestors %s", entryView.key().getName(), requestId, requestors);
          }
 
-         entryView.set(ClusteredLockValue.INITIAL_STATE);
+         // A fair lock is handed to the next waiter, if any
+         entryView.set(lockValue.release());
          return Boolean.TRUE;
       }
 
@@ -91,6 +104,9 @@ public Boolean apply(EntryView.ReadWriteEntryView<ClusteredLockKey, ClusteredLoc
                lockValue.getOwner());
       }
 
+      if (lockValue != storedValue) {
+         entryView.set(lockValue);
+      }
       return Boolean.FALSE;
    }
 
@@ -110,11 +126,12 @@ public Integer getId() {
       public void writeObject(ObjectOutput output, UnlockFunction object) throws IOException {
          MarshallUtil.marshallString(object.requestId, output);
          output.writeObject(object.requestors);
+         output.writeBoolean(object.removeWaiters);
       }
 
       @Override
       public UnlockFunction readObject(ObjectInput input) throws IOException, ClassNotFoundException {
-         return new UnlockFunction(MarshallUtil.unmarshallString(input), (Set<Object>) input.readObject());
+         return new UnlockFunction(MarshallUtil.unmarshallString(input), (Set<Object>) input.readObject(), input.readBoolean());
       }
    }
 }
@@ -1,6 +1,7 @@
 package org.infinispan.lock.impl.lock;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
@@ -48,6 +49,10 @@
  * case the node</li> <li>lock method does not expire til the lock is acquired, so this can cause thread starvation in
  * the actual implementation</li> </lu>
  * <p>
+ * <h2>Fair lock</h2> When the lock is fair, the waiting requests of all the nodes are queued in the lock value and on
+ * release the lock is handed directly to the next one, preferring a request of the releasing node a few times in a row.
+ * The new owner learns about it from the modification event, so that waiting nodes do not all retry on every release.
+ * <p>
  * <h2>Partition handling</h2>
  *
  * @author Katia Aresti, karesti@redhat.com
@@ -69,12 +74,22 @@ public class ClusteredLockImpl implements ClusteredLock {
    private final RequestExpirationScheduler requestExpirationScheduler;
    private final ClusterChangeListener clusterChangeListener;
    private final LockReleasedListener lockReleasedListener;
+   private final boolean fair;
 
    public ClusteredLockImpl(String name,
                             ClusteredLockKey lockKey,
                             AdvancedCache<ClusteredLockKey, ClusteredLockValue> clusteredLockCache,
                             EmbeddedClusteredLockManager clusteredLockManager) {
+      this(name, lockKey, clusteredLockCache, clusteredLockManager, false);
+   }
+
+   public ClusteredLockImpl(String name,
+                            ClusteredLockKey lockKey,
+                            AdvancedCache<ClusteredLockKey, ClusteredLockValue> clusteredLockCache,
+                            EmbeddedClusteredLockManager clusteredLockManager,
+                            boolean fair) {
       this.name = name;
+      this.fair = fair;
       this.lockKey = lockKey;
       this.clusteredLockCache = clusteredLockCache;
       this.clusteredLockManager = clusteredLockManager;
@@ -204,7 +219,7 @@ protected void handle(Boolean result) {
                // In this case, even if the lock was marked as acquired in the cache, it has to be released because the call expired.
                // We have to unlock the lock if the requestor and the requestId match.
                // Meanwhile another request for this owner might have locked it successfully and we don't want to unlock in that case
-               unlock(requestId, Collections.singleton(requestor));
+               unlock(requestId, Collections.singleton(requestor), false);
             }
          } else if (!isScheduled) {
             if (trace) {
@@ -246,7 +261,9 @@ class LockReleasedListener {
       @CacheEntryModified
       public void entryModified(CacheEntryModifiedEvent event) {
          ClusteredLockValue value = (ClusteredLockValue) event.getValue();
-         if (value.getState() == ClusteredLockState.RELEASED) {
+         if (fair) {
+            fairLockModified(value);
+         } else if (value.getState() == ClusteredLockState.RELEASED) {
             if (trace) {
                log.tracef("LOCK[%s] Lock has been released, %s notified", getName(), originator);
             }
@@ -288,7 +305,56 @@ private void retryPendingRequests(ClusteredLockValue value) {
    }
 
    private void retryPendingRequests() {
-      retryPendingRequests(null);
+      if (fair) {
+         retryAllPendingRequests();
+      } else {
+         retryPendingRequests(null);
+      }
+   }
+
+   private void fairLockModified(ClusteredLockValue value) {
+      if (value.getState() == ClusteredLockState.ACQUIRED) {
+         if (originator.equals(value.getOwner())) {
+            lockHandedOff(value.getRequestId());
+         }
+      } else if (isChangeViewUnlockInProgress()) {
+         if (trace) {
+            log.tracef("LOCK[%s] Hold pending requests while view change unlock is happening in %s", getName(), originator);
+         }
+      } else {
+         // Released with an empty queue, so the pending requests are either not queued yet or were dropped by a forced
+         // release: requests already queued are not affected by a retry
+         retryAllPendingRequests();
+      }
+   }
+
+   /**
+    * Completes the request the lock was handed to, either by a release or because it acquired the free lock itself.
+    */
+   private void lockHandedOff(String requestId) {
+      for (Iterator<RequestHolder> iterator = pendingRequests.iterator(); iterator.hasNext(); ) {
+         RequestHolder requestHolder = iterator.next();
+         if (requestHolder.requestId.equals(requestId)) {
+            if (trace) {
+               log.tracef("LOCK[%s] Lock handed off to %s", getName(), requestHolder);
+            }
+            iterator.remove();
+            // If the request has already completed, e.g. a tryLock timed out, the holder passes the lock on
+            requestHolder.handleLockResult(Boolean.TRUE, null);
+            return;
+         }
+      }
+   }
+
+   private void retryAllPendingRequests() {
+      if (trace) {
+         log.tracef("LOCK[%s] Retry %d pending requests in %s", getName(), pendingRequests.size(), originator);
+      }
+      for (RequestHolder requestHolder : pendingRequests) {
+         if (!requestHolder.isDone()) {
+            evalLockFunction(requestHolder, true);
+         }
+      }
    }
 
    private boolean isSameRequest(RequestHolder nextRequestor, ClusteredLockValue value) {
@@ -355,7 +421,7 @@ private void forceUnlockForLeavingMembers(Set<Object> possibleOwners) {
          if (trace) {
             log.tracef("LOCK[%s] viewChangeUnlockHappening value in %s ", getName(), viewChangeUnlockValue, originator);
          }
-         unlock(null, possibleOwners)
+         unlock(null, possibleOwners, true)
                .whenComplete((unlockResult, ex) -> {
                   if (trace) {
                      log.tracef("LOCK[%s] Force unlock call completed for %s from %s ", getName(), possibleOwners, originator);
@@ -398,12 +464,16 @@ private void lock(RequestHolder<Void> requestHolder) {
             log.tracef("LOCK[%s] View change unlock is happening in %s. Do not try to lock", getName(), originator);
          }
       } else {
-         readWriteMap.eval(lockKey, new LockFunction(requestHolder.requestId, requestHolder.requestor)).whenComplete((lockResult, ex) -> {
-            requestHolder.handleLockResult(lockResult, ex);
-         });
+         evalLockFunction(requestHolder, true);
       }
    }
 
+   private void evalLockFunction(RequestHolder<?> requestHolder, boolean waiting) {
+      readWriteMap.eval(lockKey, new LockFunction(requestHolder.requestId, requestHolder.requestor, waiting)).whenComplete((lockResult, ex) -> {
+         requestHolder.handleLockResult(lockResult, ex);
+      });
+   }
+
    @Override
    public CompletableFuture<Boolean> tryLock() {
       if (trace) {
@@ -433,9 +503,8 @@ private void tryLock(TryLockRequestHolder requestHolder) {
       if (isChangeViewUnlockInProgress()) {
          requestHolder.handleLockResult(false, null);
       } else {
-         readWriteMap.eval(lockKey, new LockFunction(requestHolder.requestId, requestHolder.requestor)).whenComplete((lockResult, ex) -> {
-            requestHolder.handleLockResult(lockResult, ex);
-         });
+         // Only a tryLock with a timeout waits in the queue of a fair lock
+         evalLockFunction(requestHolder, requestHolder.hasTimeout());
       }
    }
 
@@ -491,12 +560,12 @@ public CompletableFuture<Boolean> isLockedByMe() {
       return isLockedByMeRequest;
    }
 
-   private CompletableFuture<Boolean> unlock(String requestId, Set<Object> possibleOwners) {
+   private CompletableFuture<Boolean> unlock(String requestId, Set<Object> possibleOwners, boolean removeWaiters) {
       if (trace) {
          log.tracef("LOCK[%s] unlock called for %s %s", getName(), requestId, possibleOwners);
       }
       CompletableFuture<Boolean> unlockRequest = new CompletableFuture<>();
-      readWriteMap.eval(lockKey, new UnlockFunction(requestId, possibleOwners)).whenComplete((unlockResult, ex) -> {
+      readWriteMap.eval(lockKey, new UnlockFunction(requestId, possibleOwners, removeWaiters)).whenComplete((unlockResult, ex) -> {
          if (ex == null) {
             unlockRequest.complete(unlockResult);
          } else {
@@ -538,6 +607,7 @@ public String toString() {
       final StringBuilder sb = new StringBuilder("ClusteredLockImpl{");
       sb.append("lock=").append(getName());
       sb.append(", originator=").append(originator);
+      sb.append(", fair=").append(fair);
       sb.append('}');
       return sb.toString();
    }
@@ -107,8 +107,10 @@ public boolean defineLock(String name, ClusteredLockConfiguration configuration)
          log.tracef("LOCK[%s] defineLock has been called %s", name, configuration);
 
       ClusteredLockKey key = new ClusteredLockKey(ByteString.fromString(name));
-      ClusteredLockValue clv = cache().putIfAbsent(key, ClusteredLockValue.INITIAL_STATE);
-      locks.putIfAbsent(name, new ClusteredLockImpl(name, key, cache, this));
+      ClusteredLockValue clv = cache().putIfAbsent(key, initialState(configuration));
+      // The first definition decides the fairness of the lock
+      boolean fair = clv == null ? configuration.isFair() : clv.isFair();
+      locks.putIfAbsent(name, new ClusteredLockImpl(name, key, cache, this, fair));
       return clv == null;
    }
 
@@ -126,21 +128,28 @@ private ClusteredLockImpl createLock(String lockName) {
          throw new ClusteredLockException(String.format("Lock %s does not exist", lockName));
       }
       ClusteredLockKey key = new ClusteredLockKey(ByteString.fromString(lockName));
-      cache().putIfAbsent(key, ClusteredLockValue.INITIAL_STATE);
-      ClusteredLockImpl lock = new ClusteredLockImpl(lockName, key, cache(), this);
+      ClusteredLockValue clv = cache().putIfAbsent(key, initialState(configuration));
+      boolean fair = clv == null ? configuration.isFair() : clv.isFair();
+      ClusteredLockImpl lock = new ClusteredLockImpl(lockName, key, cache(), this, fair);
       return lock;
    }
 
+   private static ClusteredLockValue initialState(ClusteredLockConfiguration configuration) {
+      return configuration.isFair() ? ClusteredLockValue.INITIAL_FAIR_STATE : ClusteredLockValue.INITIAL_STATE;
+   }
+
    @Override
    public ClusteredLockConfiguration getConfiguration(String name) {
       if (trace)
          log.tracef("LOCK[%s] getConfiguration has been called", name);
 
-      if (cache().containsKey(new ClusteredLockKey(ByteString.fromString(name))))
-         return new ClusteredLockConfiguration();
+      ClusteredLockValue clv = cache().get(new ClusteredLockKey(ByteString.fromString(name)));
+      if (clv != null)
+         return new ClusteredLockConfiguration().fair(clv.isFair());
 
-      if (config.locks().containsKey(name))
-         return new ClusteredLockConfiguration();
+      org.infinispan.lock.configuration.ClusteredLockConfiguration lockConfiguration = config.locks().get(name);
+      if (lockConfiguration != null)
+         return new ClusteredLockConfiguration().fair(lockConfiguration.fair());
 
       throw new ClusteredLockException(String.format("Lock %s does not exist", name));
    }
@@ -198,7 +207,7 @@ public CompletableFuture<Boolean> forceRelease(String name) {
 
       ClusteredLockKey lockLey = new ClusteredLockKey(ByteString.fromString(name));
       return cache()
-            .computeIfPresentAsync(lockLey, (k, v) -> ClusteredLockValue.INITIAL_STATE)
+            .computeIfPresentAsync(lockLey, (k, v) -> v.released())
             .thenApply(clv -> clv != null && clv.getState() == ClusteredLockState.RELEASED);
    }
 
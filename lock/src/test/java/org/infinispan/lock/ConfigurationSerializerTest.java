@@ -3,6 +3,7 @@
 import static org.infinispan.test.TestingUtil.withCacheManager;
 import static org.infinispan.test.fwk.TestCacheManagerFactory.createClusteredCacheManager;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNotNull;
 import static org.testng.AssertJUnit.assertTrue;
 
@@ -50,6 +51,8 @@ public void testParserAvailableReliability() throws IOException {
          assertEquals(Reliability.AVAILABLE, clmConfig.reliability());
          assertTrue(clmConfig.locks().containsKey("lock1"));
          assertTrue(clmConfig.locks().containsKey("lock2"));
+         assertFalse(clmConfig.locks().get("lock1").fair());
+         assertTrue(clmConfig.locks().get("lock2").fair());
       });
    }
 
@@ -0,0 +1,72 @@
+package org.infinispan.lock;
+
+import static org.infinispan.functional.FunctionalTestUtils.await;
+import static org.infinispan.lock.impl.ClusteredLockModuleLifecycle.CLUSTERED_LOCK_CACHE_NAME;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.infinispan.lock.api.ClusteredLock;
+import org.infinispan.lock.api.ClusteredLockConfiguration;
+import org.infinispan.lock.api.ClusteredLockManager;
+import org.infinispan.lock.impl.entries.ClusteredLockKey;
+import org.infinispan.lock.impl.entries.ClusteredLockValue;
+import org.infinispan.util.ByteString;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the {@link ClusteredLockTest} tests against a fair lock.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "clusteredLock.FairClusteredLockTest")
+public class FairClusteredLockTest extends ClusteredLockTest {
+
+   @BeforeMethod(alwaysRun = true)
+   @Override
+   public void createLock() throws Throwable {
+      ClusteredLockManager m1 = clusteredLockManager(0);
+      m1.defineLock(LOCK_NAME, new ClusteredLockConfiguration().fair(true));
+   }
+
+   public void testLockIsFair() {
+      assertTrue(clusteredLockManager(1).getConfiguration(LOCK_NAME).isFair());
+   }
+
+   public void testLockHandedToWaitersInOrder() throws Throwable {
+      ClusteredLock lock0 = clusteredLockManager(0).get(LOCK_NAME);
+      ClusteredLock lock1 = clusteredLockManager(1).get(LOCK_NAME);
+      ClusteredLock lock2 = clusteredLockManager(2).get(LOCK_NAME);
+      List<Integer> order = new CopyOnWriteArrayList<>();
+
+      await(lock0.lock());
+      CompletableFuture<Void> lockRes1 = lock1.lock().thenRun(() -> order.add(1));
+      eventuallyWaiting(1);
+      CompletableFuture<Void> lockRes2 = lock2.lock().thenRun(() -> order.add(2));
+      eventuallyWaiting(2);
+
+      await(lock0.unlock());
+      await(lockRes1);
+      assertTrue(await(lock1.isLockedByMe()));
+      await(lock1.unlock());
+      await(lockRes2);
+      assertTrue(await(lock2.isLockedByMe()));
+      await(lock2.unlock());
+
+      assertEquals(2, order.size());
+      assertEquals(1, (int) order.get(0));
+      assertEquals(2, (int) order.get(1));
+   }
+
+   private void eventuallyWaiting(int waiters) {
+      ClusteredLockKey key = new ClusteredLockKey(ByteString.fromString(LOCK_NAME));
+      eventuallyEquals(waiters, () -> {
+         ClusteredLockValue value = this.<ClusteredLockKey, ClusteredLockValue>cache(0, CLUSTERED_LOCK_CACHE_NAME).get(key);
+         return value.getWaiters().size();
+      });
+   }
+}
@@ -0,0 +1,64 @@
+package org.infinispan.lock.impl.entries;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Collections;
+
+import org.testng.annotations.Test;
+
+/**
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "clusteredLock.impl.entries.ClusteredLockValueTest")
+public class ClusteredLockValueTest {
+
+   public void testReleaseWithoutWaiters() {
+      ClusteredLockValue value = ClusteredLockValue.INITIAL_FAIR_STATE.acquire("r1", "A");
+      assertSame(ClusteredLockValue.INITIAL_FAIR_STATE, value.release());
+   }
+
+   public void testReleaseHandsToWaitersInOrder() {
+      ClusteredLockValue value = ClusteredLockValue.INITIAL_FAIR_STATE.acquire("r1", "A")
+            .addWaiter("r2", "B")
+            .addWaiter("r3", "C")
+            .addWaiter("r2", "B");
+      assertEquals(2, value.getWaiters().size());
+
+      value = value.release();
+      assertEquals(ClusteredLockState.ACQUIRED, value.getState());
+      assertEquals("r2", value.getRequestId());
+      assertEquals("B", value.getOwner());
+
+      value = value.release();
+      assertEquals("r3", value.getRequestId());
+      assertTrue(value.getWaiters().isEmpty());
+   }
+
+   public void testLocalHandoffIsBounded() {
+      ClusteredLockValue value = ClusteredLockValue.INITIAL_FAIR_STATE.acquire("a0", "A").addWaiter("b", "B");
+      for (int i = 1; i <= ClusteredLockValue.MAX_LOCAL_HANDOFFS + 1; ++i) {
+         value = value.addWaiter("a" + i, "A");
+      }
+      for (int i = 1; i <= ClusteredLockValue.MAX_LOCAL_HANDOFFS; ++i) {
+         value = value.release();
+         assertEquals("a" + i, value.getRequestId());
+      }
+      // the waiter of the other node is not overtaken anymore
+      value = value.release();
+      assertEquals("b", value.getRequestId());
+      value = value.release();
+      assertEquals("a" + (ClusteredLockValue.MAX_LOCAL_HANDOFFS + 1), value.getRequestId());
+   }
+
+   public void testRemoveWaiters() {
+      ClusteredLockValue value = ClusteredLockValue.INITIAL_FAIR_STATE.acquire("r1", "A")
+            .addWaiter("r2", "B")
+            .addWaiter("r3", "C");
+      assertSame(value, value.removeWaiters(Collections.singleton("D")));
+      value = value.removeWaiters(Collections.singleton("B"));
+      assertEquals(1, value.getWaiters().size());
+      assertEquals("r3", value.release().getRequestId());
+   }
+}
@@ -1,10 +1,10 @@
 package org.infinispan.multimap.impl;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 import org.infinispan.commons.marshall.ProtoStreamTypeIds;
 import org.infinispan.marshall.protostream.impl.MarshallableUserObject;
@@ -14,6 +14,10 @@
 
 /**
  * Bucket used to store MultiMap values, required as HashSet cannot be directly marshalled via ProtoStream.
+ * <p>
+ * The bucket is immutable, all updates return a new bucket instance, or the same instance if the update did not change
+ * the values. Values are kept in a flat open addressing hash table, so that an update only requires copying the
+ * table instead of allocating a node per value.
  *
  * @author Ryan Emerson
  * @since 10.0
@@ -21,50 +25,198 @@
 @ProtoTypeId(ProtoStreamTypeIds.MULTIMAP_BUCKET)
 public class Bucket<V> {
 
-   final Collection<V> values;
+   private static final Object[] EMPTY_TABLE = new Object[0];
+   private static final int MIN_CAPACITY = 4;
+
+   // power of two sized table, with at most half of the slots used
+   private final Object[] table;
+   private final int size;
 
    public Bucket() {
-      this.values = ConcurrentHashMap.newKeySet();
+      this(EMPTY_TABLE, 0);
+   }
+
+   private Bucket(Object[] table, int size) {
+      this.table = table;
+      this.size = size;
    }
 
    @ProtoFactory
-   Bucket(HashSet<MarshallableUserObject<V>> wrappedValues) {
-      this.values = wrappedValues.stream().map(MarshallableUserObject::get).collect(Collectors.toSet());
+   Bucket(List<MarshallableUserObject<V>> wrappedValues) {
+      Object[] table = newTable(wrappedValues.size());
+      int size = 0;
+      for (MarshallableUserObject<V> wrappedValue : wrappedValues) {
+         if (insert(table, wrappedValue.get())) {
+            size++;
+         }
+      }
+      this.table = table;
+      this.size = size;
    }
 
-   @ProtoField(number = 1, collectionImplementation = HashSet.class)
-   Set<MarshallableUserObject<V>> getWrappedValues() {
-      return this.values.stream().map(MarshallableUserObject::new).collect(Collectors.toSet());
+   @SuppressWarnings("unchecked")
+   @ProtoField(number = 1, collectionImplementation = ArrayList.class)
+   List<MarshallableUserObject<V>> getWrappedValues() {
+      List<MarshallableUserObject<V>> wrappedValues = new ArrayList<>(size);
+      for (Object value : table) {
+         if (value != null) {
+            wrappedValues.add(new MarshallableUserObject<>((V) value));
+         }
+      }
+      return wrappedValues;
    }
 
    public boolean contains(V value) {
-      return this.values.contains(value);
+      return size > 0 && table[indexOf(table, value)] != null;
    }
 
-   public boolean add(V value) {
-      return this.values.add(value);
+   /**
+    * @return a bucket containing the values of this bucket and the given value, or this bucket if it already contains
+    * the value
+    */
+   public Bucket<V> add(V value) {
+      if (contains(value)) {
+         return this;
+      }
+      Object[] newTable;
+      if ((size + 1) * 2 > table.length) {
+         newTable = newTable(size + 1);
+         for (Object existing : table) {
+            if (existing != null) {
+               insert(newTable, existing);
+            }
+         }
+      } else {
+         newTable = table.clone();
+      }
+      insert(newTable, value);
+      return new Bucket<>(newTable, size + 1);
    }
 
-   public boolean addAll(Bucket<V> bucket) {
-      return this.values.addAll(bucket.values);
+   /**
+    * @return a bucket containing the values of both buckets
+    */
+   @SuppressWarnings("unchecked")
+   public Bucket<V> addAll(Bucket<V> bucket) {
+      Bucket<V> result = this;
+      for (Object value : bucket.table) {
+         if (value != null) {
+            result = result.add((V) value);
+         }
+      }
+      return result;
    }
 
-   public boolean remove(V value) {
-      return this.values.remove(value);
+   /**
+    * @return a bucket containing the values of this bucket except the given value, or this bucket if it does not
+    * contain the value
+    */
+   public Bucket<V> remove(V value) {
+      if (!contains(value)) {
+         return this;
+      }
+      Object[] newTable = table.clone();
+      int mask = newTable.length - 1;
+      int index = indexOf(newTable, value);
+      newTable[index] = null;
+      // shift back the following values of the same probe sequence, so that they remain reachable
+      for (int next = (index + 1) & mask; newTable[next] != null; next = (next + 1) & mask) {
+         int home = slot(newTable[next], mask);
+         if (((next - home) & mask) >= ((next - index) & mask)) {
+            newTable[index] = newTable[next];
+            newTable[next] = null;
+            index = next;
+         }
+      }
+      return new Bucket<>(newTable, size - 1);
+   }
+
+   /**
+    * @return a bucket without the values matching the predicate, or this bucket if no value matches
+    */
+   @SuppressWarnings("unchecked")
+   public Bucket<V> removeIf(Predicate<? super V> predicate) {
+      List<Object> retained = null;
+      for (int i = 0; i < table.length; ++i) {
+         Object value = table[i];
+         if (value != null && predicate.test((V) value)) {
+            if (retained == null) {
+               // copy the values preceding the first removed one
+               retained = new ArrayList<>(size);
+               for (int j = 0; j < i; ++j) {
+                  if (table[j] != null) {
+                     retained.add(table[j]);
+                  }
+               }
+            }
+         } else if (value != null && retained != null) {
+            retained.add(value);
+         }
+      }
+      if (retained == null) {
+         return this;
+      }
+      Object[] newTable = newTable(retained.size());
+      for (Object value : retained) {
+         insert(newTable, value);
+      }
+      return new Bucket<>(newTable, retained.size());
    }
 
    public boolean isEmpty() {
-      return values.isEmpty();
+      return size == 0;
    }
 
    public int size() {
-      return values.size();
+      return size;
    }
 
    /**
-    * @return a defensive copy of the {@link #values} collection.
+    * @return a defensive copy of the values in this bucket.
     */
+   @SuppressWarnings("unchecked")
    public Set<V> toSet() {
-      return new HashSet<>(values);
+      Set<V> values = new HashSet<>(size * 2);
+      for (Object value : table) {
+         if (value != null) {
+            values.add((V) value);
+         }
+      }
+      return values;
+   }
+
+   private static Object[] newTable(int size) {
+      int capacity = MIN_CAPACITY;
+      while (capacity < size * 2) {
+         capacity <<= 1;
+      }
+      return new Object[capacity];
+   }
+
+   private static int slot(Object value, int mask) {
+      int h = value.hashCode();
+      return (h ^ (h >>> 16)) & mask;
+   }
+
+   /**
+    * @return the slot holding the value, or the empty slot where it would be inserted
+    */
+   private static int indexOf(Object[] table, Object value) {
+      int mask = table.length - 1;
+      int index = slot(value, mask);
+      Object existing;
+      while ((existing = table[index]) != null && !existing.equals(value)) {
+         index = (index + 1) & mask;
+      }
+      return index;
+   }
+
+   private static boolean insert(Object[] table, Object value) {
+      int index = indexOf(table, value);
+      if (table[index] != null) {
+         return false;
+      }
+      table[index] = value;
+      return true;
    }
 }
@@ -187,11 +187,7 @@ private boolean isExplicitTxContext() throws SystemException {
    private Void removeInternal(Predicate<? super V> p) {
       cache.keySet().stream().forEach((c, key) -> c.computeIfPresent(key, (o, o1) -> {
          Bucket<V> bucket = (Bucket<V>) o1;
-         Bucket<V> newBucket = new Bucket<>();
-         for (V v : bucket.values) {
-            if (!p.test(v))
-               newBucket.add(v);
-         }
+         Bucket<V> newBucket = bucket.removeIf(p);
          return newBucket.isEmpty() ? null : newBucket;
       }));
       return null;
@@ -30,10 +30,16 @@ public PutFunction(V value) {
 
    @Override
    public Void apply(EntryView.ReadWriteEntryView<K, Bucket<V>> entryView) {
-      Bucket<V> bucket = new Bucket<>();
-      bucket.add(value);
-      entryView.find().map(bucket::addAll);
-      entryView.set(bucket);
+      Bucket<V> bucket = entryView.find().orElse(null);
+      if (bucket == null) {
+         entryView.set(new Bucket<V>().add(value));
+      } else {
+         Bucket<V> newBucket = bucket.add(value);
+         // the value is already present, no need to write the entry again
+         if (newBucket != bucket) {
+            entryView.set(newBucket);
+         }
+      }
       return null;
    }
 
@@ -57,20 +57,17 @@ public Boolean apply(EntryView.ReadWriteEntryView<K, Bucket<V>> entryView) {
 
    private Boolean removeKeyValue(EntryView.ReadWriteEntryView<K, Bucket<V>> entryView) {
       return entryView.find().map(bucket -> {
-               if (bucket.contains(value)) {
-                  Bucket<V> newBucket = new Bucket<>();
-                  newBucket.addAll(bucket);
-                  newBucket.remove(value);
-                  if (newBucket.isEmpty()) {
-                     // If the collection is empty after remove, remove the key
-                     entryView.remove();
-                  } else {
-                     entryView.set(newBucket);
-                  }
-                  return newBucket.size() < bucket.size();
-               } else {
+               Bucket<V> newBucket = bucket.remove(value);
+               if (newBucket == bucket) {
                   return Boolean.FALSE;
                }
+               if (newBucket.isEmpty()) {
+                  // If the collection is empty after remove, remove the key
+                  entryView.remove();
+               } else {
+                  entryView.set(newBucket);
+               }
+               return Boolean.TRUE;
             }
       ).orElse(Boolean.FALSE);
    }
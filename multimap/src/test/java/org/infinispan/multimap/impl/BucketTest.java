@@ -0,0 +1,97 @@
+package org.infinispan.multimap.impl;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+@Test(groups = "unit", testName = "multimap.BucketTest")
+public class BucketTest {
+
+   public void testAddAndRemove() {
+      Set<Integer> expected = new HashSet<>();
+      Bucket<Integer> bucket = new Bucket<>();
+      for (int i = 0; i < 1000; ++i) {
+         Bucket<Integer> newBucket = bucket.add(i);
+         assertFalse(newBucket == bucket);
+         assertFalse(bucket.contains(i));
+         bucket = newBucket;
+         expected.add(i);
+      }
+      assertEquals(expected, bucket.toSet());
+      assertEquals(1000, bucket.size());
+
+      for (int i = 0; i < 1000; i += 3) {
+         bucket = bucket.remove(i);
+         expected.remove(i);
+      }
+      assertEquals(expected.size(), bucket.size());
+      assertEquals(expected, bucket.toSet());
+      for (int i = 0; i < 1000; ++i) {
+         assertEquals(expected.contains(i), bucket.contains(i));
+      }
+   }
+
+   public void testUnchangedBucketIsReturned() {
+      Bucket<String> bucket = new Bucket<String>().add("a").add("b");
+      assertSame(bucket, bucket.add("a"));
+      assertSame(bucket, bucket.remove("c"));
+      assertSame(bucket, bucket.removeIf(v -> v.equals("c")));
+   }
+
+   public void testCollidingValues() {
+      Bucket<CollidingValue> bucket = new Bucket<>();
+      for (int i = 0; i < 10; ++i) {
+         bucket = bucket.add(new CollidingValue(i));
+      }
+      assertEquals(10, bucket.size());
+      // removing values in the middle of the probe sequence must keep the following ones reachable
+      for (int i = 0; i < 10; i += 3) {
+         bucket = bucket.remove(new CollidingValue(i));
+      }
+      assertEquals(6, bucket.size());
+      for (int i = 0; i < 10; ++i) {
+         assertEquals(i % 3 != 0, bucket.contains(new CollidingValue(i)));
+      }
+      bucket = bucket.add(new CollidingValue(0));
+      assertTrue(bucket.contains(new CollidingValue(0)));
+      assertEquals(7, bucket.size());
+   }
+
+   public void testRemoveIf() {
+      Bucket<Integer> bucket = new Bucket<>();
+      for (int i = 0; i < 100; ++i) {
+         bucket = bucket.add(i);
+      }
+      bucket = bucket.removeIf(v -> v % 2 == 0);
+      assertEquals(50, bucket.size());
+      for (int i = 0; i < 100; ++i) {
+         assertEquals(i % 2 != 0, bucket.contains(i));
+      }
+      assertTrue(bucket.removeIf(v -> true).isEmpty());
+   }
+
+   private static class CollidingValue {
+      private final int id;
+
+      CollidingValue(int id) {
+         this.id = id;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         return o instanceof CollidingValue && ((CollidingValue) o).id == id;
+      }
+
+      @Override
+      public int hashCode() {
+         // all the values share the same hash code
+         return 42;
+      }
+   }
+}
@@ -23,6 +23,7 @@ public enum Attribute {
    DRIVER_CLASS("driver"),
    DROP_ON_EXIT("drop-on-exit"),
    FETCH_SIZE("fetch-size"),
+   ITERATION_PARALLELISM("iteration-parallelism"),
    KEY_TO_STRING_MAPPER("key-to-string-mapper"),
    NAME("name"),
    PASSIVATION("passivation"),
@@ -30,7 +31,9 @@ public enum Attribute {
    PREFIX("prefix"),
    PROPERTIES_FILE("properties-file"),
    TYPE("type"),
-   USERNAME("username")
+   USERNAME("username"),
+   WRITE_COALESCING("write-coalescing"),
+   WRITE_COALESCING_WINDOW("write-coalescing-window")
    ;
 
    private final String name;
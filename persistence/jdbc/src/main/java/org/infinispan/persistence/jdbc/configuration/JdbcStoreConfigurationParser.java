@@ -80,6 +80,27 @@ private void parseStringKeyedJdbcStore(final XMLExtendedStreamReader reader,
             case DB_MINOR_VERSION:
                builder.dbMinorVersion(Integer.parseInt(value));
                break;
+            case WRITE_COALESCING:
+               if (reader.getSchema().since(12, 0)) {
+                  builder.writeCoalescing(Boolean.parseBoolean(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+            case WRITE_COALESCING_WINDOW:
+               if (reader.getSchema().since(12, 0)) {
+                  builder.writeCoalescingWindow(Long.parseLong(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+            case ITERATION_PARALLELISM:
+               if (reader.getSchema().since(12, 0)) {
+                  builder.iterationParallelism(Integer.parseInt(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
             default:
                Parser.parseStoreAttribute(reader, i, builder);
                break;
@@ -23,15 +23,22 @@
 @SerializedWith(JdbcStringBasedStoreConfigurationSerializer.class)
 public class JdbcStringBasedStoreConfiguration extends AbstractJdbcStoreConfiguration implements ConfigurationInfo {
    static final AttributeDefinition<String> KEY2STRING_MAPPER = AttributeDefinition.builder("key2StringMapper", DefaultTwoWayKey2StringMapper.class.getName()).immutable().xmlName("key-to-string-mapper").build();
+   static final AttributeDefinition<Boolean> WRITE_COALESCING = AttributeDefinition.builder("writeCoalescing", false).immutable().build();
+   static final AttributeDefinition<Long> WRITE_COALESCING_WINDOW = AttributeDefinition.builder("writeCoalescingWindow", 5L).immutable().build();
+   static final AttributeDefinition<Integer> ITERATION_PARALLELISM = AttributeDefinition.builder("iterationParallelism", 4).immutable().build();
    private final List<ConfigurationInfo> subElements;
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(JdbcStringBasedStoreConfiguration.class, AbstractJdbcStoreConfiguration.attributeDefinitionSet(), KEY2STRING_MAPPER);
+      return new AttributeSet(JdbcStringBasedStoreConfiguration.class, AbstractJdbcStoreConfiguration.attributeDefinitionSet(), KEY2STRING_MAPPER,
+            WRITE_COALESCING, WRITE_COALESCING_WINDOW, ITERATION_PARALLELISM);
    }
 
    static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(STRING_KEYED_JDBC_STORE.getLocalName(), true, false);
 
    private final Attribute<String> key2StringMapper;
+   private final Attribute<Boolean> writeCoalescing;
+   private final Attribute<Long> writeCoalescingWindow;
+   private final Attribute<Integer> iterationParallelism;
    private final TableManipulationConfiguration table;
 
    public JdbcStringBasedStoreConfiguration(AttributeSet attributes, AsyncStoreConfiguration async,
@@ -39,6 +46,9 @@ public JdbcStringBasedStoreConfiguration(AttributeSet attributes, AsyncStoreConf
       super(attributes, async, connectionFactory);
       this.table = table;
       key2StringMapper = attributes.attribute(KEY2STRING_MAPPER);
+      writeCoalescing = attributes.attribute(WRITE_COALESCING);
+      writeCoalescingWindow = attributes.attribute(WRITE_COALESCING_WINDOW);
+      iterationParallelism = attributes.attribute(ITERATION_PARALLELISM);
       subElements = new ArrayList<>(super.subElements());
       subElements.add(table);
    }
@@ -57,6 +67,27 @@ public String key2StringMapper() {
       return key2StringMapper.get();
    }
 
+   /**
+    * @return whether concurrent writes and removals are grouped into JDBC batches
+    */
+   public boolean writeCoalescing() {
+      return writeCoalescing.get();
+   }
+
+   /**
+    * @return how long, in milliseconds, a batch of coalesced writes waits for more writes before it is executed
+    */
+   public long writeCoalescingWindow() {
+      return writeCoalescingWindow.get();
+   }
+
+   /**
+    * @return how many queries, each one over a range of segments, a segmented store runs in parallel when iterating
+    */
+   public int iterationParallelism() {
+      return iterationParallelism.get();
+   }
+
    public TableManipulationConfiguration table() {
       return table;
    }
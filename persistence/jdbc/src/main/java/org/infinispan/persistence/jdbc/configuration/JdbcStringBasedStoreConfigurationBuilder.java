@@ -4,14 +4,18 @@
 import static org.infinispan.persistence.jdbc.configuration.Element.DATA_SOURCE;
 import static org.infinispan.persistence.jdbc.configuration.Element.SIMPLE_CONNECTION;
 import static org.infinispan.persistence.jdbc.configuration.Element.STRING_KEYED_TABLE;
+import static org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfiguration.ITERATION_PARALLELISM;
 import static org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfiguration.KEY2STRING_MAPPER;
 import static org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfiguration.PROPERTIES;
+import static org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfiguration.WRITE_COALESCING;
+import static org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfiguration.WRITE_COALESCING_WINDOW;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 
+import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.ConfigurationBuilderInfo;
 import org.infinispan.commons.configuration.attributes.AttributeSet;
@@ -93,6 +97,35 @@ public JdbcStringBasedStoreConfigurationBuilder key2StringMapper(Class<? extends
       return this;
    }
 
+   /**
+    * Enables grouping of concurrent writes and removals into JDBC batches, which are executed on a dedicated
+    * connection once {@link #maxBatchSize(int)} operations are pending or the
+    * {@link #writeCoalescingWindow(long) window} elapses. Only applies to databases that support upserts.
+    * Defaults to <code>false</code>
+    */
+   public JdbcStringBasedStoreConfigurationBuilder writeCoalescing(boolean writeCoalescing) {
+      attributes.attribute(WRITE_COALESCING).set(writeCoalescing);
+      return this;
+   }
+
+   /**
+    * The maximum time, in milliseconds, that a batch of coalesced writes waits for more writes before it is
+    * executed. Defaults to 5
+    */
+   public JdbcStringBasedStoreConfigurationBuilder writeCoalescingWindow(long writeCoalescingWindow) {
+      attributes.attribute(WRITE_COALESCING_WINDOW).set(writeCoalescingWindow);
+      return this;
+   }
+
+   /**
+    * The number of queries that a segmented store runs in parallel when iterating over its entries, each of them
+    * streaming the rows of a range of segments with its own connection. Defaults to 4
+    */
+   public JdbcStringBasedStoreConfigurationBuilder iterationParallelism(int iterationParallelism) {
+      attributes.attribute(ITERATION_PARALLELISM).set(iterationParallelism);
+      return this;
+   }
+
    /**
     * Allows configuration of table-specific parameters such as column names and types
     */
@@ -103,6 +136,12 @@ public StringTableManipulationConfigurationBuilder table() {
    @Override
    public void validate() {
       table.validate();
+      if (attributes.attribute(WRITE_COALESCING_WINDOW).get() < 0) {
+         throw new CacheConfigurationException("The write coalescing window of the JDBC store cannot be negative");
+      }
+      if (attributes.attribute(ITERATION_PARALLELISM).get() < 1) {
+         throw new CacheConfigurationException("The iteration parallelism of the JDBC store must be positive");
+      }
       super.validate();
    }
 
@@ -367,6 +367,33 @@ public String getSelectRowSql() {
       return selectRowSql;
    }
 
+   @Override
+   public String getSelectRowsSql(int numKeys) {
+      StringBuilder stringBuilder = new StringBuilder("SELECT ");
+      stringBuilder.append(config.idColumnName());
+      stringBuilder.append(", ");
+      stringBuilder.append(config.dataColumnName());
+      stringBuilder.append(" FROM ");
+      stringBuilder.append(dataTableName);
+      stringBuilder.append(" WHERE ");
+      stringBuilder.append(config.idColumnName());
+      stringBuilder.append(" IN (");
+      stringBuilder.append(idParameter());
+      for (int i = 1; i < numKeys; ++i) {
+         stringBuilder.append(",");
+         stringBuilder.append(idParameter());
+      }
+      stringBuilder.append(")");
+      return stringBuilder.toString();
+   }
+
+   /**
+    * @return the parameter placeholder used when comparing the id column with a key
+    */
+   protected String idParameter() {
+      return "?";
+   }
+
    protected String initSelectIdRowSql() {
       return String.format("SELECT %s FROM %s WHERE %s = ?", config.idColumnName(), dataTableName, config.idColumnName());
    }
@@ -469,6 +496,13 @@ public String getLoadNonExpiredRowsSqlForSegments(int numSegments) {
       return stringBuilder.toString();
    }
 
+   @Override
+   public String getLoadNonExpiredRowsSqlForSegmentRange() {
+      return String.format("SELECT %1$s, %2$s FROM %3$s WHERE (%4$s > ? OR %4$s < 0) AND %5$s >= ? AND %5$s <= ?",
+            config.dataColumnName(), config.idColumnName(), dataTableName, config.timestampColumnName(),
+            config.segmentColumnName());
+   }
+
    protected String initLoadAllRowsSql() {
       return String.format("SELECT %s, %s FROM %s", config.dataColumnName(),
             config.idColumnName(), dataTableName);
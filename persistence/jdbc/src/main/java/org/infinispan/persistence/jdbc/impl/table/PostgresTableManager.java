@@ -20,6 +20,13 @@ class PostgresTableManager extends AbstractTableManager {
       super(ctx, connectionFactory, config, metaData, cacheName, log);
    }
 
+   @Override
+   public int getFetchSize() {
+      // The driver only streams the rows through a cursor with a positive fetch size, otherwise it reads all of them
+      int fetchSize = config.fetchSize();
+      return fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+   }
+
    @Override
    protected void dropIndex(Connection conn, String indexName) throws PersistenceException {
       String dropIndexDdl = String.format("DROP INDEX IF EXISTS  %s", getIndexName(true, indexName));
@@ -40,6 +47,11 @@ public String initSelectRowSql() {
                                    config.idColumnName(), config.idColumnType());
    }
 
+   @Override
+   protected String idParameter() {
+      return String.format("cast(? as %s)", config.idColumnType());
+   }
+
    @Override
    public String initSelectIdRowSql() {
       return String.format("SELECT %s FROM %s WHERE %s = cast(? as %s)",
@@ -57,6 +57,11 @@ default void dropTables(Connection conn) throws PersistenceException {
 
    String getSelectRowSql();
 
+   /**
+    * @return a select of the id and data columns of the rows matching any of the given number of ids
+    */
+   String getSelectRowsSql(int numKeys);
+
    String getSelectIdRowSql();
 
    String getCountNonExpiredRowsSql();
@@ -69,6 +74,12 @@ default void dropTables(Connection conn) throws PersistenceException {
 
    String getLoadNonExpiredRowsSqlForSegments(int numSegments);
 
+   /**
+    * @return a select of the data and id columns of the non expired rows with a segment between two bounds, both
+    * inclusive, which are the parameters after the current time
+    */
+   String getLoadNonExpiredRowsSqlForSegmentRange();
+
    String getLoadAllRowsSql();
 
    String getDeleteAllRowsSql();
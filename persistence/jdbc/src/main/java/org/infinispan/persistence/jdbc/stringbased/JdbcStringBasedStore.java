@@ -10,6 +10,10 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.PrimitiveIterator;
@@ -19,6 +23,7 @@
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import javax.transaction.Transaction;
 
@@ -56,6 +61,8 @@
 import org.reactivestreams.Publisher;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 
 /**
  * {@link org.infinispan.persistence.spi.AdvancedCacheLoader} implementation that stores the entries in a database.
@@ -104,7 +111,10 @@
    private TableManager tableManager;
    private TimeService timeService;
    private KeyPartitioner keyPartitioner;
+   private int numSegments;
+   private Scheduler scheduler;
    private boolean isDistributedCache;
+   private WriteCoalescer writeCoalescer;
 
    @Override
    public void init(InitializationContext ctx) {
@@ -116,6 +126,10 @@ public void init(InitializationContext ctx) {
       this.marshaller = ctx.getPersistenceMarshaller();
       this.timeService = ctx.getTimeService();
       this.keyPartitioner = configuration.segmented() ? ctx.getKeyPartitioner() : null;
+      if (keyPartitioner != null) {
+         this.numSegments = ctx.getCache().getCacheConfiguration().clustering().hash().numSegments();
+      }
+      this.scheduler = Schedulers.from(ctx.getExecutor());
       this.isDistributedCache = ctx.getCache().getCacheConfiguration() != null && ctx.getCache().getCacheConfiguration().clustering().cacheMode().isDistributed();
    }
 
@@ -158,10 +172,20 @@ public void start() {
       if (isDistributedCache) {
          enforceTwoWayMapper("distribution/rehashing");
       }
+      // Batching a write that is not an upsert would require reading the row first, so it is not coalesced
+      if (configuration.writeCoalescing() && tableManager.isUpsertSupported()) {
+         writeCoalescer = new WriteCoalescer(connectionFactory, tableManager, configuration.maxBatchSize(),
+               configuration.writeCoalescingWindow());
+      }
    }
 
    @Override
    public void stop() {
+      if (writeCoalescer != null) {
+         writeCoalescer.stop();
+         writeCoalescer = null;
+      }
+
       try {
          if (tableManager != null) {
             tableManager.stop();
@@ -226,6 +250,10 @@ public void write(MarshallableEntry<? extends K, ? extends V> entry) {
       Connection connection = null;
       String keyStr = key2Str(entry.getKey());
       try {
+         if (writeCoalescer != null) {
+            writeCoalescer.execute(upsertOperation(entry, keyStr));
+            return;
+         }
          connection = connectionFactory.getConnection();
          write(entry, connection, keyStr, getSegment(entry));
       } catch (SQLException ex) {
@@ -298,8 +326,32 @@ private void executeLegacyUpdate(Connection connection, MarshallableEntry entry,
       }
    }
 
+   private WriteCoalescer.Operation upsertOperation(MarshallableEntry<? extends K, ? extends V> entry, String keyStr) {
+      // Marshall in the writing thread, so the coalescer only has to execute the batch
+      ByteBuffer byteBuffer = marshall(entry.getMarshalledValue(), marshaller);
+      return WriteCoalescer.upsert(keyStr, entry.expiryTime(), getSegment(entry), byteBuffer);
+   }
+
    @Override
    public CompletionStage<Void> bulkUpdate(Publisher<MarshallableEntry<? extends K, ? extends V>> publisher) {
+      if (writeCoalescer != null) {
+         CompletableFuture<Void> future = new CompletableFuture<>();
+         Flowable.fromPublisher(publisher)
+               .buffer(configuration.maxBatchSize())
+               .doOnNext(entries -> {
+                  List<WriteCoalescer.Operation> operations = new ArrayList<>(entries.size());
+                  for (MarshallableEntry<? extends K, ? extends V> entry : entries) {
+                     operations.add(upsertOperation(entry, key2Str(entry.getKey())));
+                  }
+                  writeCoalescer.executeAll(operations);
+               })
+               .doOnError(e -> {
+                  throw PERSISTENCE.sqlFailureWritingBatch(e);
+               })
+               .subscribe(RxJavaInterop.emptyConsumer(), future::completeExceptionally, () -> future.complete(null));
+         return future;
+      }
+
       // If upsert is not supported, then we must execute the legacy write for each entry; i.e. read then update/insert
       if (!tableManager.isUpsertSupported()) {
          CompletableFuture<Void> future = new CompletableFuture<>();
@@ -344,6 +396,18 @@ public CompletionStage<Void> bulkUpdate(Publisher<MarshallableEntry<? extends K,
 
    @Override
    public void deleteBatch(Iterable<Object> keys) {
+      if (writeCoalescer != null) {
+         try {
+            List<WriteCoalescer.Operation> operations = new ArrayList<>();
+            for (Object key : keys) {
+               operations.add(WriteCoalescer.delete(key2Str(key)));
+            }
+            writeCoalescer.executeAll(operations);
+         } catch (SQLException e) {
+            throw PERSISTENCE.sqlFailureDeletingBatch(keys, e);
+         }
+         return;
+      }
       Connection connection = null;
       try {
          connection = connectionFactory.getConnection();
@@ -412,6 +476,55 @@ public MarshallableEntry<K, V> loadEntry(Object key) {
       return entry;
    }
 
+   @Override
+   public Collection<MarshallableEntry<K, V>> loadEntries(Collection<?> keys) {
+      Map<String, Object> keysByLockingKey = new HashMap<>(keys.size() * 2);
+      for (Object key : keys) {
+         keysByLockingKey.put(key2Str(key), key);
+      }
+      List<MarshallableEntry<K, V>> entries = new ArrayList<>(keys.size());
+      List<String> lockingKeys = new ArrayList<>(keysByLockingKey.keySet());
+      int batchSize = configuration.maxBatchSize();
+      for (int i = 0; i < lockingKeys.size(); i += batchSize) {
+         loadEntries(lockingKeys.subList(i, Math.min(i + batchSize, lockingKeys.size())), keysByLockingKey, entries);
+      }
+      return entries;
+   }
+
+   private void loadEntries(List<String> lockingKeys, Map<String, Object> keysByLockingKey,
+         List<MarshallableEntry<K, V>> entries) {
+      Connection conn = null;
+      PreparedStatement ps = null;
+      ResultSet rs = null;
+      try {
+         String sql = tableManager.getSelectRowsSql(lockingKeys.size());
+         conn = connectionFactory.getConnection();
+         ps = conn.prepareStatement(sql);
+         for (int i = 0; i < lockingKeys.size(); ++i) {
+            ps.setString(i + 1, lockingKeys.get(i));
+         }
+         rs = ps.executeQuery();
+         long now = timeService.wallClockTime();
+         while (rs.next()) {
+            Object key = keysByLockingKey.get(rs.getString(1));
+            InputStream inputStream = rs.getBinaryStream(2);
+            MarshalledValue value = unmarshall(inputStream, marshaller);
+            MarshallableEntry<K, V> entry = marshalledEntryFactory.create(key, value);
+            if (entry.getMetadata() == null || !entry.isExpired(now)) {
+               entries.add(entry);
+            }
+         }
+      } catch (SQLException e) {
+         PERSISTENCE.sqlFailureReadingKey(keysByLockingKey.values(), lockingKeys.toString(), e);
+         throw new PersistenceException(String.format(
+               "SQL error while fetching stored entries with lockingKeys: %s", lockingKeys), e);
+      } finally {
+         JdbcUtil.safeClose(rs);
+         JdbcUtil.safeClose(ps);
+         connectionFactory.releaseConnection(conn);
+      }
+   }
+
    @Override
    public void clear() {
       Connection conn = null;
@@ -469,6 +582,9 @@ public boolean delete(Object key) {
       PreparedStatement ps = null;
       String keyStr = key2Str(key);
       try {
+         if (writeCoalescer != null) {
+            return writeCoalescer.execute(WriteCoalescer.delete(keyStr));
+         }
          String sql = tableManager.getDeleteRowSql();
          if (trace) {
             log.tracef("Running sql '%s' on %s", sql, keyStr);
@@ -552,10 +668,43 @@ public boolean contains(Object key) {
    }
 
    private <P> Flowable<P> publish(IntSet segments, Function<ResultSet, Flowable<P>> function) {
+      int parallelism = configuration.iterationParallelism();
+      if (keyPartitioner == null || parallelism == 1) {
+         return publish(segments != null ? segments.intStream().sorted().toArray() : null, function);
+      }
+      int[] sortedSegments = (segments != null ? segments.intStream() : IntStream.range(0, numSegments)).sorted().toArray();
+      if (sortedSegments.length == 0) {
+         return Flowable.empty();
+      }
+      // Each query streams the rows of a range of segments with its own connection
+      int chunkSize = (sortedSegments.length + parallelism - 1) / parallelism;
+      List<int[]> chunks = new ArrayList<>(parallelism);
+      for (int i = 0; i < sortedSegments.length; i += chunkSize) {
+         chunks.add(Arrays.copyOfRange(sortedSegments, i, Math.min(i + chunkSize, sortedSegments.length)));
+      }
+      if (chunks.size() == 1) {
+         return publish(sortedSegments, function);
+      }
+      return Flowable.fromIterable(chunks)
+            .parallel(chunks.size())
+            .runOn(scheduler)
+            .flatMap(chunk -> publish(chunk, function))
+            .sequential();
+   }
+
+   private static boolean isRange(int[] sortedSegments) {
+      return sortedSegments.length > 1 &&
+            sortedSegments[sortedSegments.length - 1] - sortedSegments[0] == sortedSegments.length - 1;
+   }
+
+   private <P> Flowable<P> publish(int[] sortedSegments, Function<ResultSet, Flowable<P>> function) {
+      boolean range = sortedSegments != null && isRange(sortedSegments);
       return Flowable.using(() -> {
          String sql;
-         if (segments != null) {
-            sql = tableManager.getLoadNonExpiredRowsSqlForSegments(segments.size());
+         if (range) {
+            sql = tableManager.getLoadNonExpiredRowsSqlForSegmentRange();
+         } else if (sortedSegments != null) {
+            sql = tableManager.getLoadNonExpiredRowsSqlForSegments(sortedSegments.length);
          } else {
             sql = tableManager.getLoadNonExpiredAllRowsSql();
          }
@@ -567,9 +716,12 @@ private <P> Flowable<P> publish(IntSet segments, Function<ResultSet, Flowable<P>
          PreparedStatement ps = fc.statement;
          int offset = 1;
          ps.setLong(offset, timeService.wallClockTime());
-         if (segments != null) {
-            for (PrimitiveIterator.OfInt segIter = segments.iterator(); segIter.hasNext(); ) {
-               ps.setInt(++offset, segIter.nextInt());
+         if (range) {
+            ps.setInt(++offset, sortedSegments[0]);
+            ps.setInt(++offset, sortedSegments[sortedSegments.length - 1]);
+         } else if (sortedSegments != null) {
+            for (int segment : sortedSegments) {
+               ps.setInt(++offset, segment);
             }
          }
          ps.setFetchSize(tableManager.getFetchSize());
@@ -0,0 +1,264 @@
+package org.infinispan.persistence.jdbc.stringbased;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.infinispan.commons.io.ByteBuffer;
+import org.infinispan.persistence.jdbc.JdbcUtil;
+import org.infinispan.persistence.jdbc.connectionfactory.ConnectionFactory;
+import org.infinispan.persistence.jdbc.impl.table.TableManager;
+import org.infinispan.persistence.jdbc.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Groups the writes and removals of concurrent threads into JDBC batches, executed on a connection dedicated to this
+ * coalescer.
+ * <p>
+ * A thread submitting operations queues them and then tries to become the leader. The leader waits until
+ * {@code maxBatchSize} operations are queued or the window elapses, executes the queued operations as a batch and
+ * commits it, while the other threads queue more operations for the next batch. Consecutive operations of the same
+ * type are sent to the database with a single {@link PreparedStatement#executeBatch()}, so the operations are applied
+ * in the order they were queued.
+ * <p>
+ * If a batch fails it is rolled back, all its operations fail and the connection is replaced.
+ *
+ * @since 12.0
+ */
+class WriteCoalescer {
+   private static final Log log = LogFactory.getLog(WriteCoalescer.class, Log.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   private final ConnectionFactory connectionFactory;
+   private final TableManager tableManager;
+   private final int maxBatchSize;
+   private final long windowNanos;
+
+   private final Queue<Operation> queue = new ConcurrentLinkedQueue<>();
+   private final AtomicInteger queued = new AtomicInteger();
+   // Notified when a full batch is queued, so the leader does not wait for the whole window
+   private final Object batchFull = new Object();
+   // Only the leader holding this lock uses the connection and statements below
+   private final Lock leaderLock = new ReentrantLock();
+   private Connection connection;
+   private PreparedStatement upsertStatement;
+   private PreparedStatement deleteStatement;
+
+   WriteCoalescer(ConnectionFactory connectionFactory, TableManager tableManager, int maxBatchSize, long windowMillis) {
+      this.connectionFactory = connectionFactory;
+      this.tableManager = tableManager;
+      this.maxBatchSize = maxBatchSize;
+      this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+   }
+
+   static Operation upsert(String keyStr, long expiryTime, int segment, ByteBuffer value) {
+      return new Operation(keyStr, expiryTime, segment, value);
+   }
+
+   static Operation delete(String keyStr) {
+      return new Operation(keyStr, -1, -1, null);
+   }
+
+   /**
+    * Executes the operation in the next batch, blocking until the batch is committed.
+    * @return for a removal, whether a row was deleted
+    */
+   boolean execute(Operation operation) throws SQLException {
+      enqueue(operation);
+      return await(operation);
+   }
+
+   /**
+    * Executes the operations in the next batches, blocking until all of them are committed.
+    */
+   void executeAll(Collection<Operation> operations) throws SQLException {
+      for (Operation operation : operations) {
+         enqueue(operation);
+      }
+      // Wait for all the operations before reporting a failure, so none is left for another leader
+      for (Operation operation : operations) {
+         awaitDone(operation);
+      }
+      for (Operation operation : operations) {
+         await(operation);
+      }
+   }
+
+   void stop() {
+      leaderLock.lock();
+      try {
+         releaseConnection();
+      } finally {
+         leaderLock.unlock();
+      }
+   }
+
+   private void enqueue(Operation operation) {
+      queue.add(operation);
+      if (queued.incrementAndGet() >= maxBatchSize) {
+         synchronized (batchFull) {
+            batchFull.notifyAll();
+         }
+      }
+   }
+
+   private boolean await(Operation operation) throws SQLException {
+      awaitDone(operation);
+      if (operation.failure instanceof SQLException) {
+         throw (SQLException) operation.failure;
+      } else if (operation.failure != null) {
+         throw (RuntimeException) operation.failure;
+      }
+      return operation.deleted;
+   }
+
+   private void awaitDone(Operation operation) {
+      while (!operation.done) {
+         leaderLock.lock();
+         try {
+            // The previous leader may have executed the operation while this thread waited for the lock
+            if (!operation.done) {
+               executeBatch();
+            }
+         } finally {
+            leaderLock.unlock();
+         }
+      }
+   }
+
+   private void awaitWindow() {
+      if (windowNanos == 0) {
+         return;
+      }
+      long deadline = System.nanoTime() + windowNanos;
+      synchronized (batchFull) {
+         long remaining;
+         while (queued.get() < maxBatchSize && (remaining = deadline - System.nanoTime()) > 0) {
+            try {
+               TimeUnit.NANOSECONDS.timedWait(batchFull, remaining);
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+               return;
+            }
+         }
+      }
+   }
+
+   private void executeBatch() {
+      awaitWindow();
+      List<Operation> batch = new ArrayList<>(Math.min(queued.get(), maxBatchSize));
+      Operation operation;
+      while (batch.size() < maxBatchSize && (operation = queue.poll()) != null) {
+         queued.decrementAndGet();
+         batch.add(operation);
+      }
+      if (batch.isEmpty()) {
+         return;
+      }
+      if (trace) {
+         log.tracef("Executing batch of %d coalesced operations", batch.size());
+      }
+      Exception failure = null;
+      try {
+         execute(batch);
+         connection.commit();
+      } catch (SQLException | RuntimeException e) {
+         failure = e;
+         rollback();
+         releaseConnection();
+      }
+      for (Operation op : batch) {
+         op.failure = failure;
+         op.done = true;
+      }
+   }
+
+   private void execute(List<Operation> batch) throws SQLException {
+      if (connection == null) {
+         connection = connectionFactory.getConnection();
+         connection.setAutoCommit(false);
+         upsertStatement = connection.prepareStatement(tableManager.getUpsertRowSql());
+         deleteStatement = connection.prepareStatement(tableManager.getDeleteRowSql());
+      }
+      int start = 0;
+      for (int i = 0; i < batch.size(); ++i) {
+         Operation operation = batch.get(i);
+         if (i > start && operation.isDelete() != batch.get(start).isDelete()) {
+            executeRun(batch, start, i);
+            start = i;
+         }
+         if (operation.isDelete()) {
+            deleteStatement.setString(1, operation.keyStr);
+            deleteStatement.addBatch();
+         } else {
+            tableManager.prepareUpsertStatement(upsertStatement, operation.keyStr, operation.expiryTime,
+                  operation.segment, operation.value);
+            upsertStatement.addBatch();
+         }
+      }
+      executeRun(batch, start, batch.size());
+   }
+
+   private void executeRun(List<Operation> batch, int start, int end) throws SQLException {
+      boolean delete = batch.get(start).isDelete();
+      PreparedStatement statement = delete ? deleteStatement : upsertStatement;
+      int[] counts = statement.executeBatch();
+      statement.clearBatch();
+      if (delete) {
+         for (int i = start; i < end; ++i) {
+            // Drivers returning SUCCESS_NO_INFO don't tell whether a row was deleted, so assume it was
+            batch.get(i).deleted = i - start >= counts.length || counts[i - start] != 0;
+         }
+      }
+   }
+
+   private void rollback() {
+      try {
+         if (connection != null) {
+            connection.rollback();
+         }
+      } catch (SQLException e) {
+         log.debug("Unable to rollback coalesced batch", e);
+      }
+   }
+
+   private void releaseConnection() {
+      JdbcUtil.safeClose(upsertStatement);
+      JdbcUtil.safeClose(deleteStatement);
+      connectionFactory.releaseConnection(connection);
+      upsertStatement = null;
+      deleteStatement = null;
+      connection = null;
+   }
+
+   static final class Operation {
+      final String keyStr;
+      final long expiryTime;
+      final int segment;
+      final ByteBuffer value;
+      // Written by the leader before done, read by the submitting thread after done
+      boolean deleted;
+      Exception failure;
+      volatile boolean done;
+
+      private Operation(String keyStr, long expiryTime, int segment, ByteBuffer value) {
+         this.keyStr = keyStr;
+         this.expiryTime = expiryTime;
+         this.segment = segment;
+         this.value = value;
+      }
+
+      boolean isDelete() {
+         return value == null;
+      }
+   }
+}
@@ -33,7 +33,8 @@ public void testStringKeyedJdbcStore() throws Exception {
             "      <distributed-cache name=\"default\">\n" +
             "     <persistence>\n" +
             "       <string-keyed-jdbc-store xmlns=\"urn:infinispan:config:store:jdbc:"+ Version.getSchemaVersion() + "\" key-to-string-mapper=\"DummyKey2StringMapper\" shared=\"true\" " +
-            "                                preload=\"true\" read-only=\"false\" fetch-state=\"true\" dialect=\"H2\">\n" +
+            "                                preload=\"true\" read-only=\"false\" fetch-state=\"true\" dialect=\"H2\"" +
+            "                                write-coalescing=\"true\" write-coalescing-window=\"10\" iteration-parallelism=\"6\">\n" +
             "         <connection-pool connection-url=\"jdbc:h2:mem:infinispan;DB_CLOSE_DELAY=-1\" username=\"dbuser\" password=\"dbpass\" driver=\"org.h2.Driver\"/>\n" +
             "         <string-keyed-table prefix=\"entry\" fetch-size=\"34\" batch-size=\"128\" >\n" +
             "           <id-column name=\"id\" type=\"VARCHAR\" />\n" +
@@ -59,6 +60,9 @@ public void testStringKeyedJdbcStore() throws Exception {
       assertEquals("segfault", store.table().segmentColumnName());
       assertTrue(store.async().enabled());
       assertEquals("DummyKey2StringMapper", store.key2StringMapper());
+      assertTrue(store.writeCoalescing());
+      assertEquals(10, store.writeCoalescingWindow());
+      assertEquals(6, store.iterationParallelism());
       assertTrue(store.shared());
       assertTrue(store.preload());
       assertEquals(DatabaseType.H2, store.dialect());
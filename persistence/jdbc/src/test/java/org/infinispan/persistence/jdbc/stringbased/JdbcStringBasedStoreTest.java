@@ -3,8 +3,16 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNull;
 import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.infinispan.commons.util.Version;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
@@ -30,23 +38,31 @@
 public class JdbcStringBasedStoreTest extends BaseStoreTest {
 
    boolean segmented;
+   boolean writeCoalescing;
 
    public JdbcStringBasedStoreTest segmented(boolean segmented) {
       this.segmented = segmented;
       return this;
    }
 
+   public JdbcStringBasedStoreTest writeCoalescing(boolean writeCoalescing) {
+      this.writeCoalescing = writeCoalescing;
+      return this;
+   }
+
    @Factory
    public Object[] factory() {
       return new Object[] {
             new JdbcStringBasedStoreTest().segmented(false),
             new JdbcStringBasedStoreTest().segmented(true),
+            new JdbcStringBasedStoreTest().segmented(false).writeCoalescing(true),
+            new JdbcStringBasedStoreTest().segmented(true).writeCoalescing(true),
       };
    }
 
    @Override
    protected String parameters() {
-      return "[" + segmented + "]";
+      return "[" + segmented + ", " + writeCoalescing + "]";
    }
 
    @Override
@@ -56,6 +72,7 @@ protected AdvancedLoadWriteStore createStore() throws Exception {
             .persistence()
                .addStore(JdbcStringBasedStoreConfigurationBuilder.class);
       storeBuilder.segmented(segmented);
+      storeBuilder.writeCoalescing(writeCoalescing);
       UnitTestDatabaseManager.configureUniqueConnectionFactory(storeBuilder);
       UnitTestDatabaseManager.buildTableManipulation(storeBuilder.table());
       JdbcStringBasedStore stringBasedCacheStore = new JdbcStringBasedStore();
@@ -101,6 +118,41 @@ public void testNotCreateConnectionFactory() throws Exception {
       stringBasedCacheStore.stop();
    }
 
+   public void testConcurrentWritesAndDeletes() throws Exception {
+      int threads = 4;
+      int keysPerThread = 50;
+      List<Future<Void>> futures = new ArrayList<>(threads);
+      for (int t = 0; t < threads; ++t) {
+         int thread = t;
+         futures.add(fork(() -> {
+            for (int i = 0; i < keysPerThread; ++i) {
+               String key = "k" + thread + "-" + i;
+               cl.write(marshalledEntry(internalCacheEntry(key, "v" + i, -1)));
+               if (i % 2 == 0) {
+                  assertTrue(cl.delete(key));
+                  assertFalse(cl.delete(key));
+               }
+            }
+            return null;
+         }));
+      }
+      for (Future<Void> future : futures) {
+         future.get(10, TimeUnit.SECONDS);
+      }
+
+      assertEquals(threads * keysPerThread / 2, cl.size());
+      for (int t = 0; t < threads; ++t) {
+         for (int i = 0; i < keysPerThread; ++i) {
+            String key = "k" + t + "-" + i;
+            if (i % 2 == 0) {
+               assertNull(cl.loadEntry(key));
+            } else {
+               assertEquals("v" + i, unwrap(cl.loadEntry(key).getValue()));
+            }
+         }
+      }
+   }
+
    @Override
    protected boolean storePurgesAllExpired() {
       // expiration listener is not called for the entries
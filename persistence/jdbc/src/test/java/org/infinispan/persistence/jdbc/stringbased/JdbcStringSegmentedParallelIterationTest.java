@@ -0,0 +1,25 @@
+package org.infinispan.persistence.jdbc.stringbased;
+
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.persistence.jdbc.UnitTestDatabaseManager;
+import org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfigurationBuilder;
+import org.testng.annotations.Test;
+
+/**
+ * Iterates a segmented store, which queries the segment ranges in parallel.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "persistence.jdbc.stringbased.JdbcStringSegmentedParallelIterationTest")
+public class JdbcStringSegmentedParallelIterationTest extends JdbcStringParallelIterationTest {
+
+   @Override
+   protected void configurePersistence(ConfigurationBuilder cb) {
+      JdbcStringBasedStoreConfigurationBuilder storeBuilder =
+            cb.persistence().addStore(JdbcStringBasedStoreConfigurationBuilder.class)
+                  .segmented(true)
+                  .iterationParallelism(8);
+      UnitTestDatabaseManager.configureUniqueConnectionFactory(storeBuilder);
+      UnitTestDatabaseManager.buildTableManipulation(storeBuilder.table());
+   }
+}
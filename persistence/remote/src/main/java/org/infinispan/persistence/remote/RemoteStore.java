@@ -238,6 +238,18 @@ public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
       }
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> loadAll(Map<Object, Integer> keys) {
+      if (configuration.rawValues()) {
+         // getAll does not return the metadata of the entries
+         return NonBlockingStore.super.loadAll(keys);
+      }
+      Set<Object> unwrappedKeys = keys.keySet().stream().map(RemoteStore::unwrap).collect(Collectors.toSet());
+      return Flowable.fromCompletionStage(remoteCache.getAllAsync(unwrappedKeys))
+            .concatMapIterable(Map::entrySet)
+            .map(e -> entryFactory.create(wrap(e.getKey()), (MarshalledValue) e.getValue()));
+   }
+
    @Override
    public CompletionStage<Boolean> containsKey(int segment, Object key) {
       key = unwrap(key);
@@ -39,6 +39,8 @@
 import org.infinispan.marshall.persistence.impl.MarshallableEntryImpl;
 import org.infinispan.metadata.Metadata;
 import org.infinispan.persistence.internal.PersistenceUtil;
+import org.infinispan.persistence.rocksdb.configuration.ExpirationMode;
+import org.infinispan.persistence.rocksdb.configuration.RocksDBExpirationConfiguration;
 import org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration;
 import org.infinispan.persistence.rocksdb.logging.Log;
 import org.infinispan.persistence.spi.InitializationContext;
@@ -54,17 +56,21 @@
 import org.infinispan.util.concurrent.CompletableFutures;
 import org.infinispan.util.logging.LogFactory;
 import org.reactivestreams.Publisher;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.BuiltinComparator;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteBufferManager;
 import org.rocksdb.WriteOptions;
 
 import io.reactivex.rxjava3.core.Flowable;
@@ -84,6 +90,9 @@
    static final String COLUMN_FAMILY_PROPERTY_NAME_WITH_SUFFIX = "data.";
    static final byte[] META_COLUMN_FAMILY = "meta-cf".getBytes();
    static final byte[] META_COLUMN_FAMILY_KEY = "metadata".getBytes();
+   // Length of the expiration time stored in front of the values with the INLINE expiration mode
+   static final int EXPIRY_PREFIX_LENGTH = 8;
+   static final int BLOOM_FILTER_BITS_PER_KEY = 10;
 
    protected RocksDBStoreConfiguration configuration;
    private RocksDB db;
@@ -98,6 +107,13 @@
    private KeyPartitioner keyPartitioner;
    private MarshallableEntryFactory<K, V> entryFactory;
    private BlockingManager blockingManager;
+   private boolean inlineExpiration;
+   // Shared by all the column families of the data and expired databases
+   private LRUCache blockCache;
+   private BloomFilter bloomFilter;
+   private WriteBufferManager writeBufferManager;
+   // Only created when there is no block cache to charge the memtables to
+   private LRUCache writeBufferCache;
 
    @Override
    public CompletionStage<Void> start(InitializationContext ctx) {
@@ -108,6 +124,7 @@ public CompletionStage<Void> start(InitializationContext ctx) {
       this.entryFactory = ctx.getMarshallableEntryFactory();
       this.blockingManager = ctx.getBlockingManager();
       this.keyPartitioner = ctx.getKeyPartitioner();
+      this.inlineExpiration = configuration.expirationMode() == ExpirationMode.INLINE;
 
       ctx.getPersistenceMarshaller().register(new PersistenceContextInitializerImpl());
 
@@ -136,25 +153,52 @@ public CompletionStage<Void> start(InitializationContext ctx) {
       }
 
       return blockingManager.runBlocking(() -> {
+         boolean started = false;
          try {
+            createSharedResources();
             db = handler.open(getLocation(), dataDbOptions());
-            expiredDb = openDatabase(getExpirationLocation(), expiredDbOptions());
+            if (!inlineExpiration) {
+               expiredDb = openDatabase(getExpirationLocation(), expiredDbOptions());
+            }
 
             MetadataImpl existingMeta = handler.loadMetadata();
             boolean versionsMatch = true;
             if (existingMeta != null) {
+               if (existingMeta.inlineExpiration != inlineExpiration) {
+                  // The values are stored in a different format
+                  throw new CacheConfigurationException("The expiration mode of an existing RocksDB store cannot be " +
+                        "changed to " + configuration.expirationMode());
+               }
                // TODO Perform data migration as part of ISPN-11614 and remove versionsMatch check
                versionsMatch = existingMeta.version == Version.getVersionShort();
             }
             // Update the metadata entry to use the current Infinispan version
             if (versionsMatch)
                handler.writeMetadata();
+            started = true;
          } catch (Exception e) {
             throw new CacheConfigurationException("Unable to open database", e);
+         } finally {
+            if (!started) {
+               // stop is not invoked when start fails, so release the databases and their locks here
+               closeAfterFailedStart();
+            }
          }
       }, "rocksdb-open");
    }
 
+   private void closeAfterFailedStart() {
+      if (db != null) {
+         handler.close();
+         db = null;
+      }
+      if (expiredDb != null) {
+         expiredDb.close();
+         expiredDb = null;
+      }
+      closeSharedResources();
+   }
+
    private Path getLocation() {
       return getQualifiedLocation(ctx.getGlobalConfiguration(), configuration.location(), ctx.getCache().getName(), "data");
    }
@@ -169,6 +213,66 @@ private WriteOptions dataWriteOptions() {
       return dataWriteOptions;
    }
 
+   private void createSharedResources() {
+      long cacheSize = configuration.cacheSize();
+      if (cacheSize > 0) {
+         blockCache = new LRUCache(cacheSize);
+      }
+      if (configuration.bloomFilter()) {
+         bloomFilter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+      }
+      long writeBufferSize = configuration.writeBufferSize();
+      if (writeBufferSize > 0) {
+         // The memtables are charged to the block cache when there is one, so both are bounded together
+         if (blockCache == null) {
+            writeBufferCache = new LRUCache(writeBufferSize);
+         }
+         writeBufferManager = new WriteBufferManager(writeBufferSize, blockCache != null ? blockCache : writeBufferCache);
+      }
+   }
+
+   private void closeSharedResources() {
+      if (writeBufferManager != null) {
+         writeBufferManager.close();
+         writeBufferManager = null;
+      }
+      if (writeBufferCache != null) {
+         writeBufferCache.close();
+         writeBufferCache = null;
+      }
+      if (bloomFilter != null) {
+         bloomFilter.close();
+         bloomFilter = null;
+      }
+      if (blockCache != null) {
+         blockCache.close();
+         blockCache = null;
+      }
+   }
+
+   /**
+    * @return the table options of the data column families and the expired database, or {@code null} if the RocksDB
+    * defaults should be used
+    */
+   private BlockBasedTableConfig tableFormatConfig() {
+      int blockSize = configuration.blockSize();
+      if (blockCache == null && bloomFilter == null && blockSize <= 0) {
+         return null;
+      }
+      BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
+      if (blockCache != null) {
+         tableConfig.setBlockCache(blockCache);
+      }
+      if (blockSize > 0) {
+         tableConfig.setBlockSize(blockSize);
+      }
+      if (bloomFilter != null) {
+         tableConfig.setFilterPolicy(bloomFilter);
+         tableConfig.setWholeKeyFiltering(true);
+      }
+      return tableConfig;
+   }
+
    protected DBOptions dataDbOptions() {
       DBOptions dbOptions;
       if (databaseProperties != null) {
@@ -179,6 +283,9 @@ protected DBOptions dataDbOptions() {
       } else {
          dbOptions = new DBOptions();
       }
+      if (writeBufferManager != null) {
+         dbOptions.setWriteBufferManager(writeBufferManager);
+      }
       return dbOptions
             .setCreateIfMissing(true)
             // We have to create missing column families on open.
@@ -188,10 +295,21 @@ protected DBOptions dataDbOptions() {
    }
 
    protected Options expiredDbOptions() {
-      return new Options()
+      Options options = new Options()
             .setCreateIfMissing(true)
             // Make sure keys are sorted by bytes - we use this sorting to remove entries that have expired most recently
             .setComparator(BuiltinComparator.BYTEWISE_COMPARATOR);
+      BlockBasedTableConfig tableConfig = tableFormatConfig();
+      if (tableConfig != null) {
+         options.setTableFormatConfig(tableConfig);
+      }
+      if (writeBufferManager != null) {
+         options.setWriteBufferManager(writeBufferManager);
+      }
+      if (configuration.expiration().attributes().attribute(RocksDBExpirationConfiguration.COMPRESSION).isModified()) {
+         options.setCompressionType(configuration.expiredCompressionType().getValue());
+      }
+      return options;
    }
 
    /**
@@ -207,7 +325,10 @@ protected RocksDB openDatabase(Path location, Options options) throws RocksDBExc
    public CompletionStage<Void> stop() {
       return blockingManager.runBlocking(() -> {
          handler.close();
-         expiredDb.close();
+         if (expiredDb != null) {
+            expiredDb.close();
+         }
+         closeSharedResources();
       }, "rocksdb-stop");
    }
 
@@ -218,7 +339,8 @@ public Set<Characteristic> characteristics() {
 
    @Override
    public CompletionStage<Boolean> isAvailable() {
-      return blockingManager.supplyBlocking(() -> getLocation().toFile().exists() && getExpirationLocation().toFile().exists(),
+      return blockingManager.supplyBlocking(() -> getLocation().toFile().exists() &&
+                  (inlineExpiration || getExpirationLocation().toFile().exists()),
             "rocksdb-available");
    }
 
@@ -270,6 +392,11 @@ public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
       return handler.load(segment, key);
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> loadAll(Map<Object, Integer> keys) {
+      return handler.loadAll(keys);
+   }
+
    @Override
    public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublisher<Object>> removePublisher,
          Publisher<SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher) {
@@ -286,8 +413,8 @@ public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublis
                ColumnFamilyHandle handle = handler.getHandle(sp.getSegment());
                Flowable.fromPublisher(sp)
                      .subscribe(me -> {
-                        batch.put(handle, marshall(me.getKey()), marshall(me.getMarshalledValue()));
-                        if (me.expiryTime() > -1) {
+                        batch.put(handle, marshall(me.getKey()), marshallValue(me));
+                        if (!inlineExpiration && me.expiryTime() > -1) {
                            expirableEntries.add(me);
                         }
                      });
@@ -310,6 +437,10 @@ public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublis
 
    @Override
    public Publisher<MarshallableEntry<K, V>> purgeExpired() {
+      if (inlineExpiration) {
+         // Entries are removed while iterating, so the iteration is already done on a blocking thread
+         return handler.purgeExpired();
+      }
       Publisher<List<MarshallableEntry<K, V>>> purgedBatches = blockingManager.blockingPublisher(Flowable.defer(() -> {
          // We check expiration based on time of subscription only
          long now = timeService.wallClockTime();
@@ -402,7 +533,7 @@ private MarshalledValue handlePossiblyExpiredKey(ColumnFamilyHandle columnFamily
       if (valueBytes == null) {
          return null;
       }
-      MarshalledValue mv = unmarshall(valueBytes);
+      MarshalledValue mv = unmarshallValue(valueBytes);
       if (mv != null) {
          // TODO race condition: the entry could be updated between the get and delete!
          Metadata metadata = unmarshall(MarshallUtil.toByteArray(mv.getMetadataBytes()));
@@ -448,8 +579,50 @@ private <E> E unmarshall(byte[] bytes) {
       }
    }
 
+   /**
+    * Marshalls the value of an entry, prefixed by its expiration time with the INLINE expiration mode.
+    */
+   private byte[] marshallValue(MarshallableEntry<?, ?> entry) {
+      byte[] valueBytes = marshall(entry.getMarshalledValue());
+      if (!inlineExpiration) {
+         return valueBytes;
+      }
+      long expiry = entry.expiryTime() > -1 ? expiryTime(entry) : -1;
+      byte[] bytes = new byte[EXPIRY_PREFIX_LENGTH + valueBytes.length];
+      for (int i = EXPIRY_PREFIX_LENGTH - 1; i >= 0; --i) {
+         bytes[i] = (byte) expiry;
+         expiry >>>= 8;
+      }
+      System.arraycopy(valueBytes, 0, bytes, EXPIRY_PREFIX_LENGTH, valueBytes.length);
+      return bytes;
+   }
+
+   /**
+    * @return the expiration time stored in front of the value, only used with the INLINE expiration mode.
+    */
+   static long readExpiry(byte[] bytes) {
+      long expiry = 0;
+      for (int i = 0; i < EXPIRY_PREFIX_LENGTH; ++i) {
+         expiry = (expiry << 8) | (bytes[i] & 0xFF);
+      }
+      return expiry;
+   }
+
+   private MarshalledValue unmarshallValue(byte[] bytes) {
+      if (bytes == null)
+         return null;
+      if (!inlineExpiration) {
+         return unmarshall(bytes);
+      }
+      try {
+         return (MarshalledValue) marshaller.objectFromByteBuffer(bytes, EXPIRY_PREFIX_LENGTH, bytes.length - EXPIRY_PREFIX_LENGTH);
+      } catch (IOException | ClassNotFoundException e) {
+         throw new PersistenceException(e);
+      }
+   }
+
    private MarshallableEntry<K, V> unmarshallEntry(Object key, byte[] valueBytes) {
-      MarshalledValue value = unmarshall(valueBytes);
+      MarshalledValue value = unmarshallValue(valueBytes);
       if (value == null) return null;
 
       return entryFactory.create(key, value.getValueBytes(), value.getMetadataBytes(), value.getInternalMetadataBytes(),
@@ -457,6 +630,11 @@ private MarshallableEntry<K, V> unmarshallEntry(Object key, byte[] valueBytes) {
    }
 
    private void addNewExpiry(MarshallableEntry entry) throws RocksDBException {
+      byte[] keyBytes = entry.getKeyBytes().copy().getBuf();
+      putExpireDbData(new ExpiryEntry(expiryTime(entry), keyBytes));
+   }
+
+   private long expiryTime(MarshallableEntry<?, ?> entry) {
       long expiry = entry.expiryTime();
       long maxIdle = entry.getMetadata().maxIdle();
       if (maxIdle > 0) {
@@ -464,8 +642,7 @@ private void addNewExpiry(MarshallableEntry entry) throws RocksDBException {
          // which could lead to unexpected results, hence, InternalCacheEntry calls are required
          expiry = maxIdle + ctx.getTimeService().wallClockTime();
       }
-      byte[] keyBytes = entry.getKeyBytes().copy().getBuf();
-      putExpireDbData(new ExpiryEntry(expiry, keyBytes));
+      return expiry;
    }
 
    @ProtoTypeId(ProtoStreamTypeIds.ROCKSDB_EXPIRY_BUCKET)
@@ -487,9 +664,13 @@ static final class MetadataImpl {
       @ProtoField(number = 1, defaultValue = "-1")
       short version;
 
+      @ProtoField(number = 2, defaultValue = "false")
+      boolean inlineExpiration;
+
       @ProtoFactory
-      MetadataImpl(short version) {
+      MetadataImpl(short version, boolean inlineExpiration) {
          this.version = version;
+         this.inlineExpiration = inlineExpiration;
       }
    }
 
@@ -548,6 +729,44 @@ protected MarshallableEntry<K, V> getNext() {
       }
    }
 
+   /**
+    * Removes and returns the expired entries, only used with the INLINE expiration mode. The value of an entry is only
+    * unmarshalled when the expiration time stored in front of it has passed.
+    */
+   private class ExpiredEntryIterator extends AbstractIterator<MarshallableEntry<K, V>> {
+      private final RocksIterator it;
+      private final long now;
+
+      ExpiredEntryIterator(RocksIterator it, long now) {
+         this.it = it;
+         this.now = now;
+      }
+
+      @Override
+      protected MarshallableEntry<K, V> getNext() {
+         MarshallableEntry<K, V> entry = null;
+         while (entry == null && it.isValid()) {
+            byte[] valueBytes = it.value();
+            long expiry = readExpiry(valueBytes);
+            if (expiry > -1 && expiry <= now) {
+               byte[] keyBytes = it.key();
+               K key = unmarshall(keyBytes);
+               MarshallableEntry<K, V> me = unmarshallEntry(key, valueBytes);
+               if (me != null && me.isExpired(now)) {
+                  try {
+                     db.delete(handler.getHandle(key), keyBytes);
+                  } catch (RocksDBException e) {
+                     throw new PersistenceException(e);
+                  }
+                  entry = me;
+               }
+            }
+            it.next();
+         }
+         return entry;
+      }
+   }
+
    private abstract class RocksDBHandler {
 
       protected ColumnFamilyHandle metaColumnFamilyHandle;
@@ -563,7 +782,7 @@ private abstract class RocksDBHandler {
       abstract ColumnFamilyHandle getHandleForMarshalledKey(byte[] marshalledKey);
 
       void writeMetadata() throws RocksDBException {
-         MetadataImpl metadata = new MetadataImpl(Version.getVersionShort());
+         MetadataImpl metadata = new MetadataImpl(Version.getVersionShort(), inlineExpiration);
          db.put(metaColumnFamilyHandle, META_COLUMN_FAMILY_KEY, marshall(metadata));
       }
 
@@ -584,6 +803,10 @@ ColumnFamilyDescriptor newDescriptor(byte[] name) {
          if (configuration.attributes().attribute(RocksDBStoreConfiguration.COMPRESSION_TYPE).isModified()) {
             columnFamilyOptions.setCompressionType(configuration.compressionType().getValue());
          }
+         BlockBasedTableConfig tableConfig = tableFormatConfig();
+         if (tableConfig != null) {
+            columnFamilyOptions.setTableFormatConfig(tableConfig);
+         }
          return new ColumnFamilyDescriptor(name, columnFamilyOptions);
       }
 
@@ -613,6 +836,47 @@ CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
          }
       }
 
+      Publisher<MarshallableEntry<K, V>> loadAll(Map<Object, Integer> keys) {
+         List<Object> keysToLoad = new ArrayList<>(keys.size());
+         List<ColumnFamilyHandle> handles = new ArrayList<>(keys.size());
+         for (Map.Entry<Object, Integer> entry : keys.entrySet()) {
+            ColumnFamilyHandle handle = getHandle(entry.getValue());
+            if (handle == null) {
+               log.tracef("Ignoring load of key %s as handle is not currently configured", entry.getKey());
+               continue;
+            }
+            keysToLoad.add(entry.getKey());
+            handles.add(handle);
+         }
+         if (keysToLoad.isEmpty()) {
+            return Flowable.empty();
+         }
+         CompletionStage<List<MarshallableEntry<K, V>>> entriesStage = blockingManager.supplyBlocking(() -> {
+            List<byte[]> marshalledKeys = new ArrayList<>(keysToLoad.size());
+            for (Object key : keysToLoad) {
+               marshalledKeys.add(marshall(key));
+            }
+            List<byte[]> values;
+            try {
+               // A single request for all the keys, RocksDB looks up the keys in the same memtable and files together
+               values = db.multiGetAsList(handles, marshalledKeys);
+            } catch (RocksDBException e) {
+               throw new PersistenceException(e);
+            }
+            long now = timeService.wallClockTime();
+            List<MarshallableEntry<K, V>> entries = new ArrayList<>(values.size());
+            for (int i = 0; i < values.size(); ++i) {
+               MarshallableEntry<K, V> me = unmarshallEntry(keysToLoad.get(i), values.get(i));
+               if (me != null && !me.isExpired(now)) {
+                  entries.add(me);
+               }
+            }
+            return entries;
+         }, "rocksdb-load-all");
+         return Flowable.fromCompletionStage(entriesStage)
+               .concatMapIterable(entries -> entries);
+      }
+
       CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extends V> me) {
          ColumnFamilyHandle handle = getHandle(segment);
          if (handle == null) {
@@ -621,11 +885,11 @@ CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extend
          }
          try {
             byte[] marshalledKey = MarshallUtil.toByteArray(me.getKeyBytes());
-            byte[] marshalledValue = marshall(me.getMarshalledValue());
+            byte[] marshalledValue = marshallValue(me);
             return blockingManager.runBlocking(() -> {
                try {
                   db.put(handle, marshalledKey, marshalledValue);
-                  if (me.expiryTime() > -1) {
+                  if (!inlineExpiration && me.expiryTime() > -1) {
                      addNewExpiry(me);
                   }
                } catch (RocksDBException e) {
@@ -688,6 +952,19 @@ <P> Publisher<P> publish(int segment, Function<RocksIterator, Flowable<P>> funct
 
       abstract RocksIterator wrapIterator(RocksDB db, ReadOptions readOptions, int segment);
 
+      /**
+       * Removes the expired entries by scanning the data, only used with the INLINE expiration mode.
+       */
+      abstract Publisher<MarshallableEntry<K, V>> purgeExpired();
+
+      Flowable<MarshallableEntry<K, V>> purgeExpired(RocksIterator it) {
+         return Flowable.fromIterable(() -> {
+            // We check expiration based on time of subscription only
+            long now = timeService.wallClockTime();
+            return new ExpiredEntryIterator(it, now);
+         });
+      }
+
       abstract CompletionStage<Void> addSegments(IntSet segments);
 
       abstract CompletionStage<Void> removeSegments(IntSet segments);
@@ -781,6 +1058,11 @@ Publisher<MarshallableEntry<K, V>> publishEntries(IntSet segments, Predicate<? s
          }));
       }
 
+      @Override
+      Publisher<MarshallableEntry<K, V>> purgeExpired() {
+         return publish(-1, this::purgeExpired);
+      }
+
       @Override
       CompletionStage<Long> approximateSize(IntSet segments) {
          return size(segments);
@@ -895,6 +1177,11 @@ Publisher<MarshallableEntry<K, V>> publishEntries(IntSet segments, Predicate<? s
          return handleIteratorFunction(function, segments);
       }
 
+      @Override
+      Publisher<MarshallableEntry<K, V>> purgeExpired() {
+         return handleIteratorFunction(this::purgeExpired, null);
+      }
+
       @Override
       CompletionStage<Long> approximateSize(IntSet segments) {
          return blockingManager.subscribeBlockingCollector(Flowable.fromIterable(segments), Collectors.summingLong(segment -> {
@@ -0,0 +1,22 @@
+package org.infinispan.persistence.rocksdb.configuration;
+
+/**
+ * Defines how the {@link org.infinispan.persistence.rocksdb.RocksDBStore} keeps track of the entries that can expire.
+ *
+ * @since 12.0
+ */
+public enum ExpirationMode {
+   /**
+    * The keys of the entries that can expire are also written, sorted by expiration time, to a separate database.
+    * Purging expired entries only reads the entries that have expired, at the cost of an additional write for every
+    * entry that can expire.
+    */
+   DATABASE,
+   /**
+    * The expiration time is stored in front of the value of every entry and no other database is used. Purging expired
+    * entries scans the data, but only reads the expiration time of the entries that have not expired.
+    * <p>
+    * The mode cannot be changed for a store that already contains data.
+    */
+   INLINE
+}
@@ -16,21 +16,27 @@ public class RocksDBExpirationConfiguration implements ConfigurationInfo {
 
    final static AttributeDefinition<String> EXPIRED_LOCATION = AttributeDefinition.builder("path", null, String.class).immutable().autoPersist(false).xmlName("path").build();
    final static AttributeDefinition<Integer> EXPIRY_QUEUE_SIZE = AttributeDefinition.builder("queueSize", 10000).immutable().autoPersist(false).build();
+   final static AttributeDefinition<ExpirationMode> MODE = AttributeDefinition.builder("mode", ExpirationMode.DATABASE).immutable().autoPersist(false).build();
+   public final static AttributeDefinition<CompressionType> COMPRESSION = AttributeDefinition.builder("compression", CompressionType.NONE).immutable().autoPersist(false).build();
    private final AttributeSet attributes;
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(RocksDBExpirationConfiguration.class, EXPIRED_LOCATION, EXPIRY_QUEUE_SIZE);
+      return new AttributeSet(RocksDBExpirationConfiguration.class, EXPIRED_LOCATION, EXPIRY_QUEUE_SIZE, MODE, COMPRESSION);
    }
 
    static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(EXPIRATION.getLocalName());
 
    private final Attribute<String> expiredLocation;
    private final Attribute<Integer> expiryQueueSize;
+   private final Attribute<ExpirationMode> mode;
+   private final Attribute<CompressionType> compression;
 
    RocksDBExpirationConfiguration(AttributeSet attributes) {
       this.attributes = attributes;
       expiredLocation = attributes.attribute(EXPIRED_LOCATION);
       expiryQueueSize = attributes.attribute(EXPIRY_QUEUE_SIZE);
+      mode = attributes.attribute(MODE);
+      compression = attributes.attribute(COMPRESSION);
    }
 
    @Override
@@ -47,6 +53,20 @@ public String expiredLocation() {
       return expiredLocation.get();
    }
 
+   /**
+    * @return how the entries that can expire are tracked
+    */
+   public ExpirationMode mode() {
+      return mode.get();
+   }
+
+   /**
+    * @return the compression of the expired database, which is independent of the compression of the data
+    */
+   public CompressionType compressionType() {
+      return compression.get();
+   }
+
    /**
     * @deprecated Since 10.1, there is no more queue in {@link org.infinispan.persistence.rocksdb.RocksDBStore}
     */
@@ -1,7 +1,9 @@
 package org.infinispan.persistence.rocksdb.configuration;
 
+import static org.infinispan.persistence.rocksdb.configuration.RocksDBExpirationConfiguration.COMPRESSION;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBExpirationConfiguration.EXPIRED_LOCATION;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBExpirationConfiguration.EXPIRY_QUEUE_SIZE;
+import static org.infinispan.persistence.rocksdb.configuration.RocksDBExpirationConfiguration.MODE;
 
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.ConfigurationBuilderInfo;
@@ -34,6 +36,23 @@ public RocksDBExpirationConfigurationBuilder expiredLocation(String expiredLocat
       return this;
    }
 
+   /**
+    * Defines how the entries that can expire are tracked. Defaults to {@link ExpirationMode#DATABASE}.
+    */
+   public RocksDBExpirationConfigurationBuilder mode(ExpirationMode mode) {
+      attributes.attribute(MODE).set(mode);
+      return this;
+   }
+
+   /**
+    * Defines the compression of the expired database. Only the keys of the entries that can expire are written to it,
+    * so it is configured separately from the compression of the data. Defaults to the RocksDB default.
+    */
+   public RocksDBExpirationConfigurationBuilder compressionType(CompressionType compressionType) {
+      attributes.attribute(COMPRESSION).set(compressionType);
+      return this;
+   }
+
    /**
     * @deprecated Since 10.1, there is no more queue in {@link org.infinispan.persistence.rocksdb.RocksDBStore}
     */
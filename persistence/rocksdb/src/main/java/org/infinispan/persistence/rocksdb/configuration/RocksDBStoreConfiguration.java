@@ -32,11 +32,13 @@ public class RocksDBStoreConfiguration extends AbstractStoreConfiguration implem
    public final static AttributeDefinition<CompressionType> COMPRESSION_TYPE = AttributeDefinition.builder("compressionType", CompressionType.NONE).immutable().autoPersist(false).build();
    final static AttributeDefinition<Integer> BLOCK_SIZE = AttributeDefinition.builder("blockSize", 0).immutable().build();
    final static AttributeDefinition<Long> CACHE_SIZE = AttributeDefinition.builder("cacheSize", 0l).immutable().build();
+   final static AttributeDefinition<Boolean> BLOOM_FILTER = AttributeDefinition.builder("bloomFilter", false).immutable().build();
+   final static AttributeDefinition<Long> WRITE_BUFFER_SIZE = AttributeDefinition.builder("writeBufferSize", 0l).immutable().build();
    final static AttributeDefinition<Integer> CLEAR_THRESHOLD = AttributeDefinition.builder("clearThreshold", 10000).immutable().build();
 
    public static AttributeSet attributeDefinitionSet() {
       return new AttributeSet(RocksDBStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), LOCATION, COMPRESSION_TYPE,
-            BLOCK_SIZE, CACHE_SIZE, CLEAR_THRESHOLD);
+            BLOCK_SIZE, CACHE_SIZE, BLOOM_FILTER, WRITE_BUFFER_SIZE, CLEAR_THRESHOLD);
    }
 
    public static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(ROCKSDB_STORE.getLocalName(), true, false);
@@ -45,6 +47,8 @@ public static AttributeSet attributeDefinitionSet() {
    private final Attribute<CompressionType> compressionType;
    private final Attribute<Integer> blockSize;
    private final Attribute<Long> cacheSize;
+   private final Attribute<Boolean> bloomFilter;
+   private final Attribute<Long> writeBufferSize;
    private final Attribute<Integer> clearThreshold;
    private final RocksDBExpirationConfiguration expiration;
 
@@ -54,6 +58,8 @@ public RocksDBStoreConfiguration(AttributeSet attributes, AsyncStoreConfiguratio
       compressionType = attributes.attribute(COMPRESSION_TYPE);
       blockSize = attributes.attribute(BLOCK_SIZE);
       cacheSize = attributes.attribute(CACHE_SIZE);
+      bloomFilter = attributes.attribute(BLOOM_FILTER);
+      writeBufferSize = attributes.attribute(WRITE_BUFFER_SIZE);
       clearThreshold = attributes.attribute(CLEAR_THRESHOLD);
       this.expiration = expiration;
    }
@@ -85,6 +91,14 @@ public String expiredLocation() {
       return expiration.expiredLocation();
    }
 
+   public ExpirationMode expirationMode() {
+      return expiration.mode();
+   }
+
+   public CompressionType expiredCompressionType() {
+      return expiration.compressionType();
+   }
+
    public CompressionType compressionType() {
       return compressionType.get();
    }
@@ -97,6 +111,20 @@ public Long cacheSize() {
       return cacheSize.get();
    }
 
+   /**
+    * @return whether whole key bloom filters are built for the data, so that lookups of missing keys avoid the disk
+    */
+   public boolean bloomFilter() {
+      return bloomFilter.get();
+   }
+
+   /**
+    * @return the total memory used by the memtables of all the column families, or 0 for the RocksDB defaults
+    */
+   public long writeBufferSize() {
+      return writeBufferSize.get();
+   }
+
    /**
     * @deprecated There is no more queue in {@link org.infinispan.persistence.rocksdb.RocksDBStore}
     */
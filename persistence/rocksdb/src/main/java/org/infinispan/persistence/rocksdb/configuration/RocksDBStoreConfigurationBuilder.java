@@ -2,14 +2,17 @@
 
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBExpirationConfiguration.EXPIRED_LOCATION;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.BLOCK_SIZE;
+import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.BLOOM_FILTER;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.CACHE_SIZE;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.CLEAR_THRESHOLD;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.COMPRESSION_TYPE;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.LOCATION;
+import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.WRITE_BUFFER_SIZE;
 
 import java.util.Collection;
 import java.util.Collections;
 
+import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.ConfigurationBuilderInfo;
 import org.infinispan.commons.configuration.attributes.AttributeSet;
@@ -62,16 +65,56 @@ public RocksDBStoreConfigurationBuilder expiredLocation(String expiredLocation)
       return self();
    }
 
+   /**
+    * Defines how the entries that can expire are tracked. Defaults to {@link ExpirationMode#DATABASE}.
+    */
+   public RocksDBStoreConfigurationBuilder expirationMode(ExpirationMode mode) {
+      expiration.mode(mode);
+      return self();
+   }
+
+   /**
+    * Defines the compression of the expired database, see {@link RocksDBExpirationConfigurationBuilder#compressionType(CompressionType)}.
+    */
+   public RocksDBStoreConfigurationBuilder expiredCompressionType(CompressionType compressionType) {
+      expiration.compressionType(compressionType);
+      return self();
+   }
+
+   /**
+    * The size in bytes of the data blocks. Defaults to the RocksDB default.
+    */
    public RocksDBStoreConfigurationBuilder blockSize(int blockSize) {
       attributes.attribute(BLOCK_SIZE).set(blockSize);
       return self();
    }
 
+   /**
+    * The size in bytes of the LRU block cache shared by all the column families of the store. Defaults to a separate
+    * RocksDB default block cache per column family.
+    */
    public RocksDBStoreConfigurationBuilder cacheSize(long cacheSize) {
       attributes.attribute(CACHE_SIZE).set(cacheSize);
       return self();
    }
 
+   /**
+    * Enables whole key bloom filters, so that lookups of keys that are not in the store rarely read from the disk.
+    */
+   public RocksDBStoreConfigurationBuilder bloomFilter(boolean bloomFilter) {
+      attributes.attribute(BLOOM_FILTER).set(bloomFilter);
+      return self();
+   }
+
+   /**
+    * Bounds the memory used by the memtables of all the column families of the store. When a cache size is configured,
+    * the memtables are charged to the block cache too. Defaults to no bound.
+    */
+   public RocksDBStoreConfigurationBuilder writeBufferSize(long writeBufferSize) {
+      attributes.attribute(WRITE_BUFFER_SIZE).set(writeBufferSize);
+      return self();
+   }
+
    /**
     * @deprecated Since 10.1, there is no more queue in {@link org.infinispan.persistence.rocksdb.RocksDBStore}
     */
@@ -99,6 +142,12 @@ public RocksDBStoreConfigurationBuilder compressionType(CompressionType compress
    public void validate() {
       // how do you validate required attributes?
       super.validate();
+      if (attributes.attribute(CACHE_SIZE).get() < 0) {
+         throw new CacheConfigurationException("The RocksDB cache size cannot be negative");
+      }
+      if (attributes.attribute(WRITE_BUFFER_SIZE).get() < 0) {
+         throw new CacheConfigurationException("The RocksDB write buffer size cannot be negative");
+      }
       expiration.validate();
    }
 
@@ -80,6 +80,22 @@ private void parseRocksDBCacheStore(XMLExtendedStreamReader reader, RocksDBStore
                builder.cacheSize(Long.parseLong(value));
                break;
             }
+            case BLOOM_FILTER: {
+               if (reader.getSchema().since(12, 0)) {
+                  builder.bloomFilter(Boolean.parseBoolean(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+            }
+            case WRITE_BUFFER_SIZE: {
+               if (reader.getSchema().since(12, 0)) {
+                  builder.writeBufferSize(Long.parseLong(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+            }
             default: {
                Parser.parseStoreAttribute(reader, i, builder);
             }
@@ -117,6 +133,22 @@ private void parseExpiry(XMLExtendedStreamReader reader, RocksDBStoreConfigurati
                builder.expiredLocation(value);
                break;
             }
+            case MODE: {
+               if (reader.getSchema().since(12, 0)) {
+                  builder.expirationMode(ExpirationMode.valueOf(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+            }
+            case COMPRESSION: {
+               if (reader.getSchema().since(12, 0)) {
+                  builder.expiredCompressionType(CompressionType.valueOf(value));
+                  break;
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+            }
             case QUEUE_SIZE: {
                if (!reader.getSchema().since(12, 0)) {
                   ignoreAttribute(reader, Attribute.CLEAR_THRESHOLD);
@@ -30,10 +30,14 @@ public void serialize(XMLExtendedStreamWriter writer, RocksDBStoreConfiguration
       }
       RocksDBExpirationConfiguration expiration = configuration.expiration();
       AttributeSet expirationAttrs = expiration.attributes();
-      if (expirationAttrs.attribute(RocksDBExpirationConfiguration.EXPIRED_LOCATION).isModified() || expirationAttrs.attribute(RocksDBExpirationConfiguration.EXPIRY_QUEUE_SIZE).isModified()) {
+      if (expirationAttrs.attribute(RocksDBExpirationConfiguration.EXPIRED_LOCATION).isModified() || expirationAttrs.attribute(RocksDBExpirationConfiguration.EXPIRY_QUEUE_SIZE).isModified()
+            || expirationAttrs.attribute(RocksDBExpirationConfiguration.MODE).isModified()
+            || expirationAttrs.attribute(RocksDBExpirationConfiguration.COMPRESSION).isModified()) {
          writer.writeStartElement(Element.EXPIRATION);
          expirationAttrs.write(writer, RocksDBExpirationConfiguration.EXPIRED_LOCATION, Attribute.PATH);
          expirationAttrs.write(writer, RocksDBExpirationConfiguration.EXPIRY_QUEUE_SIZE, Attribute.QUEUE_SIZE);
+         expirationAttrs.write(writer, RocksDBExpirationConfiguration.MODE, Attribute.MODE);
+         expirationAttrs.write(writer, RocksDBExpirationConfiguration.COMPRESSION, Attribute.COMPRESSION);
          writer.writeEndElement();
       }
       writeCommonStoreElements(writer, configuration);
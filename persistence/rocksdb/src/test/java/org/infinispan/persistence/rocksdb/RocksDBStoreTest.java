@@ -11,13 +11,16 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.io.ByteBufferImpl;
 import org.infinispan.commons.test.CommonsTestingUtil;
+import org.infinispan.commons.test.Exceptions;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.Util;
 import org.infinispan.configuration.cache.Configuration;
@@ -26,10 +29,13 @@
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.marshall.persistence.impl.MarshalledEntryUtil;
 import org.infinispan.persistence.BaseNonBlockingStoreTest;
+import org.infinispan.persistence.rocksdb.configuration.CompressionType;
+import org.infinispan.persistence.rocksdb.configuration.ExpirationMode;
 import org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfigurationBuilder;
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.NonBlockingStore;
 import org.infinispan.persistence.spi.PersistenceException;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
 import org.infinispan.test.fwk.TestInternalCacheEntryFactory;
 import org.testng.AssertJUnit;
 import org.testng.annotations.AfterClass;
@@ -43,6 +49,9 @@ public class RocksDBStoreTest extends BaseNonBlockingStoreTest {
 
    private String tmpDirectory = CommonsTestingUtil.tmpDirectory(this.getClass());
    private boolean segmented;
+   private ExpirationMode expirationMode = ExpirationMode.DATABASE;
+   private long cacheSize;
+   private long writeBufferSize;
    public static final String KEY_1 = "key1";
    public static final String KEY_2 = "key2";
 
@@ -56,17 +65,34 @@ public RocksDBStoreTest segmented(boolean segmented) {
       return this;
    }
 
+   public RocksDBStoreTest expirationMode(ExpirationMode expirationMode) {
+      this.expirationMode = expirationMode;
+      return this;
+   }
+
+   public RocksDBStoreTest sharedResources(long cacheSize, long writeBufferSize) {
+      this.cacheSize = cacheSize;
+      this.writeBufferSize = writeBufferSize;
+      return this;
+   }
+
    @Factory
    public Object[] factory() {
       return new Object[] {
             new RocksDBStoreTest().segmented(false),
             new RocksDBStoreTest().segmented(true),
+            new RocksDBStoreTest().segmented(false).expirationMode(ExpirationMode.INLINE),
+            new RocksDBStoreTest().segmented(true).expirationMode(ExpirationMode.INLINE),
+            // The memtables are charged to the shared block cache
+            new RocksDBStoreTest().segmented(true).sharedResources(1 << 20, 1 << 20),
+            // The write buffer manager uses its own cache
+            new RocksDBStoreTest().segmented(true).sharedResources(0, 1 << 20),
       };
    }
 
    @Override
    protected String parameters() {
-      return "[" + segmented + "]";
+      return "[" + segmented + ", " + expirationMode + ", " + cacheSize + ", " + writeBufferSize + "]";
    }
 
    @Override
@@ -83,6 +109,13 @@ protected RocksDBStoreConfigurationBuilder createCacheStoreConfig(PersistenceCon
       cfg.location(tmpDirectory);
       cfg.expiredLocation(tmpDirectory);
       cfg.clearThreshold(2);
+      cfg.expirationMode(expirationMode);
+      if (cacheSize > 0) {
+         cfg.cacheSize(cacheSize);
+         cfg.bloomFilter(true);
+         cfg.expiredCompressionType(CompressionType.NONE);
+      }
+      cfg.writeBufferSize(writeBufferSize);
       return cfg;
    }
 
@@ -201,6 +234,26 @@ public void testClear() {
       assertEmpty(null);
    }
 
+   public void testChangedExpirationModeReleasesDatabase() {
+      MarshallableEntry me1 = marshallableEntryFactory.create(KEY_1, "value1");
+      store.write(me1);
+      store.stopAndWait();
+
+      ExpirationMode originalMode = expirationMode;
+      expirationMode = originalMode == ExpirationMode.INLINE ? ExpirationMode.DATABASE : ExpirationMode.INLINE;
+      try {
+         Configuration changedConfig = buildConfig(TestCacheManagerFactory.getDefaultCacheConfiguration(false));
+         Exceptions.expectException(CompletionException.class, CacheConfigurationException.class,
+               () -> store.startAndWait(createContext(changedConfig)));
+      } finally {
+         expirationMode = originalMode;
+      }
+
+      // The failed start must have closed the database, otherwise its lock prevents opening it again
+      store.startAndWait(createContext(buildConfig(TestCacheManagerFactory.getDefaultCacheConfiguration(false))));
+      assertTrue(store.contains(KEY_1));
+   }
+
    private void assertEmpty(IntSet segments) {
       assertEquals(0, (long) join(store.size(segments)));
 
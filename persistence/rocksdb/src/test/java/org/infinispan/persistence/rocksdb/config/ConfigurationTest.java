@@ -19,6 +19,7 @@
 import org.infinispan.configuration.parsing.ParserRegistry;
 import org.infinispan.manager.DefaultCacheManager;
 import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.persistence.rocksdb.configuration.CompressionType;
 import org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration;
 import org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfigurationBuilder;
 import org.infinispan.test.AbstractInfinispanTest;
@@ -43,13 +44,16 @@ public void testConfigBuilder() {
             .build();
 
       Configuration cacheConfig = new ConfigurationBuilder().persistence().addStore(RocksDBStoreConfigurationBuilder.class).location(tmpDataDirectory)
-            .expiredLocation(tmpExpiredDirectory).build();
+            .expiredLocation(tmpExpiredDirectory).cacheSize(1 << 20).bloomFilter(true).writeBufferSize(1 << 20).build();
 
       StoreConfiguration cacheLoaderConfig = cacheConfig.persistence().stores().get(0);
       assertTrue(cacheLoaderConfig instanceof RocksDBStoreConfiguration);
       RocksDBStoreConfiguration rocksdbConfig = (RocksDBStoreConfiguration) cacheLoaderConfig;
       assertEquals(tmpDataDirectory, rocksdbConfig.location());
       assertEquals(tmpExpiredDirectory, rocksdbConfig.expiredLocation());
+      assertEquals(1 << 20, rocksdbConfig.cacheSize().longValue());
+      assertTrue(rocksdbConfig.bloomFilter());
+      assertEquals(1 << 20, rocksdbConfig.writeBufferSize());
 
       EmbeddedCacheManager cacheManager = new DefaultCacheManager(globalConfig);
 
@@ -59,6 +63,7 @@ public void testConfigBuilder() {
       Cache<String, String> cache = cacheManager.getCache("testCache");
 
       cache.put("hello", "there");
+      assertEquals("there", cache.get("hello"));
       cache.stop();
       cacheManager.stop();
    }
@@ -82,5 +87,10 @@ public void testXmlConfig() throws IOException {
       RocksDBStoreConfiguration rocksdbConfig = (RocksDBStoreConfiguration) cacheLoaderConfig;
       assertEquals("/tmp/rocksdb/52/data", rocksdbConfig.location());
       assertEquals("/tmp/rocksdb/52/expired", rocksdbConfig.expiredLocation());
+      assertEquals(33554432, rocksdbConfig.cacheSize().longValue());
+      assertTrue(rocksdbConfig.bloomFilter());
+      assertEquals(16777216, rocksdbConfig.writeBufferSize());
+      assertEquals(CompressionType.LZ4, rocksdbConfig.expiredCompressionType());
+      assertEquals(CompressionType.NONE, rocksdbConfig.compressionType());
    }
 }
@@ -1,13 +1,16 @@
 package org.infinispan.persistence.sifs;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.infinispan.commons.marshall.Marshaller;
 import org.infinispan.commons.time.TimeService;
@@ -17,15 +20,21 @@
  * Component keeping the data about log file usage - as soon as entries from some file are overwritten so that the file
  * becomes cluttered with old records, the valid records are moved to another file and the old ones are dropped.
  * Expired records are moved as tombstones without values (records of entry removal).
+ * <p>
+ * The files with most free space are compacted first. When a rate limit is configured, the compactor sleeps between
+ * records so that the bytes it reads and writes don't exceed the limit, spreading the I/O of the compaction over time.
  *
  * @author Radim Vansa &lt;rvansa@redhat.com&gt;
  */
 class Compactor extends Thread {
    private static final Log log = LogFactory.getLog(Compactor.class, Log.class);
    private static final boolean trace = log.isTraceEnabled();
+   private static final long MAX_THROTTLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
 
    private final ConcurrentMap<Integer, Stats> fileStats = new ConcurrentHashMap<Integer, Stats>();
-   private final BlockingQueue<Integer> scheduledCompaction = new LinkedBlockingQueue<Integer>();
+   // files with more free space are compacted first
+   private final BlockingQueue<ScheduledFile> scheduledCompaction = new PriorityBlockingQueue<>(11,
+         (f1, f2) -> Integer.compare(f2.free, f1.free));
    private final BlockingQueue<IndexRequest> indexQueue;
    private final FileProvider fileProvider;
    private final TemporaryTable temporaryTable;
@@ -33,6 +42,9 @@ class Compactor extends Thread {
    private final TimeService timeService;
    private final int maxFileSize;
    private final double compactionThreshold;
+   private final long rateLimit;
+   private final LongAdder compactedBytes = new LongAdder();
+   private final LongAdder compactionNanos = new LongAdder();
 
    private Index index;
    // as processing single scheduled compaction takes a lot of time, we don't use the queue to signalize
@@ -40,12 +52,14 @@ class Compactor extends Thread {
    private volatile boolean terminateSignal = false;
    private volatile CountDownLatch compactorResume;
    private volatile CountDownLatch compactorStop;
-
+   // accessed only by the compactor thread, the time when the bytes compacted so far are within the rate limit
+   private long throttleDeadline = System.nanoTime();
 
    public Compactor(FileProvider fileProvider,
                     TemporaryTable temporaryTable,
                     BlockingQueue<IndexRequest> indexQueue,
-                    Marshaller marshaller, TimeService timeService, int maxFileSize, double compactionThreshold) {
+                    Marshaller marshaller, TimeService timeService, int maxFileSize, double compactionThreshold,
+                    long rateLimit) {
       super("BCS-Compactor");
       this.fileProvider = fileProvider;
       this.temporaryTable = temporaryTable;
@@ -54,6 +68,7 @@ public Compactor(FileProvider fileProvider,
       this.timeService = timeService;
       this.maxFileSize = maxFileSize;
       this.compactionThreshold = compactionThreshold;
+      this.rateLimit = rateLimit;
       this.start();
    }
 
@@ -79,6 +94,35 @@ public void completeFile(int file) {
       }
    }
 
+   /**
+    * @return the number of bytes read and written by the compactor
+    */
+   public long getCompactedBytes() {
+      return compactedBytes.sum();
+   }
+
+   /**
+    * @return the average number of bytes read and written per second while compacting a file
+    */
+   public double getCompactionThroughput() {
+      long nanos = compactionNanos.sum();
+      return nanos == 0 ? 0 : compactedBytes.sum() * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+   }
+
+   /**
+    * @return the ratio of free space to the total size of each data file, by file id
+    */
+   public Map<Integer, Double> getFileGarbageRatios() {
+      Map<Integer, Double> ratios = new HashMap<>();
+      for (Map.Entry<Integer, Stats> entry : fileStats.entrySet()) {
+         int total = entry.getValue().getTotal();
+         if (total > 0) {
+            ratios.put(entry.getKey(), Math.min(1d, (double) entry.getValue().getFree() / total));
+         }
+      }
+      return ratios;
+   }
+
    private Stats getStats(int file) {
       Stats stats = fileStats.get(file);
       if (stats == null) {
@@ -113,7 +157,7 @@ private void schedule(int file, Stats stats) {
             if (!stats.isScheduled()) {
                log.debug(String.format("Scheduling file %d for compaction: %d/%d free", file, stats.free.get(), stats.total));
                stats.setScheduled();
-               scheduledCompaction.put(file);
+               scheduledCompaction.put(new ScheduledFile(file, stats.getFree()));
             }
          }
       } catch (InterruptedException e) {
@@ -130,7 +174,10 @@ public void run() {
          for(;;) {
             Integer scheduledFile = null;
             try {
-               scheduledFile = scheduledCompaction.poll(1, TimeUnit.MINUTES);
+               ScheduledFile scheduled = scheduledCompaction.poll(1, TimeUnit.MINUTES);
+               if (scheduled != null) {
+                  scheduledFile = scheduled.file;
+               }
             } catch (InterruptedException e) {
             }
             if (terminateSignal) {
@@ -155,6 +202,7 @@ public void run() {
             }
 
             log.debugf("Compacting file %d", scheduledFile);
+            long compactionStart = System.nanoTime();
             int scheduledOffset = 0;
             FileProvider.Handle handle = fileProvider.getFile(scheduledFile);
             if (handle == null) {
@@ -226,6 +274,7 @@ public void run() {
                               header.valueLength() > 0 ? "record" : "tombstone");
                      }
                      indexQueue.put(IndexRequest.dropped(key, serializedKey, scheduledFile, scheduledOffset));
+                     throttle(header.totalLength());
                   } else {
                      if (logFile == null || currentOffset + header.totalLength() > maxFileSize) {
                         if (logFile != null) {
@@ -292,11 +341,13 @@ public void run() {
                            scheduledFile, indexedOffset));
 
                      currentOffset += writtenLength;
+                     throttle(header.totalLength() + writtenLength);
                   }
                   scheduledOffset += header.totalLength();
                }
             } finally {
                handle.close();
+               compactionNanos.add(System.nanoTime() - compactionStart);
             }
             if (terminateSignal) {
                if (logFile != null) {
@@ -310,6 +361,8 @@ public void run() {
             } else {
                // The deletion must be executed only after the index is fully updated.
                log.debugf("Finished compacting %d, scheduling delete", scheduledFile);
+               // Records are not read from the compacted file anymore, unmap it as soon as the readers are done
+               fileProvider.releaseMapping(scheduledFile);
                indexQueue.put(IndexRequest.deleteFileRequest(scheduledFile));
             }
          }
@@ -318,6 +371,25 @@ public void run() {
       }
    }
 
+   /**
+    * Records the bytes read or written by the compactor and, if a rate limit is configured, sleeps until the bytes
+    * are within the limit. The budget is kept across files, so compacting many small files does not exceed the limit,
+    * but the time the compactor was idle does not allow a burst afterwards.
+    */
+   private void throttle(int bytes) throws InterruptedException {
+      compactedBytes.add(bytes);
+      if (rateLimit <= 0) {
+         return;
+      }
+      throttleDeadline = Math.max(throttleDeadline, System.nanoTime())
+            + (long) (bytes * (double) TimeUnit.SECONDS.toNanos(1) / rateLimit);
+      long remaining;
+      while (!clearSignal && !terminateSignal && (remaining = throttleDeadline - System.nanoTime()) > 0) {
+         // sleep in short steps to react to clear and stop requests
+         TimeUnit.NANOSECONDS.sleep(Math.min(remaining, MAX_THROTTLE_NANOS));
+      }
+   }
+
    private void pauseCompactor(FileProvider.Log logFile) throws IOException, InterruptedException {
       if (logFile != null) {
          logFile.close();
@@ -331,7 +403,7 @@ public void clearAndPause() throws InterruptedException {
       compactorResume = new CountDownLatch(1);
       compactorStop = new CountDownLatch(1);
       clearSignal = true;
-      scheduledCompaction.put(-1);
+      scheduledCompaction.put(ScheduledFile.SIGNAL);
       compactorStop.await();
       scheduledCompaction.clear();
       fileStats.clear();
@@ -344,10 +416,23 @@ public void resumeAfterPause() {
 
    public void stopOperations() throws InterruptedException {
       terminateSignal = true;
-      scheduledCompaction.put(-1);
+      scheduledCompaction.put(ScheduledFile.SIGNAL);
       this.join();
    }
 
+   private static class ScheduledFile {
+      // wakes up the compactor before any scheduled file to handle the clear and stop signals
+      static final ScheduledFile SIGNAL = new ScheduledFile(-1, Integer.MAX_VALUE);
+
+      final int file;
+      final int free;
+
+      ScheduledFile(int file, int free) {
+         this.file = file;
+         this.free = free;
+      }
+   }
+
    private static class Stats {
       private final AtomicInteger free;
       private volatile int total;
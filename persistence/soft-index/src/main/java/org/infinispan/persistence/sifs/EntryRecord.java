@@ -62,11 +62,15 @@ public EntryRecord loadMetadataAndValue(FileProvider.Handle handle, int offset)
    }
 
    public static EntryHeader readEntryHeader(FileProvider.Handle handle, long offset) throws IOException {
-      ByteBuffer header = ByteBuffer.allocate(EntryHeader.HEADER_SIZE_11_0);
-      if (read(handle, header, offset, EntryHeader.HEADER_SIZE_11_0) < 0) {
-         return null;
+      // when the file is mapped the header is parsed directly from the mapping
+      ByteBuffer header = handle.slice(offset, EntryHeader.HEADER_SIZE_11_0);
+      if (header == null) {
+         header = ByteBuffer.allocate(EntryHeader.HEADER_SIZE_11_0);
+         if (read(handle, header, offset, EntryHeader.HEADER_SIZE_11_0) < 0) {
+            return null;
+         }
+         header.flip();
       }
-      header.flip();
       try {
          return new EntryHeader(header);
       } catch (IllegalStateException e) {
@@ -75,11 +79,15 @@ public static EntryHeader readEntryHeader(FileProvider.Handle handle, long offse
    }
 
    public static EntryHeader readOldEntryHeader(FileProvider.Handle handle, long offset) throws IOException {
-      ByteBuffer header = ByteBuffer.allocate(EntryHeader.HEADER_SIZE_10_1);
-      if (read(handle, header, offset, EntryHeader.HEADER_SIZE_10_1) < 0) {
-         return null;
+      // when the file is mapped the header is parsed directly from the mapping
+      ByteBuffer header = handle.slice(offset, EntryHeader.HEADER_SIZE_10_1);
+      if (header == null) {
+         header = ByteBuffer.allocate(EntryHeader.HEADER_SIZE_10_1);
+         if (read(handle, header, offset, EntryHeader.HEADER_SIZE_10_1) < 0) {
+            return null;
+         }
+         header.flip();
       }
-      header.flip();
       try {
          return new EntryHeader(header, true);
       } catch (IllegalStateException e) {
@@ -107,12 +115,15 @@ public static EntryMetadata readMetadata(FileProvider.Handle handle, EntryHeader
       }
 
       offset += metaLength;
-      ByteBuffer buffer = ByteBuffer.allocate(EntryMetadata.TIMESTAMP_BYTES);
-      if (read(handle, buffer, offset, EntryMetadata.TIMESTAMP_BYTES) < 0) {
-         throw new IllegalStateException("End of file reached when reading timestamps on "
-               + handle.getFileId() + ":" + offset + ": " + header);
+      ByteBuffer buffer = handle.slice(offset, EntryMetadata.TIMESTAMP_BYTES);
+      if (buffer == null) {
+         buffer = ByteBuffer.allocate(EntryMetadata.TIMESTAMP_BYTES);
+         if (read(handle, buffer, offset, EntryMetadata.TIMESTAMP_BYTES) < 0) {
+            throw new IllegalStateException("End of file reached when reading timestamps on "
+                  + handle.getFileId() + ":" + offset + ": " + header);
+         }
+         buffer.flip();
       }
-      buffer.flip();
       return new EntryMetadata(metadata, buffer.getLong(), buffer.getLong());
    }
 
@@ -6,7 +6,10 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.HashSet;
@@ -27,6 +30,10 @@
 /**
  * Provides resource management for files - only limited amount of files may be opened in one moment, and opened file
  * should not be deleted. Also allows to generate file indexes.
+ * <p>
+ * When a mapped files limit is configured, files that are no longer appended to are mapped into memory when opened and
+ * reads through the {@link Handle} are served from the mapping without any system call. The mapping is released
+ * together with the file, thus the amount of mapped files never exceeds the amount of open files.
  *
  * @author Radim Vansa &lt;rvansa@redhat.com&gt;
  */
@@ -45,11 +52,21 @@ public class FileProvider {
    private final Set<Integer> logFiles = new HashSet<>();
    private final Set<FileIterator> iterators = ConcurrentHashMap.newKeySet();
    private final String prefix;
+   private final int mappedFilesLimit;
+   private final AtomicInteger currentMappedFiles = new AtomicInteger(0);
 
    private int nextFileId = 0;
 
    public FileProvider(Path dataDir, int openFileLimit, String prefix) {
+      this(dataDir, openFileLimit, prefix, 0);
+   }
+
+   /**
+    * @param mappedFilesLimit maximum number of files that are mapped into memory at once; 0 disables mapping
+    */
+   public FileProvider(Path dataDir, int openFileLimit, String prefix, int mappedFilesLimit) {
       this.openFileLimit = openFileLimit;
+      this.mappedFilesLimit = mappedFilesLimit;
       this.recordQueue = new ArrayBlockingQueue<>(openFileLimit);
       this.dataDir = dataDir.toFile();
       this.prefix = prefix;
@@ -92,6 +109,7 @@ public Handle getFile(int fileId) throws IOException {
                         if (other.isOpen()) {
                            // we have allocated opening a new file but then we use an old one
                            currentOpenFiles.decrementAndGet();
+                           other.mapIfSealed();
                            return new Handle(other);
                         }
                      }
@@ -102,6 +120,7 @@ public Handle getFile(int fileId) throws IOException {
                         if (!newRecord.isOpen()) {
                            throw new IllegalStateException();
                         }
+                        newRecord.mapIfSealed();
                         handle = new Handle(newRecord);
                      }
                      try {
@@ -115,6 +134,7 @@ public Handle getFile(int fileId) throws IOException {
             }
             synchronized (record) {
                if (record.isOpen()) {
+                  record.mapIfSealed();
                   return new Handle(record);
                }
             }
@@ -282,6 +302,26 @@ public void deleteFile(int fileId) {
       }
    }
 
+   /**
+    * Releases the memory mapping of the given file as soon as it is not read anymore and prevents it from being mapped
+    * again. This should be invoked once the file is not expected to be read, e.g. when it was compacted.
+    */
+   public void releaseMapping(int fileId) {
+      Record record = openFiles.get(fileId);
+      if (record != null) {
+         synchronized (record) {
+            record.releaseMapping();
+         }
+      }
+   }
+
+   /**
+    * @return number of files currently mapped into memory
+    */
+   public int getMappedFiles() {
+      return currentMappedFiles.get();
+   }
+
    public void stop() {
       int open = currentOpenFiles.get();
       while (open > 0) {
@@ -335,9 +375,41 @@ private Handle(Record record) {
 
       public int read(ByteBuffer buffer, long offset) throws IOException {
          if (!usable) throw new IllegalStateException();
+         ByteBuffer mapped = record.mapped;
+         if (mapped != null) {
+            if (offset >= mapped.limit()) {
+               return -1;
+            }
+            int length = (int) Math.min(buffer.remaining(), mapped.limit() - offset);
+            buffer.put(slice(mapped, (int) offset, length));
+            return length;
+         }
          return record.getFileChannel().read(buffer, offset);
       }
 
+      /**
+       * Returns a read-only view of the file contents without copying them, if the file is mapped into memory.
+       *
+       * @return buffer positioned at the requested offset with exactly <code>length</code> bytes remaining, or
+       * <code>null</code> if the file is not mapped or the range exceeds the file
+       */
+      public ByteBuffer slice(long offset, int length) {
+         if (!usable) throw new IllegalStateException();
+         ByteBuffer mapped = record.mapped;
+         if (mapped == null || offset + length > mapped.limit()) {
+            return null;
+         }
+         return slice(mapped, (int) offset, length);
+      }
+
+      private static ByteBuffer slice(ByteBuffer mapped, int offset, int length) {
+         // duplicate so that concurrent readers don't share the position
+         ByteBuffer slice = mapped.duplicate();
+         slice.limit(offset + length);
+         slice.position(offset);
+         return slice;
+      }
+
       @Override
       public void close() throws IOException {
          usable = false;
@@ -360,6 +432,9 @@ private class Record {
       private FileChannel fileChannel;
       private int handleCount;
       private boolean deleteOnClose = false;
+      private boolean mappingReleased = false;
+      // read-only mapping of the whole file, accessed by handles without synchronization
+      private volatile ByteBuffer mapped;
 
       private Record(FileChannel fileChannel, int fileId) {
          this.fileChannel = fileChannel;
@@ -376,9 +451,13 @@ void increaseHandleCount() {
 
       void decreaseHandleCount() throws IOException {
          handleCount--;
+         if (handleCount == 0 && mappingReleased) {
+            unmap();
+         }
          if (handleCount == 0 && deleteOnClose) {
             // we cannot easily remove the record from queue - keep it there until collection,
             // but physically close and delete the file
+            unmap();
             fileChannel.close();
             fileChannel = null;
             openFiles.remove(fileId, this);
@@ -398,7 +477,52 @@ public int getFileId() {
          return fileId;
       }
 
+      /**
+       * Maps the file into memory if mapping is enabled, the file is not being appended to anymore and the limit of
+       * mapped files has not been reached yet. Must be called while holding the read lock and the record monitor.
+       */
+      void mapIfSealed() {
+         if (mappedFilesLimit <= 0 || mapped != null || mappingReleased || logFiles.contains(fileId)) {
+            return;
+         }
+         int current;
+         do {
+            current = currentMappedFiles.get();
+            if (current >= mappedFilesLimit) {
+               // the file will be read through the channel
+               return;
+            }
+         } while (!currentMappedFiles.compareAndSet(current, current + 1));
+         try {
+            long size = fileChannel.size();
+            if (size > 0 && size <= Integer.MAX_VALUE) {
+               mapped = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+               return;
+            }
+         } catch (IOException e) {
+            log.debugf(e, "Cannot map file %d", fileId);
+         }
+         currentMappedFiles.decrementAndGet();
+      }
+
+      void releaseMapping() {
+         mappingReleased = true;
+         if (handleCount == 0) {
+            unmap();
+         }
+      }
+
+      private void unmap() {
+         ByteBuffer mapped = this.mapped;
+         if (mapped != null) {
+            this.mapped = null;
+            currentMappedFiles.decrementAndGet();
+            Unmapper.unmap(mapped);
+         }
+      }
+
       public void close() throws IOException {
+         unmap();
          fileChannel.close();
          fileChannel = null;
          if (deleteOnClose) {
@@ -414,6 +538,7 @@ public void delete() {
 
       public void deleteOnClose() throws IOException {
          if (handleCount == 0) {
+            unmap();
             if (fileChannel != null) {
                fileChannel.close();
                fileChannel = null;
@@ -454,4 +579,53 @@ public Integer next() {
          return diskFiles.hasNext() ? diskFiles.next() : addedFiles.poll();
       }
    }
+
+   /**
+    * Releases memory mappings eagerly, as otherwise these would be released only when the buffer is garbage collected
+    * and the file could not be deleted on some platforms. Must be invoked only when no thread can access the buffer
+    * anymore.
+    */
+   private static final class Unmapper {
+      private static final Object UNSAFE;
+      private static final Method INVOKE_CLEANER;
+
+      static {
+         Object unsafe = null;
+         Method invokeCleaner = null;
+         try {
+            // JDK 9+
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+         } catch (Exception e) {
+            invokeCleaner = null;
+         }
+         UNSAFE = unsafe;
+         INVOKE_CLEANER = invokeCleaner;
+      }
+
+      static void unmap(ByteBuffer buffer) {
+         if (!(buffer instanceof MappedByteBuffer)) {
+            return;
+         }
+         try {
+            if (INVOKE_CLEANER != null) {
+               INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+               // JDK 8
+               Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+               cleanerMethod.setAccessible(true);
+               Object cleaner = cleanerMethod.invoke(buffer);
+               if (cleaner != null) {
+                  cleaner.getClass().getMethod("clean").invoke(cleaner);
+               }
+            }
+         } catch (Exception e) {
+            // the mapping will be released when the buffer is collected
+            log.debugf(e, "Cannot unmap buffer");
+         }
+      }
+   }
 }
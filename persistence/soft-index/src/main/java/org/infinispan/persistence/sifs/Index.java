@@ -18,6 +18,8 @@
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.infinispan.commons.time.TimeService;
+import org.infinispan.container.offheap.OffHeapMemoryAllocator;
+import org.infinispan.container.offheap.UnpooledOffHeapMemoryAllocator;
 import org.infinispan.util.logging.LogFactory;
 
 /**
@@ -33,6 +35,7 @@ class Index {
    private static final int GRACEFULLY = 0x512ACEF0;
    private static final int DIRTY = 0xD112770C;
    private static final int INDEX_FILE_HEADER_SIZE = 30;
+   private static final int NODE_CACHE_STRIPES = 16;
 
    private final Path indexDir;
    private final FileProvider fileProvider;
@@ -42,9 +45,14 @@ class Index {
    private final ReadWriteLock lock = new ReentrantReadWriteLock();
    private final Segment[] segments;
    private final TimeService timeService;
+   private final OffHeapMemoryAllocator nodeCacheAllocator;
 
+   /**
+    * @param offHeapCacheSize size of the off-heap cache of index nodes, in bytes, split evenly between the segments;
+    *                         when 0 the nodes are only cached in softly referenced heap objects
+    */
    public Index(FileProvider fileProvider, Path indexDir, int segments, int minNodeSize, int maxNodeSize,
-                IndexQueue indexQueue, TemporaryTable temporaryTable, Compactor compactor,
+                long offHeapCacheSize, IndexQueue indexQueue, TemporaryTable temporaryTable, Compactor compactor,
                 TimeService timeService) throws IOException {
       this.fileProvider = fileProvider;
       this.compactor = compactor;
@@ -54,9 +62,12 @@ public Index(FileProvider fileProvider, Path indexDir, int segments, int minNode
       this.maxNodeSize = maxNodeSize;
       indexDir.toFile().mkdirs();
 
+      this.nodeCacheAllocator = offHeapCacheSize > 0 ? new UnpooledOffHeapMemoryAllocator() : null;
       this.segments = new Segment[segments];
       for (int i = 0; i < segments; ++i) {
-         this.segments[i] = new Segment(i, indexQueue.subQueue(i), temporaryTable);
+         OffHeapBlockCache nodeCache = offHeapCacheSize > 0 ?
+               new OffHeapBlockCache(nodeCacheAllocator, Math.max(1, offHeapCacheSize / segments), NODE_CACHE_STRIPES) : null;
+         this.segments[i] = new Segment(i, indexQueue.subQueue(i), temporaryTable, nodeCache);
       }
    }
 
@@ -133,6 +144,39 @@ public void clear() throws IOException {
       }
    }
 
+   /**
+    * @return the off-heap memory used by the index node cache, in bytes
+    */
+   public long getOffHeapCacheMemory() {
+      return nodeCacheAllocator == null ? 0 : nodeCacheAllocator.getAllocatedAmount();
+   }
+
+   /**
+    * @return the number of index nodes loaded from the off-heap cache instead of the index file
+    */
+   public long getOffHeapCacheHits() {
+      long hits = 0;
+      for (Segment seg : segments) {
+         if (seg.nodeCache != null) {
+            hits += seg.nodeCache.hits();
+         }
+      }
+      return hits;
+   }
+
+   /**
+    * @return the number of index nodes not found in the off-heap cache and loaded from the index file
+    */
+   public long getOffHeapCacheMisses() {
+      long misses = 0;
+      for (Segment seg : segments) {
+         if (seg.nodeCache != null) {
+            misses += seg.nodeCache.misses();
+         }
+      }
+      return misses;
+   }
+
    public void stopOperations() throws InterruptedException {
       for (Segment seg : segments) {
          seg.stopOperations();
@@ -150,6 +194,8 @@ public long size() throws InterruptedException {
    class Segment extends Thread {
       private final BlockingQueue<IndexRequest> indexQueue;
       private final TemporaryTable temporaryTable;
+      // holds the serialized nodes by their offset in the index file, null when the off-heap cache is disabled
+      private final OffHeapBlockCache nodeCache;
       private final TreeMap<Short, List<IndexSpace>> freeBlocks = new TreeMap<>();
       private final ReadWriteLock rootLock = new ReentrantReadWriteLock();
       private final File indexFileFile;
@@ -161,11 +207,13 @@ class Segment extends Thread {
       private volatile IndexNode root;
 
 
-      private Segment(int id, BlockingQueue<IndexRequest> indexQueue, TemporaryTable temporaryTable) throws IOException {
+      private Segment(int id, BlockingQueue<IndexRequest> indexQueue, TemporaryTable temporaryTable,
+                      OffHeapBlockCache nodeCache) throws IOException {
          super("BCS-IndexUpdater-" + id);
          this.setDaemon(true);
          this.indexQueue = indexQueue;
          this.temporaryTable = temporaryTable;
+         this.nodeCache = nodeCache;
 
          this.indexFileFile = new File(indexDir.toFile(), "index." + id);
          this.indexFile = new RandomAccessFile(indexFileFile, "rw").getChannel();
@@ -319,6 +367,9 @@ public void setOverwritten(boolean overwritten, int prevFile, int prevOffset) {
             } catch (IOException e) {
                log.failedToCloseIndex(e);
             }
+            if (nodeCache != null) {
+               nodeCache.clear();
+            }
          }
       }
 
@@ -405,6 +456,9 @@ CountDownLatch pauseAndClear() throws InterruptedException, IOException {
          indexFile.truncate(0);
          indexFileSize = INDEX_FILE_HEADER_SIZE;
          freeBlocks.clear();
+         if (nodeCache != null) {
+            nodeCache.clear();
+         }
          size.set(0);
          return pause;
       }
@@ -427,6 +481,10 @@ public Compactor getCompactor() {
          return compactor;
       }
 
+      OffHeapBlockCache getNodeCache() {
+         return nodeCache;
+      }
+
       public IndexNode getRoot() {
          // this has to be called with rootLock locked!
          return root;
@@ -461,6 +519,9 @@ IndexSpace allocateIndexSpace(short length) {
       // this should be accessed only from the updater thread
       void freeIndexSpace(long offset, short length) {
          if (length <= 0) throw new IllegalArgumentException("Offset=" + offset + ", length=" + length);
+         if (nodeCache != null) {
+            nodeCache.remove(offset);
+         }
          // TODO: fragmentation!
          // TODO: memory bounds!
          if (offset + length < indexFileSize) {
@@ -1,7 +1,9 @@
 package org.infinispan.persistence.sifs;
 
 import java.io.IOException;
+import java.lang.ref.Reference;
 import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
@@ -21,6 +23,9 @@
  * The recursive index structure. References to children are held in soft references,
  * which allows JVM-handled caching and reduces the amount of reads required while
  * evading OOMs if the index gets too big.
+ * When the segment has an off-heap node cache, the references are weak instead and
+ * the nodes are reloaded from their serialized form in the off-heap cache, falling
+ * back to the index file.
  *
  * @author Radim Vansa &lt;rvansa@redhat.com&gt;
  */
@@ -60,7 +65,7 @@ public enum RecordChange {
       this.offset = offset;
       this.occupiedSpace = occupiedSpace;
 
-      ByteBuffer buffer = loadBuffer(segment.getIndexFile(), offset, occupiedSpace);
+      ByteBuffer buffer = loadBuffer(segment, offset, occupiedSpace);
 
       prefix = new byte[buffer.getShort()];
       buffer.get(prefix);
@@ -94,6 +99,22 @@ public enum RecordChange {
       }
    }
 
+   private static ByteBuffer loadBuffer(Index.Segment segment, long offset, int occupiedSpace) throws IOException {
+      OffHeapBlockCache nodeCache = segment.getNodeCache();
+      if (nodeCache == null) {
+         return loadBuffer(segment.getIndexFile(), offset, occupiedSpace);
+      }
+      byte[] cached = nodeCache.get(offset);
+      if (cached != null) {
+         return ByteBuffer.wrap(cached);
+      }
+      // the stamp prevents caching the node if the updater thread rewrites or frees it while we read the file
+      long stamp = nodeCache.stamp(offset);
+      ByteBuffer buffer = loadBuffer(segment.getIndexFile(), offset, occupiedSpace);
+      nodeCache.putIfUnchanged(offset, buffer.array(), 0, buffer.limit(), stamp);
+      return buffer;
+   }
+
    private static ByteBuffer loadBuffer(FileChannel indexFile, long offset, int occupiedSpace) throws IOException {
       ByteBuffer buffer = ByteBuffer.allocate(occupiedSpace);
       int read = 0;
@@ -194,6 +215,10 @@ void store(Index.IndexSpace indexSpace) throws IOException {
       }
       buffer.flip();
       segment.getIndexFile().write(buffer, offset);
+      OffHeapBlockCache nodeCache = segment.getNodeCache();
+      if (nodeCache != null) {
+         nodeCache.put(offset, buffer.array(), 0, buffer.limit());
+      }
 
       if (trace) {
          log.tracef("Persisted %08x (length %d, %d %s) to %d:%d", System.identityHashCode(this), length(),
@@ -893,7 +918,7 @@ public void setOverwritten(boolean overwritten, int prevFile, int prevOffset) {
    }
 
    static class InnerNode extends Index.IndexSpace {
-      private volatile SoftReference<IndexNode> reference;
+      private volatile Reference<IndexNode> reference;
 
       InnerNode(long offset, short length) {
          super(offset, length);
@@ -901,7 +926,12 @@ static class InnerNode extends Index.IndexSpace {
 
       InnerNode(IndexNode node) {
          super(node.offset, node.occupiedSpace);
-         reference = new SoftReference<>(node);
+         reference = reference(node);
+      }
+
+      private static Reference<IndexNode> reference(IndexNode node) {
+         // with the off-heap cache the node is cheap to reload, so it doesn't have to stay on heap until memory is low
+         return node.segment.getNodeCache() != null ? new WeakReference<>(node) : new SoftReference<>(node);
       }
 
       IndexNode getIndexNode(Index.Segment segment) throws IOException {
@@ -911,7 +941,7 @@ IndexNode getIndexNode(Index.Segment segment) throws IOException {
                if (reference == null || (node = reference.get()) == null) {
                   if (offset < 0) return null;
                   node = new IndexNode(segment, offset, length);
-                  reference = new SoftReference<>(node);
+                  reference = reference(node);
                   if (trace) {
                      log.trace("Loaded inner node from " + offset + " - " + length);
                   }
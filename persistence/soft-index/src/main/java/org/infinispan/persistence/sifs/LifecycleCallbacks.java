@@ -0,0 +1,25 @@
+package org.infinispan.persistence.sifs;
+
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.factories.annotations.InfinispanModule;
+import org.infinispan.lifecycle.ModuleLifecycle;
+import org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfiguration;
+
+/**
+ * Registers the statistics of the caches that use a {@link SoftIndexFileStore}.
+ *
+ * @since 12.0
+ */
+@InfinispanModule(name = "cachestore-sifs", requiredModules = "core")
+public class LifecycleCallbacks implements ModuleLifecycle {
+
+   @Override
+   public void cacheStarting(ComponentRegistry cr, Configuration configuration, String cacheName) {
+      boolean sifs = configuration.persistence().stores().stream()
+            .anyMatch(SoftIndexFileStoreConfiguration.class::isInstance);
+      if (sifs) {
+         cr.registerComponent(new SoftIndexFileStoreStatistics(), SoftIndexFileStoreStatistics.class);
+      }
+   }
+}
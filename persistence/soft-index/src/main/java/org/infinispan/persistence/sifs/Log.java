@@ -84,4 +84,19 @@ public interface Log extends BasicLogger {
 
    @Message(value = "Index looks corrupt.", id = 29020)
    PersistenceException indexLooksCorrupt(@Cause Exception e);
+
+   @Message(value = "Mapped files limit (%d) must be greater than 0.", id = 29021)
+   CacheConfigurationException invalidMappedFilesLimit(int value);
+
+   @Message(value = "Sync writes window (%d) must not be negative.", id = 29022)
+   CacheConfigurationException invalidSyncWritesWindow(long value);
+
+   @Message(value = "Sync writes batch size (%d) must be greater than 0.", id = 29023)
+   CacheConfigurationException invalidSyncWritesBatchSize(int value);
+
+   @Message(value = "Index off-heap cache size (%d) must not be negative.", id = 29024)
+   CacheConfigurationException invalidOffHeapCacheSize(long value);
+
+   @Message(value = "Compaction rate limit (%d) must not be negative.", id = 29025)
+   CacheConfigurationException invalidCompactionRateLimit(long value);
 }
@@ -1,14 +1,20 @@
 package org.infinispan.persistence.sifs;
 
+import java.io.IOException;
 import java.util.concurrent.BlockingQueue;
 
 import org.infinispan.commons.io.ByteBuffer;
+import org.infinispan.commons.stat.SimpleStat;
 import org.infinispan.util.logging.LogFactory;
 
 /**
  * This component has the only thread that polls the queue with requests to write some entry into the cache store.
  * It writes the records to append-only log files, inserts the entry position into TemporaryTable and queues the position
  * to be persisted in Index.
+ * <p>
+ * When writes are synchronous, requests are confirmed only after the log file has been forced to disk. In order to
+ * share a single force among concurrent writers the appender may wait up to the sync writes window for further requests
+ * before forcing, unless the written batch already reached the configured batch size.
  *
  * @author Radim Vansa &lt;rvansa@redhat.com&gt;
  */
@@ -22,14 +28,33 @@ public class LogAppender extends Thread {
    private final int maxFileSize;
    private final Compactor compactor;
    private final FileProvider fileProvider;
+   private final long syncWritesWindowNanos;
+   private final int syncWritesBatchSize;
+   private final SimpleStat syncBatchSizes;
+   private final SimpleStat syncLatencies;
    private LogRequest pausedRequest;
    private long seqId = 0;
+   // requests and bytes written since the last force
+   private int unsyncedRequests;
+   private int unsyncedBytes;
+   private long batchStart;
 
    LogAppender(SyncProcessingQueue<LogRequest> inboundQueue,
                BlockingQueue<IndexRequest> indexQueue,
                TemporaryTable temporaryTable,
                Compactor compactor,
                FileProvider fileProvider, boolean syncWrites, int maxFileSize) {
+      this(inboundQueue, indexQueue, temporaryTable, compactor, fileProvider, syncWrites, maxFileSize, 0, Integer.MAX_VALUE,
+            new SimpleStat() {}, new SimpleStat() {});
+   }
+
+   LogAppender(SyncProcessingQueue<LogRequest> inboundQueue,
+               BlockingQueue<IndexRequest> indexQueue,
+               TemporaryTable temporaryTable,
+               Compactor compactor,
+               FileProvider fileProvider, boolean syncWrites, int maxFileSize,
+               long syncWritesWindowNanos, int syncWritesBatchSize,
+               SimpleStat syncBatchSizes, SimpleStat syncLatencies) {
       super("BCS-LogAppender");
       this.setDaemon(true);
       this.queue = inboundQueue;
@@ -39,6 +64,10 @@ public class LogAppender extends Thread {
       this.fileProvider = fileProvider;
       this.syncWrites = syncWrites;
       this.maxFileSize = maxFileSize;
+      this.syncWritesWindowNanos = syncWritesWindowNanos;
+      this.syncWritesBatchSize = syncWritesBatchSize;
+      this.syncBatchSizes = syncBatchSizes;
+      this.syncLatencies = syncLatencies;
       start();
    }
 
@@ -72,6 +101,7 @@ public void run() {
             LogRequest request = queue.pop();
             if (request != null) {
                if (request.isClear()) {
+                  sync(logFile);
                   logFile.close();
                   queue.notifyNoWait();
                   request.pause();
@@ -80,15 +110,18 @@ public void run() {
                   log.debug("Appending records to " + logFile.fileId);
                   continue;
                } else if (request.isStop()) {
+                  sync(logFile);
                   queue.notifyNoWait();
                   break;
                } else if (request.isPause()) {
+                  sync(logFile);
                   queue.notifyNoWait();
                   request.pause();
                   continue;
                }
                if (currentOffset + request.length() > maxFileSize) {
-                  // switch to next file
+                  // switch to next file, the records written so far have to be durable before we confirm them
+                  sync(logFile);
                   logFile.close();
                   compactor.completeFile(logFile.fileId);
                   currentOffset = 0;
@@ -106,9 +139,27 @@ public void run() {
                request.setIndexRequest(indexRequest);
                indexQueue.put(indexRequest);
                currentOffset += request.length();
-            } else {
                if (syncWrites) {
-                  logFile.fileChannel.force(false);
+                  if (unsyncedRequests++ == 0) {
+                     batchStart = System.nanoTime();
+                  }
+                  unsyncedBytes += request.length();
+                  if (unsyncedBytes >= syncWritesBatchSize) {
+                     // the batch is full, confirm the requests but keep processing the queue
+                     sync(logFile);
+                     queue.notifyNoWait();
+                  }
+               }
+            } else {
+               if (syncWrites && unsyncedRequests > 0) {
+                  long remainingNanos = syncWritesWindowNanos - (System.nanoTime() - batchStart);
+                  // an interrupted appender doesn't wait for the batch to fill up
+                  if (remainingNanos > 0 && !Thread.currentThread().isInterrupted()) {
+                     // give other writers a chance to join the batch
+                     queue.awaitPush(remainingNanos);
+                     continue;
+                  }
+                  sync(logFile);
                }
                queue.notifyAndWait();
             }
@@ -119,6 +170,18 @@ public void run() {
       }
    }
 
+   private void sync(FileProvider.Log logFile) throws IOException {
+      if (unsyncedRequests == 0) {
+         return;
+      }
+      long start = System.nanoTime();
+      logFile.fileChannel.force(false);
+      syncLatencies.record(System.nanoTime() - start);
+      syncBatchSizes.record(unsyncedRequests);
+      unsyncedRequests = 0;
+      unsyncedBytes = 0;
+   }
+
    private byte[] raw(ByteBuffer buffer) {
       if (buffer.getBuf().length == buffer.getLength()) {
          return buffer.getBuf();
@@ -0,0 +1,222 @@
+package org.infinispan.persistence.sifs;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.container.offheap.OffHeapMemory;
+import org.infinispan.container.offheap.OffHeapMemoryAllocator;
+import org.infinispan.container.offheap.UnpooledOffHeapMemoryAllocator;
+
+/**
+ * Bounded cache of byte blocks keyed by a long, such as the offset of an index node in the index file. The blocks are stored
+ * off heap using the provided {@link OffHeapMemoryAllocator} and only a small descriptor per block is kept on the heap.
+ * <p>
+ * The cache is split into stripes, each with its own lock and its own share of the capacity. When a stripe is full
+ * its least recently used blocks are evicted.
+ * <p>
+ * A reader that misses the cache and loads the block from its source can race with a writer replacing the same block.
+ * To avoid caching stale data the reader should obtain a stamp with {@link #stamp(long)} before loading the block and
+ * then cache it with {@link #putIfUnchanged(long, byte[], int, int, long)}, which does nothing if the stripe was
+ * modified in the meantime.
+ *
+ * @since 12.0
+ */
+class OffHeapBlockCache {
+   private static final OffHeapMemory MEMORY = OffHeapMemory.INSTANCE;
+
+   private final OffHeapMemoryAllocator allocator;
+   private final Stripe[] stripes;
+   private final long stripeCapacity;
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+
+   /**
+    * @param allocator the allocator to use for the blocks
+    * @param capacity the maximum amount of off heap memory used by the blocks, in bytes
+    * @param concurrency the number of stripes
+    */
+   OffHeapBlockCache(OffHeapMemoryAllocator allocator, long capacity, int concurrency) {
+      if (capacity <= 0) {
+         throw new IllegalArgumentException("Capacity must be positive, was " + capacity);
+      }
+      this.allocator = allocator;
+      this.stripes = new Stripe[Math.max(1, concurrency)];
+      for (int i = 0; i < stripes.length; ++i) {
+         stripes[i] = new Stripe();
+      }
+      this.stripeCapacity = Math.max(1, capacity / stripes.length);
+   }
+
+   /**
+    * @return a copy of the block cached under the key or null if it is not cached
+    */
+   public byte[] get(long key) {
+      Stripe stripe = stripe(key);
+      synchronized (stripe) {
+         Block block = stripe.blocks.get(key);
+         if (block == null) {
+            misses.increment();
+            return null;
+         }
+         hits.increment();
+         byte[] bytes = new byte[block.length];
+         MEMORY.getBytes(block.address, 0, bytes, 0, block.length);
+         return bytes;
+      }
+   }
+
+   /**
+    * @return the current stamp of the stripe the key belongs to, to be passed to
+    *         {@link #putIfUnchanged(long, byte[], int, int, long)}
+    */
+   public long stamp(long key) {
+      Stripe stripe = stripe(key);
+      synchronized (stripe) {
+         return stripe.stamp;
+      }
+   }
+
+   /**
+    * Caches the block under the key, replacing any previous block.
+    */
+   public void put(long key, byte[] bytes, int offset, int length) {
+      Stripe stripe = stripe(key);
+      synchronized (stripe) {
+         stripe.stamp++;
+         innerPut(stripe, key, bytes, offset, length);
+      }
+   }
+
+   /**
+    * Caches the block under the key if no block is cached for it and the stripe was not modified since the stamp was
+    * obtained.
+    * @return true if the block was cached
+    */
+   public boolean putIfUnchanged(long key, byte[] bytes, int offset, int length, long stamp) {
+      Stripe stripe = stripe(key);
+      synchronized (stripe) {
+         if (stripe.stamp != stamp || stripe.blocks.containsKey(key)) {
+            return false;
+         }
+         return innerPut(stripe, key, bytes, offset, length);
+      }
+   }
+
+   public void remove(long key) {
+      Stripe stripe = stripe(key);
+      synchronized (stripe) {
+         stripe.stamp++;
+         Block block = stripe.blocks.remove(key);
+         if (block != null) {
+            release(stripe, block);
+         }
+      }
+   }
+
+   /**
+    * Removes all the blocks, releasing their memory.
+    */
+   public void clear() {
+      for (Stripe stripe : stripes) {
+         synchronized (stripe) {
+            stripe.stamp++;
+            for (Block block : stripe.blocks.values()) {
+               release(stripe, block);
+            }
+            stripe.blocks.clear();
+         }
+      }
+   }
+
+   /**
+    * @return the number of cached blocks
+    */
+   public long size() {
+      long size = 0;
+      for (Stripe stripe : stripes) {
+         synchronized (stripe) {
+            size += stripe.blocks.size();
+         }
+      }
+      return size;
+   }
+
+   /**
+    * @return the off heap memory used by the cached blocks, in bytes
+    */
+   public long memoryUsed() {
+      long used = 0;
+      for (Stripe stripe : stripes) {
+         synchronized (stripe) {
+            used += stripe.used;
+         }
+      }
+      return used;
+   }
+
+   /**
+    * @return the number of lookups that found the block in the cache
+    */
+   public long hits() {
+      return hits.sum();
+   }
+
+   /**
+    * @return the number of lookups that did not find the block in the cache
+    */
+   public long misses() {
+      return misses.sum();
+   }
+
+   private Stripe stripe(long key) {
+      int hash = Long.hashCode(key);
+      hash ^= hash >>> 16;
+      return stripes[(hash & Integer.MAX_VALUE) % stripes.length];
+   }
+
+   private boolean innerPut(Stripe stripe, long key, byte[] bytes, int offset, int length) {
+      Block previous = stripe.blocks.remove(key);
+      if (previous != null) {
+         release(stripe, previous);
+      }
+      long size = UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(length);
+      if (size > stripeCapacity) {
+         return false;
+      }
+      Iterator<Block> iterator = stripe.blocks.values().iterator();
+      while (stripe.used + size > stripeCapacity && iterator.hasNext()) {
+         Block eldest = iterator.next();
+         iterator.remove();
+         release(stripe, eldest);
+      }
+      long address = allocator.allocate(length);
+      MEMORY.putBytes(bytes, offset, address, 0, length);
+      stripe.blocks.put(key, new Block(address, length));
+      stripe.used += size;
+      return true;
+   }
+
+   private void release(Stripe stripe, Block block) {
+      allocator.deallocate(block.address, block.length);
+      stripe.used -= UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(block.length);
+   }
+
+   private static class Stripe {
+      // Access ordered, so that iteration starts with the least recently used block
+      private final Map<Long, Block> blocks = new LinkedHashMap<>(16, 0.75f, true);
+      private long used;
+      private long stamp;
+   }
+
+   private static class Block {
+      private final long address;
+      private final int length;
+
+      private Block(long address, int length) {
+         this.address = address;
+         this.length = length;
+      }
+   }
+}
@@ -6,9 +6,12 @@
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
@@ -17,6 +20,8 @@
 import org.infinispan.commons.io.ByteBufferFactory;
 import org.infinispan.commons.marshall.Marshaller;
 import org.infinispan.commons.persistence.Store;
+import org.infinispan.commons.stat.DefaultSimpleStat;
+import org.infinispan.commons.stat.SimpleStat;
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.AbstractIterator;
 import org.infinispan.commons.util.CloseableIterator;
@@ -133,6 +138,8 @@ public class SoftIndexFileStore implements AdvancedLoadWriteStore<Object, Object
    private TimeService timeService;
    private int maxKeyLength;
    private InitializationContext ctx;
+   private final SimpleStat syncBatchSizes = new DefaultSimpleStat();
+   private final SimpleStat syncLatencies = new DefaultSimpleStat();
 
    @Override
    public void init(InitializationContext ctx) {
@@ -154,12 +161,17 @@ public synchronized void start() {
       temporaryTable = new TemporaryTable(configuration.indexQueueLength() * configuration.indexSegments());
       storeQueue = new SyncProcessingQueue<>();
       indexQueue = new IndexQueue(configuration.indexSegments(), configuration.indexQueueLength());
-      fileProvider = new FileProvider(getDataLocation(), configuration.openFilesLimit(), PREFIX_11_0);
-      compactor = new Compactor(fileProvider, temporaryTable, indexQueue, marshaller, timeService, configuration.maxFileSize(), configuration.compactionThreshold());
-      logAppender = new LogAppender(storeQueue, indexQueue, temporaryTable, compactor, fileProvider, configuration.syncWrites(), configuration.maxFileSize());
+      int mappedFilesLimit = configuration.memoryMapped() ? Math.min(configuration.mappedFilesLimit(), configuration.openFilesLimit()) : 0;
+      fileProvider = new FileProvider(getDataLocation(), configuration.openFilesLimit(), PREFIX_11_0, mappedFilesLimit);
+      compactor = new Compactor(fileProvider, temporaryTable, indexQueue, marshaller, timeService, configuration.maxFileSize(), configuration.compactionThreshold(),
+            configuration.compactionRateLimit());
+      logAppender = new LogAppender(storeQueue, indexQueue, temporaryTable, compactor, fileProvider,
+            configuration.syncWrites(), configuration.maxFileSize(),
+            TimeUnit.MICROSECONDS.toNanos(configuration.syncWritesWindow()), configuration.syncWritesBatchSize(),
+            syncBatchSizes, syncLatencies);
       try {
          index = new Index(fileProvider, getIndexLocation(), configuration.indexSegments(),
-               configuration.minNodeSize(), configuration.maxNodeSize(),
+               configuration.minNodeSize(), configuration.maxNodeSize(), configuration.offHeapIndexCacheSize(),
                indexQueue, temporaryTable, compactor, timeService);
       } catch (IOException e) {
          throw log.cannotOpenIndex(configuration.indexLocation(), e);
@@ -310,6 +322,68 @@ protected boolean isIndexLoaded() {
       return index.isLoaded();
    }
 
+   /**
+    * @return statistics of the number of writes confirmed by a single fsync when sync writes are enabled
+    */
+   public SimpleStat getSyncBatchSizes() {
+      return syncBatchSizes;
+   }
+
+   /**
+    * @return statistics of the fsync duration, in nanoseconds, when sync writes are enabled
+    */
+   public SimpleStat getSyncLatencies() {
+      return syncLatencies;
+   }
+
+   /**
+    * @return the number of bytes read and written by the compactor since the store was started
+    */
+   public long getCompactedBytes() {
+      Compactor compactor = this.compactor;
+      return compactor == null ? 0 : compactor.getCompactedBytes();
+   }
+
+   /**
+    * @return the average compaction throughput, in bytes per second, since the store was started
+    */
+   public double getCompactionThroughput() {
+      Compactor compactor = this.compactor;
+      return compactor == null ? 0 : compactor.getCompactionThroughput();
+   }
+
+   /**
+    * @return the ratio of free space to the total size of each data file, by file id
+    */
+   public Map<Integer, Double> getFileGarbageRatios() {
+      Compactor compactor = this.compactor;
+      return compactor == null ? Collections.emptyMap() : compactor.getFileGarbageRatios();
+   }
+
+   /**
+    * @return the off-heap memory used by the index node cache, in bytes
+    */
+   public long getIndexCacheMemory() {
+      Index index = this.index;
+      return index == null ? 0 : index.getOffHeapCacheMemory();
+   }
+
+   /**
+    * @return the number of index nodes loaded from the off-heap index cache
+    */
+   public long getIndexCacheHits() {
+      Index index = this.index;
+      return index == null ? 0 : index.getOffHeapCacheHits();
+   }
+
+   /**
+    * @return the number of index nodes that missed the off-heap index cache and were read from the index file
+    */
+   public long getIndexCacheMisses() {
+      Index index = this.index;
+      return index == null ? 0 : index.getOffHeapCacheMisses();
+   }
+
    @Override
    public synchronized void stop() {
       try {
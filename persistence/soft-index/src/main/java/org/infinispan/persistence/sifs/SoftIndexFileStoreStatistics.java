@@ -0,0 +1,145 @@
+package org.infinispan.persistence.sifs;
+
+import java.util.Set;
+
+import org.infinispan.commons.stat.SimpleStat;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
+import org.infinispan.persistence.manager.PersistenceManager;
+
+/**
+ * Exposes the statistics of the {@link SoftIndexFileStore} of a cache. When the cache has several soft-index file
+ * stores, the statistics of any one of them are reported.
+ *
+ * @since 12.0
+ */
+@MBean(objectName = "SoftIndexFileStore", description = "Statistics of the soft-index file store")
+@Scope(Scopes.NAMED_CACHE)
+public class SoftIndexFileStoreStatistics {
+   @Inject PersistenceManager persistenceManager;
+
+   @ManagedAttribute(
+         description = "Average number of writes confirmed by a single fsync when sync writes are enabled",
+         displayName = "Average sync batch size"
+   )
+   public long getAverageSyncBatchSize() {
+      SoftIndexFileStore store = store();
+      return store == null ? -1 : store.getSyncBatchSizes().getAverage(-1);
+   }
+
+   @ManagedAttribute(
+         description = "Maximum number of writes confirmed by a single fsync when sync writes are enabled",
+         displayName = "Maximum sync batch size"
+   )
+   public long getMaxSyncBatchSize() {
+      SoftIndexFileStore store = store();
+      return store == null ? -1 : store.getSyncBatchSizes().getMax(-1);
+   }
+
+   @ManagedAttribute(
+         description = "Average duration of an fsync when sync writes are enabled",
+         displayName = "Average sync latency",
+         units = Units.NANOSECONDS
+   )
+   public long getAverageSyncLatency() {
+      SoftIndexFileStore store = store();
+      return store == null ? -1 : store.getSyncLatencies().getAverage(-1);
+   }
+
+   @ManagedAttribute(
+         description = "Maximum duration of an fsync when sync writes are enabled",
+         displayName = "Maximum sync latency",
+         units = Units.NANOSECONDS
+   )
+   public long getMaxSyncLatency() {
+      SoftIndexFileStore store = store();
+      return store == null ? -1 : store.getSyncLatencies().getMax(-1);
+   }
+
+   @ManagedAttribute(
+         description = "Number of bytes read and written by the compactor since the store was started",
+         displayName = "Compacted bytes",
+         units = Units.BYTES,
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getCompactedBytes() {
+      SoftIndexFileStore store = store();
+      return store == null ? 0 : store.getCompactedBytes();
+   }
+
+   @ManagedAttribute(
+         description = "Average number of bytes read and written per second while compacting",
+         displayName = "Compaction throughput",
+         units = Units.PER_SECOND
+   )
+   public double getCompactionThroughput() {
+      SoftIndexFileStore store = store();
+      return store == null ? 0 : store.getCompactionThroughput();
+   }
+
+   @ManagedAttribute(
+         description = "Highest ratio of free space to the size of a data file, between 0 and 1",
+         displayName = "Maximum file garbage ratio",
+         units = Units.NONE
+   )
+   public double getMaxFileGarbageRatio() {
+      SoftIndexFileStore store = store();
+      if (store == null) {
+         return 0;
+      }
+      return store.getFileGarbageRatios().values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+   }
+
+   @ManagedAttribute(
+         description = "Average ratio of free space to the size of a data file, between 0 and 1",
+         displayName = "Average file garbage ratio",
+         units = Units.NONE
+   )
+   public double getAverageFileGarbageRatio() {
+      SoftIndexFileStore store = store();
+      if (store == null) {
+         return 0;
+      }
+      return store.getFileGarbageRatios().values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+   }
+
+   @ManagedAttribute(
+         description = "Off-heap memory used by the index node cache",
+         displayName = "Index cache memory",
+         units = Units.BYTES
+   )
+   public long getIndexCacheMemory() {
+      SoftIndexFileStore store = store();
+      return store == null ? 0 : store.getIndexCacheMemory();
+   }
+
+   @ManagedAttribute(
+         description = "Number of index nodes loaded from the off-heap index cache",
+         displayName = "Index cache hits",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getIndexCacheHits() {
+      SoftIndexFileStore store = store();
+      return store == null ? 0 : store.getIndexCacheHits();
+   }
+
+   @ManagedAttribute(
+         description = "Number of index nodes read from the index file because they were not in the off-heap index cache",
+         displayName = "Index cache misses",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getIndexCacheMisses() {
+      SoftIndexFileStore store = store();
+      return store == null ? 0 : store.getIndexCacheMisses();
+   }
+
+   private SoftIndexFileStore store() {
+      Set<SoftIndexFileStore> stores = persistenceManager.getStores(SoftIndexFileStore.class);
+      return stores.isEmpty() ? null : stores.iterator().next();
+   }
+}
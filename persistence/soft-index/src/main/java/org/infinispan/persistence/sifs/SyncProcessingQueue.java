@@ -1,6 +1,7 @@
 package org.infinispan.persistence.sifs;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Multiple producer-single consumer queue. The producers are expected to call pushAndWait(),
@@ -101,6 +102,22 @@ public void notifyAndWait() {
       }
    }
 
+   /**
+    * Waits until an element is pushed or the timeout elapses, without notifying the producers. If the thread is
+    * interrupted this returns early with the interrupt flag set.
+    */
+   public void awaitPush(long timeoutNanos) {
+      synchronized (queue) {
+         if (queue.isEmpty()) {
+            try {
+               TimeUnit.NANOSECONDS.timedWait(queue, timeoutNanos);
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+            }
+         }
+      }
+   }
+
    public void notifyNoWait() {
       poppedInRow = 0;
       popIndex = processorPopIndex;
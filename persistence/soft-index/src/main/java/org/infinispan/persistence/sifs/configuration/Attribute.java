@@ -11,15 +11,21 @@
 public enum Attribute {
    // must be first
    UNKNOWN(null),
+   COMPACTION_RATE_LIMIT("compaction-rate-limit"),
    COMPACTION_THRESHOLD("compaction-threshold"),
    PATH("path"),
    INDEX_QUEUE_LENGTH("max-queue-length"),
    SEGMENTS("segments"),
+   MAPPED_FILES_LIMIT("mapped-files-limit"),
    MAX_FILE_SIZE("max-file-size"),
+   MEMORY_MAPPED("memory-mapped"),
    MAX_NODE_SIZE("max-node-size"),
    MIN_NODE_SIZE("min-node-size"),
+   OFF_HEAP_CACHE_SIZE("off-heap-cache-size"),
    OPEN_FILES_LIMIT("open-files-limit"),
    SYNC_WRITES("sync-writes"),
+   SYNC_WRITES_BATCH_SIZE("sync-writes-batch-size"),
+   SYNC_WRITES_WINDOW("sync-writes-window"),
    RELATIVE_TO("relative-to");
 
    private final String name;
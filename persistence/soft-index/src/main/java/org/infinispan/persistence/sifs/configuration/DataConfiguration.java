@@ -12,10 +12,14 @@ public class DataConfiguration implements ConfigurationInfo {
    public static final AttributeDefinition<String> DATA_LOCATION = AttributeDefinition.builder("dataLocation", null, String.class).immutable().autoPersist(false).xmlName("path").build();
    public static final AttributeDefinition<Integer> MAX_FILE_SIZE = AttributeDefinition.builder("maxFileSize", 16 * 1024 * 1024).immutable().autoPersist(false).build();
    public static final AttributeDefinition<Boolean> SYNC_WRITES = AttributeDefinition.builder("syncWrites", false).immutable().autoPersist(false).build();
+   public static final AttributeDefinition<Long> SYNC_WRITES_WINDOW = AttributeDefinition.builder("syncWritesWindow", 0L).immutable().autoPersist(false).build();
+   public static final AttributeDefinition<Integer> SYNC_WRITES_BATCH_SIZE = AttributeDefinition.builder("syncWritesBatchSize", 1024 * 1024).immutable().autoPersist(false).build();
+   public static final AttributeDefinition<Boolean> MEMORY_MAPPED = AttributeDefinition.builder("memoryMapped", false).immutable().autoPersist(false).build();
+   public static final AttributeDefinition<Integer> MAPPED_FILES_LIMIT = AttributeDefinition.builder("mappedFilesLimit", 64).immutable().autoPersist(false).build();
    private final AttributeSet attributes;
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(DataConfiguration.class, DATA_LOCATION, MAX_FILE_SIZE, SYNC_WRITES);
+      return new AttributeSet(DataConfiguration.class, DATA_LOCATION, MAX_FILE_SIZE, SYNC_WRITES, SYNC_WRITES_WINDOW, SYNC_WRITES_BATCH_SIZE, MEMORY_MAPPED, MAPPED_FILES_LIMIT);
    }
 
    static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(DATA.getLocalName());
@@ -42,6 +46,25 @@ public boolean syncWrites() {
       return attributes.attribute(SYNC_WRITES).get();
    }
 
+   /**
+    * @return time in microseconds the appender waits for further writes to share a single fsync
+    */
+   public long syncWritesWindow() {
+      return attributes.attribute(SYNC_WRITES_WINDOW).get();
+   }
+
+   public int syncWritesBatchSize() {
+      return attributes.attribute(SYNC_WRITES_BATCH_SIZE).get();
+   }
+
+   public boolean memoryMapped() {
+      return attributes.attribute(MEMORY_MAPPED).get();
+   }
+
+   public int mappedFilesLimit() {
+      return attributes.attribute(MAPPED_FILES_LIMIT).get();
+   }
+
    public String dataLocation() {
       return attributes.attribute(DATA_LOCATION).get();
    }
@@ -1,15 +1,22 @@
 package org.infinispan.persistence.sifs.configuration;
 
 import static org.infinispan.persistence.sifs.configuration.DataConfiguration.DATA_LOCATION;
+import static org.infinispan.persistence.sifs.configuration.DataConfiguration.MAPPED_FILES_LIMIT;
 import static org.infinispan.persistence.sifs.configuration.DataConfiguration.MAX_FILE_SIZE;
+import static org.infinispan.persistence.sifs.configuration.DataConfiguration.MEMORY_MAPPED;
 import static org.infinispan.persistence.sifs.configuration.DataConfiguration.SYNC_WRITES;
+import static org.infinispan.persistence.sifs.configuration.DataConfiguration.SYNC_WRITES_BATCH_SIZE;
+import static org.infinispan.persistence.sifs.configuration.DataConfiguration.SYNC_WRITES_WINDOW;
 
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.ConfigurationBuilderInfo;
 import org.infinispan.commons.configuration.attributes.AttributeSet;
 import org.infinispan.commons.configuration.elements.ElementDefinition;
+import org.infinispan.persistence.sifs.Log;
+import org.infinispan.util.logging.LogFactory;
 
 public class DataConfigurationBuilder implements ConfigurationBuilderInfo, Builder<DataConfiguration> {
+   private static final Log log = LogFactory.getLog(DataConfigurationBuilder.class, Log.class);
 
    private final AttributeSet attributes;
 
@@ -42,8 +49,40 @@ public DataConfigurationBuilder syncWrites(boolean syncWrites) {
       return this;
    }
 
+   public DataConfigurationBuilder syncWritesWindow(long syncWritesWindow) {
+      attributes.attribute(SYNC_WRITES_WINDOW).set(syncWritesWindow);
+      return this;
+   }
+
+   public DataConfigurationBuilder syncWritesBatchSize(int syncWritesBatchSize) {
+      attributes.attribute(SYNC_WRITES_BATCH_SIZE).set(syncWritesBatchSize);
+      return this;
+   }
+
+   public DataConfigurationBuilder memoryMapped(boolean memoryMapped) {
+      attributes.attribute(MEMORY_MAPPED).set(memoryMapped);
+      return this;
+   }
+
+   public DataConfigurationBuilder mappedFilesLimit(int mappedFilesLimit) {
+      attributes.attribute(MAPPED_FILES_LIMIT).set(mappedFilesLimit);
+      return this;
+   }
+
    @Override
    public void validate() {
+      int mappedFilesLimit = attributes.attribute(MAPPED_FILES_LIMIT).get();
+      if (mappedFilesLimit <= 0) {
+         throw log.invalidMappedFilesLimit(mappedFilesLimit);
+      }
+      long syncWritesWindow = attributes.attribute(SYNC_WRITES_WINDOW).get();
+      if (syncWritesWindow < 0) {
+         throw log.invalidSyncWritesWindow(syncWritesWindow);
+      }
+      int syncWritesBatchSize = attributes.attribute(SYNC_WRITES_BATCH_SIZE).get();
+      if (syncWritesBatchSize <= 0) {
+         throw log.invalidSyncWritesBatchSize(syncWritesBatchSize);
+      }
    }
 
    @Override
@@ -15,11 +15,12 @@ public class IndexConfiguration implements ConfigurationInfo {
    public static final AttributeDefinition<Integer> INDEX_SEGMENTS = AttributeDefinition.builder("indexSegments", 3).immutable().autoPersist(false).xmlName("segments").build();
    public static final AttributeDefinition<Integer> MIN_NODE_SIZE = AttributeDefinition.builder("minNodeSize", 0).immutable().autoPersist(false).build();
    public static final AttributeDefinition<Integer> MAX_NODE_SIZE = AttributeDefinition.builder("maxNodeSize", 4096).immutable().autoPersist(false).build();
+   public static final AttributeDefinition<Long> OFF_HEAP_CACHE_SIZE = AttributeDefinition.builder("offHeapCacheSize", 0L).immutable().autoPersist(false).build();
 
    private final AttributeSet attributes;
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(IndexConfiguration.class, INDEX_LOCATION, INDEX_QUEUE_LENGTH, INDEX_SEGMENTS, MIN_NODE_SIZE, MAX_NODE_SIZE);
+      return new AttributeSet(IndexConfiguration.class, INDEX_LOCATION, INDEX_QUEUE_LENGTH, INDEX_SEGMENTS, MIN_NODE_SIZE, MAX_NODE_SIZE, OFF_HEAP_CACHE_SIZE);
    }
 
    public static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(INDEX.getLocalName());
@@ -58,6 +59,10 @@ public int maxNodeSize() {
       return attributes.attribute(MAX_NODE_SIZE).get();
    }
 
+   public long offHeapCacheSize() {
+      return attributes.attribute(OFF_HEAP_CACHE_SIZE).get();
+   }
+
    public int indexQueueLength() {
       return attributes.attribute(INDEX_QUEUE_LENGTH).get();
    }
@@ -5,6 +5,7 @@
 import static org.infinispan.persistence.sifs.configuration.IndexConfiguration.INDEX_SEGMENTS;
 import static org.infinispan.persistence.sifs.configuration.IndexConfiguration.MAX_NODE_SIZE;
 import static org.infinispan.persistence.sifs.configuration.IndexConfiguration.MIN_NODE_SIZE;
+import static org.infinispan.persistence.sifs.configuration.IndexConfiguration.OFF_HEAP_CACHE_SIZE;
 
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.ConfigurationBuilderInfo;
@@ -57,6 +58,15 @@ public IndexConfigurationBuilder maxNodeSize(int maxNodeSize) {
       return this;
    }
 
+   /**
+    * Amount of off-heap memory, in bytes, used to cache the index nodes. When positive the index nodes are cached
+    * off-heap instead of being softly referenced from the heap. Defaults to 0, which disables the off-heap cache.
+    */
+   public IndexConfigurationBuilder offHeapCacheSize(long offHeapCacheSize) {
+      attributes.attribute(OFF_HEAP_CACHE_SIZE).set(offHeapCacheSize);
+      return this;
+   }
+
    public IndexConfigurationBuilder indexQueueLength(int indexQueueLength) {
       attributes.attribute(INDEX_QUEUE_LENGTH).set(indexQueueLength);
       return this;
@@ -82,6 +92,10 @@ public void validate() {
       } else if (minNodeSize < 0 || minNodeSize > maxNodeSize) {
          throw log.minNodeSizeMustBeLessOrEqualToMax(minNodeSize, maxNodeSize);
       }
+      long offHeapCacheSize = attributes.attribute(OFF_HEAP_CACHE_SIZE).get();
+      if (offHeapCacheSize < 0) {
+         throw log.invalidOffHeapCacheSize(offHeapCacheSize);
+      }
    }
 
    @Override
@@ -30,12 +30,13 @@ public class SoftIndexFileStoreConfiguration extends AbstractSegmentedStoreConfi
 
    public static final AttributeDefinition<Integer> OPEN_FILES_LIMIT = AttributeDefinition.builder("openFilesLimit", 1000).immutable().build();
    public static final AttributeDefinition<Double> COMPACTION_THRESHOLD = AttributeDefinition.builder("compactionThreshold", 0.5d).immutable().build();
+   public static final AttributeDefinition<Long> COMPACTION_RATE_LIMIT = AttributeDefinition.builder("compactionRateLimit", 0L).immutable().build();
    private final IndexConfiguration index;
    private final DataConfiguration data;
    private final List<ConfigurationInfo> elements;
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(SoftIndexFileStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), OPEN_FILES_LIMIT, COMPACTION_THRESHOLD);
+      return new AttributeSet(SoftIndexFileStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), OPEN_FILES_LIMIT, COMPACTION_THRESHOLD, COMPACTION_RATE_LIMIT);
    }
 
    public static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(SOFT_INDEX_FILE_STORE.getLocalName(), true, false);
@@ -108,6 +109,10 @@ public int maxNodeSize() {
       return index.maxNodeSize();
    }
 
+   public long offHeapIndexCacheSize() {
+      return index.offHeapCacheSize();
+   }
+
    public int indexQueueLength() {
       return index.indexQueueLength();
    }
@@ -116,6 +121,22 @@ public boolean syncWrites() {
       return data.syncWrites();
    }
 
+   public long syncWritesWindow() {
+      return data.syncWritesWindow();
+   }
+
+   public int syncWritesBatchSize() {
+      return data.syncWritesBatchSize();
+   }
+
+   public boolean memoryMapped() {
+      return data.memoryMapped();
+   }
+
+   public int mappedFilesLimit() {
+      return data.mappedFilesLimit();
+   }
+
    public int openFilesLimit() {
       return attributes.attribute(OPEN_FILES_LIMIT).get();
    }
@@ -124,6 +145,10 @@ public double compactionThreshold() {
       return attributes.attribute(COMPACTION_THRESHOLD).get();
    }
 
+   public long compactionRateLimit() {
+      return attributes.attribute(COMPACTION_RATE_LIMIT).get();
+   }
+
    public IndexConfiguration index() {
       return index;
    }
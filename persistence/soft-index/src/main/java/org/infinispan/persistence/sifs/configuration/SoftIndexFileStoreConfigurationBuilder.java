@@ -1,6 +1,7 @@
 package org.infinispan.persistence.sifs.configuration;
 
 import static org.infinispan.configuration.cache.AbstractStoreConfiguration.SEGMENTED;
+import static org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfiguration.COMPACTION_RATE_LIMIT;
 import static org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfiguration.COMPACTION_THRESHOLD;
 import static org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfiguration.OPEN_FILES_LIMIT;
 
@@ -116,6 +117,18 @@ public SoftIndexFileStoreConfigurationBuilder maxNodeSize(int maxNodeSize) {
       return this;
    }
 
+   /**
+    * Amount of off-heap memory, in bytes, used to cache the index nodes. When positive the index nodes are kept in this
+    * off-heap cache and only the nodes currently in use are referenced from the heap, so that a large index does not
+    * inflate the Java heap.
+    *
+    * Defaults to <code>0</code>, which keeps the index nodes in softly referenced heap objects.
+    */
+   public SoftIndexFileStoreConfigurationBuilder offHeapIndexCacheSize(long offHeapIndexCacheSize) {
+      index.offHeapCacheSize(offHeapIndexCacheSize);
+      return this;
+   }
+
    /**
     * Sets the maximum number of entry writes that are waiting to be written to the index, per index segment.
     *
@@ -136,6 +149,51 @@ public SoftIndexFileStoreConfigurationBuilder syncWrites(boolean syncWrites) {
       return this;
    }
 
+   /**
+    * Sets the time, in microseconds, the store waits for further writes so that these can share a single fsync when
+    * {@link #syncWrites(boolean)} is enabled. Increasing the window improves the throughput of concurrent writers at the
+    * expense of write latency.
+    *
+    * Defaults to <code>0</code> (writes that are already queued still share a single fsync).
+    */
+   public SoftIndexFileStoreConfigurationBuilder syncWritesWindow(long syncWritesWindow) {
+      data.syncWritesWindow(syncWritesWindow);
+      return this;
+   }
+
+   /**
+    * Sets the amount of bytes after which the written entries are fsynced without waiting for the rest of the
+    * {@link #syncWritesWindow(long)}.
+    *
+    * Defaults to <code>1048576</code> (1MB).
+    */
+   public SoftIndexFileStoreConfigurationBuilder syncWritesBatchSize(int syncWritesBatchSize) {
+      data.syncWritesBatchSize(syncWritesBatchSize);
+      return this;
+   }
+
+   /**
+    * Sets whether data files that are not written to anymore should be mapped into memory and read without system
+    * calls. This reduces the cost of reading small entries at the expense of virtual address space.
+    *
+    * Defaults to <code>false</code>.
+    */
+   public SoftIndexFileStoreConfigurationBuilder memoryMapped(boolean memoryMapped) {
+      data.memoryMapped(memoryMapped);
+      return this;
+   }
+
+   /**
+    * Sets the maximum number of data files mapped into memory at once when {@link #memoryMapped(boolean)} is enabled.
+    * The effective limit is never higher than the {@link #openFilesLimit(int)}.
+    *
+    * Defaults to <code>64</code>.
+    */
+   public SoftIndexFileStoreConfigurationBuilder mappedFilesLimit(int mappedFilesLimit) {
+      data.mappedFilesLimit(mappedFilesLimit);
+      return this;
+   }
+
    /**
     * Sets the maximum number of open files.
     *
@@ -156,6 +214,17 @@ public SoftIndexFileStoreConfigurationBuilder compactionThreshold(double compact
       return this;
    }
 
+   /**
+    * Limits the rate at which the compactor reads and writes data files, in bytes per second, so that the compaction
+    * does not starve the reads and writes of the cache.
+    *
+    * Defaults to <code>0</code>, which does not limit the compaction.
+    */
+   public SoftIndexFileStoreConfigurationBuilder compactionRateLimit(long compactionRateLimit) {
+      attributes.attribute(COMPACTION_RATE_LIMIT).set(compactionRateLimit);
+      return this;
+   }
+
    @Override
    public SoftIndexFileStoreConfiguration create() {
       return new SoftIndexFileStoreConfiguration(attributes.protect(), async.create(), index.create(), data.create());
@@ -183,10 +252,15 @@ protected void validate(boolean skipClassChecks) {
       }
       super.validate(skipClassChecks);
       index.validate();
+      data.validate();
       double compactionThreshold = attributes.attribute(COMPACTION_THRESHOLD).get();
       if (compactionThreshold <= 0 || compactionThreshold > 1) {
          throw log.invalidCompactionThreshold(compactionThreshold);
       }
+      long compactionRateLimit = attributes.attribute(COMPACTION_RATE_LIMIT).get();
+      if (compactionRateLimit < 0) {
+         throw log.invalidCompactionRateLimit(compactionRateLimit);
+      }
    }
 
    @Override
@@ -65,6 +65,12 @@ private void parseSoftIndexFileStore(XMLExtendedStreamReader reader, SoftIndexFi
             case COMPACTION_THRESHOLD:
                builder.compactionThreshold(Double.parseDouble(value));
                break;
+            case COMPACTION_RATE_LIMIT:
+               if (!reader.getSchema().since(12, 0)) {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               builder.compactionRateLimit(Long.parseLong(value));
+               break;
             default:
                Parser.parseStoreAttribute(reader, i, builder);
                break;
@@ -110,6 +116,30 @@ private void parseData(XMLExtendedStreamReader reader, SoftIndexFileStoreConfigu
             case SYNC_WRITES:
                builder.syncWrites(Boolean.parseBoolean(value));
                break;
+            case SYNC_WRITES_WINDOW:
+               if (!reader.getSchema().since(12, 0)) {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               builder.syncWritesWindow(Long.parseLong(value));
+               break;
+            case SYNC_WRITES_BATCH_SIZE:
+               if (!reader.getSchema().since(12, 0)) {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               builder.syncWritesBatchSize(Integer.parseInt(value));
+               break;
+            case MEMORY_MAPPED:
+               if (!reader.getSchema().since(12, 0)) {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               builder.memoryMapped(Boolean.parseBoolean(value));
+               break;
+            case MAPPED_FILES_LIMIT:
+               if (!reader.getSchema().since(12, 0)) {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               builder.mappedFilesLimit(Integer.parseInt(value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -148,6 +178,12 @@ private void parseIndex(XMLExtendedStreamReader reader, SoftIndexFileStoreConfig
             case MAX_NODE_SIZE:
                builder.maxNodeSize(Integer.parseInt(value));
                break;
+            case OFF_HEAP_CACHE_SIZE:
+               if (!reader.getSchema().since(12, 0)) {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               builder.offHeapCacheSize(Long.parseLong(value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -31,7 +31,11 @@ private void writeDataElement(XMLExtendedStreamWriter writer, SoftIndexFileStore
       configuration.data().attributes().write(writer, Element.DATA.getLocalName(),
             DataConfiguration.DATA_LOCATION,
             DataConfiguration.MAX_FILE_SIZE,
-            DataConfiguration.SYNC_WRITES);
+            DataConfiguration.SYNC_WRITES,
+            DataConfiguration.SYNC_WRITES_WINDOW,
+            DataConfiguration.SYNC_WRITES_BATCH_SIZE,
+            DataConfiguration.MEMORY_MAPPED,
+            DataConfiguration.MAPPED_FILES_LIMIT);
    }
 
    private void writeIndexElement(XMLExtendedStreamWriter writer, SoftIndexFileStoreConfiguration configuration) throws XMLStreamException {
@@ -40,6 +44,7 @@ private void writeIndexElement(XMLExtendedStreamWriter writer, SoftIndexFileStor
             IndexConfiguration.INDEX_QUEUE_LENGTH,
             IndexConfiguration.INDEX_SEGMENTS,
             IndexConfiguration.MIN_NODE_SIZE,
-            IndexConfiguration.MAX_NODE_SIZE);
+            IndexConfiguration.MAX_NODE_SIZE,
+            IndexConfiguration.OFF_HEAP_CACHE_SIZE);
    }
 }
@@ -0,0 +1,104 @@
+package org.infinispan.persistence.sifs;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+
+import org.infinispan.container.offheap.OffHeapMemoryAllocator;
+import org.infinispan.container.offheap.UnpooledOffHeapMemoryAllocator;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "persistence.sifs.OffHeapBlockCacheTest")
+public class OffHeapBlockCacheTest {
+   private static final int BLOCK_SIZE = 100;
+   private static final long BLOCK_MEMORY = UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(BLOCK_SIZE);
+
+   private OffHeapMemoryAllocator allocator;
+   private OffHeapBlockCache cache;
+
+   @BeforeMethod
+   void initializeCache() {
+      allocator = new UnpooledOffHeapMemoryAllocator();
+      // single stripe holding 4 blocks, to make the eviction order predictable
+      cache = new OffHeapBlockCache(allocator, 4 * BLOCK_MEMORY, 1);
+   }
+
+   @AfterMethod
+   void clearCache() {
+      cache.clear();
+      assertEquals(0, allocator.getAllocatedAmount());
+   }
+
+   public void testPutGetRemove() {
+      byte[] block = block(1);
+      cache.put(1, block, 0, block.length);
+      assertTrue(Arrays.equals(block, cache.get(1)));
+      assertEquals(BLOCK_MEMORY, cache.memoryUsed());
+
+      byte[] replacement = block(2);
+      cache.put(1, replacement, 0, replacement.length);
+      assertTrue(Arrays.equals(replacement, cache.get(1)));
+      assertEquals(1, cache.size());
+
+      cache.remove(1);
+      assertNull(cache.get(1));
+      assertEquals(2, cache.hits());
+      assertEquals(1, cache.misses());
+      assertEquals(0, cache.memoryUsed());
+      assertEquals(0, allocator.getAllocatedAmount());
+   }
+
+   public void testLeastRecentlyUsedEvicted() {
+      for (int i = 0; i < 4; ++i) {
+         byte[] block = block(i);
+         cache.put(i, block, 0, block.length);
+      }
+      // touch the first block so that the second one is the least recently used
+      cache.get(0);
+      byte[] block = block(4);
+      cache.put(4, block, 0, block.length);
+
+      assertEquals(4, cache.size());
+      assertNull(cache.get(1));
+      assertTrue(Arrays.equals(block(0), cache.get(0)));
+      assertTrue(Arrays.equals(block(4), cache.get(4)));
+      assertEquals(4 * BLOCK_MEMORY, cache.memoryUsed());
+   }
+
+   public void testPutIfUnchanged() {
+      byte[] stale = block(1);
+      long stamp = cache.stamp(1);
+      byte[] fresh = block(2);
+      cache.put(1, fresh, 0, fresh.length);
+      assertFalse(cache.putIfUnchanged(1, stale, 0, stale.length, stamp));
+      assertTrue(Arrays.equals(fresh, cache.get(1)));
+
+      cache.remove(1);
+      stamp = cache.stamp(1);
+      assertTrue(cache.putIfUnchanged(1, fresh, 0, fresh.length, stamp));
+      assertFalse(cache.putIfUnchanged(1, stale, 0, stale.length, stamp));
+      assertTrue(Arrays.equals(fresh, cache.get(1)));
+   }
+
+   public void testBlockLargerThanCapacityNotCached() {
+      byte[] block = new byte[(int) (5 * BLOCK_MEMORY)];
+      cache.put(1, block, 0, block.length);
+      assertNull(cache.get(1));
+      assertEquals(0, allocator.getAllocatedAmount());
+   }
+
+   private static byte[] block(int seed) {
+      byte[] block = new byte[BLOCK_SIZE];
+      Arrays.fill(block, (byte) seed);
+      return block;
+   }
+}
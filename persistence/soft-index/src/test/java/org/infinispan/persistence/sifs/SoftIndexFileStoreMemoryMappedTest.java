@@ -0,0 +1,16 @@
+package org.infinispan.persistence.sifs;
+
+import org.testng.annotations.Test;
+
+/**
+ * Runs the low level store tests with data files mapped into memory.
+ *
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "persistence.SoftIndexFileStoreMemoryMappedTest")
+public class SoftIndexFileStoreMemoryMappedTest extends SoftIndexFileStoreTest {
+
+   public SoftIndexFileStoreMemoryMappedTest() {
+      memoryMapped = true;
+   }
+}
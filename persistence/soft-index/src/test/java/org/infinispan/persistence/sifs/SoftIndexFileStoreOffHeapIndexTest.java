@@ -0,0 +1,70 @@
+package org.infinispan.persistence.sifs;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.marshall.persistence.impl.MarshalledEntryUtil;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestInternalCacheEntryFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the low level store tests with the index nodes cached off-heap. The cache is kept small so that nodes are
+ * evicted and reloaded from the index file.
+ *
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "persistence.SoftIndexFileStoreOffHeapIndexTest")
+public class SoftIndexFileStoreOffHeapIndexTest extends SoftIndexFileStoreTest {
+   private static final int NUM_ENTRIES = 3000;
+
+   public SoftIndexFileStoreOffHeapIndexTest() {
+      offHeapIndexCacheSize = 256 * 1024;
+   }
+
+   public void testIndexNodesLoadedFromCache() {
+      writeEntries();
+      long hits = store.getIndexCacheHits();
+      eventually(() -> {
+         // the inner nodes are only weakly referenced, after a GC they have to be reloaded
+         System.gc();
+         readEntries();
+         return store.getIndexCacheHits() > hits;
+      });
+   }
+
+   public void testMemoryAccounting() {
+      assertEquals(0, store.getIndexCacheMemory());
+      writeEntries();
+      long memory = store.getIndexCacheMemory();
+      assertTrue(String.valueOf(memory), memory > 0);
+      assertTrue(String.valueOf(memory), memory <= offHeapIndexCacheSize);
+   }
+
+   public void testMemoryReleasedOnStop() {
+      writeEntries();
+      Index index = TestingUtil.extractField(store, "index");
+      assertTrue(index.getOffHeapCacheMemory() > 0);
+
+      store.stop();
+      assertEquals(0, index.getOffHeapCacheMemory());
+      store.start();
+   }
+
+   private void writeEntries() {
+      for (int i = 0; i < NUM_ENTRIES; ++i) {
+         InternalCacheEntry ice = TestInternalCacheEntryFactory.create(key(i), "value" + i);
+         store.write(MarshalledEntryUtil.create(ice, getMarshaller()));
+      }
+      // wait until the index updater has written the nodes
+      eventually(() -> store.size() == NUM_ENTRIES);
+   }
+
+   private void readEntries() {
+      for (int i = 0; i < NUM_ENTRIES; ++i) {
+         assertNotNull(key(i), store.loadEntry(key(i)));
+      }
+   }
+}
@@ -0,0 +1,54 @@
+package org.infinispan.persistence.sifs;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+/**
+ * Runs the low level store tests with the compaction limited to a small I/O rate.
+ *
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "persistence.SoftIndexFileStoreRateLimitedCompactionTest")
+public class SoftIndexFileStoreRateLimitedCompactionTest extends SoftIndexFileStoreTest {
+
+   private static final int ENTRIES = 2000;
+
+   public SoftIndexFileStoreRateLimitedCompactionTest() {
+      compactionRateLimit = 64 * 1024;
+   }
+
+   public void testCompactionRate() throws InterruptedException {
+      // The files are only 1000 bytes long, so the compaction goes through many files
+      for (int i = 0; i < ENTRIES; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, "value" + i, -1)));
+      }
+      for (int i = 0; i < ENTRIES; ++i) {
+         store.delete("k" + i);
+      }
+      eventually(() -> store.getCompactedBytes() > 0);
+
+      Map<Integer, Double> ratios = store.getFileGarbageRatios();
+      for (double ratio : ratios.values()) {
+         assertTrue(ratio >= 0 && ratio <= 1);
+      }
+
+      long startBytes = store.getCompactedBytes();
+      long start = System.nanoTime();
+      Thread.sleep(1000);
+      long bytes = store.getCompactedBytes() - startBytes;
+      long elapsed = System.nanoTime() - start;
+
+      assertTrue("The compactor did not make progress", bytes > 0);
+      // The compactor may be ahead of the limit by at most the last entry it copied
+      long allowed = compactionRateLimit * elapsed / TimeUnit.SECONDS.toNanos(1) + 1024;
+      assertTrue("Compacted " + bytes + " bytes in " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms",
+            bytes <= allowed);
+      assertTrue(store.getCompactionThroughput() <= compactionRateLimit * 1.1);
+      assertEquals(0, store.size());
+   }
+}
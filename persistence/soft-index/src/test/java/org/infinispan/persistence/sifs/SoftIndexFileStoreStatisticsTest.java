@@ -0,0 +1,80 @@
+package org.infinispan.persistence.sifs;
+
+import static org.infinispan.test.TestingUtil.getCacheObjectName;
+import static org.testng.AssertJUnit.assertTrue;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.infinispan.commons.jmx.MBeanServerLookup;
+import org.infinispan.commons.jmx.TestMBeanServerLookup;
+import org.infinispan.commons.test.CommonsTestingUtil;
+import org.infinispan.commons.util.Util;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfigurationBuilder;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the statistics of the {@link SoftIndexFileStore} exposed through JMX.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "persistence.sifs.SoftIndexFileStoreStatisticsTest")
+public class SoftIndexFileStoreStatisticsTest extends SingleCacheManagerTest {
+
+   private static final String JMX_DOMAIN = SoftIndexFileStoreStatisticsTest.class.getSimpleName();
+
+   private final MBeanServerLookup mBeanServerLookup = TestMBeanServerLookup.create();
+   private final String tmpDirectory = CommonsTestingUtil.tmpDirectory(getClass());
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      GlobalConfigurationBuilder globalBuilder = new GlobalConfigurationBuilder();
+      globalBuilder.jmx().enabled(true).mBeanServerLookup(mBeanServerLookup).domain(JMX_DOMAIN);
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.persistence().addStore(SoftIndexFileStoreConfigurationBuilder.class)
+            .dataLocation(tmpDirectory + "/data")
+            .indexLocation(tmpDirectory + "/index")
+            .syncWrites(true);
+      return TestCacheManagerFactory.createCacheManager(globalBuilder, builder);
+   }
+
+   @AfterClass(alwaysRun = true)
+   protected void clearTempDir() {
+      Util.recursiveFileRemove(tmpDirectory);
+   }
+
+   public void testSyncStatistics() throws Exception {
+      MBeanServer mBeanServer = mBeanServerLookup.getMBeanServer();
+      ObjectName name = getCacheObjectName(JMX_DOMAIN, getDefaultCacheName() + "(local)", "SoftIndexFileStore");
+      for (int i = 0; i < 10; i++) {
+         cache.put("k" + i, "v" + i);
+      }
+      assertTrue((Long) mBeanServer.getAttribute(name, "AverageSyncBatchSize") >= 1);
+      assertTrue((Long) mBeanServer.getAttribute(name, "MaxSyncBatchSize") >= 1);
+      assertTrue((Long) mBeanServer.getAttribute(name, "AverageSyncLatency") >= 0);
+      assertTrue((Long) mBeanServer.getAttribute(name, "MaxSyncLatency") >= 0);
+   }
+
+   public void testCompactionStatistics() throws Exception {
+      MBeanServer mBeanServer = mBeanServerLookup.getMBeanServer();
+      ObjectName name = getCacheObjectName(JMX_DOMAIN, getDefaultCacheName() + "(local)", "SoftIndexFileStore");
+      for (int i = 0; i < 10; i++) {
+         cache.put("k" + i, "v" + i);
+         cache.remove("k" + i);
+      }
+      assertTrue((Long) mBeanServer.getAttribute(name, "CompactedBytes") >= 0);
+      assertTrue((Double) mBeanServer.getAttribute(name, "CompactionThroughput") >= 0);
+      // the free space is recorded once the index is updated
+      eventually(() -> (Double) mBeanServer.getAttribute(name, "MaxFileGarbageRatio") > 0);
+      double maxRatio = (Double) mBeanServer.getAttribute(name, "MaxFileGarbageRatio");
+      double averageRatio = (Double) mBeanServer.getAttribute(name, "AverageFileGarbageRatio");
+      assertTrue(maxRatio > 0 && maxRatio <= 1);
+      assertTrue(averageRatio > 0 && averageRatio <= maxRatio);
+   }
+}
@@ -0,0 +1,51 @@
+package org.infinispan.persistence.sifs;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+/**
+ * Runs the low level store tests with writes confirmed only after fsync, using a group commit window.
+ *
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "persistence.SoftIndexFileStoreSyncWritesTest")
+public class SoftIndexFileStoreSyncWritesTest extends SoftIndexFileStoreTest {
+
+   public SoftIndexFileStoreSyncWritesTest() {
+      syncWrites = true;
+      syncWritesWindow = TimeUnit.MILLISECONDS.toMicros(1);
+   }
+
+   public void testConcurrentWritesShareSync() throws Exception {
+      int threads = 8;
+      int writesPerThread = 50;
+      long syncsBefore = store.getSyncBatchSizes().count();
+      List<Future<Void>> futures = new ArrayList<>(threads);
+      for (int t = 0; t < threads; ++t) {
+         int thread = t;
+         futures.add(fork(() -> {
+            for (int i = 0; i < writesPerThread; ++i) {
+               store.write(marshalledEntry(internalCacheEntry("k" + thread + "-" + i, "v" + i, -1)));
+            }
+            return null;
+         }));
+      }
+      for (Future<Void> future : futures) {
+         future.get(30, TimeUnit.SECONDS);
+      }
+      long syncs = store.getSyncBatchSizes().count() - syncsBefore;
+      assertTrue(syncs > 0);
+      // every write is confirmed by some fsync, but concurrent writers share them
+      assertTrue("Expected fewer syncs than writes but was " + syncs, syncs < threads * writesPerThread);
+      assertTrue(store.getSyncBatchSizes().getMax(0) > 1);
+      assertTrue(store.getSyncLatencies().getMin(-1) >= 0);
+      assertEquals(threads * writesPerThread, store.size());
+   }
+}
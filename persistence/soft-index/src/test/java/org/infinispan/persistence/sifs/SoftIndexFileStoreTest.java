@@ -35,6 +35,11 @@ public class SoftIndexFileStoreTest extends BaseStoreTest {
    String tmpDirectory;
    boolean startIndex = true;
    boolean keepIndex = false;
+   boolean memoryMapped = false;
+   boolean syncWrites = false;
+   long syncWritesWindow = 0;
+   long offHeapIndexCacheSize = 0;
+   long compactionRateLimit = 0;
 
    @BeforeClass
    protected void setUpTempDir() {
@@ -80,7 +85,12 @@ public void stop() {
       builder.persistence()
             .addStore(SoftIndexFileStoreConfigurationBuilder.class)
             .indexLocation(tmpDirectory).dataLocation(tmpDirectory)
-            .maxFileSize(1000);
+            .maxFileSize(1000)
+            .memoryMapped(memoryMapped)
+            .syncWrites(syncWrites)
+            .syncWritesWindow(syncWritesWindow)
+            .offHeapIndexCacheSize(offHeapIndexCacheSize)
+            .compactionRateLimit(compactionRateLimit);
 
       Configuration c = builder.build();
       store.init(createContext(c));
@@ -196,7 +206,7 @@ private void writeGibberish() {
       }
    }
 
-   private String key(int i) {
+   String key(int i) {
       return String.format("key%010d", i);
    }
 
@@ -6,6 +6,7 @@
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
+import org.infinispan.commons.dataconversion.MediaType;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
 import org.infinispan.commons.util.AggregatedClassLoader;
 import org.infinispan.configuration.cache.Configuration;
@@ -37,11 +38,28 @@ public void cacheStarting(ComponentRegistry cr, Configuration cfg, String cacheN
          ClassLoader aggregatedClassLoader = makeAggregatedClassLoader(cr.getGlobalComponentRegistry().getGlobalConfiguration().classLoader());
          cr.registerComponent(new ReflectionMatcher(aggregatedClassLoader), ReflectionMatcher.class);
          cr.registerComponent(new QueryEngine<>(cache), QueryEngine.class);
+
+         QueryCache queryCache = cr.getGlobalComponentRegistry().getComponent(QueryCache.class);
+         cr.registerComponent(new QueryCacheStatistics(queryCache, cacheName), QueryCacheStatistics.class);
       }
    }
 
    @Override
    public void cacheStarted(ComponentRegistry cr, String cacheName) {
+      Configuration cfg = cr.getComponent(Configuration.class);
+      if (cfg.indexing().warmUpQueries().isEmpty() || cfg.indexing().enabled()) {
+         // indexed caches are warmed up by the query module, with the query engine that supports indexes
+         return;
+      }
+      AdvancedCache<?, ?> cache = cr.getComponent(Cache.class).getAdvancedCache();
+      if (cache.getValueDataConversion().getStorageMediaType().match(MediaType.APPLICATION_PROTOSTREAM)) {
+         // protobuf caches are warmed up by the remote query module, which knows the protobuf types
+         return;
+      }
+      QueryEngine<?> queryEngine = cr.getComponent(QueryEngine.class);
+      if (queryEngine != null) {
+         queryEngine.warmUp(cfg.indexing().warmUpQueries());
+      }
    }
 
    /**
@@ -99,6 +117,10 @@ public void cacheStopping(ComponentRegistry cr, String cacheName) {
 
    @Override
    public void cacheStopped(ComponentRegistry cr, String cacheName) {
+      QueryCache queryCache = cr.getGlobalComponentRegistry().getComponent(QueryCache.class);
+      if (queryCache != null) {
+         queryCache.removeStatistics(cacheName);
+      }
    }
 
    @Override
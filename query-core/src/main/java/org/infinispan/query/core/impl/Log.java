@@ -1,9 +1,13 @@
 package org.infinispan.query.core.impl;
 
+import static org.jboss.logging.Logger.Level.WARN;
+
 import org.infinispan.objectfilter.ParsingException;
 import org.infinispan.partitionhandling.AvailabilityException;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 import org.jboss.logging.annotations.ValidIdRange;
@@ -46,4 +50,8 @@ public interface Log extends BasicLogger {
 
    @Message(value = "Cannot execute query: cluster is operating in degraded mode and partition handling configuration doesn't allow reads and writes.", id = 14042)
    AvailabilityException partitionDegraded();
+
+   @LogMessage(level = WARN)
+   @Message(value = "Unable to warm up the query cache of cache '%s' with query '%s'", id = 14055)
+   void unableToWarmUpQuery(String cacheName, String queryString, @Cause Throwable cause);
 }
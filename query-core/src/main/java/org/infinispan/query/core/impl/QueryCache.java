@@ -1,27 +1,33 @@
 package org.infinispan.query.core.impl;
 
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
-import org.infinispan.Cache;
-import org.infinispan.configuration.cache.CacheMode;
-import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.objectfilter.impl.aggregation.FieldAccumulator;
-import org.infinispan.registry.InternalCacheRegistry;
-import org.infinispan.transaction.TransactionMode;
+import org.infinispan.util.concurrent.WithinThreadExecutor;
 import org.infinispan.util.logging.LogFactory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
 import net.jcip.annotations.ThreadSafe;
 
 /**
  * A local cache for 'parsed' queries. Each cache manager has at most one QueryCache which is backed by a lazily created
- * Cache.
+ * bounded map.
+ * <p>
+ * The map is bounded by the estimated size of the cached objects rather than by their count, since a few tenants
+ * issuing many distinct or very long query strings could otherwise take a lot of memory. Hits, misses and evictions
+ * are counted per data cache, see {@link QueryCacheStatistics}.
  *
  * @author anistor@redhat.com
  * @since 7.0
@@ -43,26 +49,31 @@ public final class QueryCache {
    private static final Log log = LogFactory.getLog(QueryCache.class, Log.class);
 
    /**
-    * Users can define a cache configuration with this name if they need to fine tune query caching. If they do not do
-    * so a default config is used (see {@link QueryCache#getQueryCacheConfig()}).
+    * Users can define a cache configuration with this name if they need to fine tune query caching. Only the
+    * expiration max-idle and the memory max-size or max-count of that configuration are used, no actual cache is
+    * created. If they do not do so the defaults below are used.
     */
    public static final String QUERY_CACHE_NAME = "___query_cache";
 
    /**
-    * Max number of cached entries.
+    * Max estimated size of the cached entries, in bytes.
     */
-   private static final long MAX_ENTRIES = 200;
+   private static final long MAX_WEIGHT = 2 * 1024 * 1024;
 
    /**
-    * Cache entry lifespan in seconds.
+    * Estimated size of an entry, used to convert a max count defined by the user to a max size.
+    */
+   private static final long AVERAGE_ENTRY_WEIGHT = 2048;
+
+   /**
+    * Cache entry max idle time in seconds.
     */
    private static final long ENTRY_LIFESPAN = 300;
 
    @Inject
    EmbeddedCacheManager cacheManager;
 
-   @Inject
-   InternalCacheRegistry internalCacheRegistry;
+   private final ConcurrentMap<String, Statistics> statistics = new ConcurrentHashMap<>();
 
    private volatile Cache<QueryCacheKey, Object> lazyCache;
 
@@ -73,48 +84,121 @@ public final class QueryCache {
     */
    public <T> T get(String cacheName, String queryString, List<FieldAccumulator> accumulators, Object queryTypeDiscriminator, QueryCreator<T> queryCreator) {
       QueryCacheKey key = new QueryCacheKey(cacheName, queryString, accumulators, queryTypeDiscriminator);
-      return (T) getOptionalCache(true).map(c -> c.computeIfAbsent(key, (k) -> queryCreator.create(k.queryString, k.accumulators))).orElse(null);
+      Cache<QueryCacheKey, Object> cache = getCache();
+      // caches without registered statistics, e.g. internal caches, are not counted
+      Statistics stats = getStatistics(cacheName);
+      Object value = cache.getIfPresent(key);
+      if (value != null) {
+         if (stats != null) {
+            stats.hits.increment();
+         }
+         return (T) value;
+      }
+      if (stats != null) {
+         stats.misses.increment();
+      }
+      return (T) cache.get(key, k -> queryCreator.create(k.queryString, k.accumulators));
    }
 
    public void clear() {
       log.debug("Clearing query cache for all caches");
-      getOptionalCache(false).ifPresent(Cache::clear);
+      Cache<QueryCacheKey, Object> cache = lazyCache;
+      if (cache != null) {
+         cache.invalidateAll();
+      }
    }
 
    public void clear(String cacheName) {
       log.debugf("Clearing query cache for cache %s", cacheName);
-      getOptionalCache(false).ifPresent(c -> c.keySet().removeIf(k -> k.cacheName.equals(cacheName)));
+      Cache<QueryCacheKey, Object> cache = lazyCache;
+      if (cache != null) {
+         cache.asMap().keySet().removeIf(k -> k.cacheName.equals(cacheName));
+      }
+   }
+
+   /**
+    * Creates the hit, miss and eviction counters of the given data cache, if they don't exist yet.
+    *
+    * @return the counters of the given data cache.
+    */
+   Statistics registerStatistics(String cacheName) {
+      return statistics.computeIfAbsent(cacheName, k -> new Statistics());
    }
 
    /**
-    * Obtain and return the cache, starting it lazily if needed.
+    * @return the hit, miss and eviction counters of the given data cache, or {@code null} if they were not registered.
     */
-   private Optional<Cache<QueryCacheKey, Object>> getOptionalCache(boolean createIfAbsent) {
+   Statistics getStatistics(String cacheName) {
+      return statistics.get(cacheName);
+   }
+
+   void removeStatistics(String cacheName) {
+      statistics.remove(cacheName);
+   }
+
+   /**
+    * @return the approximate number of cached objects, of all data caches.
+    */
+   public long size() {
+      Cache<QueryCacheKey, Object> cache = lazyCache;
+      if (cache == null) {
+         return 0;
+      }
+      cache.cleanUp();
+      return cache.estimatedSize();
+   }
+
+   /**
+    * Obtain and return the cache, creating it lazily if needed.
+    */
+   private Cache<QueryCacheKey, Object> getCache() {
       Cache<QueryCacheKey, Object> cache = lazyCache;
-      if (createIfAbsent && cache == null) {
+      if (cache == null) {
          synchronized (this) {
             if (lazyCache == null) {
-               // define the query cache configuration if it does not already exist (from a previous call or manually defined by the user)
-               internalCacheRegistry.registerInternalCache(QUERY_CACHE_NAME, getQueryCacheConfig().build(), EnumSet.noneOf(InternalCacheRegistry.Flag.class));
-               lazyCache = cacheManager.getCache(QUERY_CACHE_NAME);
+               lazyCache = createCache();
             }
             cache = lazyCache;
          }
       }
-      return Optional.ofNullable(cache);
+      return cache;
    }
 
-   /**
-    * Create the configuration of the internal query cache.
-    */
-   private ConfigurationBuilder getQueryCacheConfig() {
-      ConfigurationBuilder cfgBuilder = new ConfigurationBuilder();
-      cfgBuilder
-            .clustering().cacheMode(CacheMode.LOCAL)
-            .transaction().transactionMode(TransactionMode.NON_TRANSACTIONAL)
-            .expiration().maxIdle(ENTRY_LIFESPAN, TimeUnit.SECONDS)
-            .memory().maxCount(MAX_ENTRIES);
-      return cfgBuilder;
+   private Cache<QueryCacheKey, Object> createCache() {
+      // use the query cache configuration if manually defined by the user
+      Configuration userConfig = cacheManager.getCacheConfiguration(QUERY_CACHE_NAME);
+      long maxIdle = TimeUnit.SECONDS.toMillis(ENTRY_LIFESPAN);
+      long maxWeight = MAX_WEIGHT;
+      if (userConfig != null) {
+         if (userConfig.expiration().maxIdle() > 0) {
+            maxIdle = userConfig.expiration().maxIdle();
+         }
+         if (userConfig.memory().maxSizeBytes() > 0) {
+            maxWeight = userConfig.memory().maxSizeBytes();
+         } else if (userConfig.memory().maxCount() > 0) {
+            maxWeight = userConfig.memory().maxCount() * AVERAGE_ENTRY_WEIGHT;
+         }
+      }
+      return Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((QueryCacheKey k, Object v) -> k.estimateSize())
+            .expireAfterAccess(maxIdle, TimeUnit.MILLISECONDS)
+            .executor(new WithinThreadExecutor())
+            .removalListener((QueryCacheKey k, Object v, RemovalCause cause) -> {
+               if (k != null && cause.wasEvicted()) {
+                  Statistics stats = statistics.get(k.cacheName);
+                  if (stats != null) {
+                     stats.evictions.increment();
+                  }
+               }
+            })
+            .build();
+   }
+
+   static final class Statistics {
+      final LongAdder hits = new LongAdder();
+      final LongAdder misses = new LongAdder();
+      final LongAdder evictions = new LongAdder();
    }
 
    /**
@@ -138,6 +222,15 @@ private static final class QueryCacheKey {
          this.queryTypeDiscriminator = queryTypeDiscriminator;
       }
 
+      /**
+       * Estimates the size of this key and of the parsed query it maps to. The parsed query is not inspected, but its
+       * size grows with the number of clauses and thus with the length of the query string.
+       */
+      int estimateSize() {
+         int accumulatorCount = accumulators != null ? accumulators.size() : 0;
+         return 256 + 10 * queryString.length() + 32 * accumulatorCount;
+      }
+
       @Override
       public boolean equals(Object obj) {
          if (this == obj) return true;
@@ -0,0 +1,71 @@
+package org.infinispan.query.core.impl;
+
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+
+/**
+ * Exposes the usage of the {@link QueryCache} by a single cache.
+ *
+ * @since 12.0
+ */
+@MBean(objectName = "QueryCache", description = "Statistics of the cache of parsed queries")
+@Scope(Scopes.NAMED_CACHE)
+public class QueryCacheStatistics {
+
+   private final QueryCache.Statistics statistics;
+
+   public QueryCacheStatistics(QueryCache queryCache, String cacheName) {
+      this.statistics = queryCache.registerStatistics(cacheName);
+   }
+
+   @ManagedAttribute(
+         description = "Number of queries that were found already parsed in the query cache",
+         displayName = "Query cache hits",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getHits() {
+      return statistics.hits.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Number of queries that had to be parsed because they were not in the query cache",
+         displayName = "Query cache misses",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getMisses() {
+      return statistics.misses.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Number of parsed queries evicted from the query cache because it was full",
+         displayName = "Query cache evictions",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getEvictions() {
+      return statistics.evictions.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Ratio of queries found already parsed in the query cache",
+         displayName = "Query cache hit ratio"
+   )
+   public double getHitRatio() {
+      long hits = statistics.hits.sum();
+      long total = hits + statistics.misses.sum();
+      return total == 0 ? 0 : (double) hits / total;
+   }
+
+   @ManagedOperation(
+         description = "Resets statistics gathered by this component",
+         displayName = "Reset statistics"
+   )
+   public void resetStatistics() {
+      statistics.hits.reset();
+      statistics.misses.reset();
+      statistics.evictions.reset();
+   }
+}
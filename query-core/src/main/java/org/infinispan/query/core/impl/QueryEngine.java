@@ -1,6 +1,7 @@
 package org.infinispan.query.core.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -470,6 +471,23 @@ protected BaseQuery<?> buildQueryNoAggregations(QueryFactory queryFactory, Strin
       return new EmbeddedQuery<>(this, queryFactory, cache, queryString, namedParameters, parsingResult.getProjections(), startOffset, maxResults);
    }
 
+   /**
+    * Parses the given queries in order to populate the query cache. Queries that cannot be parsed are logged and
+    * skipped.
+    */
+   public void warmUp(Collection<String> queryStrings) {
+      if (queryCache == null) {
+         return;
+      }
+      for (String queryString : queryStrings) {
+         try {
+            parse(queryString);
+         } catch (Exception e) {
+            log.unableToWarmUpQuery(cache.getName(), queryString, e);
+         }
+      }
+   }
+
    protected IckleParsingResult<TypeMetadata> parse(String queryString) {
       return queryCache != null
             ? queryCache.get(cache.getName(), queryString, null, IckleParsingResult.class, (qs, accumulators) -> IckleParser.parse(qs, propertyHelper))
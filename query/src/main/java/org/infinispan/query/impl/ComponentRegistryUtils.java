@@ -1,17 +1,21 @@
 package org.infinispan.query.impl;
 
+import java.util.concurrent.ExecutorService;
+
 import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.factories.KnownComponentNames;
 import org.infinispan.query.Indexer;
 import org.infinispan.query.backend.KeyTransformationHandler;
 import org.infinispan.query.backend.QueryInterceptor;
 import org.infinispan.query.dsl.embedded.impl.QueryEngine;
 import org.infinispan.query.core.impl.QueryCache;
 import org.infinispan.search.mapper.mapping.SearchMapping;
+import org.infinispan.util.concurrent.BlockingManager;
 
 /**
  * Lookup methods for various internal components of search module.
@@ -67,6 +71,15 @@ public static TimeService getTimeService(Cache<?, ?> cache) {
       return getRequiredComponent(cache, TimeService.class);
    }
 
+   public static BlockingManager getBlockingManager(Cache<?, ?> cache) {
+      return getRequiredComponent(cache, BlockingManager.class);
+   }
+
+   public static ExecutorService getNonBlockingExecutor(Cache<?, ?> cache) {
+      ComponentRegistry componentRegistry = SecurityActions.getCacheComponentRegistry(cache.getAdvancedCache());
+      return componentRegistry.getGlobalComponentRegistry().getComponent(ExecutorService.class, KnownComponentNames.NON_BLOCKING_EXECUTOR);
+   }
+
    /**
     * Returns the optional QueryCache.
     */
@@ -108,8 +108,6 @@ public void cacheStarting(ComponentRegistry cr, Configuration cfg, String cacheN
       InternalCacheRegistry icr = cr.getGlobalComponentRegistry().getComponent(InternalCacheRegistry.class);
       if (!icr.isInternalCache(cacheName) || icr.internalCacheHasFlag(cacheName, Flag.QUERYABLE)) {
          AdvancedCache<?, ?> cache = cr.getComponent(Cache.class).getAdvancedCache();
-         SecurityActions.addCacheDependency(cache.getCacheManager(), cacheName, QueryCache.QUERY_CACHE_NAME);
-
          ClassLoader aggregatedClassLoader = makeAggregatedClassLoader(cr.getGlobalComponentRegistry().getGlobalConfiguration().classLoader());
          boolean isIndexed = cfg.indexing().enabled();
 
@@ -234,6 +232,23 @@ public void cacheStarted(ComponentRegistry cr, String cacheName) {
       registerQueryMBeans(cr, massIndexer, stats);
 
       registerMetrics(cr, stats);
+
+      warmUpQueryCache(cr, cache, indexingConfiguration);
+   }
+
+   /**
+    * Parses the configured warm-up queries of an indexed cache. Protobuf caches are warmed up by the remote query
+    * module.
+    */
+   private void warmUpQueryCache(ComponentRegistry cr, AdvancedCache<?, ?> cache, IndexingConfiguration indexingConfiguration) {
+      if (indexingConfiguration.warmUpQueries().isEmpty()
+            || cache.getValueDataConversion().getStorageMediaType().match(MediaType.APPLICATION_PROTOSTREAM)) {
+         return;
+      }
+      QueryEngine<?> queryEngine = cr.getComponent(QueryEngine.class);
+      if (queryEngine != null) {
+         queryEngine.warmUp(indexingConfiguration.warmUpQueries());
+      }
    }
 
    private void registerMetrics(ComponentRegistry cr, InfinispanQueryStatisticsInfo stats) {
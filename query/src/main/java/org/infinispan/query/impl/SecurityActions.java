@@ -7,9 +7,7 @@
 import org.infinispan.Cache;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.factories.ComponentRegistry;
-import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.security.Security;
-import org.infinispan.security.actions.AddCacheDependencyAction;
 import org.infinispan.security.actions.GetCacheComponentRegistryAction;
 
 /**
@@ -42,8 +40,4 @@ static Configuration getCacheConfiguration(Cache<?, ?> cache) {
    static ComponentRegistry getCacheComponentRegistry(AdvancedCache<?, ?> cache) {
       return doPrivileged(new GetCacheComponentRegistryAction(cache));
    }
-
-   static void addCacheDependency(EmbeddedCacheManager cacheManager, String from, String to) {
-      doPrivileged(new AddCacheDependencyAction(cacheManager, from, to));
-   }
 }
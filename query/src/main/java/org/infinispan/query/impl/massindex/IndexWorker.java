@@ -6,7 +6,11 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -14,6 +18,11 @@
 import org.infinispan.commons.dataconversion.Wrapper;
 import org.infinispan.commons.marshall.AbstractExternalizer;
 import org.infinispan.commons.time.TimeService;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.Configurations;
+import org.infinispan.configuration.cache.IndexingConfiguration;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.context.Flag;
 import org.infinispan.distribution.ch.KeyPartitioner;
@@ -23,6 +32,8 @@
 import org.infinispan.query.impl.ComponentRegistryUtils;
 import org.infinispan.query.impl.externalizers.ExternalizerIds;
 import org.infinispan.search.mapper.mapping.SearchMapping;
+import org.infinispan.util.concurrent.BlockingManager;
+import org.infinispan.util.concurrent.CompletionStages;
 
 /**
  * Mass indexer task.
@@ -64,27 +75,47 @@ public Void apply(EmbeddedCacheManager embeddedCacheManager) {
       DataConversion keyDataConversion = reindexCache.getKeyDataConversion();
       if (keys == null || keys.size() == 0) {
          preIndex(indexUpdater);
-         MassIndexerProgressState progressState = new MassIndexerProgressState(notifier);
          if (!skipIndex) {
-            try (Stream<CacheEntry<Object, Object>> stream = reindexCache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL)
-                  .cacheEntrySet().stream()) {
-               stream.forEach(entry -> {
-                  Object key = entry.getKey();
-                  Object storedKey = keyDataConversion.toStorage(key);
-                  Object value = entry.getValue();
-                  if (valueFilterable) {
-                     value = valueWrapper.wrap(value);
-                  }
-                  int segment = keyPartitioner.getSegment(storedKey);
-
-                  if (value != null && indexedTypes.contains(value.getClass())) {
-                     progressState.addItem(entry.getKey(), value,
-                           indexUpdater.updateIndex(entry.getKey(), value, segment));
-                  }
-               });
+            Configuration configuration = cache.getCacheConfiguration();
+            IndexingConfiguration indexing = configuration.indexing();
+            int numSegments = configuration.clustering().hash().numSegments();
+            // Without segments every key maps to segment 0, so the entries can't be split between threads
+            int threads = Configurations.needSegments(configuration) ?
+                  Math.min(indexing.massIndexerThreads(), numSegments) : 1;
+            int batchSize = indexing.massIndexerBatchSize();
+            AdvancedCache<Object, Object> localCache = reindexCache.withFlags(Flag.CACHE_MODE_LOCAL);
+            BlockingManager blockingManager = ComponentRegistryUtils.getBlockingManager(cache);
+            Executor nonBlockingExecutor = ComponentRegistryUtils.getNonBlockingExecutor(cache);
+            // Set when a partition fails, so that the other partitions stop reading entries
+            AtomicBoolean failed = new AtomicBoolean();
+
+            // Each thread owns the segments equal to its index modulo the number of threads, the calling thread
+            // takes the last partition. The calling thread is already a blocking thread, where the BlockingManager
+            // runs the tasks inline, so the other partitions are submitted from a non blocking thread.
+            CompletableFuture<?>[] partitions = new CompletableFuture[threads - 1];
+            for (int i = 0; i < threads - 1; i++) {
+               IntSet segments = partitionSegments(i, threads, numSegments);
+               partitions[i] = CompletableFuture.supplyAsync(() -> blockingManager.runBlocking(
+                     () -> indexSegments(localCache, segments, valueWrapper, keyPartitioner, indexUpdater, notifier,
+                           batchSize, failed),
+                     "mass-indexer-" + cacheName), nonBlockingExecutor)
+                     .thenCompose(Function.identity())
+                     .whenComplete((ignore, t) -> {
+                        if (t != null) failed.set(true);
+                     });
             }
+            try {
+               indexSegments(localCache, partitionSegments(threads - 1, threads, numSegments), valueWrapper,
+                     keyPartitioner, indexUpdater, notifier, batchSize, failed);
+            } catch (Throwable t) {
+               failed.set(true);
+               // The other partitions stop at their next entry, wait for them before reporting the failure
+               CompletableFuture.allOf(partitions).handle((ignore, ignored) -> null).join();
+               throw t;
+            }
+            CompletionStages.join(CompletableFuture.allOf(partitions));
          }
-         postIndex(indexUpdater, progressState, notifier);
+         postIndex(indexUpdater, notifier);
       } else {
          Set<Class<?>> classSet = new HashSet<>();
          for (Object key : keys) {
@@ -106,8 +137,47 @@ private void preIndex(IndexUpdater indexUpdater) {
       indexUpdater.purge(indexedTypes);
    }
 
-   private void postIndex(IndexUpdater indexUpdater, MassIndexerProgressState progressState, MassIndexerProgressNotifier notifier) {
-      progressState.waitForAsyncCompletion();
+   private void indexSegments(AdvancedCache<Object, Object> localCache, IntSet segments, Wrapper valueWrapper,
+                              KeyPartitioner keyPartitioner, IndexUpdater indexUpdater,
+                              MassIndexerProgressNotifier notifier, int batchSize, AtomicBoolean failed) {
+      DataConversion keyDataConversion = localCache.getKeyDataConversion();
+      boolean valueFilterable = valueWrapper.isFilterable();
+      MassIndexerProgressState progressState = new MassIndexerProgressState(notifier);
+      // The segments of the partition are read with a single stream, as the data container and a non segmented store
+      // can only filter segments out of a full iteration
+      try (Stream<CacheEntry<Object, Object>> stream = localCache.cacheEntrySet().stream().filterKeySegments(segments)) {
+         for (Iterator<CacheEntry<Object, Object>> iterator = stream.iterator(); iterator.hasNext() && !failed.get(); ) {
+            CacheEntry<Object, Object> entry = iterator.next();
+            Object key = entry.getKey();
+            Object storedKey = keyDataConversion.toStorage(key);
+            Object value = entry.getValue();
+            if (valueFilterable) {
+               value = valueWrapper.wrap(value);
+            }
+            int segment = keyPartitioner.getSegment(storedKey);
+
+            if (value != null && indexedTypes.contains(value.getClass())) {
+               progressState.addItem(key, value, segment, indexUpdater.updateIndex(key, value, segment));
+               if (progressState.pendingItems() >= batchSize) {
+                  progressState.waitForAsyncCompletion();
+               }
+            }
+         }
+      }
+      if (!failed.get()) {
+         progressState.segmentsCompleted(segments);
+      }
+   }
+
+   private static IntSet partitionSegments(int partition, int partitions, int numSegments) {
+      IntSet segments = IntSets.mutableEmptySet(numSegments);
+      for (int segment = partition; segment < numSegments; segment += partitions) {
+         segments.set(segment);
+      }
+      return segments;
+   }
+
+   private void postIndex(IndexUpdater indexUpdater, MassIndexerProgressNotifier notifier) {
       indexUpdater.flush(indexedTypes);
       indexUpdater.refresh(indexedTypes);
       notifier.notifyIndexingCompletedSuccessfully();
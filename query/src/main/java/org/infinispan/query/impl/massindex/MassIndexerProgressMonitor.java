@@ -1,6 +1,7 @@
 package org.infinispan.query.impl.massindex;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.infinispan.commons.time.TimeService;
@@ -15,6 +16,7 @@ public class MassIndexerProgressMonitor {
    private static final Log log = LogFactory.getLog(MassIndexerProgressMonitor.class, Log.class);
 
    private final AtomicLong documentsDoneCounter = new AtomicLong();
+   private final AtomicInteger segmentsDoneCounter = new AtomicInteger();
    private volatile long startTime;
    private final int logAfterNumberOfDocuments;
    private final TimeService timeService;
@@ -43,11 +45,23 @@ public void documentsAdded(long increment) {
       if (current == increment) {
          startTime = timeService.time();
       }
-      if (current % getStatusMessagePeriod() == 0) {
+      // documents are added in batches, so print the message whenever a period boundary is crossed
+      if (current / getStatusMessagePeriod() != (current - increment) / getStatusMessagePeriod()) {
          printStatusMessage(startTime, current);
       }
    }
 
+   /**
+    * Notifies that all the entries of a segment have been written to the index.
+    *
+    * @param segment the segment
+    * @param documents the number of documents added for the segment
+    */
+   public void segmentCompleted(int segment, long documents) {
+      int completed = segmentsDoneCounter.incrementAndGet();
+      log.indexingSegmentCompleted(documents, segment, completed);
+   }
+
    public void indexingCompleted() {
       log.indexingEntitiesCompleted(documentsDoneCounter.get());
    }
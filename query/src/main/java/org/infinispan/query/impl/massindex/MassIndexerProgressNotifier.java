@@ -30,10 +30,14 @@ class MassIndexerProgressNotifier {
       this.searchMapping = searchMapping;
    }
 
-   void notifyDocumentsAdded(int size) {
+   void notifyDocumentsAdded(long size) {
       monitor.documentsAdded(size);
    }
 
+   void notifySegmentCompleted(int segment, long documents) {
+      monitor.segmentCompleted(segment, documents);
+   }
+
    void notifyIndexingCompletedSuccessfully() {
       monitor.indexingCompleted();
 
@@ -1,41 +1,86 @@
 package org.infinispan.query.impl.massindex;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.util.common.impl.Futures;
 
+import org.infinispan.commons.util.IntSet;
 import org.infinispan.query.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * Tracks the index writes issued by a mass indexer thread for the segments it is indexing. The thread adds items until
+ * the batch is full and then waits for all of them with {@link #waitForAsyncCompletion()}, which bounds the number of
+ * pending writes. Each item is still a separate write to the index.
+ */
+@NotThreadSafe
 public class MassIndexerProgressState {
 
    private static final Log LOG = LogFactory.getLog(IndexUpdater.class, Log.class);
 
    private final MassIndexerProgressNotifier notifier;
 
-   private CompletableFuture<?> lastFuture = CompletableFuture.completedFuture( null );
+   // each future completes with the segment of the item, or -1 if it failed
+   private final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+   private final Map<Integer, Long> segmentDocuments = new HashMap<>();
 
    public MassIndexerProgressState(MassIndexerProgressNotifier notifier) {
       this.notifier = notifier;
    }
 
-   public void addItem(Object key, Object value, CompletableFuture<?> future) {
-      // This is what HS5 currently does, but introduce chunking could be a good idea.
-      lastFuture = future.whenComplete((result, exception) -> {
+   public void addItem(Object key, Object value, int segment, CompletableFuture<?> future) {
+      // failures are recorded by the notifier and reported once the indexing completes
+      futures.add(future.handle((result, exception) -> {
          if (exception != null) {
             notifier.notifyEntityIndexingFailure(value.getClass(), key, exception);
-         } else {
-            notifier.notifyDocumentsAdded(1);
+            return -1;
          }
-      }).thenCombine(lastFuture, (ignored1, ignored2) -> null);
+         return segment;
+      }));
+   }
+
+   /**
+    * @return the number of items added since the last call to {@link #waitForAsyncCompletion()}
+    */
+   public int pendingItems() {
+      return futures.size();
    }
 
    public void waitForAsyncCompletion() {
+      if (futures.isEmpty()) {
+         return;
+      }
       try {
-         Futures.unwrappedExceptionGet(lastFuture);
+         Futures.unwrappedExceptionGet(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])));
       } catch (InterruptedException e) {
          Thread.currentThread().interrupt();
          throw LOG.interruptedWhileWaitingForRequestCompletion(e);
       }
+      long added = 0;
+      for (CompletableFuture<Integer> future : futures) {
+         int segment = future.join();
+         if (segment >= 0) {
+            added++;
+            segmentDocuments.merge(segment, 1L, Long::sum);
+         }
+      }
+      futures.clear();
+      notifier.notifyDocumentsAdded(added);
+   }
+
+   /**
+    * Waits for the pending items and notifies the completion of the given segments with the number of documents
+    * added for each of them.
+    */
+   public void segmentsCompleted(IntSet segments) {
+      waitForAsyncCompletion();
+      segments.forEach((int segment) -> notifier.notifySegmentCompleted(segment, segmentDocuments.getOrDefault(segment, 0L)));
+      segmentDocuments.clear();
    }
 }
@@ -179,4 +179,8 @@ public interface Log extends org.infinispan.query.core.impl.Log {
 
    @Message(value = "Trying to execute query `%1$s`, but no type is indexed on cache.", id = 14054)
    CacheException noTypeIsIndexed(String ickle);
+
+   @LogMessage(level = DEBUG)
+   @Message(value = "Reindexed %1$d entities of segment %2$d, %3$d segments completed", id = 14056)
+   void indexingSegmentCompleted(long nbrOfEntities, int segment, int segmentsCompleted);
 }
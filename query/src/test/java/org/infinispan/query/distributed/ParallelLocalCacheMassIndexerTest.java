@@ -0,0 +1,81 @@
+package org.infinispan.query.distributed;
+
+import static org.infinispan.util.concurrent.CompletionStages.join;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.infinispan.commons.CacheConfigurationException;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.query.Search;
+import org.infinispan.query.helper.SearchConfig;
+import org.infinispan.query.test.Person;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the Mass Indexer in a local cache configured with several indexing threads and batches smaller than the data
+ * set. The keys of a local cache all map to a single segment, so a single thread indexes them.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "query.distributed.ParallelLocalCacheMassIndexerTest")
+public class ParallelLocalCacheMassIndexerTest extends LocalCacheMassIndexerTest {
+   private static final int NUM_ENTRIES = 50;
+   private static final Set<String> READ_METHODS = new HashSet<>(Arrays.asList("iterator", "iteratorIncludingExpired",
+         "spliterator", "spliteratorIncludingExpired", "publisher"));
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = getDefaultStandaloneCacheConfig(false);
+      cfg.indexing().enable()
+            .massIndexerThreads(4)
+            .massIndexerBatchSize(7)
+            .addIndexedEntity(Person.class)
+            .addProperty(SearchConfig.DIRECTORY_TYPE, SearchConfig.HEAP);
+      return TestCacheManagerFactory.createCacheManager(cfg);
+   }
+
+   public void testDataContainerReadOnce() throws Exception {
+      for (int i = 0; i < NUM_ENTRIES; i++) {
+         cache.put(i, new Person("name" + i, "blurb" + i, i));
+      }
+      InternalDataContainer<?, ?> dataContainer = TestingUtil.extractComponent(cache, InternalDataContainer.class);
+      InternalDataContainer<?, ?> spy = spy(dataContainer);
+      TestingUtil.replaceComponent(cache, InternalDataContainer.class, spy, true);
+      try {
+         join(Search.getIndexer(cache).run());
+      } finally {
+         TestingUtil.replaceComponent(cache, InternalDataContainer.class, dataContainer, true);
+      }
+      // All the keys of a local cache map to segment 0, a single thread reads the container once
+      long reads = mockingDetails(spy).getInvocations().stream()
+            .map(invocation -> invocation.getMethod().getName())
+            .filter(READ_METHODS::contains)
+            .count();
+      assertTrue("Data container read " + reads + " times", reads <= 2);
+      verifyFindsPerson(1, "name" + (NUM_ENTRIES - 1));
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testInvalidThreads() {
+      ConfigurationBuilder cfg = getDefaultStandaloneCacheConfig(false);
+      // The builder accepts the value, the configuration is rejected when built
+      cfg.indexing().enable().massIndexerThreads(0).addIndexedEntity(Person.class);
+      cfg.build();
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testInvalidBatchSize() {
+      ConfigurationBuilder cfg = getDefaultStandaloneCacheConfig(false);
+      cfg.indexing().enable().massIndexerBatchSize(0).addIndexedEntity(Person.class);
+      cfg.build();
+   }
+}
@@ -3,6 +3,7 @@
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNotNull;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@
 import org.infinispan.objectfilter.impl.syntax.parser.IckleParsingResult;
 import org.infinispan.query.Search;
 import org.infinispan.query.core.impl.QueryCache;
+import org.infinispan.query.core.impl.QueryCacheStatistics;
 import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.embedded.impl.SearchQueryParsingResult;
 import org.infinispan.query.dsl.embedded.testdomain.hsearch.UserHS;
@@ -62,7 +64,8 @@ public void testQueryCache() {
       queryCache.clear();
 
       // obtain a reference to the internal query cache via reflection
-      Cache<?, ?> internalCache = (Cache<?, ?>) TestingUtil.extractField(QueryCache.class, queryCache, "lazyCache");
+      com.github.benmanes.caffeine.cache.Cache<?, ?> internalCache =
+            (com.github.benmanes.caffeine.cache.Cache<?, ?>) TestingUtil.extractField(QueryCache.class, queryCache, "lazyCache");
 
       String queryString = "from org.infinispan.query.dsl.embedded.testdomain.hsearch.UserHS u where u.name = 'John'";
 
@@ -78,15 +81,15 @@ public void testQueryCache() {
       assertNull(created);
 
       // test that the query cache does not have it already
-      assertEquals(0, internalCache.size());
+      assertEquals(0, queryCache.size());
 
       // create and execute a query
       Query<?> query = Search.getQueryFactory(cache).create(queryString);
       query.execute().list();
 
       // ensure the query cache has it now: one FilterParsingResult and one SearchQueryParsingResult
-      assertEquals(2, internalCache.size());
-      Set<Class<?>> cacheValueClasses = internalCache.values().stream().map(Object::getClass).collect(Collectors.toSet());
+      assertEquals(2, queryCache.size());
+      Set<Class<?>> cacheValueClasses = internalCache.asMap().values().stream().map(Object::getClass).collect(Collectors.toSet());
       Set<Class<?>> expectedCachedValueClasses = Sets.newLinkedHashSet(IckleParsingResult.class, SearchQueryParsingResult.class);
       assertEquals(expectedCachedValueClasses, cacheValueClasses);
 
@@ -96,4 +99,45 @@ public void testQueryCache() {
       });
       assertNotNull(cached);
    }
+
+   public void testStatistics() {
+      QueryCache queryCache = ComponentRegistryUtils.getQueryCache(cache);
+      QueryCacheStatistics statistics = TestingUtil.extractComponent(cache, QueryCacheStatistics.class);
+      assertNotNull(statistics);
+
+      String queryString = "from org.infinispan.query.dsl.embedded.testdomain.hsearch.UserHS u where u.name = 'John'";
+      queryCache.get(cache.getName(), queryString, null, IckleParsingResult.class, (qs, acc) -> qs);
+      queryCache.get(cache.getName(), queryString, null, IckleParsingResult.class, (qs, acc) -> qs);
+      queryCache.get(cache.getName(), queryString, null, IckleParsingResult.class, (qs, acc) -> qs);
+      queryCache.get("someOtherCache", queryString, null, IckleParsingResult.class, (qs, acc) -> qs);
+
+      assertEquals(2, statistics.getHits());
+      assertEquals(1, statistics.getMisses());
+      assertEquals(0, statistics.getEvictions());
+      assertEquals(2.0 / 3, statistics.getHitRatio(), 0.0001);
+
+      statistics.resetStatistics();
+      assertEquals(0, statistics.getHits());
+      assertEquals(0, statistics.getMisses());
+   }
+
+   public void testWarmUp() {
+      String queryString = "from org.infinispan.query.dsl.embedded.testdomain.hsearch.UserHS u where u.name = 'Jane'";
+      ConfigurationBuilder cfg = getDefaultStandaloneCacheConfig(true);
+      cfg.indexing().enable()
+            .addIndexedEntity(UserHS.class)
+            .addProperty(SearchConfig.DIRECTORY_TYPE, SearchConfig.HEAP)
+            .addWarmUpQuery(queryString)
+            .addWarmUpQuery("from an.unknown.Type");
+      cacheManager.defineConfiguration("warmed", cfg.build());
+      Cache<Object, Object> warmed = cacheManager.getCache("warmed");
+
+      // the invalid query is ignored, the valid one is already parsed
+      QueryCache queryCache = ComponentRegistryUtils.getQueryCache(warmed);
+      IckleParsingResult<?> cached = queryCache.get(warmed.getName(), queryString, null, IckleParsingResult.class, (qs, acc) -> {
+         throw new AssertionError("QueryCreator should not be invoked for a warmed up query");
+      });
+      assertNotNull(cached);
+      assertTrue(queryCache.size() > 0);
+   }
 }
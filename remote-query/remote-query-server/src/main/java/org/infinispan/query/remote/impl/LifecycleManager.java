@@ -183,6 +183,22 @@ public void cacheStarting(ComponentRegistry cr, Configuration cfg, String cacheN
       }
    }
 
+   /**
+    * Parses the configured warm-up queries of caches storing protobuf, which only the remote query engine can parse.
+    */
+   @Override
+   public void cacheStarted(ComponentRegistry cr, String cacheName) {
+      Configuration cfg = cr.getComponent(Configuration.class);
+      RemoteQueryManager remoteQueryManager = cr.getComponent(RemoteQueryManager.class);
+      if (remoteQueryManager == null || cfg.indexing().warmUpQueries().isEmpty()) {
+         return;
+      }
+      AdvancedCache<?, ?> cache = cr.getComponent(Cache.class).getAdvancedCache();
+      if (cache.getValueDataConversion().getStorageMediaType().match(MediaType.APPLICATION_PROTOSTREAM)) {
+         remoteQueryManager.getQueryEngine(cache).warmUp(cfg.indexing().warmUpQueries());
+      }
+   }
+
    private RemoteQueryManager buildQueryManager(Configuration cfg, SerializationContext ctx, ComponentRegistry cr) {
       ContentTypeConfiguration valueEncoding = cfg.encoding().valueDataType();
       MediaType valueStorageMediaType = valueEncoding.mediaType();
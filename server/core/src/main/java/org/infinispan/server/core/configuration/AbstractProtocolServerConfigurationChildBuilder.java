@@ -82,6 +82,12 @@ public S ioThreads(int ioThreads) {
       return self();
    }
 
+   @Override
+   public S ioTransport(IOTransport ioTransport) {
+      builder.ioTransport(ioTransport);
+      return self();
+   }
+
    @Override
    public S workerThreads(int workerThreads) {
       builder.workerThreads(workerThreads);
@@ -5,6 +5,7 @@
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.HOST;
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.IDLE_TIMEOUT;
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.IO_THREADS;
+import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.IO_TRANSPORT;
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.NAME;
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.PORT;
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.RECV_BUF_SIZE;
@@ -115,6 +116,12 @@ public S ioThreads(int ioThreads) {
       return this.self();
    }
 
+   @Override
+   public S ioTransport(IOTransport ioTransport) {
+      attributes.attribute(IO_TRANSPORT).set(ioTransport);
+      return this.self();
+   }
+
    @Override
    public S workerThreads(int workerThreads) {
       attributes.attribute(WORKER_THREADS).set(workerThreads);
@@ -70,6 +70,11 @@
     */
    S ioThreads(int ioThreads);
 
+   /**
+    * Sets the Netty transport used for the sockets and the I/O threads. Defaults to {@link IOTransport#AUTO}.
+    */
+   S ioTransport(IOTransport ioTransport);
+
    /**
     * Sets the number of worker threads
     */
@@ -11,6 +11,7 @@
 import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.dataconversion.MediaType;
+import org.infinispan.server.core.configuration.IOTransport;
 import org.infinispan.server.core.dataconversion.TranscodingException;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.annotations.Cause;
@@ -157,4 +158,12 @@ public interface Log extends BasicLogger {
 
    @Message(value = "Cannot perform restore, restore already exists with name '%s'", id = 5051)
    CacheException restoreAlreadyExists(String name);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Native io_uring transport not available, falling back to %s: %s", id = 5052)
+   void ioUringNotAvailable(IOTransport fallback, String message);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Native Epoll transport not available, falling back to NIO", id = 5053)
+   void epollNotAvailableFallback();
 }
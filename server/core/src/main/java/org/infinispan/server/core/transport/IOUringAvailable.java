@@ -0,0 +1,64 @@
+package org.infinispan.server.core.transport;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.ThreadFactory;
+
+import org.infinispan.commons.CacheException;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+
+// This is a separate class for better replacement within Quarkus as it doesn't support native io_uring
+// The io_uring transport is an optional dependency, so its classes are only ever accessed reflectively
+final class IOUringAvailable {
+   private static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+   private static final boolean IS_LINUX = System.getProperty("os.name").toLowerCase().startsWith("linux");
+
+   private static final Constructor<? extends EventLoopGroup> EVENT_LOOP_GROUP_CONSTRUCTOR;
+   private static final Class<? extends ServerChannel> SERVER_SOCKET_CHANNEL;
+   // Has to be after other static variables to ensure they are initialized
+   static final String UNAVAILABILITY_CAUSE;
+   static final boolean USE_NATIVE_IO_URING;
+
+   static {
+      Constructor<? extends EventLoopGroup> constructor = null;
+      Class<? extends ServerChannel> channel = null;
+      String cause = null;
+      if (!IS_LINUX) {
+         cause = "io_uring is only supported on Linux";
+      } else {
+         try {
+            ClassLoader classLoader = IOUringAvailable.class.getClassLoader();
+            Class<?> ioUring = Class.forName(IO_URING_PACKAGE + "IOUring", true, classLoader);
+            if ((Boolean) ioUring.getMethod("isAvailable").invoke(null)) {
+               constructor = Class.forName(IO_URING_PACKAGE + "IOUringEventLoopGroup", true, classLoader)
+                     .asSubclass(EventLoopGroup.class).getConstructor(int.class, ThreadFactory.class);
+               channel = Class.forName(IO_URING_PACKAGE + "IOUringServerSocketChannel", true, classLoader)
+                     .asSubclass(ServerChannel.class);
+            } else {
+               cause = String.valueOf(ioUring.getMethod("unavailabilityCause").invoke(null));
+            }
+         } catch (ClassNotFoundException e) {
+            cause = "the Netty io_uring transport is not on the classpath";
+         } catch (ReflectiveOperationException | LinkageError e) {
+            cause = e.toString();
+         }
+      }
+      EVENT_LOOP_GROUP_CONSTRUCTOR = constructor;
+      SERVER_SOCKET_CHANNEL = channel;
+      UNAVAILABILITY_CAUSE = cause;
+      USE_NATIVE_IO_URING = constructor != null;
+   }
+
+   static Class<? extends ServerChannel> serverSocketChannel() {
+      return SERVER_SOCKET_CHANNEL;
+   }
+
+   static EventLoopGroup createEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+      try {
+         return EVENT_LOOP_GROUP_CONSTRUCTOR.newInstance(nThreads, threadFactory);
+      } catch (ReflectiveOperationException e) {
+         throw new CacheException(e);
+      }
+   }
+}
@@ -13,6 +13,7 @@
 import org.infinispan.jmx.annotations.ManagedAttribute;
 import org.infinispan.jmx.annotations.MeasurementType;
 import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.server.core.configuration.IOTransport;
 import org.infinispan.server.core.configuration.ProtocolServerConfiguration;
 import org.infinispan.server.core.logging.Log;
 
@@ -66,6 +67,7 @@ public NettyTransport(InetSocketAddress address, ProtocolServerConfiguration con
       this.address = address;
       this.configuration = configuration;
 
+      ioTransport = resolveIOTransport(configuration.ioTransport());
       // Need to initialize these in constructor since they require configuration
       masterGroup = buildEventLoop(1, new DefaultThreadFactory(threadNamePrefix + "-ServerMaster"));
       ioGroup = buildEventLoop(configuration.ioThreads(), new DefaultThreadFactory(threadNamePrefix + "-ServerIO"));
@@ -73,7 +75,7 @@ public NettyTransport(InetSocketAddress address, ProtocolServerConfiguration con
       serverChannels = new DefaultChannelGroup(threadNamePrefix + "-Channels", ImmediateEventExecutor.INSTANCE);
       acceptedChannels = new DefaultChannelGroup(threadNamePrefix + "-Accepted", ImmediateEventExecutor.INSTANCE);
 
-      connectionStats = new NettyTransportConnectionStats(cacheManager, acceptedChannels, threadNamePrefix);
+      connectionStats = new NettyTransportConnectionStats(cacheManager, acceptedChannels, threadNamePrefix, ioTransport);
    }
 
    public void initializeHandler(ChannelInitializer<Channel> handler) {
@@ -83,6 +85,7 @@ public void initializeHandler(ChannelInitializer<Channel> handler) {
    private ChannelInitializer<Channel> handler;
    private final InetSocketAddress address;
    private final ProtocolServerConfiguration configuration;
+   private final IOTransport ioTransport;
 
    private final ChannelGroup serverChannels;
    final ChannelGroup acceptedChannels;
@@ -212,6 +215,16 @@ public int getNumberIOThreads() {
       return configuration.ioThreads();
    }
 
+   @ManagedAttribute(
+      description = "Returns the Netty transport in use, which can differ from the configured one when it is not available.",
+      displayName = "I/O transport",
+      dataType = DataType.TRAIT
+   )
+   @Override
+   public String getIOTransport() {
+      return connectionStats.getIOTransport().toString();
+   }
+
    @ManagedAttribute(
       description = "Returns the number of pending tasks.",
       displayName = "Pending tasks"
@@ -292,15 +305,60 @@ public void updateTotalBytesRead(int bytes) {
    }
 
    private Class<? extends ServerChannel> getServerSocketChannel() {
-      Class<? extends ServerChannel> channel = EPollAvailable.USE_NATIVE_EPOLL ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+      Class<? extends ServerChannel> channel;
+      switch (ioTransport) {
+         case IO_URING:
+            channel = IOUringAvailable.serverSocketChannel();
+            break;
+         case EPOLL:
+            channel = EpollServerSocketChannel.class;
+            break;
+         default:
+            channel = NioServerSocketChannel.class;
+      }
       log.createdSocketChannel(channel.getName(), configuration.toString());
       return channel;
    }
 
    private EventLoopGroup buildEventLoop(int nThreads, DefaultThreadFactory threadFactory) {
-      EventLoopGroup eventLoop = EPollAvailable.USE_NATIVE_EPOLL ? new EpollEventLoopGroup(nThreads, threadFactory) :
-              new NioEventLoopGroup(nThreads, threadFactory);
+      EventLoopGroup eventLoop;
+      switch (ioTransport) {
+         case IO_URING:
+            eventLoop = IOUringAvailable.createEventLoopGroup(nThreads, threadFactory);
+            break;
+         case EPOLL:
+            eventLoop = new EpollEventLoopGroup(nThreads, threadFactory);
+            break;
+         default:
+            eventLoop = new NioEventLoopGroup(nThreads, threadFactory);
+      }
       log.createdNettyEventLoop(eventLoop.getClass().getName(), configuration.toString());
       return eventLoop;
    }
+
+   /**
+    * Returns the transport to use for the configured one, falling back from io_uring to Epoll and from Epoll to NIO
+    * when they are not available. {@link IOTransport#AUTO} never resolves to io_uring.
+    */
+   static IOTransport resolveIOTransport(IOTransport configured) {
+      switch (configured) {
+         case IO_URING:
+            if (IOUringAvailable.USE_NATIVE_IO_URING) {
+               return IOTransport.IO_URING;
+            }
+            IOTransport fallback = EPollAvailable.USE_NATIVE_EPOLL ? IOTransport.EPOLL : IOTransport.NIO;
+            log.ioUringNotAvailable(fallback, IOUringAvailable.UNAVAILABILITY_CAUSE);
+            return fallback;
+         case EPOLL:
+            if (EPollAvailable.USE_NATIVE_EPOLL) {
+               return IOTransport.EPOLL;
+            }
+            log.epollNotAvailableFallback();
+            return IOTransport.NIO;
+         case AUTO:
+            return EPollAvailable.USE_NATIVE_EPOLL ? IOTransport.EPOLL : IOTransport.NIO;
+         default:
+            return IOTransport.NIO;
+      }
+   }
 }
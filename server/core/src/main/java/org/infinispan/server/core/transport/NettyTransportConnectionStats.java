@@ -13,6 +13,7 @@
 import org.infinispan.commons.marshall.SerializeWith;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.server.core.ProtocolServer;
+import org.infinispan.server.core.configuration.IOTransport;
 
 import io.netty.channel.group.ChannelGroup;
 
@@ -22,11 +23,14 @@ class NettyTransportConnectionStats {
    private final boolean isGlobalStatsEnabled;
    private final ChannelGroup acceptedChannels;
    private final String threadNamePrefix;
+   private final IOTransport ioTransport;
    private final AtomicLong totalBytesWritten = new AtomicLong();
    private final AtomicLong totalBytesRead = new AtomicLong();
 
-   public NettyTransportConnectionStats(EmbeddedCacheManager cacheManager, ChannelGroup acceptedChannels, String threadNamePrefix) {
+   public NettyTransportConnectionStats(EmbeddedCacheManager cacheManager, ChannelGroup acceptedChannels, String threadNamePrefix,
+                                       IOTransport ioTransport) {
       this.cacheManager = cacheManager;
+      this.ioTransport = ioTransport;
       this.acceptedChannels = acceptedChannels;
       this.threadNamePrefix = threadNamePrefix;
       this.isGlobalStatsEnabled = cacheManager != null && cacheManager.getCacheManagerConfiguration().statistics();
@@ -45,6 +49,13 @@ public void incrementTotalBytesRead(long bytes) {
       increment(totalBytesRead, bytes);
    }
 
+   /**
+    * @return the transport actually in use, after falling back from unavailable native transports
+    */
+   public IOTransport getIOTransport() {
+      return ioTransport;
+   }
+
    public long getTotalBytesWritten() {
       return totalBytesWritten.get();
    }
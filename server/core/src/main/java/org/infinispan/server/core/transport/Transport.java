@@ -22,6 +22,8 @@ public interface Transport {
 
    int getNumberIOThreads();
 
+   String getIOTransport();
+
    int getIdleTimeout();
 
    int getPendingTasks();
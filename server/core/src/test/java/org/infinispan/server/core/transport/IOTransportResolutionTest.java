@@ -0,0 +1,35 @@
+package org.infinispan.server.core.transport;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import org.infinispan.server.core.configuration.IOTransport;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the transport used for each configured {@link IOTransport}, falling back when a native one is not available.
+ *
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "server.core.transport.IOTransportResolutionTest")
+public class IOTransportResolutionTest extends AbstractInfinispanTest {
+
+   public void testIOUring() {
+      IOTransport expected = IOUringAvailable.USE_NATIVE_IO_URING ? IOTransport.IO_URING : NettyTransport.resolveIOTransport(IOTransport.EPOLL);
+      assertEquals(expected, NettyTransport.resolveIOTransport(IOTransport.IO_URING));
+   }
+
+   public void testEpoll() {
+      IOTransport expected = EPollAvailable.USE_NATIVE_EPOLL ? IOTransport.EPOLL : IOTransport.NIO;
+      assertEquals(expected, NettyTransport.resolveIOTransport(IOTransport.EPOLL));
+   }
+
+   public void testAutoNeverUsesIOUring() {
+      IOTransport expected = EPollAvailable.USE_NATIVE_EPOLL ? IOTransport.EPOLL : IOTransport.NIO;
+      assertEquals(expected, NettyTransport.resolveIOTransport(IOTransport.AUTO));
+   }
+
+   public void testNio() {
+      assertEquals(IOTransport.NIO, NettyTransport.resolveIOTransport(IOTransport.NIO));
+   }
+}
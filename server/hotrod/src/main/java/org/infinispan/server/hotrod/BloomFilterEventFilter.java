@@ -0,0 +1,67 @@
+package org.infinispan.server.hotrod;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+
+import org.infinispan.commons.marshall.AbstractExternalizer;
+import org.infinispan.commons.util.BloomFilter;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
+import org.infinispan.notifications.cachelistener.filter.EventType;
+
+/**
+ * Only accepts the events of the keys that may be in the near cache of a client, as described by the bloom filter
+ * of the near cached keys sent by the client.
+ * <p>
+ * The listener is registered with the key format of the client, so the filter receives the keys as marshalled by the
+ * client even when the cache stores them in another format. Keys that are not bytes are always accepted.
+ *
+ * @since 12.0
+ */
+class BloomFilterEventFilter implements CacheEventFilter<Object, Object> {
+   private final byte[] filterBytes;
+   private final BloomFilter bloomFilter;
+
+   BloomFilterEventFilter(byte[] filterBytes) {
+      this.filterBytes = filterBytes;
+      this.bloomFilter = BloomFilter.fromBytes(filterBytes);
+   }
+
+   @Override
+   public boolean accept(Object key, Object oldValue, Metadata oldMetadata, Object newValue, Metadata newMetadata, EventType eventType) {
+      if (key instanceof byte[]) {
+         return bloomFilter.possiblyContains((byte[]) key);
+      }
+      return true;
+   }
+
+   @Override
+   public String toString() {
+      return "BloomFilterEventFilter{" +
+            "bloomFilter=" + bloomFilter +
+            '}';
+   }
+
+   static class Externalizer extends AbstractExternalizer<BloomFilterEventFilter> {
+      @Override
+      public Set<Class<? extends BloomFilterEventFilter>> getTypeClasses() {
+         return Collections.singleton(BloomFilterEventFilter.class);
+      }
+
+      @Override
+      public void writeObject(ObjectOutput output, BloomFilterEventFilter object) throws IOException {
+         output.writeInt(object.filterBytes.length);
+         output.write(object.filterBytes);
+      }
+
+      @Override
+      public BloomFilterEventFilter readObject(ObjectInput input) throws IOException {
+         byte[] filterBytes = new byte[input.readInt()];
+         input.readFully(filterBytes);
+         return new BloomFilterEventFilter(filterBytes);
+      }
+   }
+}
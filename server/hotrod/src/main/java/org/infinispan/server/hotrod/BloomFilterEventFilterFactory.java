@@ -0,0 +1,24 @@
+package org.infinispan.server.hotrod;
+
+import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
+import org.infinispan.notifications.cachelistener.filter.CacheEventFilterFactory;
+
+/**
+ * Creates the filters of the near cache listeners that send the bloom filter of their keys as the only raw parameter.
+ *
+ * @since 12.0
+ */
+class BloomFilterEventFilterFactory implements CacheEventFilterFactory {
+   private BloomFilterEventFilterFactory() {
+   }
+
+   public static BloomFilterEventFilterFactory SINGLETON = new BloomFilterEventFilterFactory();
+
+   @Override
+   public <K, V> CacheEventFilter<K, V> getFilter(Object[] params) {
+      if (params == null || params.length != 1 || !(params[0] instanceof byte[])) {
+         throw new IllegalArgumentException("The bloom filter must be sent as the only raw parameter");
+      }
+      return (CacheEventFilter<K, V>) new BloomFilterEventFilter((byte[]) params[0]);
+   }
+}
@@ -19,7 +19,6 @@
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.metadata.Metadata;
 import org.infinispan.server.hotrod.HotRodServer.ExtendedCacheInfo;
-import org.infinispan.server.hotrod.iteration.IterableIterationResult;
 import org.infinispan.server.hotrod.iteration.IterationState;
 import org.infinispan.server.hotrod.logging.Log;
 
@@ -511,12 +510,12 @@ void iterationStart(HotRodHeader header, Subject subject, byte[] segmentMask, St
    }
 
    void iterationNext(HotRodHeader header, Subject subject, String iterationId) {
-      executor.execute(() -> {
-         try {
-            IterableIterationResult iterationResult = server.getIterationManager().next(iterationId);
-            writeResponse(header, header.encoder().iterationNextResponse(header, server, channel, iterationResult));
-         } catch (Throwable t) {
+      // The iteration manager retrieves the batches on the executor, in the order the requests are received
+      server.getIterationManager().next(iterationId).whenComplete((iterationResult, t) -> {
+         if (t != null) {
             writeException(header, t);
+         } else {
+            writeResponse(header, header.encoder().iterationNextResponse(header, server, channel, iterationResult));
          }
       });
    }
@@ -181,7 +181,8 @@ private CompletionStage<Void> addCacheListener(AdvancedCache<byte[], byte[]> cac
          converter = new KeyValueFilterConverterAsCacheEventFilterConverter<>(HotRodServer.ToEmptyBytesKeyValueFilterConverter.INSTANCE);
          // We have to use storage format - otherwise passing converer will force it to change to incorrect format
          return cache.addStorageFormatFilteredListenerAsync(clientEventSender, filter, converter, filterAnnotations);
-      } else if (useRawData) {
+      } else if (useRawData && !(filter instanceof BloomFilterEventFilter)) {
+         // The bloom filter holds the keys as marshalled by the client, so it must see them in the request format
          return cache.addStorageFormatFilteredListenerAsync(clientEventSender, filter, converter, filterAnnotations);
       } else {
          return cache.addFilteredListenerAsync(clientEventSender, filter, converter, filterAnnotations);
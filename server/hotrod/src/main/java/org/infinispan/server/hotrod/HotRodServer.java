@@ -216,7 +216,8 @@ public ToEmptyBytesKeyValueFilterConverter readObject(ObjectInput input) {
    @Override
    protected void startInternal() {
       GlobalComponentRegistry gcr = SecurityActions.getGlobalComponentRegistry(cacheManager);
-      this.iterationManager = new DefaultIterationManager(gcr.getTimeService());
+      this.iterationManager = new DefaultIterationManager(gcr.getTimeService(), getExecutor(),
+            configuration.iterationReadAhead(), configuration.iterationReadAheadBytes());
       this.hasDefaultCache = configuration.defaultCacheName() != null || cacheManager.getCacheManagerConfiguration().defaultCacheName().isPresent();
 
       // Initialize query-specific stuff
@@ -230,6 +231,7 @@ protected void startInternal() {
       addCacheEventConverterFactory("key-value-with-previous-converter-factory",
                                     new KeyValueWithPreviousEventConverterFactory());
       addCacheEventConverterFactory("___eager-key-value-version-converter", KeyValueVersionConverterFactory.SINGLETON);
+      addCacheEventFilterFactory("___eager-bloom-filter", BloomFilterEventFilterFactory.SINGLETON);
       loadFilterConverterFactories(ParamKeyValueFilterConverterFactory.class, this::addKeyValueFilterConverterFactory);
       loadFilterConverterFactories(CacheEventFilterConverterFactory.class, this::addCacheEventFilterConverterFactory);
       loadFilterConverterFactories(CacheEventConverterFactory.class, this::addCacheEventConverterFactory);
@@ -1,5 +1,6 @@
 package org.infinispan.server.hotrod;
 
+import static org.infinispan.server.core.ExternalizerIds.BLOOM_FILTER_EVENT_FILTER;
 import static org.infinispan.server.core.ExternalizerIds.CACHE_XID;
 import static org.infinispan.server.core.ExternalizerIds.CLIENT_ADDRESS;
 import static org.infinispan.server.core.ExternalizerIds.COMPLETE_FUNCTION;
@@ -81,6 +82,7 @@ public void cacheManagerStarting(GlobalComponentRegistry gcr, GlobalConfiguratio
       externalizers.put(MULTI_HOMED_SERVER_ADDRESS, new MultiHomedServerAddress.Externalizer());
       externalizers.put(KEY_VALUE_VERSION_CONVERTER, new KeyValueVersionConverter.Externalizer());
       externalizers.put(KEY_VALUE_WITH_PREVIOUS_CONVERTER, new KeyValueWithPreviousEventConverterExternalizer());
+      externalizers.put(BLOOM_FILTER_EVENT_FILTER, new BloomFilterEventFilter.Externalizer());
       externalizers.put(ITERATION_FILTER, new IterationFilter.IterationFilterExternalizer());
       externalizers.put(TX_STATE, TxState.EXTERNALIZER);
       externalizers.put(CACHE_XID, CacheXid.EXTERNALIZER);
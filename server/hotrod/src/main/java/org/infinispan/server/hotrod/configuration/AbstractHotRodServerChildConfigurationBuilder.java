@@ -28,6 +28,16 @@ public HotRodServerChildConfigurationBuilder proxyPort(int proxyPort) {
       return builder.proxyPort(proxyPort);
    }
 
+   @Override
+   public HotRodServerChildConfigurationBuilder iterationReadAhead(int iterationReadAhead) {
+      return builder.iterationReadAhead(iterationReadAhead);
+   }
+
+   @Override
+   public HotRodServerChildConfigurationBuilder iterationReadAheadBytes(long iterationReadAheadBytes) {
+      return builder.iterationReadAheadBytes(iterationReadAheadBytes);
+   }
+
    @Override
    public HotRodServerChildConfigurationBuilder topologyLockTimeout(long topologyLockTimeout) {
       return builder.topologyLockTimeout(topologyLockTimeout);
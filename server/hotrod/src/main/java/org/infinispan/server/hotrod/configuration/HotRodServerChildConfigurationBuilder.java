@@ -26,6 +26,18 @@ public interface HotRodServerChildConfigurationBuilder {
     */
    HotRodServerChildConfigurationBuilder proxyPort(int proxyPort);
 
+   /**
+    * Sets the number of batches retrieved in advance for each iteration, so that they are ready when the client
+    * requests them. Defaults to 0, which retrieves each batch only when it is requested
+    */
+   HotRodServerChildConfigurationBuilder iterationReadAhead(int iterationReadAhead);
+
+   /**
+    * Sets the estimated size, in bytes, of the batches retrieved in advance after which an iteration stops reading
+    * ahead. Defaults to 4 MiB
+    */
+   HotRodServerChildConfigurationBuilder iterationReadAheadBytes(long iterationReadAheadBytes);
+
    /**
     * Configures the lock acquisition timeout for the topology cache. See {@link LockingConfigurationBuilder#lockAcquisitionTimeout(long)}.
     * Defaults to 10 seconds
@@ -25,9 +25,13 @@ public class HotRodServerConfiguration extends ProtocolServerConfiguration {
    public static final AttributeDefinition<Integer> PROXY_PORT = AttributeDefinition.builder("externalPort", -1).immutable().build();
    // The Hot Rod server has a different default
    public static final AttributeDefinition<Integer> WORKER_THREADS = AttributeDefinition.builder("worker-threads", 160).immutable().build();
+   public static final AttributeDefinition<Integer> ITERATION_READ_AHEAD = AttributeDefinition.builder("iteration-read-ahead", 0).immutable().build();
+   public static final AttributeDefinition<Long> ITERATION_READ_AHEAD_BYTES = AttributeDefinition.builder("iteration-read-ahead-bytes", 4L * 1024 * 1024).immutable().build();
 
    private final Attribute<String> proxyHost;
    private final Attribute<Integer> proxyPort;
+   private final Attribute<Integer> iterationReadAhead;
+   private final Attribute<Long> iterationReadAheadBytes;
 
    private final TopologyCacheConfiguration topologyCache;
    private final AuthenticationConfiguration authentication;
@@ -35,7 +39,7 @@ public class HotRodServerConfiguration extends ProtocolServerConfiguration {
 
    public static AttributeSet attributeDefinitionSet() {
       return new AttributeSet(HotRodServerConfiguration.class, ProtocolServerConfiguration.attributeDefinitionSet(),
-            WORKER_THREADS, PROXY_HOST, PROXY_PORT);
+            WORKER_THREADS, PROXY_HOST, PROXY_PORT, ITERATION_READ_AHEAD, ITERATION_READ_AHEAD_BYTES);
    }
 
    @Override
@@ -55,6 +59,8 @@ public List<ConfigurationInfo> subElements() {
       this.encryption = encryption;
       proxyHost = attributes.attribute(PROXY_HOST);
       proxyPort = attributes.attribute(PROXY_PORT);
+      iterationReadAhead = attributes.attribute(ITERATION_READ_AHEAD);
+      iterationReadAheadBytes = attributes.attribute(ITERATION_READ_AHEAD_BYTES);
    }
 
    @Override
@@ -78,6 +84,20 @@ public int publicPort() {
       return proxyPort.isModified() ? proxyPort.get() : port();
    }
 
+   /**
+    * @return the number of batches retrieved in advance for each iteration
+    */
+   public int iterationReadAhead() {
+      return iterationReadAhead.get();
+   }
+
+   /**
+    * @return the estimated size of the batches retrieved in advance after which an iteration stops reading ahead
+    */
+   public long iterationReadAheadBytes() {
+      return iterationReadAheadBytes.get();
+   }
+
    public String topologyCacheName() {
       String name = name();
       return TOPOLOGY_CACHE_NAME_PREFIX + (name.length() > 0 ? "_" + name : name);
@@ -120,6 +140,8 @@ public String toString() {
       return "HotRodServerConfiguration{" +
             "proxyHost=" + proxyHost +
             ", proxyPort=" + proxyPort +
+            ", iterationReadAhead=" + iterationReadAhead +
+            ", iterationReadAheadBytes=" + iterationReadAheadBytes +
             ", topologyCache=" + topologyCache +
             ", authentication=" + authentication +
             ", encryption=" + encryption +
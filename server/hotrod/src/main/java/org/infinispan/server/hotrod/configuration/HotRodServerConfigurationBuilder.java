@@ -1,6 +1,8 @@
 package org.infinispan.server.hotrod.configuration;
 
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.HOST;
+import static org.infinispan.server.hotrod.configuration.HotRodServerConfiguration.ITERATION_READ_AHEAD;
+import static org.infinispan.server.hotrod.configuration.HotRodServerConfiguration.ITERATION_READ_AHEAD_BYTES;
 import static org.infinispan.server.hotrod.configuration.HotRodServerConfiguration.PROXY_HOST;
 import static org.infinispan.server.hotrod.configuration.HotRodServerConfiguration.PROXY_PORT;
 
@@ -64,6 +66,26 @@ public HotRodServerConfigurationBuilder proxyPort(int proxyPort) {
       return this;
    }
 
+   /**
+    * Sets the number of batches retrieved in advance for each iteration, so that they are ready when the client
+    * requests them. Defaults to 0, which retrieves each batch only when it is requested
+    */
+   @Override
+   public HotRodServerConfigurationBuilder iterationReadAhead(int iterationReadAhead) {
+      attributes.attribute(ITERATION_READ_AHEAD).set(iterationReadAhead);
+      return this;
+   }
+
+   /**
+    * Sets the estimated size, in bytes, of the batches retrieved in advance after which an iteration stops reading
+    * ahead. Defaults to 4 MiB
+    */
+   @Override
+   public HotRodServerConfigurationBuilder iterationReadAheadBytes(long iterationReadAheadBytes) {
+      attributes.attribute(ITERATION_READ_AHEAD_BYTES).set(iterationReadAheadBytes);
+      return this;
+   }
+
    /**
     * Configures the lock acquisition timeout for the topology cache. See {@link LockingConfigurationBuilder#lockAcquisitionTimeout(long)}.
     * Defaults to 10 seconds
@@ -127,6 +149,14 @@ public void validate() {
       if (attributes.attribute(PROXY_HOST).isNull() && attributes.attribute(HOST).isNull()) {
          throw log.missingHostAddress();
       }
+      int readAhead = attributes.attribute(ITERATION_READ_AHEAD).get();
+      if (readAhead < 0) {
+         throw log.invalidIterationReadAhead(readAhead);
+      }
+      long readAheadBytes = attributes.attribute(ITERATION_READ_AHEAD_BYTES).get();
+      if (readAheadBytes < 0) {
+         throw log.invalidIterationReadAheadBytes(readAheadBytes);
+      }
       authentication.validate();
       topologyCache.validate();
    }
@@ -4,17 +4,22 @@
 import static org.infinispan.filter.CacheFilters.filterAndConvert;
 
 import java.io.Closeable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -27,11 +32,13 @@
 import org.infinispan.commons.dataconversion.IdentityEncoder;
 import org.infinispan.commons.dataconversion.MediaType;
 import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.commons.marshall.WrappedBytes;
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.time.TimeServiceTicker;
 import org.infinispan.commons.util.Util;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.encoding.DataConversion;
+import org.infinispan.executors.LimitedExecutor;
 import org.infinispan.filter.KeyValueFilterConverter;
 import org.infinispan.filter.KeyValueFilterConverterFactory;
 import org.infinispan.filter.ParamKeyValueFilterConverterFactory;
@@ -81,7 +88,31 @@ public void segmentCompleted(Set<Integer> segments) {
    }
 }
 
+/**
+ * A batch of entries retrieved from the iterator, together with the segments completed when it was retrieved.
+ */
+class IterationBatch {
+   final List<CacheEntry> entries;
+   final Set<Integer> finishedSegments;
+   final long bytes;
+
+   IterationBatch(List<CacheEntry> entries, Set<Integer> finishedSegments, long bytes) {
+      this.entries = entries;
+      this.finishedSegments = finishedSegments;
+      this.bytes = bytes;
+   }
+}
+
+/**
+ * The state of an iteration. The batches are retrieved by tasks running one at a time and in the order they were
+ * submitted, so that pipelined requests receive consecutive batches. When read ahead is enabled, up to
+ * {@code readAhead} batches are retrieved in advance after each request, until the retrieved batches reach
+ * {@code readAheadBytes}.
+ */
 class DefaultIterationState implements IterationState, Closeable {
+   // Estimated size of a key or value which is not stored as bytes
+   private static final int ESTIMATED_OBJECT_SIZE = 64;
+
    final IterationSegmentsListener listener;
    final Iterator<CacheEntry<Object, Object>> iterator;
    final CacheStream<CacheEntry<Object, Object>> stream;
@@ -90,9 +121,21 @@ class DefaultIterationState implements IterationState, Closeable {
    final Function<Object, Object> resultFunction;
    private final String id;
    private final IterationReaper reaper;
+   private final LimitedExecutor orderedExecutor;
+   private final int readAhead;
+   private final long readAheadBytes;
+
+   // Only accessed by the tasks of the ordered executor
+   private final Deque<IterationBatch> prepared = new ArrayDeque<>();
+   private long preparedBytes;
+   private boolean readAheadScheduled;
+   private boolean exhausted;
+   private Throwable readAheadFailure;
+   private volatile boolean closed;
 
    DefaultIterationState(String id, IterationSegmentsListener listener, Iterator<CacheEntry<Object, Object>> iterator, CacheStream<CacheEntry<Object, Object>> stream,
-                         int batch, boolean metadata, Function<Object, Object> resultFunction, IterationReaper reaper) {
+                         int batch, boolean metadata, Function<Object, Object> resultFunction, IterationReaper reaper,
+                         Executor executor, int readAhead, long readAheadBytes) {
       this.id = id;
       this.listener = listener;
       this.iterator = iterator;
@@ -101,10 +144,95 @@ class DefaultIterationState implements IterationState, Closeable {
       this.metadata = metadata;
       this.resultFunction = resultFunction;
       this.reaper = reaper;
+      this.orderedExecutor = new LimitedExecutor("Iteration-" + id, executor, 1);
+      this.readAhead = readAhead;
+      this.readAheadBytes = readAheadBytes;
+   }
+
+   CompletionStage<IterableIterationResult> next() {
+      CompletableFuture<IterableIterationResult> result = new CompletableFuture<>();
+      orderedExecutor.execute(() -> {
+         try {
+            IterationBatch next = prepared.poll();
+            if (next != null) {
+               preparedBytes -= next.bytes;
+            } else if (readAheadFailure != null) {
+               throw readAheadFailure;
+            } else {
+               next = nextBatch();
+            }
+            result.complete(new IterableIterationResult(next.finishedSegments, OperationStatus.Success, next.entries,
+                  metadata, resultFunction));
+            scheduleReadAhead();
+         } catch (Throwable t) {
+            result.completeExceptionally(t);
+         }
+      });
+      return result;
+   }
+
+   void startReadAhead() {
+      if (readAhead > 0) {
+         orderedExecutor.execute(this::scheduleReadAhead);
+      }
+   }
+
+   private void scheduleReadAhead() {
+      if (!readAheadScheduled && canReadAhead()) {
+         readAheadScheduled = true;
+         orderedExecutor.execute(this::readAhead);
+      }
+   }
+
+   private boolean canReadAhead() {
+      return readAhead > 0 && !closed && !exhausted && readAheadFailure == null && prepared.size() < readAhead &&
+            preparedBytes < readAheadBytes;
+   }
+
+   private void readAhead() {
+      readAheadScheduled = false;
+      // Requests may have been received since this task was scheduled
+      if (!canReadAhead()) {
+         return;
+      }
+      try {
+         IterationBatch next = nextBatch();
+         prepared.add(next);
+         preparedBytes += next.bytes;
+      } catch (Throwable t) {
+         // Reported to the request that would have received the batch
+         readAheadFailure = t;
+         return;
+      }
+      scheduleReadAhead();
+   }
+
+   private IterationBatch nextBatch() {
+      List<CacheEntry> entries = new ArrayList<>(batch);
+      long bytes = 0;
+      while (entries.size() < batch && iterator.hasNext()) {
+         CacheEntry<Object, Object> entry = iterator.next();
+         entries.add(entry);
+         bytes += estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+      }
+      exhausted = entries.isEmpty();
+      return new IterationBatch(entries, listener.getFinished(exhausted), bytes);
+   }
+
+   private static long estimateSize(Object object) {
+      if (object == null) {
+         return 0;
+      } else if (object instanceof byte[]) {
+         return ((byte[]) object).length;
+      } else if (object instanceof WrappedBytes) {
+         return ((WrappedBytes) object).getLength();
+      }
+      return ESTIMATED_OBJECT_SIZE;
    }
 
    @Override
    public void close() {
+      closed = true;
       stream.close();
       reaper.dispose();
    }
@@ -129,8 +257,23 @@ public class DefaultIterationManager implements IterationManager {
    private final com.github.benmanes.caffeine.cache.Cache<String, DefaultIterationState> iterationStateMap;
    private final Map<String, KeyValueFilterConverterFactory> filterConverterFactoryMap =
          new ConcurrentHashMap<>();
+   private final Executor executor;
+   private final int readAhead;
+   private final long readAheadBytes;
 
    public DefaultIterationManager(TimeService timeService) {
+      this(timeService, new WithinThreadExecutor(), 0, 0);
+   }
+
+   /**
+    * @param executor the executor retrieving the batches
+    * @param readAhead the number of batches to retrieve in advance for each iteration, 0 to disable read ahead
+    * @param readAheadBytes the estimated size of the batches retrieved in advance after which read ahead stops
+    */
+   public DefaultIterationManager(TimeService timeService, Executor executor, int readAhead, long readAheadBytes) {
+      this.executor = executor;
+      this.readAhead = readAhead;
+      this.readAheadBytes = readAheadBytes;
       Caffeine<Object, Object> builder = Caffeine.newBuilder();
       builder.expireAfterAccess(5, TimeUnit.MINUTES).removalListener(new RemovalListener<String, DefaultIterationState>() {
          @Override
@@ -188,9 +331,11 @@ public IterationState start(Cache cache, BitSet segments, String filterConverter
       }
       Iterator<CacheEntry<Object, Object>> iterator = filteredStream.iterator();
 
-      DefaultIterationState iterationState = new DefaultIterationState(iterationId, segmentListener, iterator, stream, batch, metadata, resultTransformer, new IterationReaper(this, iterationId));
+      DefaultIterationState iterationState = new DefaultIterationState(iterationId, segmentListener, iterator, stream, batch, metadata, resultTransformer, new IterationReaper(this, iterationId),
+            executor, readAhead, readAheadBytes);
 
       iterationStateMap.put(iterationId, iterationState);
+      iterationState.startReadAhead();
       if (trace) log.tracef("Started iteration %s", iterationId);
       return iterationState;
    }
@@ -220,19 +365,13 @@ private KeyValuePair<KeyValueFilterConverter, Boolean> buildFilter(KeyValueFilte
    }
 
    @Override
-   public IterableIterationResult next(String iterationId) {
+   public CompletionStage<IterableIterationResult> next(String iterationId) {
       DefaultIterationState iterationState = iterationStateMap.getIfPresent(iterationId);
       if (iterationState != null) {
-         int i = 0;
-         List<CacheEntry> entries = new ArrayList<>(iterationState.batch);
-         while (i++ < iterationState.batch && iterationState.iterator.hasNext()) {
-            entries.add(iterationState.iterator.next());
-         }
-         return new IterableIterationResult(iterationState.listener.getFinished(entries.isEmpty()), OperationStatus.Success,
-               entries, iterationState.metadata, iterationState.resultFunction);
+         return iterationState.next();
       } else {
-         return new IterableIterationResult(Collections.emptySet(), OperationStatus.InvalidIteration,
-               Collections.emptyList(), false, Function.identity());
+         return CompletableFuture.completedFuture(new IterableIterationResult(Collections.emptySet(),
+               OperationStatus.InvalidIteration, Collections.emptyList(), false, Function.identity()));
       }
    }
 
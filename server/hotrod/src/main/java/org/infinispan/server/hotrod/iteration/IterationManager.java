@@ -2,6 +2,7 @@
 
 import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.infinispan.Cache;
 import org.infinispan.commons.dataconversion.MediaType;
@@ -15,7 +16,11 @@ public interface IterationManager {
    IterationState start(Cache cache, BitSet segments,
                 String filterConverterFactory, List<byte[]> filterConverterParams, MediaType valueMediaType, int batch, boolean metadata);
 
-   IterableIterationResult next(String iterationId);
+   /**
+    * Retrieves the next batch of the iteration. The batches of an iteration are retrieved in the order this method is
+    * invoked, so that clients can pipeline their requests.
+    */
+   CompletionStage<IterableIterationResult> next(String iterationId);
 
    IterationState close(String iterationId);
 
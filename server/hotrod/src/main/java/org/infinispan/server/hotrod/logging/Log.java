@@ -106,4 +106,10 @@ public interface Log extends BasicLogger {
    @LogMessage(level = WARN)
    @Message(value = "Removed unclosed iterator '%s'", id = 28026)
    void removedUnclosedIterator(String iteratorId);
+
+   @Message(value = "The iteration read ahead must not be negative, but was %d", id = 28027)
+   CacheConfigurationException invalidIterationReadAhead(int readAhead);
+
+   @Message(value = "The iteration read ahead bytes must not be negative, but was %d", id = 28028)
+   CacheConfigurationException invalidIterationReadAheadBytes(long readAheadBytes);
 }
@@ -9,6 +9,7 @@
 
 import java.util.function.BiConsumer;
 
+import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.configuration.cache.ClusterLoaderConfiguration;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.server.core.test.Stoppable;
@@ -50,6 +51,16 @@ public void testLazyLoadTopology() {
       });
    }
 
+   @Test(expectedExceptions = CacheConfigurationException.class, expectedExceptionsMessageRegExp = "ISPN028027:.*")
+   public void testNegativeIterationReadAhead() {
+      new HotRodServerConfigurationBuilder().iterationReadAhead(-1).build();
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class, expectedExceptionsMessageRegExp = "ISPN028028:.*")
+   public void testNegativeIterationReadAheadBytes() {
+      new HotRodServerConfigurationBuilder().iterationReadAheadBytes(-1).build();
+   }
+
    private void withClusteredServer(HotRodServerConfigurationBuilder builder,
                                     BiConsumer<Configuration, Long> consumer) {
       Stoppable.useCacheManager(TestCacheManagerFactory.createClusteredCacheManager(hotRodCacheConfiguration()), cm ->
@@ -0,0 +1,52 @@
+package org.infinispan.server.hotrod;
+
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.hotRodCacheConfiguration;
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.startHotRodServer;
+import static org.infinispan.test.fwk.TestCacheManagerFactory.configureJmx;
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.lang.reflect.Method;
+
+import javax.management.ObjectName;
+
+import org.infinispan.commons.jmx.MBeanServerLookup;
+import org.infinispan.commons.jmx.TestMBeanServerLookup;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.server.core.configuration.IOTransport;
+import org.infinispan.server.hotrod.configuration.HotRodServerConfigurationBuilder;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the transport MBean exposes the I/O transport in use by the server.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "server.hotrod.HotRodIOTransportTest")
+public class HotRodIOTransportTest extends HotRodSingleNodeTest {
+
+   private final MBeanServerLookup mBeanServerLookup = TestMBeanServerLookup.create();
+
+   @Override
+   protected EmbeddedCacheManager createTestCacheManager() {
+      GlobalConfigurationBuilder globalCfg = new GlobalConfigurationBuilder().nonClusteredDefault().defaultCacheName(cacheName);
+      configureJmx(globalCfg, jmxDomain(), mBeanServerLookup);
+      return TestCacheManagerFactory.createCacheManager(globalCfg, hotRodCacheConfiguration());
+   }
+
+   @Override
+   protected HotRodServer createStartHotRodServer(EmbeddedCacheManager cacheManager) {
+      HotRodServerConfigurationBuilder builder = new HotRodServerConfigurationBuilder();
+      builder.ioTransport(IOTransport.NIO);
+      return startHotRodServer(cacheManager, builder);
+   }
+
+   public void testIOTransportAttribute(Method m) throws Exception {
+      ObjectName on = new ObjectName(String.format("%s:type=Server,name=%s-%d,component=Transport", jmxDomain(),
+            hotRodServer.getQualifiedName(), hotRodServer.getPort()));
+      assertEquals("NIO", mBeanServerLookup.getMBeanServer().getAttribute(on, "IOTransport"));
+      // the connection is served by the reported transport
+      client().assertPut(m);
+   }
+}
@@ -0,0 +1,99 @@
+package org.infinispan.server.hotrod.iteration;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.entries.ImmortalCacheEntry;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.infinispan.util.concurrent.WithinThreadExecutor;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the batches retrieved in advance by an iteration when read ahead is enabled.
+ *
+ * @since 12.0
+ */
+@Test(groups = "unit", testName = "server.hotrod.iteration.DefaultIterationManagerTest")
+public class DefaultIterationManagerTest extends AbstractInfinispanTest {
+   private static final int BATCH = 5;
+   private static final int ENTRY_BYTES = 100;
+
+   public void testNoReadAhead() {
+      CountingIterator iterator = new CountingIterator(100);
+      DefaultIterationState state = startIteration(iterator, 0, Long.MAX_VALUE);
+      assertEquals(0, iterator.retrieved);
+
+      assertEquals(BATCH, entries(state.next()));
+      assertEquals(BATCH, iterator.retrieved);
+   }
+
+   public void testPreparedBatches() {
+      CountingIterator iterator = new CountingIterator(100);
+      DefaultIterationState state = startIteration(iterator, 2, Long.MAX_VALUE);
+      assertEquals(2 * BATCH, iterator.retrieved);
+
+      // each request takes a prepared batch, which is then replaced
+      assertEquals(BATCH, entries(state.next()));
+      assertEquals(3 * BATCH, iterator.retrieved);
+      assertEquals(BATCH, entries(state.next()));
+      assertEquals(4 * BATCH, iterator.retrieved);
+   }
+
+   public void testPreparedBytesLimit() {
+      CountingIterator iterator = new CountingIterator(100);
+      // a batch holds 5 entries with a 100 bytes key and value, the limit is reached by the first prepared batch
+      DefaultIterationState state = startIteration(iterator, 4, BATCH * 2 * ENTRY_BYTES);
+      assertEquals(BATCH, iterator.retrieved);
+
+      assertEquals(BATCH, entries(state.next()));
+      assertEquals(2 * BATCH, iterator.retrieved);
+   }
+
+   public void testReadAheadStopsAtEnd() {
+      CountingIterator iterator = new CountingIterator(BATCH + 2);
+      DefaultIterationState state = startIteration(iterator, 4, Long.MAX_VALUE);
+      assertEquals(BATCH + 2, iterator.retrieved);
+
+      assertEquals(BATCH, entries(state.next()));
+      assertEquals(2, entries(state.next()));
+      assertEquals(0, entries(state.next()));
+      assertEquals(BATCH + 2, iterator.retrieved);
+   }
+
+   private static DefaultIterationState startIteration(Iterator<CacheEntry<Object, Object>> iterator, int readAhead,
+                                                       long readAheadBytes) {
+      DefaultIterationState state = new DefaultIterationState("test", new IterationSegmentsListener(), iterator, null,
+            BATCH, false, Function.identity(), new IterationReaper(null, "test"), new WithinThreadExecutor(),
+            readAhead, readAheadBytes);
+      state.startReadAhead();
+      return state;
+   }
+
+   private static int entries(CompletionStage<IterableIterationResult> result) {
+      return result.toCompletableFuture().join().getEntries().size();
+   }
+
+   private static class CountingIterator implements Iterator<CacheEntry<Object, Object>> {
+      private final int size;
+      private int retrieved;
+
+      private CountingIterator(int size) {
+         this.size = size;
+      }
+
+      @Override
+      public boolean hasNext() {
+         return retrieved < size;
+      }
+
+      @Override
+      public CacheEntry<Object, Object> next() {
+         retrieved++;
+         return new ImmortalCacheEntry(new byte[ENTRY_BYTES], new byte[ENTRY_BYTES]);
+      }
+   }
+}
@@ -0,0 +1,623 @@
+package org.infinispan.server.memcached;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.infinispan.commons.dataconversion.MediaType.TEXT_PLAIN;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.dataconversion.MediaType;
+import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.commons.util.Util;
+import org.infinispan.commons.util.Version;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.versioning.EntryVersion;
+import org.infinispan.container.versioning.NumericVersion;
+import org.infinispan.context.Flag;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.server.core.transport.NettyTransport;
+import org.infinispan.server.memcached.logging.Log;
+import org.infinispan.stats.Stats;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * A decoder for the Memcached binary protocol.
+ * <p>
+ * Requests are processed as soon as a whole packet has been received, and responses are written without flushing until
+ * all the requests read from the socket have been processed. Thus a client pipelining requests receives the responses
+ * in as few writes as possible. Quiet commands (e.g. <code>getq</code> or <code>setq</code>) don't produce any response
+ * unless they fail, or miss in case of gets, so a batch of quiet commands terminated by a <code>noop</code> is answered
+ * by a single packet when all of them succeed.
+ *
+ * @since 12.0
+ */
+public class MemcachedBinaryDecoder extends ByteToMessageDecoder {
+   private static final Log log = LogFactory.getLog(MemcachedBinaryDecoder.class, Log.class);
+   private static final boolean isTrace = log.isTraceEnabled();
+
+   static final byte MAGIC_REQUEST = (byte) 0x80;
+   static final byte MAGIC_RESPONSE = (byte) 0x81;
+   static final int HEADER_LENGTH = 24;
+
+   // Opcodes
+   static final byte GET = 0x00;
+   static final byte SET = 0x01;
+   static final byte ADD = 0x02;
+   static final byte REPLACE = 0x03;
+   static final byte DELETE = 0x04;
+   static final byte INCREMENT = 0x05;
+   static final byte DECREMENT = 0x06;
+   static final byte QUIT = 0x07;
+   static final byte FLUSH = 0x08;
+   static final byte GETQ = 0x09;
+   static final byte NOOP = 0x0a;
+   static final byte VERSION = 0x0b;
+   static final byte GETK = 0x0c;
+   static final byte GETKQ = 0x0d;
+   static final byte APPEND = 0x0e;
+   static final byte PREPEND = 0x0f;
+   static final byte STAT = 0x10;
+   static final byte SETQ = 0x11;
+   static final byte ADDQ = 0x12;
+   static final byte REPLACEQ = 0x13;
+   static final byte DELETEQ = 0x14;
+   static final byte INCREMENTQ = 0x15;
+   static final byte DECREMENTQ = 0x16;
+   static final byte QUITQ = 0x17;
+   static final byte FLUSHQ = 0x18;
+   static final byte APPENDQ = 0x19;
+   static final byte PREPENDQ = 0x1a;
+   static final byte TOUCH = 0x1c;
+   static final byte GAT = 0x1d;
+   static final byte GATQ = 0x1e;
+   static final byte GATK = 0x23;
+   static final byte GATKQ = 0x24;
+
+   // Response status
+   static final short NO_ERROR = 0x0000;
+   static final short KEY_NOT_FOUND = 0x0001;
+   static final short KEY_EXISTS = 0x0002;
+   static final short INVALID_ARGUMENTS = 0x0004;
+   static final short ITEM_NOT_STORED = 0x0005;
+   static final short NON_NUMERIC_VALUE = 0x0006;
+   static final short UNKNOWN_COMMAND = 0x0081;
+   static final short INTERNAL_ERROR = 0x0084;
+   static final short TEMPORARY_FAILURE = 0x0086;
+
+   private static final int MAX_KEY_LENGTH = 250;
+   // Expiration of a counter operation meaning that the counter must not be created when missing
+   private static final int NO_CREATE = 0xffffffff;
+
+   private final AdvancedCache<byte[], byte[]> cache;
+   private final ScheduledExecutorService scheduler;
+   private final NettyTransport transport;
+   private final Predicate<? super String> ignoreCache;
+   private final int maxContentLength;
+
+   public MemcachedBinaryDecoder(AdvancedCache<byte[], byte[]> memcachedCache, ScheduledExecutorService scheduler,
+                                 NettyTransport transport, Predicate<? super String> ignoreCache,
+                                 MediaType valuePayload, int maxContentLength) {
+      this.cache = memcachedCache.withMediaType(TEXT_PLAIN, valuePayload);
+      this.scheduler = scheduler;
+      this.transport = transport;
+      this.ignoreCache = ignoreCache;
+      this.maxContentLength = maxContentLength;
+   }
+
+   @Override
+   protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+      while (in.readableBytes() >= HEADER_LENGTH) {
+         int start = in.readerIndex();
+         int bodyLength = in.getInt(start + 8);
+         if (in.getByte(start) != MAGIC_REQUEST || bodyLength < 0) {
+            log.debugf("Invalid binary request header, closing connection %s", ctx.channel());
+            in.skipBytes(in.readableBytes());
+            ctx.close();
+            return;
+         }
+         if (bodyLength > maxContentLength) {
+            // don't buffer the body, the client could make us allocate any amount of memory
+            log.requestTooLarge(bodyLength, maxContentLength, ctx.channel());
+            in.skipBytes(in.readableBytes());
+            ctx.close();
+            return;
+         }
+         if (in.readableBytes() < HEADER_LENGTH + bodyLength) {
+            // wait for the rest of the packet
+            return;
+         }
+         byte opcode = in.getByte(start + 1);
+         int keyLength = in.getUnsignedShort(start + 2);
+         int extrasLength = in.getUnsignedByte(start + 4);
+         int opaque = in.getInt(start + 12);
+         long cas = in.getLong(start + 16);
+         in.skipBytes(HEADER_LENGTH);
+         int valueLength = bodyLength - keyLength - extrasLength;
+         if (valueLength < 0) {
+            in.skipBytes(bodyLength);
+            writeError(ctx, opcode, INVALID_ARGUMENTS, opaque, "Invalid arguments");
+            continue;
+         }
+         ByteBuf extras = in.readSlice(extrasLength);
+         byte[] key = readBytes(in, keyLength);
+         byte[] value = readBytes(in, valueLength);
+         if (isTrace) {
+            log.tracef("Binary request opcode=0x%02x, key=%s, extras=%d, value=%d, opaque=%d, cas=%d", opcode,
+                  Util.printArray(key), extrasLength, valueLength, opaque, cas);
+         }
+         try {
+            handle(ctx, new Request(opcode, extras, key, value, opaque, cas));
+         } catch (Throwable t) {
+            log.exceptionReported(t);
+            writeError(ctx, opcode, INTERNAL_ERROR, opaque, String.valueOf(t.getMessage()));
+         }
+      }
+   }
+
+   @Override
+   public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+      // Responses to all the requests received so far are sent together
+      ctx.flush();
+      super.channelReadComplete(ctx);
+   }
+
+   @Override
+   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      log.debug("Exception caught", cause);
+      ctx.close();
+   }
+
+   private static byte[] readBytes(ByteBuf in, int length) {
+      if (length == 0) {
+         return Util.EMPTY_BYTE_ARRAY;
+      }
+      byte[] bytes = new byte[length];
+      in.readBytes(bytes);
+      return bytes;
+   }
+
+   private void handle(ChannelHandlerContext ctx, Request request) {
+      if (ignoreCache.test(cache.getName())) {
+         writeError(ctx, request.opcode, TEMPORARY_FAILURE, request.opaque, "Cache " + cache.getName() + " is unavailable");
+         return;
+      }
+      if (request.key.length > MAX_KEY_LENGTH) {
+         writeError(ctx, request.opcode, INVALID_ARGUMENTS, request.opaque, "Key length over the 250 character limit");
+         return;
+      }
+      switch (request.opcode) {
+         case GET:
+         case GETQ:
+         case GETK:
+         case GETKQ:
+            get(ctx, request);
+            break;
+         case SET:
+         case SETQ:
+         case ADD:
+         case ADDQ:
+         case REPLACE:
+         case REPLACEQ:
+            store(ctx, request);
+            break;
+         case DELETE:
+         case DELETEQ:
+            delete(ctx, request);
+            break;
+         case INCREMENT:
+         case INCREMENTQ:
+         case DECREMENT:
+         case DECREMENTQ:
+            incrDecr(ctx, request);
+            break;
+         case APPEND:
+         case APPENDQ:
+         case PREPEND:
+         case PREPENDQ:
+            appendPrepend(ctx, request);
+            break;
+         case TOUCH:
+         case GAT:
+         case GATQ:
+         case GATK:
+         case GATKQ:
+            touch(ctx, request);
+            break;
+         case FLUSH:
+         case FLUSHQ:
+            flush(ctx, request);
+            break;
+         case NOOP:
+            writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, 0, null, null, null);
+            break;
+         case VERSION:
+            writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, 0, null, null,
+                  Version.getVersion().getBytes(US_ASCII));
+            break;
+         case STAT:
+            stats(ctx, request);
+            break;
+         case QUIT:
+            writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, 0, null, null, null);
+            ctx.writeAndFlush(ctx.alloc().buffer(0)).addListener(ChannelFutureListener.CLOSE);
+            break;
+         case QUITQ:
+            ctx.writeAndFlush(ctx.alloc().buffer(0)).addListener(ChannelFutureListener.CLOSE);
+            break;
+         default:
+            writeError(ctx, request.opcode, UNKNOWN_COMMAND, request.opaque, "Unknown command");
+      }
+   }
+
+   private void get(ChannelHandlerContext ctx, Request request) {
+      CacheEntry<byte[], byte[]> entry = cache.getCacheEntry(request.key);
+      boolean withKey = request.opcode == GETK || request.opcode == GETKQ;
+      writeGetResponse(ctx, request, entry, withKey);
+   }
+
+   private void writeGetResponse(ChannelHandlerContext ctx, Request request, CacheEntry<byte[], byte[]> entry,
+                                 boolean withKey) {
+      if (entry == null) {
+         if (!request.isQuiet()) {
+            writeResponse(ctx, request.opcode, KEY_NOT_FOUND, request.opaque, 0, null,
+                  withKey ? request.key : null, withKey ? null : "Not found".getBytes(US_ASCII));
+         }
+         return;
+      }
+      Metadata metadata = entry.getMetadata();
+      byte[] extras = new byte[4];
+      writeInt(extras, (int) flags(metadata));
+      writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, cas(metadata.version()), extras,
+            withKey ? request.key : null, entry.getValue());
+   }
+
+   private void store(ChannelHandlerContext ctx, Request request) {
+      if (request.extras.readableBytes() != 8) {
+         writeError(ctx, request.opcode, INVALID_ARGUMENTS, request.opaque, "Invalid arguments");
+         return;
+      }
+      long flags = request.extras.getUnsignedInt(0);
+      int expiration = request.extras.getInt(4);
+      Metadata metadata = buildMetadata(flags, expiration);
+      long newCas = cas(metadata.version());
+      byte opcode = request.opcode;
+      if (request.cas != 0) {
+         // check and set, for any kind of store
+         if (opcode == ADD || opcode == ADDQ) {
+            writeError(ctx, opcode, KEY_EXISTS, request.opaque, "Data exists for key.");
+            return;
+         }
+         short status = replaceIfVersion(request.key, request.cas, request.value, metadata);
+         writeStoreResponse(ctx, request, status, newCas);
+         return;
+      }
+      switch (opcode) {
+         case SET:
+         case SETQ:
+            cache.withFlags(Flag.IGNORE_RETURN_VALUES).put(request.key, request.value, metadata);
+            writeStoreResponse(ctx, request, NO_ERROR, newCas);
+            break;
+         case ADD:
+         case ADDQ:
+            byte[] prev = cache.get(request.key);
+            if (prev == null) {
+               prev = cache.putIfAbsent(request.key, request.value, metadata);
+            }
+            writeStoreResponse(ctx, request, prev == null ? NO_ERROR : KEY_EXISTS, newCas);
+            break;
+         default:
+            // Avoid listener notification and version generation when there's nothing to replace
+            prev = cache.withFlags(Flag.SKIP_LISTENER_NOTIFICATION).get(request.key);
+            if (prev != null) {
+               prev = cache.replace(request.key, request.value, metadata);
+            }
+            writeStoreResponse(ctx, request, prev != null ? NO_ERROR : KEY_NOT_FOUND, newCas);
+      }
+   }
+
+   private short replaceIfVersion(byte[] key, long cas, byte[] value, Metadata metadata) {
+      CacheEntry<byte[], byte[]> entry = cache.withFlags(Flag.SKIP_LISTENER_NOTIFICATION).getCacheEntry(key);
+      if (entry == null) {
+         return KEY_NOT_FOUND;
+      }
+      if (cas(entry.getMetadata().version()) != cas) {
+         return KEY_EXISTS;
+      }
+      return cache.replace(key, entry.getValue(), value, metadata) ? NO_ERROR : KEY_EXISTS;
+   }
+
+   private void writeStoreResponse(ChannelHandlerContext ctx, Request request, short status, long cas) {
+      if (status == NO_ERROR) {
+         if (!request.isQuiet()) {
+            writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, cas, null, null, null);
+         }
+      } else {
+         writeError(ctx, request.opcode, status, request.opaque, statusMessage(status));
+      }
+   }
+
+   private void delete(ChannelHandlerContext ctx, Request request) {
+      short status;
+      if (request.cas != 0) {
+         CacheEntry<byte[], byte[]> entry = cache.withFlags(Flag.SKIP_LISTENER_NOTIFICATION).getCacheEntry(request.key);
+         if (entry == null) {
+            status = KEY_NOT_FOUND;
+         } else if (cas(entry.getMetadata().version()) != request.cas) {
+            status = KEY_EXISTS;
+         } else {
+            status = cache.remove(request.key, entry.getValue()) ? NO_ERROR : KEY_EXISTS;
+         }
+      } else {
+         status = cache.remove(request.key) != null ? NO_ERROR : KEY_NOT_FOUND;
+      }
+      writeStoreResponse(ctx, request, status, 0);
+   }
+
+   private void incrDecr(ChannelHandlerContext ctx, Request request) {
+      if (request.extras.readableBytes() != 20) {
+         writeError(ctx, request.opcode, INVALID_ARGUMENTS, request.opaque, "Invalid arguments");
+         return;
+      }
+      long delta = request.extras.getLong(0);
+      long initial = request.extras.getLong(8);
+      int expiration = request.extras.getInt(16);
+      boolean increment = request.opcode == INCREMENT || request.opcode == INCREMENTQ;
+      for (;;) {
+         Metadata metadata = buildMetadata(0, expiration);
+         byte[] prev = cache.get(request.key);
+         long counter;
+         if (prev == null) {
+            if (expiration == NO_CREATE) {
+               writeError(ctx, request.opcode, KEY_NOT_FOUND, request.opaque, statusMessage(KEY_NOT_FOUND));
+               return;
+            }
+            counter = initial;
+            if (cache.putIfAbsent(request.key, Long.toUnsignedString(counter).getBytes(US_ASCII), metadata) != null) {
+               continue;
+            }
+         } else {
+            try {
+               counter = Long.parseUnsignedLong(new String(prev, US_ASCII).trim());
+            } catch (NumberFormatException e) {
+               writeError(ctx, request.opcode, NON_NUMERIC_VALUE, request.opaque,
+                     "Cannot increment or decrement non-numeric value");
+               return;
+            }
+            if (increment) {
+               // wraps around on overflow
+               counter += delta;
+            } else {
+               // never goes below 0
+               counter = Long.compareUnsigned(counter, delta) < 0 ? 0 : counter - delta;
+            }
+            if (!cache.replace(request.key, prev, Long.toUnsignedString(counter).getBytes(US_ASCII), metadata)) {
+               // concurrently modified, try again
+               continue;
+            }
+         }
+         if (!request.isQuiet()) {
+            byte[] value = new byte[8];
+            writeLong(value, counter);
+            writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, cas(metadata.version()), null, null, value);
+         }
+         return;
+      }
+   }
+
+   private void appendPrepend(ChannelHandlerContext ctx, Request request) {
+      boolean append = request.opcode == APPEND || request.opcode == APPENDQ;
+      for (;;) {
+         CacheEntry<byte[], byte[]> entry = cache.getCacheEntry(request.key);
+         if (entry == null) {
+            writeError(ctx, request.opcode, ITEM_NOT_STORED, request.opaque, statusMessage(ITEM_NOT_STORED));
+            return;
+         }
+         if (request.cas != 0 && cas(entry.getMetadata().version()) != request.cas) {
+            writeError(ctx, request.opcode, KEY_EXISTS, request.opaque, statusMessage(KEY_EXISTS));
+            return;
+         }
+         byte[] prev = entry.getValue();
+         byte[] concatenated = append ? TextProtocolUtil.concat(prev, request.value) :
+               TextProtocolUtil.concat(request.value, prev);
+         Metadata metadata = new MemcachedMetadata.Builder()
+               .flags(flags(entry.getMetadata()))
+               .merge(entry.getMetadata())
+               .version(MemcachedDecoder.generateVersion(cache))
+               .build();
+         if (cache.replace(request.key, prev, concatenated, metadata)) {
+            writeStoreResponse(ctx, request, NO_ERROR, cas(metadata.version()));
+            return;
+         }
+      }
+   }
+
+   private void touch(ChannelHandlerContext ctx, Request request) {
+      if (request.extras.readableBytes() != 4) {
+         writeError(ctx, request.opcode, INVALID_ARGUMENTS, request.opaque, "Invalid arguments");
+         return;
+      }
+      int expiration = request.extras.getInt(0);
+      CacheEntry<byte[], byte[]> entry = cache.getCacheEntry(request.key);
+      if (entry != null) {
+         Metadata metadata = new MemcachedMetadata.Builder()
+               .flags(flags(entry.getMetadata()))
+               .merge(entry.getMetadata())
+               .lifespan(expiration > 0 ? MemcachedDecoder.toMillis(expiration) : -1)
+               .build();
+         if (!cache.replace(request.key, entry.getValue(), entry.getValue(), metadata)) {
+            // the entry has been modified concurrently, which also updated its expiration
+            entry = cache.getCacheEntry(request.key);
+         }
+      }
+      if (request.opcode == TOUCH) {
+         if (entry == null) {
+            writeError(ctx, request.opcode, KEY_NOT_FOUND, request.opaque, statusMessage(KEY_NOT_FOUND));
+         } else {
+            writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, cas(entry.getMetadata().version()), null, null, null);
+         }
+      } else {
+         writeGetResponse(ctx, request, entry, request.opcode == GATK || request.opcode == GATKQ);
+      }
+   }
+
+   private void flush(ChannelHandlerContext ctx, Request request) {
+      int delay = request.extras.readableBytes() == 4 ? request.extras.getInt(0) : 0;
+      if (delay <= 0) {
+         cache.clear();
+      } else {
+         scheduler.schedule(() -> cache.clear(), MemcachedDecoder.toMillis(delay), TimeUnit.MILLISECONDS);
+      }
+      if (!request.isQuiet()) {
+         writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, 0, null, null, null);
+      }
+   }
+
+   private void stats(ChannelHandlerContext ctx, Request request) {
+      if (request.key.length > 0) {
+         // Stat groups are not supported, send just the terminating packet
+         writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, 0, null, null, null);
+         return;
+      }
+      Stats stats = cache.getStats();
+      writeStat(ctx, request, "pid", 0);
+      writeStat(ctx, request, "uptime", stats.getTimeSinceStart());
+      writeStat(ctx, request, "time", TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+      writeStat(ctx, request, "version", Version.getVersion());
+      writeStat(ctx, request, "curr_items", stats.getCurrentNumberOfEntries());
+      writeStat(ctx, request, "total_items", stats.getTotalNumberOfEntries());
+      writeStat(ctx, request, "cmd_get", stats.getRetrievals());
+      writeStat(ctx, request, "cmd_set", stats.getStores());
+      writeStat(ctx, request, "get_hits", stats.getHits());
+      writeStat(ctx, request, "get_misses", stats.getMisses());
+      writeStat(ctx, request, "delete_misses", stats.getRemoveMisses());
+      writeStat(ctx, request, "delete_hits", stats.getRemoveHits());
+      writeStat(ctx, request, "evictions", stats.getEvictions());
+      writeStat(ctx, request, "bytes_read", transport.getTotalBytesRead());
+      writeStat(ctx, request, "bytes_written", transport.getTotalBytesWritten());
+      // empty packet terminates the stats
+      writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, 0, null, null, null);
+   }
+
+   private void writeStat(ChannelHandlerContext ctx, Request request, String name, Object value) {
+      writeResponse(ctx, request.opcode, NO_ERROR, request.opaque, 0, null, name.getBytes(US_ASCII),
+            String.valueOf(value).getBytes(US_ASCII));
+   }
+
+   private Metadata buildMetadata(long flags, int expiration) {
+      return new MemcachedMetadata.Builder()
+            .flags(flags)
+            .version(MemcachedDecoder.generateVersion(cache))
+            .lifespan(expiration > 0 ? MemcachedDecoder.toMillis(expiration) : -1)
+            .build();
+   }
+
+   private static long flags(Metadata metadata) {
+      return metadata instanceof MemcachedMetadata ? ((MemcachedMetadata) metadata).flags : 0;
+   }
+
+   private static long cas(EntryVersion version) {
+      return version instanceof NumericVersion ? ((NumericVersion) version).getVersion() : 0;
+   }
+
+   private static String statusMessage(short status) {
+      switch (status) {
+         case KEY_NOT_FOUND:
+            return "Not found";
+         case KEY_EXISTS:
+            return "Data exists for key.";
+         case ITEM_NOT_STORED:
+            return "Not stored.";
+         default:
+            return "Error";
+      }
+   }
+
+   private void writeError(ChannelHandlerContext ctx, byte opcode, short status, int opaque, String message) {
+      writeResponse(ctx, opcode, status, opaque, 0, null, null, message.getBytes(US_ASCII));
+   }
+
+   private void writeResponse(ChannelHandlerContext ctx, byte opcode, short status, int opaque, long cas,
+                              byte[] extras, byte[] key, byte[] value) {
+      int extrasLength = extras == null ? 0 : extras.length;
+      int keyLength = key == null ? 0 : key.length;
+      int valueLength = value == null ? 0 : value.length;
+      int bodyLength = extrasLength + keyLength + valueLength;
+      ByteBuf buf = ctx.alloc().buffer(HEADER_LENGTH + bodyLength);
+      buf.writeByte(MAGIC_RESPONSE);
+      buf.writeByte(opcode);
+      buf.writeShort(keyLength);
+      buf.writeByte(extrasLength);
+      buf.writeByte(0); // data type
+      buf.writeShort(status);
+      buf.writeInt(bodyLength);
+      buf.writeInt(opaque);
+      buf.writeLong(cas);
+      if (extras != null) buf.writeBytes(extras);
+      if (key != null) buf.writeBytes(key);
+      if (value != null) buf.writeBytes(value);
+      if (isTrace) log.tracef("Binary response opcode=0x%02x, status=0x%04x, opaque=%d", opcode, status, opaque);
+      // flushed once all requests read from the socket are processed
+      ctx.write(buf, ctx.voidPromise());
+   }
+
+   private static void writeInt(byte[] bytes, int value) {
+      bytes[0] = (byte) (value >>> 24);
+      bytes[1] = (byte) (value >>> 16);
+      bytes[2] = (byte) (value >>> 8);
+      bytes[3] = (byte) value;
+   }
+
+   private static void writeLong(byte[] bytes, long value) {
+      for (int i = 7; i >= 0; --i) {
+         bytes[i] = (byte) value;
+         value >>>= 8;
+      }
+   }
+
+   private static class Request {
+      final byte opcode;
+      final ByteBuf extras;
+      final byte[] key;
+      final byte[] value;
+      final int opaque;
+      final long cas;
+
+      Request(byte opcode, ByteBuf extras, byte[] key, byte[] value, int opaque, long cas) {
+         this.opcode = opcode;
+         this.extras = extras;
+         this.key = key;
+         this.value = value;
+         this.opaque = opaque;
+         this.cas = cas;
+      }
+
+      boolean isQuiet() {
+         switch (opcode) {
+            case GETQ:
+            case GETKQ:
+            case SETQ:
+            case ADDQ:
+            case REPLACEQ:
+            case DELETEQ:
+            case INCREMENTQ:
+            case DECREMENTQ:
+            case QUITQ:
+            case FLUSHQ:
+            case APPENDQ:
+            case PREPENDQ:
+            case GATQ:
+            case GATKQ:
+               return true;
+            default:
+               return false;
+         }
+      }
+   }
+}
@@ -0,0 +1,32 @@
+package org.infinispan.server.memcached;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * Detects whether a client speaks the text or the binary Memcached protocol by looking at the first byte it sends,
+ * and replaces itself with the matching decoder. Binary requests always start with the request magic byte, which can't
+ * be the first character of a text command.
+ *
+ * @since 12.0
+ */
+class MemcachedProtocolDetector extends ByteToMessageDecoder {
+   private final MemcachedServer server;
+
+   MemcachedProtocolDetector(MemcachedServer server) {
+      this.server = server;
+   }
+
+   @Override
+   protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+      if (!in.isReadable()) {
+         return;
+      }
+      boolean binary = in.getByte(in.readerIndex()) == MemcachedBinaryDecoder.MAGIC_REQUEST;
+      // The buffered bytes are passed on to the new decoder once this one is removed
+      ctx.pipeline().replace(this, "decoder", binary ? server.getBinaryDecoder() : server.getTextDecoder());
+   }
+}
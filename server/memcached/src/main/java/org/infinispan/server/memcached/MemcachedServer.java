@@ -70,9 +70,25 @@ public ChannelOutboundHandler getEncoder() {
 
    @Override
    public ChannelInboundHandler getDecoder() {
+      switch (configuration.protocol()) {
+         case TEXT:
+            return getTextDecoder();
+         case BINARY:
+            return getBinaryDecoder();
+         default:
+            return new MemcachedProtocolDetector(this);
+      }
+   }
+
+   protected ChannelInboundHandler getTextDecoder() {
       return new MemcachedDecoder(memcachedCache, scheduler, transport, this::isCacheIgnored, configuration.clientEncoding());
    }
 
+   protected ChannelInboundHandler getBinaryDecoder() {
+      return new MemcachedBinaryDecoder(memcachedCache, scheduler, transport, this::isCacheIgnored, configuration.clientEncoding(),
+            configuration.maxContentLength());
+   }
+
    @Override
    public ChannelInitializer<Channel> getInitializer() {
       return new NettyInitializers(new NettyChannelInitializer<>(this, transport, getEncoder(), getDecoder()));
@@ -0,0 +1,15 @@
+package org.infinispan.server.memcached.configuration;
+
+/**
+ * The protocol accepted by the Memcached server.
+ *
+ * @since 12.0
+ */
+public enum MemcachedProtocol {
+   /**
+    * The protocol is detected from the first byte sent on each connection.
+    */
+   AUTO,
+   TEXT,
+   BINARY
+}
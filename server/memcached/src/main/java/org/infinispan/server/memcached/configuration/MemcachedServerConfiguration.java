@@ -30,10 +30,14 @@ public class MemcachedServerConfiguration extends ProtocolServerConfiguration {
    public static final String DEFAULT_MEMCACHED_CACHE = "memcachedCache";
 
    public static final AttributeDefinition<MediaType> CLIENT_ENCODING = AttributeDefinition.builder("client-encoding", APPLICATION_OCTET_STREAM, MediaType.class).immutable().build();
+   public static final AttributeDefinition<MemcachedProtocol> PROTOCOL = AttributeDefinition.builder("protocol", MemcachedProtocol.AUTO).immutable().build();
+   public static final AttributeDefinition<Integer> MAX_CONTENT_LENGTH = AttributeDefinition.builder("max-content-length", 1024 * 1024).immutable().build();
    private final Attribute<MediaType> clientEncoding;
+   private final Attribute<MemcachedProtocol> protocol;
+   private final Attribute<Integer> maxContentLength;
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(MemcachedServerConfiguration.class, ProtocolServerConfiguration.attributeDefinitionSet(), WORKER_THREADS, CLIENT_ENCODING);
+      return new AttributeSet(MemcachedServerConfiguration.class, ProtocolServerConfiguration.attributeDefinitionSet(), WORKER_THREADS, CLIENT_ENCODING, PROTOCOL, MAX_CONTENT_LENGTH);
    }
 
    public static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition("memcached-connector");
@@ -41,6 +45,8 @@ public static AttributeSet attributeDefinitionSet() {
    MemcachedServerConfiguration(AttributeSet attributes, SslConfiguration ssl) {
       super(attributes, ssl);
       clientEncoding = attributes.attribute(CLIENT_ENCODING);
+      protocol = attributes.attribute(PROTOCOL);
+      maxContentLength = attributes.attribute(MAX_CONTENT_LENGTH);
    }
 
    @Override
@@ -52,6 +58,14 @@ public MediaType clientEncoding() {
       return clientEncoding.get();
    }
 
+   public MemcachedProtocol protocol() {
+      return protocol.get();
+   }
+
+   public int maxContentLength() {
+      return maxContentLength.get();
+   }
+
    @Override
    public String toString() {
       return "MemcachedServerConfiguration [" + attributes + "]";
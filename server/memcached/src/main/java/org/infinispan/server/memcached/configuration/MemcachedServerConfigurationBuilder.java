@@ -51,6 +51,24 @@ public MemcachedServerConfigurationBuilder clientEncoding(MediaType payloadType)
       return this;
    }
 
+   /**
+    * The protocol accepted by the server. By default the protocol used by each client is detected from the first byte
+    * it sends.
+    */
+   public MemcachedServerConfigurationBuilder protocol(MemcachedProtocol protocol) {
+      attributes.attribute(MemcachedServerConfiguration.PROTOCOL).set(protocol);
+      return this;
+   }
+
+   /**
+    * The maximum length of the body of a binary protocol request, in bytes. A client sending a larger request is
+    * disconnected. Defaults to 1 MiB.
+    */
+   public MemcachedServerConfigurationBuilder maxContentLength(int maxContentLength) {
+      attributes.attribute(MemcachedServerConfiguration.MAX_CONTENT_LENGTH).set(maxContentLength);
+      return this;
+   }
+
    @Override
    public MemcachedServerConfiguration create() {
       return new MemcachedServerConfiguration(attributes.protect(), ssl.create());
@@ -1,6 +1,7 @@
 package org.infinispan.server.memcached.logging;
 
 import static org.jboss.logging.Logger.Level.ERROR;
+import static org.jboss.logging.Logger.Level.WARN;
 
 import org.infinispan.commons.CacheConfigurationException;
 import org.jboss.logging.BasicLogger;
@@ -26,4 +27,8 @@ public interface Log extends BasicLogger {
 
    @Message(value = "Cache '%s' has expiration enabled which violates the Memcached protocol", id = 11001)
    CacheConfigurationException invalidExpiration(String cacheName);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Request body of %d bytes exceeds the maximum content length of %d bytes, closing connection %s", id = 11002)
+   void requestTooLarge(int bodyLength, int maxContentLength, Object channel);
 }
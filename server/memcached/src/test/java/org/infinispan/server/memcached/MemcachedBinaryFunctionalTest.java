@@ -0,0 +1,174 @@
+package org.infinispan.server.memcached;
+
+import static org.infinispan.server.memcached.test.MemcachedTestingUtil.createMemcachedBinaryClient;
+import static org.infinispan.test.TestingUtil.k;
+import static org.infinispan.test.TestingUtil.v;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.testng.annotations.Test;
+
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.CASValue;
+import net.spy.memcached.MemcachedClient;
+
+/**
+ * Tests the binary Memcached protocol, using the protocol auto detection of the server.
+ *
+ * @since 12.0
+ */
+@Test(groups = "functional", testName = "server.memcached.MemcachedBinaryFunctionalTest")
+public class MemcachedBinaryFunctionalTest extends MemcachedSingleNodeTest {
+
+   private MemcachedClient binaryClient;
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      EmbeddedCacheManager cm = super.createCacheManager();
+      binaryClient = createMemcachedBinaryClient(60000, server.getPort());
+      return cm;
+   }
+
+   @Override
+   protected void shutdownClient() {
+      super.shutdownClient();
+      binaryClient.shutdown();
+   }
+
+   public void testSetGet(Method m) throws Exception {
+      assertTrue(binaryClient.set(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertEquals(v(m), binaryClient.get(k(m)));
+      // Both protocols share the same data
+      assertEquals(v(m), client.get(k(m)));
+   }
+
+   public void testAddReplaceDelete(Method m) throws Exception {
+      assertFalse(binaryClient.replace(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertTrue(binaryClient.add(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertFalse(binaryClient.add(k(m), 0, v(m, "v2-")).get(timeout, TimeUnit.SECONDS));
+      assertTrue(binaryClient.replace(k(m), 0, v(m, "v3-")).get(timeout, TimeUnit.SECONDS));
+      assertEquals(v(m, "v3-"), binaryClient.get(k(m)));
+      assertTrue(binaryClient.delete(k(m)).get(timeout, TimeUnit.SECONDS));
+      assertFalse(binaryClient.delete(k(m)).get(timeout, TimeUnit.SECONDS));
+      assertNull(binaryClient.get(k(m)));
+   }
+
+   public void testCas(Method m) throws Exception {
+      assertTrue(binaryClient.set(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      CASValue<Object> value = binaryClient.gets(k(m));
+      assertEquals(CASResponse.OK, binaryClient.cas(k(m), value.getCas(), v(m, "v2-")));
+      assertEquals(CASResponse.EXISTS, binaryClient.cas(k(m), value.getCas(), v(m, "v3-")));
+      assertEquals(v(m, "v2-"), binaryClient.get(k(m)));
+   }
+
+   public void testIncrDecr(Method m) throws Exception {
+      assertEquals(-1, binaryClient.incr(k(m), 1));
+      assertEquals(10, binaryClient.incr(k(m), 1, 10));
+      assertEquals(15, binaryClient.incr(k(m), 5));
+      assertEquals(12, binaryClient.decr(k(m), 3));
+      assertEquals(0, binaryClient.decr(k(m), 20));
+   }
+
+   public void testAppendPrepend(Method m) throws Exception {
+      assertFalse(binaryClient.append(0, k(m), "b").get(timeout, TimeUnit.SECONDS));
+      assertTrue(binaryClient.set(k(m), 0, "b").get(timeout, TimeUnit.SECONDS));
+      assertTrue(binaryClient.append(0, k(m), "c").get(timeout, TimeUnit.SECONDS));
+      assertTrue(binaryClient.prepend(0, k(m), "a").get(timeout, TimeUnit.SECONDS));
+      assertEquals("abc", binaryClient.get(k(m)));
+   }
+
+   public void testMultiGet(Method m) throws Exception {
+      for (int i = 0; i < 10; ++i) {
+         assertTrue(binaryClient.set(k(m, i), 0, v(m, i)).get(timeout, TimeUnit.SECONDS));
+      }
+      Map<String, Object> values = binaryClient.getBulk(k(m, 0), k(m, 5), k(m, 9), k(m, 10));
+      assertEquals(3, values.size());
+      assertEquals(v(m, 5), values.get(k(m, 5)));
+   }
+
+   public void testPipelinedQuietCommands(Method m) throws IOException {
+      byte[] key = k(m).getBytes(StandardCharsets.US_ASCII);
+      byte[] value = v(m).getBytes(StandardCharsets.US_ASCII);
+      ByteBuffer extras = ByteBuffer.allocate(8).putInt(0).putInt(0);
+      byte[] requests = concat(
+            request(MemcachedBinaryDecoder.SETQ, 1, extras.array(), key, value),
+            request(MemcachedBinaryDecoder.GETQ, 2, new byte[0], key, new byte[0]),
+            request(MemcachedBinaryDecoder.GETQ, 3, new byte[0], "missing".getBytes(StandardCharsets.US_ASCII), new byte[0]),
+            request(MemcachedBinaryDecoder.NOOP, 4, new byte[0], new byte[0], new byte[0]));
+      try (Socket socket = new Socket(server.getHost(), server.getPort())) {
+         OutputStream os = socket.getOutputStream();
+         os.write(requests);
+         os.flush();
+         DataInputStream is = new DataInputStream(socket.getInputStream());
+         // The quiet set and the missed get are not answered
+         byte[] getResponse = readResponse(is);
+         assertEquals(MemcachedBinaryDecoder.GETQ, getResponse[1]);
+         assertEquals(2, ByteBuffer.wrap(getResponse).getInt(12));
+         assertEquals(v(m), new String(getResponse, getResponse.length - value.length, value.length, StandardCharsets.US_ASCII));
+         byte[] noopResponse = readResponse(is);
+         assertEquals(MemcachedBinaryDecoder.NOOP, noopResponse[1]);
+         assertEquals(4, ByteBuffer.wrap(noopResponse).getInt(12));
+      }
+   }
+
+   public void testRequestLargerThanMaxContentLengthClosesConnection() throws IOException {
+      // Only the header is sent, the server must not wait for the body
+      ByteBuffer header = ByteBuffer.allocate(MemcachedBinaryDecoder.HEADER_LENGTH);
+      header.put(MemcachedBinaryDecoder.MAGIC_REQUEST).put(MemcachedBinaryDecoder.SET).putShort((short) 0)
+            .put((byte) 0).put((byte) 0).putShort((short) 0)
+            .putInt(server.getConfiguration().maxContentLength() + 1).putInt(1).putLong(0);
+      try (Socket socket = new Socket(server.getHost(), server.getPort())) {
+         socket.setSoTimeout((int) TimeUnit.SECONDS.toMillis(timeout));
+         OutputStream os = socket.getOutputStream();
+         os.write(header.array());
+         os.flush();
+         assertEquals(-1, socket.getInputStream().read());
+      }
+   }
+
+   private static byte[] request(byte opcode, int opaque, byte[] extras, byte[] key, byte[] value) {
+      ByteBuffer buffer = ByteBuffer.allocate(MemcachedBinaryDecoder.HEADER_LENGTH + extras.length + key.length + value.length);
+      buffer.put(MemcachedBinaryDecoder.MAGIC_REQUEST).put(opcode).putShort((short) key.length)
+            .put((byte) extras.length).put((byte) 0).putShort((short) 0)
+            .putInt(extras.length + key.length + value.length).putInt(opaque).putLong(0)
+            .put(extras).put(key).put(value);
+      return buffer.array();
+   }
+
+   private static byte[] readResponse(DataInputStream is) throws IOException {
+      byte[] header = new byte[MemcachedBinaryDecoder.HEADER_LENGTH];
+      is.readFully(header);
+      assertEquals(MemcachedBinaryDecoder.MAGIC_RESPONSE, header[0]);
+      assertEquals(MemcachedBinaryDecoder.NO_ERROR, ByteBuffer.wrap(header).getShort(6));
+      int bodyLength = ByteBuffer.wrap(header).getInt(8);
+      byte[] response = Arrays.copyOf(header, header.length + bodyLength);
+      is.readFully(response, header.length, bodyLength);
+      return response;
+   }
+
+   private static byte[] concat(byte[]... arrays) {
+      int length = 0;
+      for (byte[] array : arrays) {
+         length += array.length;
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(length);
+      for (byte[] array : arrays) {
+         buffer.put(array);
+      }
+      return buffer.array();
+   }
+}
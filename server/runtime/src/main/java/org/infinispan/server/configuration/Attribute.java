@@ -39,6 +39,7 @@ public enum Attribute {
    INTERFACE,
    INTROSPECTION_URL,
    IO_THREADS,
+   IO_TRANSPORT,
    ISSUER,
    JKU_TIMEOUT,
    JNDI_NAME,
@@ -42,6 +42,7 @@
 import org.infinispan.server.configuration.security.TokenRealmConfigurationBuilder;
 import org.infinispan.server.configuration.security.TrustStoreRealmConfigurationBuilder;
 import org.infinispan.server.configuration.security.UserPropertiesConfigurationBuilder;
+import org.infinispan.server.core.configuration.IOTransport;
 import org.infinispan.server.core.configuration.ProtocolServerConfigurationBuilder;
 import org.kohsuke.MetaInfServices;
 import org.wildfly.security.auth.realm.ldap.DirContextFactory;
@@ -1145,6 +1146,14 @@ public static void parseCommonConnectorAttributes(XMLExtendedStreamReader reader
                builder.ioThreads(Integer.parseInt(value));
                break;
             }
+            case IO_TRANSPORT: {
+               try {
+                  builder.ioTransport(IOTransport.valueOf(value.toUpperCase()));
+               } catch (IllegalArgumentException e) {
+                  throw ParseUtils.invalidAttributeValue(reader, index);
+               }
+               break;
+            }
             case RECEIVE_BUFFER_SIZE: {
                builder.recvBufSize(Integer.parseInt(value));
                break;
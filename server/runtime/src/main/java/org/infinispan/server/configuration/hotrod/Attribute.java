@@ -14,6 +14,8 @@ public enum Attribute {
    EXTERNAL_HOST,
    EXTERNAL_PORT,
    HOST_NAME,
+   ITERATION_READ_AHEAD,
+   ITERATION_READ_AHEAD_BYTES,
    LAZY_RETRIEVAL,
    LOCK_TIMEOUT,
    MECHANISMS,
@@ -84,6 +84,14 @@ private void parseHotRodConnector(XMLExtendedStreamReader reader, ConfigurationB
                builder.proxyPort(Integer.parseInt(value));
                break;
             }
+            case ITERATION_READ_AHEAD: {
+               builder.iterationReadAhead(Integer.parseInt(value));
+               break;
+            }
+            case ITERATION_READ_AHEAD_BYTES: {
+               builder.iterationReadAheadBytes(Long.parseLong(value));
+               break;
+            }
             case NAME: {
                builder.name(value);
                break;
@@ -15,7 +15,9 @@ public enum Attribute {
    CLIENT_ENCODING,
    IDLE_TIMEOUT,
    IO_THREADS,
+   MAX_CONTENT_LENGTH,
    NAME,
+   PROTOCOL,
    SOCKET_BINDING;
 
    private static final Map<String, Attribute> ATTRIBUTES;
@@ -12,6 +12,7 @@
 import org.infinispan.configuration.parsing.XMLExtendedStreamReader;
 import org.infinispan.server.configuration.ServerConfigurationBuilder;
 import org.infinispan.server.configuration.ServerConfigurationParser;
+import org.infinispan.server.memcached.configuration.MemcachedProtocol;
 import org.infinispan.server.memcached.configuration.MemcachedServerConfigurationBuilder;
 import org.kohsuke.MetaInfServices;
 
@@ -89,10 +90,18 @@ private void parseMemcached(XMLExtendedStreamReader reader, ServerConfigurationB
                builder.ioThreads(Integer.parseInt(value));
                break;
             }
+            case MAX_CONTENT_LENGTH: {
+               builder.maxContentLength(Integer.parseInt(value));
+               break;
+            }
             case NAME: {
                builder.name(value);
                break;
             }
+            case PROTOCOL: {
+               builder.protocol(MemcachedProtocol.valueOf(value.toUpperCase()));
+               break;
+            }
             case SOCKET_BINDING:
                // Already seen
                break;
@@ -200,6 +200,7 @@ public void testJsonSerialization() throws Exception {
    private void assertHotRodConnector(Json hotrodConnector) {
       assertEquals("hotrod", hotrodConnector.at("name").asString());
       assertEquals(23, hotrodConnector.at("io-threads").asInteger());
+      assertEquals("IO_URING", hotrodConnector.at("io-transport").asString());
       assertFalse(hotrodConnector.at("tcp-nodelay").asBoolean());
       assertEquals(20, hotrodConnector.at("worker-threads").asInteger());
       assertFalse(hotrodConnector.at("tcp-keepalive").asBoolean());
@@ -209,6 +210,8 @@ private void assertHotRodConnector(Json hotrodConnector) {
       assertEquals("hotrod", hotrodConnector.at("socket-binding").asString());
       assertEquals("external", hotrodConnector.at("external-host").asString());
       assertEquals(12345, hotrodConnector.at("external-port").asInteger());
+      assertEquals(2, hotrodConnector.at("iteration-read-ahead").asInteger());
+      assertEquals(1048576, hotrodConnector.at("iteration-read-ahead-bytes").asLong());
 
       Json topologyCache = hotrodConnector.at("topology-state-transfer");
       assertFalse(topologyCache.at("await-initial-retrieval").asBoolean());
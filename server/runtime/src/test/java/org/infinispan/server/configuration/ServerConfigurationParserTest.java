@@ -3,16 +3,20 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.test.junit.JUnitThreadTrackerRule;
 import org.infinispan.commons.util.FileLookup;
 import org.infinispan.commons.util.FileLookupFactory;
+import org.infinispan.commons.util.Util;
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.configuration.parsing.ConfigurationBuilderHolder;
 import org.infinispan.configuration.parsing.ParserRegistry;
@@ -39,12 +43,7 @@ public class ServerConfigurationParserTest {
 
    @Test
    public void testParser() throws IOException {
-      FileLookup fileLookup = FileLookupFactory.newInstance();
-      URL url = fileLookup.lookupFileLocation("configuration/" + getClass().getSimpleName() + ".xml", ServerConfigurationParserTest.class.getClassLoader());
-      Properties properties = new Properties();
-      properties.setProperty(Server.INFINISPAN_SERVER_CONFIG_PATH, System.getProperty("build.directory") + "/test-classes/configuration");
-      ParserRegistry registry = new ParserRegistry(this.getClass().getClassLoader(), false, properties);
-      ConfigurationBuilderHolder holder = registry.parse(url);
+      ConfigurationBuilderHolder holder = createParserRegistry().parse(configurationURL());
       GlobalConfiguration global = holder.getGlobalConfigurationBuilder().build();
       ServerConfiguration server = global.module(ServerConfiguration.class);
 
@@ -92,4 +91,31 @@ public void testParser() throws IOException {
       assertEquals(socketBindings.get("default").getPort(), singlePortRouter.port());
       assertEquals(socketBindings.get("memcached").getPort(), server.endpoints().connectors().get(2).port());
    }
+
+   @Test
+   public void testInvalidIOTransport() throws IOException {
+      String xml;
+      try (InputStream is = configurationURL().openStream()) {
+         xml = Util.read(is);
+      }
+      assertTrue(xml.contains("io-transport=\"IO_URING\""));
+      xml = xml.replace("io-transport=\"IO_URING\"", "io-transport=\"KQUEUE\"");
+      try {
+         createParserRegistry().parse(xml);
+         fail("Expected an invalid io-transport to be rejected");
+      } catch (CacheConfigurationException e) {
+         assertTrue(e.getMessage(), e.getMessage().contains("io-transport"));
+      }
+   }
+
+   private URL configurationURL() {
+      FileLookup fileLookup = FileLookupFactory.newInstance();
+      return fileLookup.lookupFileLocation("configuration/" + getClass().getSimpleName() + ".xml", ServerConfigurationParserTest.class.getClassLoader());
+   }
+
+   private ParserRegistry createParserRegistry() {
+      Properties properties = new Properties();
+      properties.setProperty(Server.INFINISPAN_SERVER_CONFIG_PATH, System.getProperty("build.directory") + "/test-classes/configuration");
+      return new ParserRegistry(this.getClass().getClassLoader(), false, properties);
+   }
 }